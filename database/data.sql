@@ -8,45 +8,99 @@
 -- INSERÇÃO DE PROJETOS (2 projetos principais + extras)
 -- -----------------------------------------------------------------------------
 
-INSERT INTO PROJETO (NOME, DESCRICAO, DATA_INICIO, DATA_FIM_PREVISTA, STATUS, PRIORIDADE, ORCAMENTO, RESPONSAVEL, USUARIO_CRIACAO) VALUES
+INSERT INTO PROJETO (NOME, DATA_INICIO, DATA_FIM_PREVISTA, STATUS, PRIORIDADE, ORCAMENTO, RESPONSAVEL, USUARIO_CRIACAO) VALUES
 -- Projeto 1 (Principal)
-('E-commerce Platform', 'Desenvolvimento de plataforma de e-commerce completa com painel administrativo', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 150000.00, 'João Silva', 'admin'),
+('E-commerce Platform', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 150000.00, 'João Silva', 'admin'),
 
 -- Projeto 2 (Principal) 
-('Migração Legacy', 'Migração do sistema legado para nova arquitetura de microserviços', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 80000.00, 'Maria Santos', 'admin'),
+('Migração Legacy', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 80000.00, 'Maria Santos', 'admin'),
 
 -- Projetos extras (para demonstrar variedade)
-('App Mobile iOS/Android', 'Desenvolvimento do aplicativo mobile para iOS e Android', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 120000.00, 'Pedro Costa', 'admin'),
-('Sistema de Relatórios', 'Desenvolvimento de sistema de relatórios avançados com dashboards', '2025-11-01', '2026-01-31', 'PLANEJAMENTO', 'MEDIA', 60000.00, 'Ana Lima', 'admin');
+('App Mobile iOS/Android', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 120000.00, 'Pedro Costa', 'admin'),
+('Sistema de Relatórios', '2025-11-01', '2026-01-31', 'PLANEJAMENTO', 'MEDIA', 60000.00, 'Ana Lima', 'admin');
+
+-- Primeiro ID gerado pelo INSERT acima (os demais são consecutivos)
+SET @PRIMEIRO_PROJETO = LAST_INSERT_ID();
 
 -- -----------------------------------------------------------------------------
 -- INSERÇÃO DE TAREFAS (15 tarefas distribuídas pelos projetos)
 -- -----------------------------------------------------------------------------
 
-INSERT INTO TAREFA (TITULO, DESCRICAO, STATUS, PRIORIDADE, DATA_INICIO, DATA_FIM_PREVISTA, ESTIMATIVA_HORAS, HORAS_TRABALHADAS, PERCENTUAL_CONCLUSAO, RESPONSAVEL, ID_PROJETO, USUARIO_CRIACAO) VALUES
+INSERT INTO TAREFA (TITULO, STATUS, PRIORIDADE, DATA_INICIO, DATA_FIM_PREVISTA, ESTIMATIVA_HORAS, HORAS_TRABALHADAS, PERCENTUAL_CONCLUSAO, RESPONSAVEL, ID_PROJETO, USUARIO_CRIACAO) VALUES
 
 -- TAREFAS DO PROJETO E-COMMERCE (ID 1) - 6 tarefas
-('Análise de Requisitos', 'Levantamento completo dos requisitos funcionais e não funcionais', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
-('Design System e UI/UX', 'Criação do design system e protótipos das interfaces', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
-('API Backend - Autenticação', 'Desenvolvimento da API de autenticação e autorização', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
-('API Backend - Catálogo', 'Desenvolvimento da API de gerenciamento do catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
-('Frontend - Página Inicial', 'Desenvolvimento da página inicial do e-commerce', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
-('Testes Automatizados', 'Implementação da suite de testes automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
+('Análise de Requisitos', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
+('Design System e UI/UX', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
+('API Backend - Autenticação', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
+('API Backend - Catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
+('Frontend - Página Inicial', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
+('Testes Automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
 
 -- TAREFAS DO PROJETO MIGRAÇÃO LEGACY (ID 2) - 3 tarefas
-('Mapeamento da Arquitetura Atual', 'Documentação detalhada da arquitetura legada', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
-('Planejamento da Nova Arquitetura', 'Design da nova arquitetura de microserviços', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
-('Setup da Infraestrutura', 'Configuração da infraestrutura para os microserviços', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
+('Mapeamento da Arquitetura Atual', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
+('Planejamento da Nova Arquitetura', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
+('Setup da Infraestrutura', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
 
 -- TAREFAS DO PROJETO APP MOBILE (ID 3) - 4 tarefas
-('Prototipação Mobile', 'Criação dos protótipos para iOS e Android', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
-('Setup React Native', 'Configuração inicial do projeto React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
-('Telas de Autenticação', 'Desenvolvimento das telas de login e cadastro', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
-('Integração com APIs', 'Integração do app com as APIs do backend', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
+('Prototipação Mobile', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
+('Setup React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
+('Telas de Autenticação', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
+('Integração com APIs', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
 
 -- TAREFAS DO PROJETO SISTEMA DE RELATÓRIOS (ID 4) - 2 tarefas
-('Especificação dos Relatórios', 'Definição detalhada dos relatórios necessários', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
-('Configuração do BI', 'Setup da ferramenta de Business Intelligence', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
+('Especificação dos Relatórios', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
+('Configuração do BI', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
+
+SET @PRIMEIRA_TAREFA = LAST_INSERT_ID();
+
+-- Peso numérico da prioridade (Prioridade.getNivel), gravado pela aplicação nas demais escritas
+UPDATE TAREFA SET PESO_PRIORIDADE = CASE PRIORIDADE
+    WHEN 'BAIXA' THEN 1 WHEN 'MEDIA' THEN 2 WHEN 'ALTA' THEN 3 WHEN 'CRITICA' THEN 4 ELSE 0 END;
+
+-- -----------------------------------------------------------------------------
+-- TEXTOS LONGOS (tabelas à parte, ver TextoProjeto e TextoTarefa)
+-- -----------------------------------------------------------------------------
+
+INSERT INTO PROJETO_TEXTO (ID_PROJETO, DESCRICAO) VALUES
+(@PRIMEIRO_PROJETO + 0, 'Desenvolvimento de plataforma de e-commerce completa com painel administrativo'),
+(@PRIMEIRO_PROJETO + 1, 'Migração do sistema legado para nova arquitetura de microserviços'),
+(@PRIMEIRO_PROJETO + 2, 'Desenvolvimento do aplicativo mobile para iOS e Android'),
+(@PRIMEIRO_PROJETO + 3, 'Desenvolvimento de sistema de relatórios avançados com dashboards');
+
+INSERT INTO TAREFA_TEXTO (ID_TAREFA, DESCRICAO) VALUES
+(@PRIMEIRA_TAREFA + 0, 'Levantamento completo dos requisitos funcionais e não funcionais'),
+(@PRIMEIRA_TAREFA + 1, 'Criação do design system e protótipos das interfaces'),
+(@PRIMEIRA_TAREFA + 2, 'Desenvolvimento da API de autenticação e autorização'),
+(@PRIMEIRA_TAREFA + 3, 'Desenvolvimento da API de gerenciamento do catálogo'),
+(@PRIMEIRA_TAREFA + 4, 'Desenvolvimento da página inicial do e-commerce'),
+(@PRIMEIRA_TAREFA + 5, 'Implementação da suite de testes automatizados'),
+(@PRIMEIRA_TAREFA + 6, 'Documentação detalhada da arquitetura legada'),
+(@PRIMEIRA_TAREFA + 7, 'Design da nova arquitetura de microserviços'),
+(@PRIMEIRA_TAREFA + 8, 'Configuração da infraestrutura para os microserviços'),
+(@PRIMEIRA_TAREFA + 9, 'Criação dos protótipos para iOS e Android'),
+(@PRIMEIRA_TAREFA + 10, 'Configuração inicial do projeto React Native'),
+(@PRIMEIRA_TAREFA + 11, 'Desenvolvimento das telas de login e cadastro'),
+(@PRIMEIRA_TAREFA + 12, 'Integração do app com as APIs do backend'),
+(@PRIMEIRA_TAREFA + 13, 'Definição detalhada dos relatórios necessários'),
+(@PRIMEIRA_TAREFA + 14, 'Setup da ferramenta de Business Intelligence');
+
+-- -----------------------------------------------------------------------------
+-- ÁRVORE DE SUBTAREFAS (todas as tarefas acima são raízes)
+-- -----------------------------------------------------------------------------
+
+INSERT INTO TAREFA_HIERARQUIA (ID_ANCESTRAL, ID_DESCENDENTE, PROFUNDIDADE)
+SELECT ID, ID, 0 FROM TAREFA WHERE ID >= @PRIMEIRA_TAREFA;
+
+-- Totais da subárvore, que para uma raiz sem filhas são os da própria tarefa
+UPDATE TAREFA SET
+    SUB_ABERTAS = CASE WHEN STATUS = 'ABERTA' THEN 1 ELSE 0 END,
+    SUB_EM_ANDAMENTO = CASE WHEN STATUS IN ('EM_ANDAMENTO', 'EM_REVISAO') THEN 1 ELSE 0 END,
+    SUB_CONCLUIDAS = CASE WHEN STATUS = 'CONCLUIDA' THEN 1 ELSE 0 END,
+    SUB_CANCELADAS = CASE WHEN STATUS = 'CANCELADA' THEN 1 ELSE 0 END,
+    SUB_SOMA_PERCENTUAL = CASE WHEN STATUS <> 'CANCELADA' THEN PERCENTUAL_CONCLUSAO ELSE 0 END,
+    SUB_ESTIMATIVA_HORAS = COALESCE(ESTIMATIVA_HORAS, 0),
+    SUB_HORAS_TRABALHADAS = COALESCE(HORAS_TRABALHADAS, 0)
+WHERE ID >= @PRIMEIRA_TAREFA;
 
 -- =============================================================================
 -- RESUMO DOS DADOS INSERIDOS:
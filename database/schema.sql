@@ -12,7 +12,6 @@ USE projeto_management;
 CREATE TABLE projeto (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     nome VARCHAR(255) NOT NULL,
-    descricao TEXT,
     data_inicio DATE,
     data_fim_prevista DATE,
     data_fim_real DATE,
@@ -30,16 +29,20 @@ CREATE TABLE projeto (
     INDEX idx_projeto_nome (nome),
     INDEX idx_projeto_status (status),
     INDEX idx_projeto_data_criacao (data_criacao),
-    INDEX idx_projeto_responsavel (responsavel)
+    INDEX idx_projeto_responsavel (responsavel),
+    INDEX idx_projeto_ativo_status (ativo, status),
+    INDEX idx_projeto_ativo_prioridade (ativo, prioridade),
+    INDEX idx_projeto_ativo_data_fim_prevista (ativo, data_fim_prevista)
 );
 
 -- Tabela TAREFA (Melhorada)
 CREATE TABLE tarefa (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     titulo VARCHAR(255) NOT NULL,
-    descricao TEXT,
     status ENUM('ABERTA', 'EM_ANDAMENTO', 'EM_REVISAO', 'CONCLUIDA', 'CANCELADA') DEFAULT 'ABERTA',
     prioridade ENUM('BAIXA', 'MEDIA', 'ALTA', 'CRITICA') DEFAULT 'MEDIA',
+    -- Nível da prioridade (BAIXA=1 ... CRITICA=4), mantido pela aplicação: ordena pelo índice
+    peso_prioridade INT NOT NULL DEFAULT 2,
     data_criacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     data_inicio DATE,
     data_fim_prevista DATE,
@@ -48,7 +51,6 @@ CREATE TABLE tarefa (
     horas_trabalhadas DECIMAL(8,2) DEFAULT 0.00,
     percentual_conclusao TINYINT DEFAULT 0 CHECK (percentual_conclusao >= 0 AND percentual_conclusao <= 100),
     responsavel VARCHAR(255),
-    observacoes TEXT,
     data_atualizacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     usuario_criacao VARCHAR(100),
     usuario_atualizacao VARCHAR(100),
@@ -56,9 +58,20 @@ CREATE TABLE tarefa (
     
     -- Chave estrangeira
     id_projeto BIGINT NOT NULL,
+    id_tarefa_pai BIGINT,
+    
+    -- Totais da subárvore (a tarefa e todas as subtarefas ativas), ver tarefa_hierarquia
+    sub_abertas INT NOT NULL DEFAULT 0,
+    sub_em_andamento INT NOT NULL DEFAULT 0,
+    sub_concluidas INT NOT NULL DEFAULT 0,
+    sub_canceladas INT NOT NULL DEFAULT 0,
+    sub_soma_percentual BIGINT NOT NULL DEFAULT 0,
+    sub_estimativa_horas DECIMAL(12,2) NOT NULL DEFAULT 0.00,
+    sub_horas_trabalhadas DECIMAL(12,2) NOT NULL DEFAULT 0.00,
     
     -- Constraints
     CONSTRAINT fk_tarefa_projeto FOREIGN KEY (id_projeto) REFERENCES projeto(id) ON DELETE CASCADE,
+    CONSTRAINT fk_tarefa_pai FOREIGN KEY (id_tarefa_pai) REFERENCES tarefa(id) ON DELETE SET NULL,
     CONSTRAINT chk_data_fim CHECK (data_fim_real IS NULL OR data_fim_real >= data_inicio),
     CONSTRAINT chk_horas CHECK (horas_trabalhadas >= 0),
     
@@ -69,7 +82,12 @@ CREATE TABLE tarefa (
     INDEX idx_tarefa_responsavel (responsavel),
     INDEX idx_tarefa_data_criacao (data_criacao),
     INDEX idx_tarefa_prioridade (prioridade),
-    INDEX idx_tarefa_data_fim_prevista (data_fim_prevista)
+    INDEX idx_tarefa_data_fim_prevista (data_fim_prevista),
+    INDEX idx_tarefa_ativo_projeto_status (ativo, id_projeto, status),
+    INDEX idx_tarefa_ativo_data_fim_prevista (ativo, data_fim_prevista),
+    -- Quadro do projeto e tarefas mais urgentes lidos na ordem do índice, sem filesort
+    INDEX idx_tarefa_projeto_ativo_peso_prioridade (id_projeto, ativo, peso_prioridade DESC, data_fim_prevista),
+    INDEX idx_tarefa_ativo_peso_prioridade (ativo, peso_prioridade DESC, data_fim_prevista)
 );
 
 -- Tabela de auditoria para mudanças de status
@@ -137,17 +155,20 @@ WHERE t.ativo = TRUE
     AND t.data_fim_prevista < CURDATE();
 
 -- Inserir dados de exemplo
-INSERT INTO projeto (nome, descricao, data_inicio, data_fim_prevista, status, prioridade, responsavel, usuario_criacao) VALUES
-('Sistema de Vendas Online', 'Desenvolvimento de plataforma e-commerce completa', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 'João Silva', 'admin'),
-('Migração de Dados', 'Migração do sistema legado para nova arquitetura', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 'Maria Santos', 'admin'),
-('App Mobile', 'Desenvolvimento do aplicativo mobile', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 'Pedro Costa', 'admin');
-
-INSERT INTO tarefa (titulo, descricao, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, responsavel, id_projeto, usuario_criacao) VALUES
-('Análise de Requisitos', 'Levantamento completo dos requisitos do sistema', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 'Ana Lima', 1, 'admin'),
-('Design da Interface', 'Criação dos layouts e protótipos', 'EM_ANDAMENTO', 'MEDIA', '2025-09-16', '2025-10-15', 120.00, 'Carlos Design', 1, 'admin'),
-('Desenvolvimento Backend', 'Implementação da API e regras de negócio', 'ABERTA', 'ALTA', '2025-10-01', '2025-11-30', 200.00, 'João Silva', 1, 'admin'),
-('Testes Automatizados', 'Criação da suite de testes', 'ABERTA', 'MEDIA', '2025-11-01', '2025-12-15', 60.00, 'Teste QA', 1, 'admin'),
-('Análise Base de Dados', 'Mapeamento da estrutura atual', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 'DBA Team', 2, 'admin');
+INSERT INTO projeto (nome, data_inicio, data_fim_prevista, status, prioridade, responsavel, usuario_criacao) VALUES
+('Sistema de Vendas Online', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 'João Silva', 'admin'),
+('Migração de Dados', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 'Maria Santos', 'admin'),
+('App Mobile', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 'Pedro Costa', 'admin');
+
+INSERT INTO tarefa (titulo, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, responsavel, id_projeto, usuario_criacao) VALUES
+('Análise de Requisitos', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 'Ana Lima', 1, 'admin'),
+('Design da Interface', 'EM_ANDAMENTO', 'MEDIA', '2025-09-16', '2025-10-15', 120.00, 'Carlos Design', 1, 'admin'),
+('Desenvolvimento Backend', 'ABERTA', 'ALTA', '2025-10-01', '2025-11-30', 200.00, 'João Silva', 1, 'admin'),
+('Testes Automatizados', 'ABERTA', 'MEDIA', '2025-11-01', '2025-12-15', 60.00, 'Teste QA', 1, 'admin'),
+('Análise Base de Dados', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 'DBA Team', 2, 'admin');
+
+UPDATE tarefa SET peso_prioridade = CASE prioridade
+    WHEN 'BAIXA' THEN 1 WHEN 'MEDIA' THEN 2 WHEN 'ALTA' THEN 3 WHEN 'CRITICA' THEN 4 ELSE 0 END;
 
 -- Triggers para auditoria automática
 DELIMITER //
@@ -194,3 +215,207 @@ BEGIN
 END//
 
 DELIMITER ;
+
+-- Séries diárias de progresso dos projetos (burndown), uma linha por projeto e ano,
+-- com os pontos codificados por deltas na coluna dados (sem chave estrangeira, para que
+-- a série sobreviva ao arquivamento do projeto)
+CREATE TABLE burndown_projeto (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_projeto BIGINT NOT NULL,
+    ano INT NOT NULL,
+    data_inicial DATE NOT NULL,
+    ultima_data DATE NOT NULL,
+    ultimas_horas_restantes BIGINT NOT NULL,
+    ultimas_tarefas_abertas INT NOT NULL,
+    ultimas_tarefas_concluidas INT NOT NULL,
+    quantidade_pontos INT NOT NULL,
+    dados VARBINARY(16384) NOT NULL,
+    versao BIGINT,
+    
+    CONSTRAINT uk_burndown_projeto_ano UNIQUE (id_projeto, ano),
+    INDEX idx_burndown_ano (ano)
+);
+
+-- Arquivo de tarefas e projetos retirados das tabelas quentes (inativos ou encerrados
+-- sem alteração há mais da idade configurada), com o ID original e a data do arquivamento
+CREATE TABLE tarefa_arquivo (
+    id BIGINT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    descricao MEDIUMBLOB,
+    status ENUM('ABERTA', 'EM_ANDAMENTO', 'EM_REVISAO', 'CONCLUIDA', 'CANCELADA'),
+    prioridade ENUM('BAIXA', 'MEDIA', 'ALTA', 'CRITICA'),
+    data_criacao TIMESTAMP NULL,
+    data_inicio DATE,
+    data_fim_prevista DATE,
+    data_fim_real DATE,
+    estimativa_horas DECIMAL(8,2),
+    horas_trabalhadas DECIMAL(8,2),
+    percentual_conclusao TINYINT,
+    responsavel VARCHAR(255),
+    observacoes MEDIUMBLOB,
+    data_atualizacao TIMESTAMP NULL,
+    usuario_criacao VARCHAR(100),
+    usuario_atualizacao VARCHAR(100),
+    ativo BOOLEAN,
+    id_projeto BIGINT NOT NULL,
+    data_arquivamento TIMESTAMP NOT NULL,
+    
+    INDEX idx_tarefa_arquivo_projeto (id_projeto)
+);
+
+CREATE TABLE projeto_arquivo (
+    id BIGINT PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL,
+    descricao MEDIUMBLOB,
+    data_inicio DATE,
+    data_fim_prevista DATE,
+    data_fim_real DATE,
+    status ENUM('PLANEJAMENTO', 'EM_ANDAMENTO', 'PAUSADO', 'CONCLUIDO', 'CANCELADO'),
+    prioridade ENUM('BAIXA', 'MEDIA', 'ALTA', 'CRITICA'),
+    orcamento DECIMAL(15,2),
+    responsavel VARCHAR(255),
+    data_criacao TIMESTAMP NULL,
+    data_atualizacao TIMESTAMP NULL,
+    usuario_criacao VARCHAR(100),
+    usuario_atualizacao VARCHAR(100),
+    ativo BOOLEAN,
+    data_arquivamento TIMESTAMP NOT NULL
+);
+
+-- Diretório do particionamento por projeto (app.sharding.*), apenas no primeiro shard:
+-- projetos sem linha aqui são anteriores ao particionamento e ficam no primeiro shard.
+-- Cada shard gera IDs congruentes ao seu índice + 1 (auto_increment_increment/offset por conexão).
+CREATE TABLE projeto_shard (
+    id_projeto BIGINT NOT NULL PRIMARY KEY,
+    shard INT NOT NULL
+);
+
+-- Log de alterações de projetos e tarefas, gravado na transação de cada escrita e lido
+-- por todas as instâncias da aplicação para invalidar seus caches em memória
+CREATE TABLE log_alteracao (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo ENUM('PROJETO', 'TAREFA', 'SHARD') NOT NULL,
+    id_registro BIGINT NOT NULL,
+    no_origem VARCHAR(64) NOT NULL,
+    dados TEXT,
+    data_alteracao DATETIME(6) NOT NULL,
+    
+    INDEX idx_log_alteracao_data (data_alteracao)
+);
+
+-- Chaves de idempotência (header Idempotency-Key) das requisições POST e PATCH:
+-- a restrição única garante uma única execução por chave entre todas as instâncias
+CREATE TABLE chave_idempotencia (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    usuario VARCHAR(100) NOT NULL,
+    chave VARCHAR(100) NOT NULL,
+    impressao_requisicao VARCHAR(64) NOT NULL,
+    situacao ENUM('EM_ANDAMENTO', 'CONCLUIDA') NOT NULL,
+    status INT,
+    tipo_conteudo VARCHAR(100),
+    corpo MEDIUMBLOB,
+    data_criacao DATETIME(6) NOT NULL,
+    data_expiracao DATETIME(6) NOT NULL,
+    
+    CONSTRAINT uk_chave_idempotencia UNIQUE (usuario, chave),
+    INDEX idx_chave_idempotencia_expiracao (data_expiracao)
+);
+
+-- Textos longos de projetos e tarefas, fora das linhas quentes para que as listagens não
+-- os leiam; uma linha só existe quando há texto. Até 512 bytes o texto fica em UTF-8 puro,
+-- acima disso compactado com GZIP pela aplicação (TextoCompactadoConverter)
+CREATE TABLE projeto_texto (
+    id_projeto BIGINT NOT NULL PRIMARY KEY,
+    descricao MEDIUMBLOB,
+    
+    CONSTRAINT fk_projeto_texto_projeto FOREIGN KEY (id_projeto) REFERENCES projeto(id) ON DELETE CASCADE
+);
+
+CREATE TABLE tarefa_texto (
+    id_tarefa BIGINT NOT NULL PRIMARY KEY,
+    descricao MEDIUMBLOB,
+    observacoes MEDIUMBLOB,
+    
+    CONSTRAINT fk_tarefa_texto_tarefa FOREIGN KEY (id_tarefa) REFERENCES tarefa(id) ON DELETE CASCADE
+);
+
+INSERT INTO projeto_texto (id_projeto, descricao) VALUES
+(1, 'Desenvolvimento de plataforma e-commerce completa'),
+(2, 'Migração do sistema legado para nova arquitetura'),
+(3, 'Desenvolvimento do aplicativo mobile');
+
+INSERT INTO tarefa_texto (id_tarefa, descricao) VALUES
+(1, 'Levantamento completo dos requisitos do sistema'),
+(2, 'Criação dos layouts e protótipos'),
+(3, 'Implementação da API e regras de negócio'),
+(4, 'Criação da suite de testes'),
+(5, 'Mapeamento da estrutura atual');
+
+-- Árvore de subtarefas como tabela de fechamento: uma linha por par ancestral/descendente,
+-- inclusive a da própria tarefa (profundidade 0). Subárvore e caminho até a raiz saem de
+-- uma consulta pela chave primária ou por idx_tarefa_hierarquia_descendente
+CREATE TABLE tarefa_hierarquia (
+    id_ancestral BIGINT NOT NULL,
+    id_descendente BIGINT NOT NULL,
+    profundidade INT NOT NULL,
+    
+    PRIMARY KEY (id_ancestral, id_descendente),
+    CONSTRAINT fk_tarefa_hierarquia_ancestral FOREIGN KEY (id_ancestral) REFERENCES tarefa(id) ON DELETE CASCADE,
+    CONSTRAINT fk_tarefa_hierarquia_descendente FOREIGN KEY (id_descendente) REFERENCES tarefa(id) ON DELETE CASCADE,
+    INDEX idx_tarefa_hierarquia_descendente (id_descendente, profundidade)
+);
+
+-- Subtarefa de exemplo: os testes automatizados ficam abaixo do desenvolvimento do backend
+UPDATE tarefa SET id_tarefa_pai = 3 WHERE id = 4;
+
+INSERT INTO tarefa_hierarquia (id_ancestral, id_descendente, profundidade)
+SELECT id, id, 0 FROM tarefa;
+
+INSERT INTO tarefa_hierarquia (id_ancestral, id_descendente, profundidade) VALUES
+(3, 4, 1);
+
+-- Totais iniciais calculados pela tabela de fechamento; depois a aplicação só aplica as
+-- variações de cada escrita (HierarquiaTarefaService)
+CREATE TEMPORARY TABLE tarefa_consolidado AS
+SELECT h.id_ancestral AS id,
+       SUM(d.status = 'ABERTA') AS abertas,
+       SUM(d.status IN ('EM_ANDAMENTO', 'EM_REVISAO')) AS em_andamento,
+       SUM(d.status = 'CONCLUIDA') AS concluidas,
+       SUM(d.status = 'CANCELADA') AS canceladas,
+       SUM(CASE WHEN d.status <> 'CANCELADA' THEN COALESCE(d.percentual_conclusao, 0) ELSE 0 END) AS soma_percentual,
+       SUM(COALESCE(d.estimativa_horas, 0)) AS estimativa_horas,
+       SUM(COALESCE(d.horas_trabalhadas, 0)) AS horas_trabalhadas
+FROM tarefa_hierarquia h
+JOIN tarefa d ON d.id = h.id_descendente
+WHERE d.ativo = TRUE
+GROUP BY h.id_ancestral;
+
+UPDATE tarefa t JOIN tarefa_consolidado c ON c.id = t.id SET
+    t.sub_abertas = c.abertas,
+    t.sub_em_andamento = c.em_andamento,
+    t.sub_concluidas = c.concluidas,
+    t.sub_canceladas = c.canceladas,
+    t.sub_soma_percentual = c.soma_percentual,
+    t.sub_estimativa_horas = c.estimativa_horas,
+    t.sub_horas_trabalhadas = c.horas_trabalhadas;
+
+DROP TEMPORARY TABLE tarefa_consolidado;
+
+-- Etiquetas livres das tarefas (associação muitos-para-muitos; a etiqueta é o próprio
+-- texto, em minúsculas). Os filtros por etiqueta são avaliados em bitmaps em memória
+-- (IndiceTarefas); idx_tarefa_etiqueta_etiqueta atende às subconsultas de conferência
+CREATE TABLE tarefa_etiqueta (
+    id_tarefa BIGINT NOT NULL,
+    etiqueta VARCHAR(50) NOT NULL,
+    
+    PRIMARY KEY (id_tarefa, etiqueta),
+    CONSTRAINT fk_tarefa_etiqueta_tarefa FOREIGN KEY (id_tarefa) REFERENCES tarefa(id) ON DELETE CASCADE,
+    INDEX idx_tarefa_etiqueta_etiqueta (etiqueta, id_tarefa)
+);
+
+INSERT INTO tarefa_etiqueta (id_tarefa, etiqueta) VALUES
+(1, 'documentacao'),
+(2, 'frontend'),
+(3, 'backend'),
+(4, 'backend'), (4, 'qualidade'),
+(5, 'legado');
@@ -16,6 +16,7 @@ show_help() {
     echo "  setup       - Configuração inicial do projeto"
     echo "  dev         - Executa em modo de desenvolvimento (H2)"
     echo "  prod        - Compila e executa em modo de produção (MySQL)"
+    echo "  rapido      - Compila com Spring AOT + AppCDS e executa em produção (MySQL)"
     echo "  test        - Executa todos os testes"
     echo "  clean       - Limpa o projeto"
     echo "  docs        - Abre a documentação da API"
@@ -100,6 +101,26 @@ prod() {
     fi
 }
 
+# Função para modo produção com inicialização rápida (Spring AOT + AppCDS)
+rapido() {
+    echo "[INFO] Compilando com Spring AOT e gerando o arquivo AppCDS..."
+    mvn clean package -Pinicio-rapido -DskipTests
+    
+    if [ $? -eq 0 ]; then
+        echo "[INFO] Iniciando em modo de produção (inicialização rápida)..."
+        echo "[INFO] Banco de dados: MySQL"
+        echo "[INFO] URL da API: http://localhost:8080/api"
+        echo ""
+        
+        # O AppCDS exige o mesmo classpath do treino, então a execução parte do mesmo diretório
+        cd target/inicio-rapido && java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+            -jar projeto-management-1.0.0-inicio-rapido.jar
+    else
+        echo "[ERRO] Falha na compilação."
+        exit 1
+    fi
+}
+
 # Função para executar testes
 test() {
     echo "[INFO] Executando testes..."
@@ -172,6 +193,11 @@ case "$1" in
         check_maven
         prod
         ;;
+    rapido)
+        check_java
+        check_maven
+        rapido
+        ;;
     test)
         check_maven
         test
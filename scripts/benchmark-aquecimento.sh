@@ -0,0 +1,111 @@
+#!/bin/bash
+
+# Benchmark do aquecimento na inicialização: latência das requisições no primeiro minuto após a
+# readiness ficar UP, com app.aquecimento.habilitado=false e =true
+#
+# Pré-requisito: mvn package -DskipTests
+# Uso: scripts/benchmark-aquecimento.sh [segundos] [porta]
+
+DURACAO=${1:-60}
+PORTA=${2:-18080}
+URL="http://localhost:$PORTA"
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$RAIZ/target/projeto-management-1.0.0.jar"
+
+# Perfil benchmark (H2 em memória, log mínimo) com os dados de exemplo; sem limite de taxa,
+# pois o cliente único dispararia as recusas por usuário
+ARGS_APP=(
+    --server.port="$PORTA"
+    --spring.profiles.active=benchmark
+    --spring.sql.init.mode=always
+    --spring.sql.init.data-locations=classpath:data-dev.sql
+    --spring.jpa.defer-datasource-initialization=true
+    --app.limite.habilitado=false
+)
+
+# Leituras principais de TarefaController e ProjetoController
+ENDPOINTS=(
+    "/api/tarefas?page=0&size=20"
+    "/api/tarefas?status=ABERTA&sort=dataFimPrevista"
+    "/api/tarefas?prioridade=ALTA,CRITICA&size=10"
+    "/api/tarefas/atrasadas"
+    "/api/tarefas/vencendo-em/7"
+    "/api/tarefas/alta-prioridade"
+    "/api/tarefas/1"
+    "/api/projetos?page=0&size=20"
+    "/api/projetos?status=EM_ANDAMENTO"
+    "/api/projetos/1"
+)
+
+if [ ! -f "$JAR" ]; then
+    echo "[ERRO] Jar não encontrado. Execute antes: mvn package -DskipTests"
+    exit 1
+fi
+
+agora_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Percentil (0-100) de uma lista de números, um por linha
+percentil() {
+    sort -n | awk -v p="$1" '{ v[NR] = $1 } END { i = int((NR * p + 99) / 100); if (i < 1) i = 1; print v[i] }'
+}
+
+# Sobe a aplicação, espera a readiness e mede as requisições por DURACAO segundos.
+# Imprime "<ms até pronto> <p50> <p99> <máx> <p99 dos primeiros 10 s> <requisições>"
+medir() {
+    local aquecimento=$1
+    local latencias="$RAIZ/target/latencias-aquecimento-$aquecimento.txt"
+    local inicio
+    inicio=$(agora_ms)
+    
+    java -jar "$JAR" "${ARGS_APP[@]}" --app.aquecimento.habilitado="$aquecimento" > /dev/null 2>&1 &
+    local pid=$!
+    
+    until curl -sf -o /dev/null "$URL/actuator/health/readiness"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "[ERRO] A aplicação encerrou antes de ficar pronta" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local pronto=$(( $(agora_ms) - inicio ))
+    
+    # Cada linha: segundos desde a readiness e latência da requisição em ms
+    : > "$latencias"
+    local comeco fim i=0
+    comeco=$(agora_ms)
+    fim=$(( comeco + DURACAO * 1000 ))
+    while [ "$(agora_ms)" -lt "$fim" ]; do
+        local endpoint=${ENDPOINTS[$(( i % ${#ENDPOINTS[@]} ))]}
+        local tempo
+        tempo=$(curl -s -o /dev/null -w '%{time_total}' "$URL$endpoint")
+        echo "$(( ($(agora_ms) - comeco) / 1000 )) $(awk -v s="$tempo" 'BEGIN { printf "%.1f", s * 1000 }')" >> "$latencias"
+        i=$(( i + 1 ))
+    done
+    
+    kill "$pid"
+    wait "$pid" 2> /dev/null
+    
+    local todas
+    todas=$(cut -d' ' -f2 "$latencias")
+    echo "$pronto" \
+        "$(percentil 50 <<< "$todas")" \
+        "$(percentil 99 <<< "$todas")" \
+        "$(percentil 100 <<< "$todas")" \
+        "$(awk '$1 < 10 { print $2 }' "$latencias" | percentil 99)" \
+        "$(wc -l < "$latencias")"
+}
+
+echo "[INFO] $DURACAO s de requisições após a readiness, porta $PORTA"
+echo ""
+printf "%-12s %12s %9s %9s %9s %15s %11s\n" "Aquecimento" "Pronto (ms)" "p50 (ms)" "p99 (ms)" "máx (ms)" "p99 0-10 s (ms)" "Requisições"
+
+for aquecimento in false true; do
+    read -r pronto p50 p99 maximo p99_inicio total <<< "$(medir "$aquecimento")" || exit 1
+    printf "%-12s %12s %9s %9s %9s %15s %11s\n" "$aquecimento" "$pronto" "$p50" "$p99" "$maximo" "$p99_inicio" "$total"
+done
+
+echo ""
+echo "[INFO] Latências por requisição em target/latencias-aquecimento-{false,true}.txt"
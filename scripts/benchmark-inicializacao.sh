@@ -0,0 +1,80 @@
+#!/bin/bash
+
+# Benchmark de inicialização: tempo até a aplicação ficar pronta (health UP) e latência da
+# primeira requisição, com o jar padrão e com o modo de inicialização rápida (Spring AOT + AppCDS)
+#
+# Pré-requisito: mvn -Pinicio-rapido package -DskipTests
+# Uso: scripts/benchmark-inicializacao.sh [repeticoes] [porta]
+
+REPETICOES=${1:-5}
+PORTA=${2:-18080}
+URL="http://localhost:$PORTA"
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+JAR_PADRAO="$RAIZ/target/projeto-management-1.0.0.jar"
+DIR_RAPIDO="$RAIZ/target/inicio-rapido"
+JAR_RAPIDO="projeto-management-1.0.0-inicio-rapido.jar"
+
+# Mesmo perfil da execução de treino (H2 em memória, log mínimo), para não depender do MySQL
+ARGS_APP=(--server.port="$PORTA" --spring.profiles.active=benchmark)
+
+if [ ! -f "$JAR_PADRAO" ] || [ ! -f "$DIR_RAPIDO/$JAR_RAPIDO" ] || [ ! -f "$DIR_RAPIDO/app.jsa" ]; then
+    echo "[ERRO] Artefatos não encontrados. Execute antes: mvn -Pinicio-rapido package -DskipTests"
+    exit 1
+fi
+
+agora_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Inicia a aplicação no modo informado e imprime "<ms até pronto> <ms da primeira requisição>"
+medir() {
+    local modo=$1
+    local inicio
+    inicio=$(agora_ms)
+    
+    if [ "$modo" = "padrao" ]; then
+        java -jar "$JAR_PADRAO" "${ARGS_APP[@]}" > /dev/null 2>&1 &
+    else
+        (cd "$DIR_RAPIDO" && exec java -XX:SharedArchiveFile=app.jsa -Xlog:cds=off \
+            -Dspring.aot.enabled=true -jar "$JAR_RAPIDO" "${ARGS_APP[@]}") > /dev/null 2>&1 &
+    fi
+    local pid=$!
+    
+    until curl -sf -o /dev/null "$URL/actuator/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "[ERRO] A aplicação ($modo) encerrou antes de ficar pronta" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local pronto=$(( $(agora_ms) - inicio ))
+    
+    local primeira
+    primeira=$(curl -s -o /dev/null -w '%{time_total}' "$URL/api/projetos")
+    
+    kill "$pid"
+    wait "$pid" 2> /dev/null
+    echo "$pronto $(awk -v s="$primeira" 'BEGIN { printf "%.0f", s * 1000 }')"
+}
+
+mediana() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+echo "[INFO] $REPETICOES execuções por modo, porta $PORTA"
+echo ""
+printf "%-10s %18s %26s\n" "Modo" "Até pronto (ms)" "Primeira requisição (ms)"
+
+for modo in padrao aot-cds; do
+    resultados=()
+    for ((i = 1; i <= REPETICOES; i++)); do
+        resultados+=("$(medir "$modo")") || exit 1
+    done
+    pronto=$(printf "%s\n" "${resultados[@]}" | cut -d' ' -f1 | mediana)
+    primeira=$(printf "%s\n" "${resultados[@]}" | cut -d' ' -f2 | mediana)
+    printf "%-10s %18s %26s\n" "$modo" "$pronto" "$primeira"
+done
+
+echo ""
+echo "[INFO] Valores são medianas; o tempo até pronto inclui a inicialização da JVM"
@@ -0,0 +1,213 @@
+package com.projeto.management.aquecimento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.AquecimentoProperties;
+import com.projeto.management.dto.request.FiltroProjetoDTO;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.ProjetoService;
+import com.projeto.management.service.TarefaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Aquecimento da instância antes de ela aceitar tráfego
+ *
+ * Os ApplicationRunners executam antes de o Spring Boot publicar ReadinessState.ACCEPTING_TRAFFIC,
+ * então a probe de readiness (/actuator/health/readiness) fica fora do ar enquanto as principais
+ * leituras da API (consultas com filtros, conversão para DTO e serialização Jackson) são repetidas
+ * em transações somente leitura. Assim o JIT compila esses caminhos, o Hibernate preenche o cache
+ * de planos e o pool abre as conexões antes das primeiras requisições reais.
+ */
+@Component
+@ConditionalOnProperty(name = "app.aquecimento.habilitado", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class AquecimentoAplicacao implements ApplicationRunner {
+
+    /** Prioridade das tarefas pelo peso numérico, na ordem dos índices de peso_prioridade */
+    private static final List<Sort> ORDENACOES_TAREFA = List.of(
+        Sort.unsorted(),
+        Sort.by("dataFimPrevista"),
+        Sort.by(Sort.Order.desc("pesoPrioridade"), Sort.Order.asc("dataFimPrevista")),
+        Sort.by(Sort.Direction.DESC, "dataCriacao"));
+
+    private static final List<Sort> ORDENACOES_PROJETO = List.of(
+        Sort.unsorted(),
+        Sort.by("dataFimPrevista"),
+        Sort.by(Sort.Direction.DESC, "prioridade"),
+        Sort.by(Sort.Direction.DESC, "dataCriacao"));
+
+    private static final List<FiltroTarefaDTO> FILTROS_TAREFA = List.of(
+        new FiltroTarefaDTO(),
+        FiltroTarefaDTO.builder().status(Set.of(StatusTarefa.ABERTA)).build(),
+        FiltroTarefaDTO.builder().status(Set.of(StatusTarefa.ABERTA, StatusTarefa.EM_ANDAMENTO)).build(),
+        FiltroTarefaDTO.builder().prioridade(Set.of(Prioridade.ALTA, Prioridade.CRITICA)).build(),
+        FiltroTarefaDTO.builder().dataFimPrevistaDe(LocalDate.now()).dataFimPrevistaAte(LocalDate.now().plusDays(30)).build(),
+        FiltroTarefaDTO.builder().titulo("a").build(),
+        FiltroTarefaDTO.builder().responsavel("a").build());
+
+    private static final List<FiltroProjetoDTO> FILTROS_PROJETO = List.of(
+        new FiltroProjetoDTO(),
+        FiltroProjetoDTO.builder().status(Set.of(StatusProjeto.EM_ANDAMENTO)).build(),
+        FiltroProjetoDTO.builder().prioridade(Set.of(Prioridade.ALTA, Prioridade.CRITICA)).build(),
+        FiltroProjetoDTO.builder().nome("a").build());
+
+    private static final ProjetoResponseDTO PROJETO_SINTETICO = ProjetoResponseDTO.builder()
+        .id(0L)
+        .nome("Aquecimento")
+        .status(StatusProjeto.EM_ANDAMENTO)
+        .prioridade(Prioridade.MEDIA)
+        .dataInicio(LocalDate.now())
+        .dataCriacao(LocalDateTime.now())
+        .orcamento(BigDecimal.TEN)
+        .percentualConclusao(0.0)
+        .atrasado(false)
+        .build();
+
+    private static final TarefaResponseDTO TAREFA_SINTETICA = TarefaResponseDTO.builder()
+        .id(0L)
+        .titulo("Aquecimento")
+        .status(StatusTarefa.ABERTA)
+        .prioridade(Prioridade.MEDIA)
+        .dataFimPrevista(LocalDate.now())
+        .dataCriacao(LocalDateTime.now())
+        .estimativaHoras(BigDecimal.ONE)
+        .idProjeto(0L)
+        .nomeProjeto("Aquecimento")
+        .build();
+
+    private final AquecimentoProperties properties;
+    private final ProjetoService projetoService;
+    private final TarefaService tarefaService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        aquecer();
+    }
+
+    /**
+     * Executa as rodadas em paralelo até concluí-las ou atingir a duração máxima
+     */
+    void aquecer() throws InterruptedException {
+        long inicio = System.nanoTime();
+        long limite = inicio + properties.getDuracaoMaxima().toNanos();
+        AtomicLong chamadas = new AtomicLong();
+        AtomicLong falhas = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), r -> {
+            Thread thread = new Thread(r, "aquecimento");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < Math.max(1, properties.getThreads()); t++) {
+                int deslocamento = t;
+                tarefas.add(executor.submit(() -> {
+                    for (int rodada = 0; rodada < properties.getRodadas() && System.nanoTime() < limite; rodada++) {
+                        executarRodada(rodada + deslocamento, chamadas, falhas);
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                try {
+                    tarefa.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException | TimeoutException e) {
+                    // Tempo esgotado ou falha inesperada: a instância segue para o tráfego real
+                    tarefa.cancel(true);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Aquecimento concluído em {} ms: {} chamadas, {} falhas",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio), chamadas.get(), falhas.get());
+    }
+
+    /**
+     * Uma passada pelas leituras principais, variando filtros e ordenações entre as rodadas
+     * para que cada formato de consulta entre no cache de planos
+     */
+    private void executarRodada(int rodada, AtomicLong chamadas, AtomicLong falhas) {
+        Pageable paginaTarefas = PageRequest.of(0, properties.getTamanhoPagina(),
+            ORDENACOES_TAREFA.get(rodada % ORDENACOES_TAREFA.size()));
+        Pageable paginaProjetos = PageRequest.of(0, properties.getTamanhoPagina(),
+            ORDENACOES_PROJETO.get(rodada % ORDENACOES_PROJETO.size()));
+        FiltroTarefaDTO filtroTarefa = FILTROS_TAREFA.get(rodada % FILTROS_TAREFA.size());
+        FiltroProjetoDTO filtroProjeto = FILTROS_PROJETO.get(rodada % FILTROS_PROJETO.size());
+
+        Page<TarefaResponseDTO> tarefas = executar(chamadas, falhas, () -> tarefaService.listarTarefas(filtroTarefa, paginaTarefas));
+        Page<ProjetoResponseDTO> projetos = executar(chamadas, falhas, () -> projetoService.listarProjetos(filtroProjeto, paginaProjetos));
+        executar(chamadas, falhas, () -> tarefaService.buscarTarefasAtrasadas());
+        executar(chamadas, falhas, () -> tarefaService.buscarTarefasVencendoEm(7));
+        executar(chamadas, falhas, () -> tarefaService.resumirTarefasAltaPrioridade(5));
+        executar(chamadas, falhas, () -> projetoService.resumirProjetosAtrasados(5));
+
+        if (tarefas != null && tarefas.hasContent()) {
+            Long id = tarefas.getContent().get(rodada % tarefas.getNumberOfElements()).getId();
+            executar(chamadas, falhas, () -> tarefaService.buscarPorId(id));
+        }
+        if (projetos != null && projetos.hasContent()) {
+            Long id = projetos.getContent().get(rodada % projetos.getNumberOfElements()).getId();
+            executar(chamadas, falhas, () -> projetoService.buscarPorId(id));
+            executar(chamadas, falhas, () -> tarefaService.listarTarefasPorProjeto(id));
+        } else {
+            // Banco vazio: os serializadores dos DTOs são aquecidos com dados sintéticos
+            executar(chamadas, falhas, () -> new PageImpl<>(List.of(PROJETO_SINTETICO), paginaProjetos, 1));
+            executar(chamadas, falhas, () -> new PageImpl<>(List.of(TAREFA_SINTETICA), paginaTarefas, 1));
+        }
+    }
+
+    /**
+     * Executa a leitura e serializa o resultado como a API faria; falhas só são contadas
+     */
+    private <T> T executar(AtomicLong chamadas, AtomicLong falhas, Supplier<T> leitura) {
+        chamadas.incrementAndGet();
+        try {
+            T resultado = leitura.get();
+            objectMapper.writeValueAsBytes(resultado);
+            return resultado;
+        } catch (Exception e) {
+            if (falhas.incrementAndGet() == 1) {
+                log.warn("Falha durante o aquecimento (as seguintes não são registradas): {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+}
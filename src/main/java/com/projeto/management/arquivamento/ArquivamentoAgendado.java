@@ -0,0 +1,28 @@
+package com.projeto.management.arquivamento;
+
+import com.projeto.management.service.ArquivamentoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Execução periódica do arquivamento, de madrugada
+ *
+ * Cada execução move no máximo app.arquivamento.maximo-lotes lotes; o que sobrar é
+ * retomado na execução seguinte.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.arquivamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class ArquivamentoAgendado {
+    
+    private final ArquivamentoService arquivamentoService;
+    
+    @Scheduled(cron = "${app.arquivamento.cron:0 30 2 * * *}")
+    public void arquivar() {
+        arquivamentoService.arquivar(LocalDateTime.now());
+    }
+}
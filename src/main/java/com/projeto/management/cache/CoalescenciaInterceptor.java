@@ -0,0 +1,162 @@
+package com.projeto.management.cache;
+
+import com.projeto.management.config.CoalescenciaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalescência (single-flight) das chamadas aos métodos {@link Coalescer}
+ *
+ * A primeira chamada de uma chave executa o método; as idênticas que chegam enquanto ela
+ * está em andamento aguardam e recebem o mesmo resultado (ou a mesma exceção). As versões
+ * dos dados fazem parte da chave: uma leitura iniciada depois do commit de uma escrita não
+ * se junta a uma execução anterior a ele. Chamadas feitas dentro de uma transação executam
+ * sempre, pois podem depender de escritas ainda não confirmadas.
+ *
+ * Fica por fora do roteamento de shards e da transação, para que a execução compartilhada
+ * inclua a consulta a todos os shards. As chamadas são contadas em app.coalescencia.chamadas.
+ */
+@Slf4j
+public class CoalescenciaInterceptor implements MethodInterceptor {
+    
+    private final VersaoDados versaoDados;
+    private final CoalescenciaProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<List<Object>, Execucao> execucoes = new ConcurrentHashMap<>();
+    private final Map<Method, Contadores> contadores = new ConcurrentHashMap<>();
+    private final AtomicLong proximaLimpeza = new AtomicLong(System.nanoTime());
+    
+    public CoalescenciaInterceptor(VersaoDados versaoDados, CoalescenciaProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.versaoDados = versaoDados;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Contadores contador = contadores.computeIfAbsent(invocation.getMethod(), this::criarContadores);
+        if (!contador.habilitado() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        
+        List<Object> chave = chave(invocation);
+        long janelaNanos = properties.getJanela().toNanos();
+        
+        while (true) {
+            Execucao nova = new Execucao();
+            Execucao existente = execucoes.putIfAbsent(chave, nova);
+            
+            if (existente == null) {
+                contador.executadas().increment();
+                return executar(invocation, chave, nova, janelaNanos);
+            }
+            if (existente.expirada(janelaNanos)) {
+                execucoes.remove(chave, existente);
+                continue;
+            }
+            contador.compartilhadas().increment();
+            return aguardar(existente);
+        }
+    }
+    
+    private Object executar(MethodInvocation invocation, List<Object> chave, Execucao execucao,
+                            long janelaNanos) throws Throwable {
+        try {
+            Object resultado = invocation.proceed();
+            execucao.concluir(resultado);
+            if (janelaNanos == 0) {
+                execucoes.remove(chave, execucao);
+            } else {
+                limparExpiradas(janelaNanos);
+            }
+            return resultado;
+        } catch (Throwable e) {
+            // Falhas atendem apenas quem já está aguardando
+            execucoes.remove(chave, execucao);
+            execucao.falhar(e);
+            throw e;
+        }
+    }
+    
+    private static Object aguardar(Execucao execucao) throws Throwable {
+        try {
+            return execucao.resultado.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private List<Object> chave(MethodInvocation invocation) {
+        Object[] argumentos = invocation.getArguments();
+        Object[] chave = Arrays.copyOf(argumentos, argumentos.length + 3);
+        chave[argumentos.length] = invocation.getMethod();
+        chave[argumentos.length + 1] = versaoDados.getVersao(VersaoDados.Dominio.PROJETOS);
+        chave[argumentos.length + 2] = versaoDados.getVersao(VersaoDados.Dominio.TAREFAS);
+        return Arrays.asList(chave);
+    }
+    
+    private void limparExpiradas(long janelaNanos) {
+        long agora = System.nanoTime();
+        long prevista = proximaLimpeza.get();
+        if (agora - prevista < 0 || !proximaLimpeza.compareAndSet(prevista, agora + janelaNanos)) {
+            return;
+        }
+        execucoes.values().removeIf(execucao -> execucao.expirada(janelaNanos));
+    }
+    
+    private Contadores criarContadores(Method metodo) {
+        String nome = metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName();
+        boolean habilitado = !properties.getExcluidos().contains(nome);
+        if (!habilitado) {
+            log.info("Coalescência desabilitada para {}", nome);
+        }
+        return new Contadores(habilitado, contador(nome, "executada"), contador(nome, "compartilhada"));
+    }
+    
+    private Counter contador(String metodo, String resultado) {
+        return Counter.builder("app.coalescencia.chamadas")
+            .description("Chamadas aos métodos coalescidos: executadas ou atendidas por outra execução")
+            .tag("metodo", metodo)
+            .tag("resultado", resultado)
+            .register(meterRegistry);
+    }
+    
+    private record Contadores(boolean habilitado, Counter executadas, Counter compartilhadas) {
+    }
+    
+    /**
+     * Execução em andamento (ou concluída há pouco) de uma chave
+     */
+    private static class Execucao {
+        
+        private final CompletableFuture<Object> resultado = new CompletableFuture<>();
+        private volatile long concluidaEm;
+        
+        private void concluir(Object valor) {
+            concluidaEm = System.nanoTime();
+            resultado.complete(valor);
+        }
+        
+        private void falhar(Throwable erro) {
+            resultado.completeExceptionally(erro);
+        }
+        
+        private boolean expirada(long janelaNanos) {
+            return resultado.isDone() && System.nanoTime() - concluidaEm >= janelaNanos;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.projeto.management.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método de leitura cujas chamadas idênticas e simultâneas compartilham uma única execução
+ *
+ * O resultado é entregue a todos os chamadores, que não devem alterá-lo; a chave inclui
+ * os argumentos (comparados por equals) e as versões de {@link VersaoDados}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalescer {
+}
@@ -0,0 +1,95 @@
+package com.projeto.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.InvalidacaoProperties;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.model.entity.LogAlteracao;
+import com.projeto.management.model.enums.TipoAlteracao;
+import com.projeto.management.repository.LogAlteracaoRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Grava no log de alterações cada escrita de projetos e tarefas
+ *
+ * Escuta os eventos de alteração de forma síncrona, ou seja, dentro da transação da escrita:
+ * a linha do log é confirmada (ou desfeita) junto com ela. As alterações de outras instâncias
+ * reproduzidas localmente pela {@link SincronizacaoInvalidacao} não são gravadas de novo.
+ */
+@Component
+public class LogAlteracoes {
+    
+    private static final ThreadLocal<Boolean> REPRODUZINDO = new ThreadLocal<>();
+    
+    private final LogAlteracaoRepository repository;
+    private final ObjectMapper objectMapper;
+    private final boolean habilitado;
+    private final String no;
+    
+    public LogAlteracoes(LogAlteracaoRepository repository, ObjectMapper objectMapper, InvalidacaoProperties properties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.habilitado = properties.isHabilitado();
+        this.no = properties.getNo().isBlank() ? UUID.randomUUID().toString() : properties.getNo();
+    }
+    
+    /**
+     * Identificador desta instância nas linhas do log
+     */
+    public String getNo() {
+        return no;
+    }
+    
+    @EventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        gravar(TipoAlteracao.TAREFA, evento.atual() != null ? evento.atual().id() : evento.anterior().id(), evento);
+    }
+    
+    @EventListener
+    public void aoAlterarProjeto(ProjetoAlteradoEvent evento) {
+        gravar(TipoAlteracao.PROJETO, evento.atual() != null ? evento.atual().id() : evento.anterior().id(), evento);
+    }
+    
+    /**
+     * Registra que um projeto mudou de shard, para que as demais instâncias esqueçam o shard antigo
+     * (chamado fora de operações roteadas, portanto no primeiro shard, onde fica o diretório)
+     */
+    public void registrarMovimentacao(Long idProjeto) {
+        gravar(TipoAlteracao.SHARD, idProjeto, null);
+    }
+    
+    /**
+     * Executa a reprodução de alterações de outra instância sem registrá-las no log
+     */
+    void reproduzir(Runnable reproducao) {
+        REPRODUZINDO.set(true);
+        try {
+            reproducao.run();
+        } finally {
+            REPRODUZINDO.remove();
+        }
+    }
+    
+    private void gravar(TipoAlteracao tipo, Long idRegistro, Object evento) {
+        if (!habilitado || REPRODUZINDO.get() != null) {
+            return;
+        }
+        
+        try {
+            repository.save(LogAlteracao.builder()
+                .tipo(tipo)
+                .idRegistro(idRegistro)
+                .noOrigem(no)
+                .dados(evento != null ? objectMapper.writeValueAsString(evento) : null)
+                .dataAlteracao(LocalDateTime.now())
+                .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar alteração de " + tipo + " " + idRegistro, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.projeto.management.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas já serializadas dos endpoints agregados
+ *
+ * Guarda os bytes finais (e a versão gzip, quando vale a pena) por endpoint e content type
+ * negociado; o header Accept de cada cliente apenas aponta para o content type já negociado
+ * para ele, num mapa limitado, para que valores arbitrários de Accept não façam o cache
+ * crescer. A entrada é válida enquanto as versões dos domínios dos quais o endpoint depende
+ * e a data corrente não mudarem; caso contrário a requisição segue para o controller.
+ */
+@Slf4j
+public class RespostaCacheFilter extends OncePerRequestFilter {
+    
+    private static final String GZIP = "gzip";
+    private static final int MAXIMO_TIPOS_NEGOCIADOS = 256;
+    
+    private final VersaoDados versaoDados;
+    private final Map<String, Set<VersaoDados.Dominio>> endpoints;
+    private final int compressaoMinimaBytes;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final Map<String, RespostaSerializada> respostas = new ConcurrentHashMap<>();
+    private final Map<String, String> tiposNegociados = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> maisAntiga) {
+                return size() > MAXIMO_TIPOS_NEGOCIADOS;
+            }
+        });
+    
+    public RespostaCacheFilter(VersaoDados versaoDados, Map<String, Set<VersaoDados.Dominio>> endpoints,
+                               int compressaoMinimaBytes) {
+        this.versaoDados = versaoDados;
+        this.endpoints = endpoints;
+        this.compressaoMinimaBytes = compressaoMinimaBytes;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+            || request.getQueryString() != null
+            || !endpoints.containsKey(urlPathHelper.getPathWithinApplication(request));
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String caminho = urlPathHelper.getPathWithinApplication(request);
+        String chaveAccept = caminho + '|' + request.getHeader(HttpHeaders.ACCEPT);
+        String versao = versaoAtual(endpoints.get(caminho));
+        
+        String tipoNegociado = tiposNegociados.get(chaveAccept);
+        RespostaSerializada emCache = tipoNegociado != null ? respostas.get(caminho + '|' + tipoNegociado) : null;
+        if (emCache != null && emCache.versao().equals(versao)) {
+            escrever(emCache, request, response, "HIT");
+            return;
+        }
+        
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        
+        if (wrapper.getStatus() != HttpStatus.OK.value() || wrapper.getContentType() == null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        
+        byte[] corpo = wrapper.getContentAsByteArray();
+        byte[] corpoGzip = corpo.length >= compressaoMinimaBytes ? comprimir(corpo) : null;
+        RespostaSerializada nova = new RespostaSerializada(versao, wrapper.getContentType(), corpo, corpoGzip);
+        respostas.put(caminho + '|' + nova.contentType(), nova);
+        tiposNegociados.put(chaveAccept, nova.contentType());
+        log.debug("Resposta de {} armazenada em cache na versão {}", caminho, versao);
+        
+        escrever(nova, request, response, "MISS");
+    }
+    
+    /**
+     * Quantidade de respostas serializadas em cache (uma por endpoint e content type)
+     */
+    int quantidadeRespostas() {
+        return respostas.size();
+    }
+    
+    private String versaoAtual(Set<VersaoDados.Dominio> dominios) {
+        StringBuilder versao = new StringBuilder(LocalDate.now().toString());
+        for (VersaoDados.Dominio dominio : dominios) {
+            versao.append(':').append(versaoDados.getVersao(dominio));
+        }
+        return versao.toString();
+    }
+    
+    private void escrever(RespostaSerializada resposta, HttpServletRequest request,
+                          HttpServletResponse response, String situacao) throws IOException {
+        boolean gzip = resposta.corpoGzip() != null && aceitaGzip(request);
+        byte[] corpo = gzip ? resposta.corpoGzip() : resposta.corpo();
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(resposta.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Cache", situacao);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+    
+    private boolean aceitaGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return StringUtils.hasText(acceptEncoding) && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+    
+    private byte[] comprimir(byte[] corpo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(corpo.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(corpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+    
+    private record RespostaSerializada(String versao, String contentType, byte[] corpo, byte[] corpoGzip) {
+    }
+}
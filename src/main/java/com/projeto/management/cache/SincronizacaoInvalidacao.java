@@ -0,0 +1,221 @@
+package com.projeto.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.InvalidacaoProperties;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.model.entity.LogAlteracao;
+import com.projeto.management.repository.LogAlteracaoRepository;
+import com.projeto.management.sharding.DiretorioShards;
+import com.projeto.management.sharding.ExecutorShards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Acompanha o log de alterações de cada shard e reproduz localmente as escritas feitas
+ * pelas demais instâncias: incrementa a {@link VersaoDados} (caches de respostas), republica
+ * os eventos de alteração (agregados de estatísticas) e esquece projetos que mudaram de shard.
+ *
+ * Os IDs do log são atribuídos na inserção, mas confirmados na ordem dos commits; por isso,
+ * além das linhas novas, cada leitura confere os IDs ainda não vistos dentro da janela de
+ * confirmação. O atraso de cada alteração reproduzida (gravação na origem até a aplicação
+ * aqui) é medido em app.invalidacao.atraso.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.invalidacao", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SincronizacaoInvalidacao {
+    
+    private final LogAlteracaoRepository repository;
+    private final LogAlteracoes logAlteracoes;
+    private final VersaoDados versaoDados;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ExecutorShards executorShards;
+    private final ObjectProvider<DiretorioShards> diretorioShards;
+    private final InvalidacaoProperties properties;
+    private final Timer atraso;
+    private final Counter reproduzidas;
+    
+    private final Posicao[] posicoes;
+    private final Object[] travas;
+    
+    public SincronizacaoInvalidacao(LogAlteracaoRepository repository,
+                                    LogAlteracoes logAlteracoes,
+                                    VersaoDados versaoDados,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper,
+                                    ExecutorShards executorShards,
+                                    ObjectProvider<DiretorioShards> diretorioShards,
+                                    InvalidacaoProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.logAlteracoes = logAlteracoes;
+        this.versaoDados = versaoDados;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.executorShards = executorShards;
+        this.diretorioShards = diretorioShards;
+        this.properties = properties;
+        this.atraso = Timer.builder("app.invalidacao.atraso")
+            .description("Tempo entre a escrita em outra instância e a invalidação local")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.reproduzidas = Counter.builder("app.invalidacao.reproduzidas")
+            .description("Alterações de outras instâncias reproduzidas localmente")
+            .register(meterRegistry);
+        
+        this.posicoes = new Posicao[executorShards.quantidade()];
+        this.travas = new Object[executorShards.quantidade()];
+        for (int i = 0; i < travas.length; i++) {
+            travas[i] = new Object();
+        }
+    }
+    
+    /**
+     * Marca como já refletidas as alterações visíveis no shard; chamado na mesma transação
+     * em que os caches são carregados do banco, antes da leitura dos dados
+     */
+    public void posicionar(int shard) {
+        synchronized (travas[shard]) {
+            Long seguro = repository.findMaiorIdAnteriorA(LocalDateTime.now().minus(properties.getJanelaConfirmacao()));
+            Posicao posicao = new Posicao(seguro != null ? seguro : 0);
+            for (LogAlteracao alteracao : repository.findByIdGreaterThanOrderByIdAsc(posicao.seguro, Pageable.unpaged())) {
+                posicao.vistas.put(alteracao.getId(), alteracao.getDataAlteracao());
+                posicao.ultimoLido = alteracao.getId();
+            }
+            posicoes[shard] = posicao;
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.invalidacao.intervalo:PT0.2S}")
+    public void sincronizar() {
+        executorShards.emTodos(shard -> {
+            sincronizar(shard);
+            return null;
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${app.invalidacao.intervalo-limpeza:PT5M}")
+    public void limpar() {
+        LocalDateTime limite = LocalDateTime.now().minus(properties.getRetencao());
+        int removidas = executorShards.emTodos(shard -> repository.removerAnterioresA(limite))
+            .stream().mapToInt(Integer::intValue).sum();
+        log.debug("{} alterações removidas do log", removidas);
+    }
+    
+    private void sincronizar(int shard) {
+        synchronized (travas[shard]) {
+            Posicao posicao = posicoes[shard];
+            if (posicao == null) {
+                return;
+            }
+            
+            // Alterações novas
+            Pageable lote = PageRequest.of(0, properties.getTamanhoLote());
+            List<LogAlteracao> alteracoes;
+            do {
+                alteracoes = repository.findByIdGreaterThanOrderByIdAsc(posicao.ultimoLido, lote);
+                alteracoes.forEach(alteracao -> reproduzir(posicao, alteracao));
+            } while (alteracoes.size() == lote.getPageSize());
+            
+            // Alterações confirmadas depois de outras com ID maior
+            if (posicao.ultimoLido > posicao.seguro) {
+                List<Long> naoVistas = repository.findIdsEntre(posicao.seguro, posicao.ultimoLido).stream()
+                    .filter(id -> !posicao.vistas.containsKey(id))
+                    .toList();
+                if (!naoVistas.isEmpty()) {
+                    repository.findByIdIn(naoVistas).stream()
+                        .sorted(Comparator.comparing(LogAlteracao::getId))
+                        .forEach(alteracao -> reproduzir(posicao, alteracao));
+                }
+            }
+            
+            posicao.avancar(LocalDateTime.now().minus(properties.getJanelaConfirmacao()));
+        }
+    }
+    
+    private void reproduzir(Posicao posicao, LogAlteracao alteracao) {
+        posicao.ultimoLido = Math.max(posicao.ultimoLido, alteracao.getId());
+        if (alteracao.getId() <= posicao.seguro || posicao.vistas.putIfAbsent(alteracao.getId(), alteracao.getDataAlteracao()) != null) {
+            return;
+        }
+        if (logAlteracoes.getNo().equals(alteracao.getNoOrigem())) {
+            return;
+        }
+        
+        try {
+            switch (alteracao.getTipo()) {
+                case TAREFA -> {
+                    TarefaAlteradaEvent evento = objectMapper.readValue(alteracao.getDados(), TarefaAlteradaEvent.class);
+                    logAlteracoes.reproduzir(() -> {
+                        versaoDados.registrarAlteracao(VersaoDados.Dominio.TAREFAS);
+                        eventPublisher.publishEvent(evento);
+                    });
+                }
+                case PROJETO -> {
+                    ProjetoAlteradoEvent evento = objectMapper.readValue(alteracao.getDados(), ProjetoAlteradoEvent.class);
+                    logAlteracoes.reproduzir(() -> {
+                        versaoDados.registrarAlteracao(VersaoDados.Dominio.PROJETOS);
+                        eventPublisher.publishEvent(evento);
+                    });
+                }
+                case SHARD -> diretorioShards.ifAvailable(diretorio -> diretorio.esquecer(alteracao.getIdRegistro()));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Alteração {} do log ignorada: dados inválidos", alteracao.getId(), e);
+            return;
+        }
+        
+        reproduzidas.increment();
+        atraso.record(Duration.between(alteracao.getDataAlteracao(), LocalDateTime.now()));
+    }
+    
+    /**
+     * Ponto de leitura do log de um shard
+     */
+    private static class Posicao {
+        
+        /**
+         * Todos os IDs até aqui foram vistos ou nunca serão confirmados
+         */
+        private long seguro;
+        private long ultimoLido;
+        
+        /**
+         * IDs vistos acima do seguro, com a data da gravação
+         */
+        private final TreeMap<Long, LocalDateTime> vistas = new TreeMap<>();
+        
+        private Posicao(long seguro) {
+            this.seguro = seguro;
+            this.ultimoLido = seguro;
+        }
+        
+        /**
+         * IDs gravados antes do limite já teriam sido confirmados: os menores que eles, se
+         * ainda não vistos, foram descartados
+         */
+        private void avancar(LocalDateTime limite) {
+            while (!vistas.isEmpty() && vistas.firstEntry().getValue().isBefore(limite)) {
+                seguro = vistas.pollFirstEntry().getKey();
+            }
+        }
+    }
+}
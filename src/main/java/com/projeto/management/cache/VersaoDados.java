@@ -0,0 +1,53 @@
+package com.projeto.management.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carimbos de versão dos dados de projetos e tarefas
+ * Incrementados pelos caminhos de escrita dos services e usados para invalidar caches
+ */
+@Component
+public class VersaoDados {
+    
+    public enum Dominio {
+        PROJETOS,
+        TAREFAS
+    }
+    
+    private final Map<Dominio, AtomicLong> versoes = new EnumMap<>(Dominio.class);
+    
+    public VersaoDados() {
+        for (Dominio dominio : Dominio.values()) {
+            versoes.put(dominio, new AtomicLong());
+        }
+    }
+    
+    public long getVersao(Dominio dominio) {
+        return versoes.get(dominio).get();
+    }
+    
+    /**
+     * Registra uma alteração no domínio
+     * A versão é incrementada imediatamente e de novo ao fim da transação corrente,
+     * para que respostas calculadas durante a transação não sobrevivam ao commit
+     */
+    public void registrarAlteracao(Dominio dominio) {
+        AtomicLong versao = versoes.get(dominio);
+        versao.incrementAndGet();
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versao.incrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.projeto.management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas da aplicação
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
@@ -0,0 +1,12 @@
+package com.projeto.management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do aquecimento na inicialização
+ */
+@Configuration
+@EnableConfigurationProperties(AquecimentoProperties.class)
+public class AquecimentoConfig {
+}
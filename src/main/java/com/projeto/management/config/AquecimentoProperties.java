@@ -0,0 +1,35 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do aquecimento na inicialização (app.aquecimento.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.aquecimento")
+public class AquecimentoProperties {
+    
+    /**
+     * Rodadas do roteiro de leituras por thread; o JIT só compila os métodos mais usados
+     * depois de alguns milhares de chamadas
+     */
+    private int rodadas = 300;
+    
+    /**
+     * Threads executando rodadas em paralelo (também abrem as conexões do pool)
+     */
+    private int threads = 4;
+    
+    /**
+     * Tempo máximo do aquecimento; ao atingi-lo a instância passa a aceitar tráfego mesmo assim
+     */
+    private Duration duracaoMaxima = Duration.ofSeconds(60);
+    
+    /**
+     * Tamanho das páginas lidas em cada rodada
+     */
+    private int tamanhoPagina = 20;
+}
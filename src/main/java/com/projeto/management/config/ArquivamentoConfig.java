@@ -0,0 +1,12 @@
+package com.projeto.management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do arquivamento de tarefas e projetos
+ */
+@Configuration
+@EnableConfigurationProperties(ArquivamentoProperties.class)
+public class ArquivamentoConfig {
+}
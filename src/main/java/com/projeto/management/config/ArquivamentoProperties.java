@@ -0,0 +1,40 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do arquivamento de tarefas e projetos (app.arquivamento.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.arquivamento")
+public class ArquivamentoProperties {
+    
+    /**
+     * Tempo sem alteração após o qual um registro inativo (excluído) é arquivado
+     */
+    private Duration inativosApos = Duration.ofDays(30);
+    
+    /**
+     * Tempo sem alteração após o qual um projeto concluído/cancelado é arquivado, com
+     * todas as suas tarefas
+     */
+    private Duration encerradosApos = Duration.ofDays(365);
+    
+    /**
+     * Registros movidos por transação
+     */
+    private int tamanhoLote = 500;
+    
+    /**
+     * Pausa entre lotes, para não disputar o banco com o tráfego da aplicação
+     */
+    private Duration pausaEntreLotes = Duration.ofMillis(200);
+    
+    /**
+     * Lotes por execução; o restante fica para a próxima
+     */
+    private int maximoLotes = 200;
+}
@@ -0,0 +1,47 @@
+package com.projeto.management.config;
+
+import com.projeto.management.cache.CoalescenciaInterceptor;
+import com.projeto.management.cache.Coalescer;
+import com.projeto.management.cache.VersaoDados;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+
+/**
+ * Configuração da coalescência de leituras simultâneas
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescenciaProperties.class)
+@ConditionalOnProperty(name = "app.coalescencia.habilitado", havingValue = "true", matchIfMissing = true)
+public class CoalescenciaConfig {
+    
+    /**
+     * Envolve os métodos {@link Coalescer} por fora do roteamento de shards e da transação
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescenciaAdvisor(@Lazy VersaoDados versaoDados,
+                                              @Lazy CoalescenciaProperties properties,
+                                              @Lazy MeterRegistry meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return AopUtils.getMostSpecificMethod(method, targetClass).isAnnotationPresent(Coalescer.class);
+            }
+        }, new CoalescenciaInterceptor(versaoDados, properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Propriedades da coalescência de leituras simultâneas (app.coalescencia.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.coalescencia")
+public class CoalescenciaProperties {
+    
+    /**
+     * Compartilha a execução das chamadas idênticas aos métodos {@code @Coalescer}
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Alcance no tempo: zero compartilha só a execução em andamento; acima disso, o resultado
+     * recém-concluído também atende as chamadas idênticas que chegarem dentro da janela,
+     * enquanto os dados não mudarem
+     */
+    private Duration janela = Duration.ZERO;
+    
+    /**
+     * Métodos que executam sempre, no formato Classe.metodo (ex.: TarefaService.listarTarefas)
+     */
+    private Set<String> excluidos = new HashSet<>();
+}
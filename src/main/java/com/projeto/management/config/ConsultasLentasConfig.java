@@ -0,0 +1,43 @@
+package com.projeto.management.config;
+
+import com.projeto.management.monitoramento.ConsultasLentas;
+import com.projeto.management.monitoramento.ConsultasLentasEndpoint;
+import com.projeto.management.monitoramento.InterceptacaoConsultas;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Configuração da captura de consultas lentas
+ *
+ * Substitui o show-sql e o log dos parâmetros (inviáveis em produção): só os comandos
+ * acima do limite são guardados, com parâmetros, método de origem e plano de execução.
+ */
+@Configuration
+@EnableConfigurationProperties(ConsultasLentasProperties.class)
+@ConditionalOnProperty(name = "app.consultas-lentas.habilitado", havingValue = "true", matchIfMissing = true)
+public class ConsultasLentasConfig {
+    
+    @Bean
+    public ConsultasLentas consultasLentas(ConsultasLentasProperties properties) {
+        return new ConsultasLentas(properties);
+    }
+    
+    @Bean
+    public ConsultasLentasEndpoint consultasLentasEndpoint(ConsultasLentas consultasLentas) {
+        return new ConsultasLentasEndpoint(consultasLentas);
+    }
+    
+    /**
+     * Envolve os DataSources (ou os shards do roteador) logo que são criados
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static InterceptacaoConsultas interceptacaoConsultas(ObjectProvider<ConsultasLentas> consultasLentas) {
+        return new InterceptacaoConsultas(consultasLentas);
+    }
+}
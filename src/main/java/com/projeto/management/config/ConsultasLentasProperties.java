@@ -0,0 +1,50 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da captura de consultas lentas (app.consultas-lentas.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.consultas-lentas")
+public class ConsultasLentasProperties {
+    
+    /**
+     * Mede cada comando SQL e registra os que passarem do limite
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Duração a partir da qual o comando é registrado
+     */
+    private Duration limite = Duration.ofMillis(100);
+    
+    /**
+     * Execuções mantidas no buffer circular; as mais antigas são sobrescritas
+     */
+    private int capacidade = 500;
+    
+    /**
+     * Formatos de consulta agregados; acima disso os novos formatos ficam só no buffer
+     */
+    private int maximoFormatos = 1_000;
+    
+    /**
+     * Intervalo mínimo entre dois EXPLAIN do mesmo formato
+     */
+    private Duration intervaloPlano = Duration.ofMinutes(10);
+    
+    /**
+     * Guarda os valores dos parâmetros; desligado, cada valor vira só o tipo (e o tamanho,
+     * para textos e binários), sem expor dados dos registros
+     */
+    private boolean exibirParametros = false;
+    
+    /**
+     * Caracteres mantidos de cada parâmetro exibido (textos longos e compactados são truncados)
+     */
+    private int tamanhoMaximoParametro = 100;
+}
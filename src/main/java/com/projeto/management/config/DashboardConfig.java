@@ -0,0 +1,27 @@
+package com.projeto.management.config;
+
+import com.projeto.management.monitoramento.MedicaoRequisicao;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuração do executor das seções do dashboard
+ */
+@Configuration
+@EnableConfigurationProperties(DashboardProperties.class)
+public class DashboardConfig {
+    
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(DashboardProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        // Fila curta: sob saturação a seção falha rápido em vez de esperar além do orçamento
+        executor.setQueueCapacity(properties.getThreads() * 4);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setTaskDecorator(MedicaoRequisicao::propagar);
+        return executor;
+    }
+}
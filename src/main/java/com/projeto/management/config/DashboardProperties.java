@@ -0,0 +1,46 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Propriedades do dashboard consolidado (app.dashboard.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.dashboard")
+public class DashboardProperties {
+    
+    /**
+     * Quantidade de itens retornados em cada lista quando não informada
+     */
+    private int limitePadrao = 5;
+    
+    /**
+     * Janela em dias da seção de tarefas a vencer quando não informada
+     */
+    private int diasVencimentoPadrao = 7;
+    
+    /**
+     * Threads dedicadas à execução paralela das seções
+     */
+    private int threads = 5;
+    
+    /**
+     * Orçamento de tempo das seções sem orçamento próprio
+     */
+    private Duration orcamentoPadrao = Duration.ofMillis(800);
+    
+    /**
+     * Orçamento de tempo por seção (projetos-por-status, projetos-atrasados,
+     * tarefas-atrasadas, tarefas-vencendo, tarefas-alta-prioridade)
+     */
+    private Map<String, Duration> orcamentos = new HashMap<>();
+    
+    public Duration orcamentoDe(String secao) {
+        return orcamentos.getOrDefault(secao, orcamentoPadrao);
+    }
+}
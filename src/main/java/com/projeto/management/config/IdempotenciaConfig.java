@@ -0,0 +1,29 @@
+package com.projeto.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.idempotencia.ArmazenamentoIdempotencia;
+import com.projeto.management.idempotencia.FiltroIdempotencia;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das chaves de idempotência
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotenciaProperties.class)
+public class IdempotenciaConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotencia.habilitado", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<FiltroIdempotencia> filtroIdempotencia(ArmazenamentoIdempotencia armazenamento,
+                                                                         IdempotenciaProperties properties,
+                                                                         ObjectMapper objectMapper) {
+        FilterRegistrationBean<FiltroIdempotencia> registro = new FilterRegistrationBean<>(
+            new FiltroIdempotencia(armazenamento, properties, objectMapper));
+        registro.addUrlPatterns("/api/*");
+        return registro;
+    }
+}
@@ -0,0 +1,45 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades das chaves de idempotência das requisições POST e PATCH (app.idempotencia.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.idempotencia")
+public class IdempotenciaProperties {
+    
+    /**
+     * Atende o header Idempotency-Key em /api/**
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Tempo durante o qual uma chave devolve a resposta armazenada
+     */
+    private Duration validade = Duration.ofHours(24);
+    
+    /**
+     * Respostas mantidas em memória (as mais recentes); as demais são lidas do banco
+     */
+    private int maximoMemoria = 10_000;
+    
+    /**
+     * Tempo após o qual uma reserva ainda em andamento é considerada abandonada (instância
+     * que caiu durante a requisição) e pode ser substituída
+     */
+    private Duration tempoMaximoProcessamento = Duration.ofMinutes(1);
+    
+    /**
+     * Tempo que uma repetição simultânea nesta instância aguarda pela requisição original
+     */
+    private Duration esperaRepetida = Duration.ofSeconds(30);
+    
+    /**
+     * Intervalo entre remoções das chaves expiradas (ISO-8601, também lido pelo @Scheduled)
+     */
+    private Duration intervaloLimpeza = Duration.ofMinutes(10);
+}
@@ -0,0 +1,12 @@
+package com.projeto.management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da invalidação de caches entre instâncias
+ */
+@Configuration
+@EnableConfigurationProperties(InvalidacaoProperties.class)
+public class InvalidacaoConfig {
+}
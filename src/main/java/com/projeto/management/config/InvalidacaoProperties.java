@@ -0,0 +1,51 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da invalidação de caches entre instâncias pelo log de alterações (app.invalidacao.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.invalidacao")
+public class InvalidacaoProperties {
+    
+    /**
+     * Grava o log de alterações e acompanha as escritas das demais instâncias
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Identificador desta instância; vazio, é gerado na inicialização
+     */
+    private String no = "";
+    
+    /**
+     * Intervalo entre leituras do log (limite inferior do atraso entre instâncias);
+     * no formato ISO-8601 (ex.: PT0.2S), pois também é lido pelo @Scheduled
+     */
+    private Duration intervalo = Duration.ofMillis(200);
+    
+    /**
+     * Duração máxima de uma transação de escrita: um ID do log mais antigo que isso e ainda
+     * não visto foi descartado (rollback), e não confirmado fora de ordem
+     */
+    private Duration janelaConfirmacao = Duration.ofSeconds(10);
+    
+    /**
+     * Alterações lidas por consulta
+     */
+    private int tamanhoLote = 500;
+    
+    /**
+     * Tempo que as alterações ficam no log
+     */
+    private Duration retencao = Duration.ofHours(1);
+    
+    /**
+     * Intervalo entre remoções das alterações mais antigas que a retenção (ISO-8601)
+     */
+    private Duration intervaloLimpeza = Duration.ofMinutes(5);
+}
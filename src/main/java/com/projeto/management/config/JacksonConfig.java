@@ -0,0 +1,46 @@
+package com.projeto.management.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuração dos formatos de serialização da API
+ *
+ * Além de JSON, as respostas podem ser negociadas pelo header Accept em
+ * CBOR (application/cbor) e Smile (application/x-jackson-smile).
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Gera serializadores via LambdaMetafactory em vez de reflexão,
+     * acelerando JSON, CBOR e Smile para todos os DTOs
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Conversor CBOR com as mesmas configurações do ObjectMapper JSON (datas ISO, time zone, módulos)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Conversor Smile com as mesmas configurações do ObjectMapper JSON
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.projeto.management.config;
+
+import com.projeto.management.limite.ControleAdmissaoInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuração do controle de admissão da API
+ *
+ * Como interceptor (e não filtro), as recusas passam pelo GlobalExceptionHandler; e as
+ * respostas servidas pelo cache de respostas não consomem fichas nem vagas.
+ */
+@Configuration
+@EnableConfigurationProperties(LimiteProperties.class)
+@ConditionalOnProperty(name = "app.limite.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimiteConfig implements WebMvcConfigurer {
+    
+    private final ControleAdmissaoInterceptor interceptor;
+    
+    public LimiteConfig(LimiteProperties properties,
+                        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanhoPool,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
+        // Endpoints de relatório: agregam muitas linhas e têm limite próprio, mais baixo
+        List<String> relatorios = List.of(
+            "/api/dashboard/**",
+            "/api/estatisticas/**",
+            "/api/historico/**",
+            "/api/projetos/estatisticas",
+            "/api/projetos/*/burndown",
+            "/api/projetos/*/velocidade"
+        );
+        // Consultas feitas por POST apenas porque a lista de parâmetros não cabe na URL
+        List<String> consultasPost = List.of("/api/*/buscar-por-ids");
+        int concorrencia = properties.getConcorrenciaMaxima() > 0 ? properties.getConcorrenciaMaxima() : tamanhoPool;
+        this.interceptor = new ControleAdmissaoInterceptor(properties, concorrencia, relatorios, consultasPost,
+            // Fora do contexto completo (ex.: @WebMvcTest) não há registry da aplicação
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
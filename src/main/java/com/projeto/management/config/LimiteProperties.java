@@ -0,0 +1,64 @@
+package com.projeto.management.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do controle de admissão da API (app.limite.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.limite")
+public class LimiteProperties {
+    
+    /**
+     * Aplica os limites por usuário e o limite global de concorrência em /api/**
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Taxa das consultas (GET que não são relatórios)
+     */
+    private Taxa leitura = new Taxa(100, 50);
+    
+    /**
+     * Taxa das escritas (POST, PUT, PATCH, DELETE)
+     */
+    private Taxa escrita = new Taxa(20, 10);
+    
+    /**
+     * Taxa dos relatórios (dashboard, estatísticas, histórico, burndown, velocidade)
+     */
+    private Taxa relatorio = new Taxa(10, 2);
+    
+    /**
+     * Requisições em andamento ao mesmo tempo; 0 usa o tamanho do pool de conexões
+     */
+    private int concorrenciaMaxima = 0;
+    
+    /**
+     * Tempo que uma requisição aguarda por uma vaga antes de ser recusada
+     */
+    private Duration esperaConcorrencia = Duration.ofMillis(100);
+    
+    /**
+     * Usuários acompanhados por classe de endpoint antes de descartar os baldes cheios
+     */
+    private int maximoUsuarios = 10_000;
+    
+    /**
+     * Balde de fichas: rajada máxima e fichas repostas por segundo
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Taxa {
+        
+        private int capacidade;
+        
+        private double reposicaoPorSegundo;
+    }
+}
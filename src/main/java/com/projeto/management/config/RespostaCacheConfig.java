@@ -0,0 +1,40 @@
+package com.projeto.management.config;
+
+import com.projeto.management.cache.RespostaCacheFilter;
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.cache.VersaoDados.Dominio;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuração do cache de respostas serializadas
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.respostas.habilitado", havingValue = "true", matchIfMissing = true)
+public class RespostaCacheConfig {
+    
+    @Bean
+    public FilterRegistrationBean<RespostaCacheFilter> respostaCacheFilter(
+            VersaoDados versaoDados,
+            @Value("${app.cache.respostas.compressao-minima-bytes:1024}") int compressaoMinimaBytes) {
+        
+        // Endpoints em cache e os domínios dos quais cada resposta depende
+        Map<String, Set<Dominio>> endpoints = Map.of(
+            "/api/tarefas/atrasadas", EnumSet.of(Dominio.TAREFAS, Dominio.PROJETOS),
+            "/api/tarefas/alta-prioridade", EnumSet.of(Dominio.TAREFAS, Dominio.PROJETOS),
+            "/api/projetos/estatisticas", EnumSet.of(Dominio.PROJETOS)
+        );
+        
+        FilterRegistrationBean<RespostaCacheFilter> registro = new FilterRegistrationBean<>(
+            new RespostaCacheFilter(versaoDados, endpoints, compressaoMinimaBytes));
+        registro.addUrlPatterns(endpoints.keySet().toArray(String[]::new));
+        return registro;
+    }
+}
@@ -0,0 +1,121 @@
+package com.projeto.management.config;
+
+import com.projeto.management.cache.LogAlteracoes;
+import com.projeto.management.monitoramento.MedicaoRequisicao;
+import com.projeto.management.sharding.DiretorioShards;
+import com.projeto.management.sharding.ExecutorShards;
+import com.projeto.management.sharding.InicializacaoShards;
+import com.projeto.management.sharding.RebalanceamentoShards;
+import com.projeto.management.sharding.RoteadorDataSource;
+import com.projeto.management.sharding.RoteamentoShardInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração do particionamento de projetos e tarefas entre bancos (shards)
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    
+    /**
+     * Beans do roteamento, registrados apenas com app.sharding.habilitado=true
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "app.sharding", name = "habilitado", havingValue = "true")
+    static class Roteamento {
+        
+        @Bean
+        @Primary
+        public RoteadorDataSource dataSource(ShardingProperties properties) {
+            if (properties.getShards().isEmpty() || properties.getShards().size() > properties.getIncrementoIds()) {
+                throw new IllegalStateException("app.sharding.shards deve ter de 1 a "
+                    + properties.getIncrementoIds() + " bancos");
+            }
+            
+            List<DataSource> shards = new ArrayList<>();
+            for (int i = 0; i < properties.getShards().size(); i++) {
+                ShardingProperties.Shard shard = properties.getShards().get(i);
+                HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+                dataSource.setPoolName("shard-" + i);
+                if (shard.getUrl().startsWith("jdbc:mysql:")) {
+                    // IDs únicos entre shards: o shard i gera apenas valores congruentes a i + 1
+                    dataSource.setConnectionInitSql("SET SESSION auto_increment_increment = "
+                        + properties.getIncrementoIds() + ", auto_increment_offset = " + (i + 1));
+                }
+                shards.add(dataSource);
+            }
+            return new RoteadorDataSource(shards);
+        }
+        
+        @Bean
+        public ThreadPoolTaskExecutor shardsExecutor(ShardingProperties properties) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(properties.getThreads());
+            executor.setMaxPoolSize(properties.getThreads());
+            executor.setThreadNamePrefix("shard-");
+            executor.setTaskDecorator(MedicaoRequisicao::propagar);
+            return executor;
+        }
+        
+        @Bean
+        public DiretorioShards diretorioShards(RoteadorDataSource dataSource, ExecutorShards executorShards) {
+            return new DiretorioShards(dataSource, executorShards);
+        }
+        
+        @Bean
+        public RebalanceamentoShards rebalanceamentoShards(DiretorioShards diretorioShards, LogAlteracoes logAlteracoes) {
+            return new RebalanceamentoShards(diretorioShards, logAlteracoes);
+        }
+        
+        @Bean
+        public InicializacaoShards inicializacaoShards(RoteadorDataSource dataSource, ShardingProperties properties) {
+            return new InicializacaoShards(dataSource, properties);
+        }
+        
+        /**
+         * Envolve os métodos roteados dos services por fora da transação (a das escritas é
+         * aberta pelo próprio roteamento, já no shard do projeto)
+         */
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        public static Advisor roteamentoShardAdvisor(@Lazy DiretorioShards diretorioShards,
+                                                     @Lazy ExecutorShards executorShards,
+                                                     @Lazy PlatformTransactionManager transactionManager) {
+            DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+                @Override
+                public boolean matches(Method method, Class<?> targetClass) {
+                    return RoteamentoShardInterceptor.isRoteado(AopUtils.getMostSpecificMethod(method, targetClass));
+                }
+            }, new RoteamentoShardInterceptor(diretorioShards, executorShards, transactionManager));
+            // Logo depois da coalescência de leituras, que compartilha a consulta a todos os shards
+            advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+            return advisor;
+        }
+    }
+}
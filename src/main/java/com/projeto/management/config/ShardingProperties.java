@@ -0,0 +1,49 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do particionamento por projeto entre bancos (app.sharding.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    
+    /**
+     * Desabilitado, a aplicação usa apenas o spring.datasource.*
+     */
+    private boolean habilitado = false;
+    
+    /**
+     * Bancos de cada shard; o primeiro guarda também o diretório projeto → shard
+     */
+    private List<Shard> shards = new ArrayList<>();
+    
+    /**
+     * Incremento das colunas de identidade: o shard N gera IDs congruentes a N + 1 módulo
+     * este valor, o que os mantém únicos entre shards; limita a quantidade máxima de shards
+     */
+    private int incrementoIds = 64;
+    
+    /**
+     * Threads das consultas executadas em paralelo em todos os shards
+     */
+    private int threads = 8;
+    
+    /**
+     * Copia o esquema do primeiro shard para os demais na inicialização (apenas H2, uso local)
+     */
+    private boolean replicarEsquema = false;
+    
+    @Data
+    public static class Shard {
+        
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,52 @@
+package com.projeto.management.config;
+
+import com.projeto.management.monitoramento.FimSerializacaoInterceptor;
+import com.projeto.management.monitoramento.MedicaoComandosHibernate;
+import com.projeto.management.monitoramento.TempoServidorFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração do header Server-Timing
+ *
+ * O filtro fica à frente dos demais (cache de respostas, idempotência) para que o total
+ * inclua tudo o que acontece na requisição; o tempo de banco vem de um listener de sessão
+ * do Hibernate e as threads dos executores herdam a medição pelo decorador de tarefas. A
+ * serialização vai do ResponseBodyAdvice ao afterCompletion de um interceptor, dentro do
+ * DispatcherServlet, sem o pós-processamento dos filtros.
+ */
+@Configuration
+@EnableConfigurationProperties(TempoServidorProperties.class)
+@ConditionalOnProperty(name = "app.tempo-servidor.habilitado", havingValue = "true", matchIfMissing = true)
+public class TempoServidorConfig implements WebMvcConfigurer {
+    
+    @Bean
+    public FilterRegistrationBean<TempoServidorFilter> tempoServidorFilter(TempoServidorProperties properties,
+                                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<TempoServidorFilter> registro = new FilterRegistrationBean<>(
+            new TempoServidorFilter(properties.getTaxaAmostragem(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registro;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FimSerializacaoInterceptor()).addPathPatterns("/api/**");
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer medicaoComandosHibernate() {
+        return propriedades -> propriedades.put("hibernate.session.events.auto", MedicaoComandosHibernate.class.getName());
+    }
+}
@@ -0,0 +1,22 @@
+package com.projeto.management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propriedades do header Server-Timing e das métricas por fase (app.tempo-servidor.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "app.tempo-servidor")
+public class TempoServidorProperties {
+    
+    /**
+     * Mede as requisições amostradas de /api/** (banco, mapeamento, serialização e total)
+     */
+    private boolean habilitado = true;
+    
+    /**
+     * Fração das requisições medidas, de 0 a 1; as demais não pagam buffer nem medição
+     */
+    private double taxaAmostragem = 0.01;
+}
@@ -0,0 +1,51 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.DashboardResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller do dashboard consolidado
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "API com a visão consolidada de projetos e tarefas")
+public class DashboardController {
+    
+    private static final int LIMITE_MAXIMO = 50;
+    
+    private final DashboardService dashboardService;
+    
+    @Operation(summary = "Obter dashboard",
+               description = "Retorna em uma única chamada estatísticas, atrasos, vencimentos e tarefas de alta prioridade")
+    @GetMapping
+    public ResponseEntity<DashboardResponseDTO> obterDashboard(
+            @Parameter(description = "Janela em dias para tarefas a vencer") @RequestParam(required = false) Integer dias,
+            @Parameter(description = "Quantidade de itens em cada lista") @RequestParam(required = false) Integer limite) {
+        
+        log.info("GET /api/dashboard - Montando dashboard");
+        
+        if (dias != null && dias < 0) {
+            throw new BusinessException("Número de dias não pode ser negativo");
+        }
+        if (limite != null && (limite < 1 || limite > LIMITE_MAXIMO)) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        
+        DashboardResponseDTO response = dashboardService.obterDashboard(dias, limite);
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,72 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.EstatisticasTarefasDTO;
+import com.projeto.management.service.EstatisticasService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Controller de estatísticas de tarefas
+ */
+@RestController
+@RequestMapping("/api/estatisticas")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Estatísticas", description = "API de estatísticas de tarefas mantidas em memória")
+public class EstatisticasController {
+    
+    private final EstatisticasService estatisticasService;
+    
+    @Operation(summary = "Estatísticas de tarefas", description = "Retorna contagens, horas e conclusões de todas as tarefas ativas")
+    @GetMapping("/tarefas")
+    public ResponseEntity<EstatisticasTarefasDTO> estatisticasTarefas(
+            @Parameter(description = "Início das séries de conclusões (padrão: últimos 30 dias)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde) {
+        
+        log.info("GET /api/estatisticas/tarefas - Gerando estatísticas");
+        
+        EstatisticasTarefasDTO response = estatisticasService.estatisticasTarefas(desde);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Estatísticas de tarefas por projeto", description = "Retorna as estatísticas das tarefas ativas de um projeto")
+    @GetMapping("/projetos/{id}/tarefas")
+    public ResponseEntity<EstatisticasTarefasDTO> estatisticasTarefasPorProjeto(
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Início das séries de conclusões (padrão: últimos 30 dias)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde) {
+        
+        log.info("GET /api/estatisticas/projetos/{}/tarefas - Gerando estatísticas", id);
+        
+        EstatisticasTarefasDTO response = estatisticasService.estatisticasTarefasPorProjeto(id, desde);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Estatísticas de tarefas por responsável", description = "Retorna as estatísticas das tarefas ativas de um responsável")
+    @GetMapping("/responsaveis/{nome}/tarefas")
+    public ResponseEntity<EstatisticasTarefasDTO> estatisticasTarefasPorResponsavel(
+            @Parameter(description = "Nome do responsável") @PathVariable String nome,
+            @Parameter(description = "Início das séries de conclusões (padrão: últimos 30 dias)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde) {
+        
+        log.info("GET /api/estatisticas/responsaveis/{}/tarefas - Gerando estatísticas", nome);
+        
+        EstatisticasTarefasDTO response = estatisticasService.estatisticasTarefasPorResponsavel(nome, desde);
+        
+        return ResponseEntity.ok(response);
+    }
+}
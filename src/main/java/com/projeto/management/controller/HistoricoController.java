@@ -0,0 +1,60 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.ProjetoHistoricoDTO;
+import com.projeto.management.dto.response.TarefaHistoricoDTO;
+import com.projeto.management.service.HistoricoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller de histórico (registros ativos, inativos e arquivados)
+ */
+@RestController
+@RequestMapping("/api/historico")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Histórico", description = "API de consulta de registros, inclusive excluídos e arquivados")
+public class HistoricoController {
+    
+    private final HistoricoService historicoService;
+    
+    @Operation(summary = "Histórico de tarefa", description = "Retorna uma tarefa pelo ID, mesmo excluída ou arquivada")
+    @GetMapping("/tarefas/{id}")
+    public ResponseEntity<TarefaHistoricoDTO> buscarTarefa(
+            @Parameter(description = "ID da tarefa") @PathVariable Long id) {
+        
+        log.info("GET /api/historico/tarefas/{} - Buscando histórico", id);
+        
+        return ResponseEntity.ok(historicoService.buscarTarefa(id));
+    }
+    
+    @Operation(summary = "Histórico de projeto", description = "Retorna um projeto pelo ID, mesmo excluído ou arquivado")
+    @GetMapping("/projetos/{id}")
+    public ResponseEntity<ProjetoHistoricoDTO> buscarProjeto(
+            @Parameter(description = "ID do projeto") @PathVariable Long id) {
+        
+        log.info("GET /api/historico/projetos/{} - Buscando histórico", id);
+        
+        return ResponseEntity.ok(historicoService.buscarProjeto(id));
+    }
+    
+    @Operation(summary = "Histórico de tarefas do projeto", description = "Lista todas as tarefas que o projeto já teve, inclusive arquivadas")
+    @GetMapping("/projetos/{id}/tarefas")
+    public ResponseEntity<List<TarefaHistoricoDTO>> listarTarefasDoProjeto(
+            @Parameter(description = "ID do projeto") @PathVariable Long id) {
+        
+        log.info("GET /api/historico/projetos/{}/tarefas - Listando histórico", id);
+        
+        return ResponseEntity.ok(historicoService.listarTarefasDoProjeto(id));
+    }
+}
@@ -1,8 +1,16 @@
 package com.projeto.management.controller;
 
+import com.projeto.management.dto.request.BuscaPorIdsDTO;
+import com.projeto.management.dto.request.FiltroProjetoDTO;
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.BurndownResponseDTO;
+import com.projeto.management.dto.response.EstatisticasProjetosDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
+import com.projeto.management.dto.response.VelocidadeResponseDTO;
+import com.projeto.management.exception.BusinessException;
 import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.service.BurndownService;
 import com.projeto.management.service.ProjetoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,13 +18,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -29,7 +40,11 @@ import java.util.List;
 @Tag(name = "Projetos", description = "API para gerenciamento de projetos")
 public class ProjetoController {
     
+    private static final int SEMANAS_MAXIMO = 104;
+    private static final String INCLUDE_TAREFAS = "tarefas";
+    
     private final ProjetoService projetoService;
+    private final BurndownService burndownService;
     
     @Operation(summary = "Criar novo projeto", description = "Cria um novo projeto no sistema")
     @PostMapping
@@ -44,14 +59,51 @@ public class ProjetoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
-    @Operation(summary = "Buscar projeto por ID", description = "Retorna um projeto específico pelo ID")
+    @Operation(summary = "Buscar projeto por ID",
+               description = "Retorna um projeto específico pelo ID. Com include=tarefas, traz uma página das tarefas ativas " +
+                             "(page, size e sort por id, titulo, status, prioridade, dataCriacao, dataFimPrevista ou responsavel)")
     @GetMapping("/{id}")
     public ResponseEntity<ProjetoResponseDTO> buscarPorId(
-            @Parameter(description = "ID do projeto") @PathVariable Long id) {
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Relacionamentos a incluir (tarefas)") @RequestParam(required = false) String include,
+            @ParameterObject @PageableDefault(size = 20, sort = "id") Pageable pageable) {
         
         log.info("GET /api/projetos/{} - Buscando projeto", id);
         
-        ProjetoResponseDTO response = projetoService.buscarPorId(id);
+        if (include == null || include.isBlank()) {
+            return ResponseEntity.ok(projetoService.buscarPorId(id));
+        }
+        if (!INCLUDE_TAREFAS.equals(include.trim())) {
+            throw new BusinessException("Valor de include não suportado: " + include + ". Use " + INCLUDE_TAREFAS);
+        }
+        
+        ProjetoResponseDTO response = projetoService.buscarPorIdComTarefas(id, pageable);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Buscar projetos por IDs",
+               description = "Retorna os projetos dos IDs informados numa única consulta, na ordem pedida, marcando os não encontrados")
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResultadoBuscaPorIdsDTO<ProjetoResponseDTO>> buscarPorIds(
+            @Parameter(description = "IDs separados por vírgula") @RequestParam List<Long> ids) {
+        
+        log.info("GET /api/projetos?ids - Buscando {} projetos", ids.size());
+        
+        ResultadoBuscaPorIdsDTO<ProjetoResponseDTO> response = projetoService.buscarPorIds(ids);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Buscar projetos por IDs (lista longa)",
+               description = "Variante POST da busca por IDs, para listas que não cabem na URL")
+    @PostMapping("/buscar-por-ids")
+    public ResponseEntity<ResultadoBuscaPorIdsDTO<ProjetoResponseDTO>> buscarPorIdsLista(
+            @Valid @RequestBody BuscaPorIdsDTO requestDTO) {
+        
+        log.info("POST /api/projetos/buscar-por-ids - Buscando {} projetos", requestDTO.getIds().size());
+        
+        ResultadoBuscaPorIdsDTO<ProjetoResponseDTO> response = projetoService.buscarPorIds(requestDTO.getIds());
         
         return ResponseEntity.ok(response);
     }
@@ -59,14 +111,12 @@ public class ProjetoController {
     @Operation(summary = "Listar projetos", description = "Lista projetos com paginação e filtros opcionais")
     @GetMapping
     public ResponseEntity<Page<ProjetoResponseDTO>> listarProjetos(
-            @Parameter(description = "Filtro por nome do projeto") @RequestParam(required = false) String nome,
-            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusProjeto status,
-            @Parameter(description = "Filtro por responsável") @RequestParam(required = false) String responsavel,
+            @ParameterObject FiltroProjetoDTO filtro,
             @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("GET /api/projetos - Listando projetos com filtros");
         
-        Page<ProjetoResponseDTO> response = projetoService.listarProjetos(nome, status, responsavel, pageable);
+        Page<ProjetoResponseDTO> response = projetoService.listarProjetos(filtro, pageable);
         
         return ResponseEntity.ok(response);
     }
@@ -137,11 +187,44 @@ public class ProjetoController {
     
     @Operation(summary = "Estatísticas dos projetos", description = "Retorna estatísticas gerais dos projetos")
     @GetMapping("/estatisticas")
-    public ResponseEntity<Object> getEstatisticas() {
+    public ResponseEntity<EstatisticasProjetosDTO> getEstatisticas() {
         
         log.info("GET /api/projetos/estatisticas - Gerando estatísticas");
         
-        Object response = projetoService.getEstatisticasProjetos();
+        EstatisticasProjetosDTO response = projetoService.getEstatisticasProjetos();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Burndown do projeto", description = "Retorna os pontos diários de horas restantes e tarefas abertas/concluídas")
+    @GetMapping("/{id}/burndown")
+    public ResponseEntity<BurndownResponseDTO> obterBurndown(
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Data inicial (padrão: 90 dias antes da final)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @Parameter(description = "Data final (padrão: hoje)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        
+        log.info("GET /api/projetos/{}/burndown - Obtendo burndown", id);
+        
+        BurndownResponseDTO response = burndownService.obterBurndown(id, desde, ate);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Velocidade do projeto", description = "Retorna tarefas concluídas e horas queimadas por semana")
+    @GetMapping("/{id}/velocidade")
+    public ResponseEntity<VelocidadeResponseDTO> obterVelocidade(
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Quantidade de semanas, incluindo a atual") @RequestParam(defaultValue = "8") int semanas) {
+        
+        log.info("GET /api/projetos/{}/velocidade - Obtendo velocidade", id);
+        
+        if (semanas < 1 || semanas > SEMANAS_MAXIMO) {
+            throw new BusinessException("Quantidade de semanas deve estar entre 1 e " + SEMANAS_MAXIMO);
+        }
+        
+        VelocidadeResponseDTO response = burndownService.obterVelocidade(id, semanas);
         
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,47 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.FilaTrabalhoDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.service.TarefaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller das visões por responsável
+ */
+@RestController
+@RequestMapping("/api/responsaveis")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Responsáveis", description = "API com as visões de trabalho de cada responsável")
+public class ResponsavelController {
+    
+    private static final int LIMITE_MAXIMO = 100;
+    
+    private final TarefaService tarefaService;
+    
+    @Operation(summary = "Fila de trabalho",
+               description = "Retorna as tarefas em aberto do responsável, da mais urgente: prioridade, data fim prevista e status")
+    @GetMapping("/{nome}/fila")
+    public ResponseEntity<FilaTrabalhoDTO> listarFila(
+            @Parameter(description = "Nome do responsável (sem diferenciar maiúsculas)") @PathVariable String nome,
+            @Parameter(description = "Quantidade de tarefas") @RequestParam(defaultValue = "20") int limite) {
+        
+        log.info("GET /api/responsaveis/{}/fila - Listando fila de trabalho", nome);
+        
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException("Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        
+        return ResponseEntity.ok(tarefaService.listarFila(nome, limite));
+    }
+}
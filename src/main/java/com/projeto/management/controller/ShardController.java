@@ -0,0 +1,41 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.ResultadoRebalanceamentoDTO;
+import com.projeto.management.sharding.RebalanceamentoShards;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller de administração dos shards
+ */
+@RestController
+@RequestMapping("/api/shards")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.sharding", name = "habilitado", havingValue = "true")
+@Tag(name = "Shards", description = "API de administração do particionamento por projeto")
+public class ShardController {
+    
+    private final RebalanceamentoShards rebalanceamentoShards;
+    
+    @Operation(summary = "Mover projeto de shard", description = "Move um projeto, suas tarefas, arquivo e burndown para outro shard")
+    @PostMapping("/projetos/{id}/mover")
+    public ResponseEntity<ResultadoRebalanceamentoDTO> moverProjeto(
+            @Parameter(description = "ID do projeto") @PathVariable Long id,
+            @Parameter(description = "Índice do shard de destino") @RequestParam int destino) {
+        
+        log.info("POST /api/shards/projetos/{}/mover - Movendo para o shard {}", id, destino);
+        
+        return ResponseEntity.ok(rebalanceamentoShards.moverProjeto(id, destino));
+    }
+}
@@ -1,9 +1,12 @@
 package com.projeto.management.controller;
 
+import com.projeto.management.dto.request.BuscaPorIdsDTO;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
 import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.NoTarefaDTO;
 import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
 import com.projeto.management.model.enums.StatusTarefa;
-import com.projeto.management.model.enums.Prioridade;
 import com.projeto.management.service.TarefaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -57,20 +61,41 @@ public class TarefaController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "Buscar tarefas por IDs",
+               description = "Retorna as tarefas dos IDs informados numa única consulta, na ordem pedida, marcando as não encontradas")
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResultadoBuscaPorIdsDTO<TarefaResponseDTO>> buscarPorIds(
+            @Parameter(description = "IDs separados por vírgula") @RequestParam List<Long> ids) {
+        
+        log.info("GET /api/tarefas?ids - Buscando {} tarefas", ids.size());
+        
+        ResultadoBuscaPorIdsDTO<TarefaResponseDTO> response = tarefaService.buscarPorIds(ids);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Buscar tarefas por IDs (lista longa)",
+               description = "Variante POST da busca por IDs, para listas que não cabem na URL")
+    @PostMapping("/buscar-por-ids")
+    public ResponseEntity<ResultadoBuscaPorIdsDTO<TarefaResponseDTO>> buscarPorIdsLista(
+            @Valid @RequestBody BuscaPorIdsDTO requestDTO) {
+        
+        log.info("POST /api/tarefas/buscar-por-ids - Buscando {} tarefas", requestDTO.getIds().size());
+        
+        ResultadoBuscaPorIdsDTO<TarefaResponseDTO> response = tarefaService.buscarPorIds(requestDTO.getIds());
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "Listar tarefas", description = "Lista tarefas com paginação e filtros opcionais")
     @GetMapping
     public ResponseEntity<Page<TarefaResponseDTO>> listarTarefas(
-            @Parameter(description = "Filtro por projeto") @RequestParam(required = false) Long projetoId,
-            @Parameter(description = "Filtro por título") @RequestParam(required = false) String titulo,
-            @Parameter(description = "Filtro por status") @RequestParam(required = false) StatusTarefa status,
-            @Parameter(description = "Filtro por responsável") @RequestParam(required = false) String responsavel,
-            @Parameter(description = "Filtro por prioridade") @RequestParam(required = false) Prioridade prioridade,
+            @ParameterObject FiltroTarefaDTO filtro,
             @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("GET /api/tarefas - Listando tarefas com filtros");
         
-        Page<TarefaResponseDTO> response = tarefaService.listarTarefas(
-            projetoId, titulo, status, responsavel, prioridade, pageable);
+        Page<TarefaResponseDTO> response = tarefaService.listarTarefas(filtro, pageable);
         
         return ResponseEntity.ok(response);
     }
@@ -187,4 +212,31 @@ public class TarefaController {
         
         return ResponseEntity.ok(response);
     }
+    
+    @Operation(summary = "Listar subárvore da tarefa",
+               description = "Retorna a tarefa e suas subtarefas ativas nível a nível, com os totais consolidados de cada uma")
+    @GetMapping("/{id}/subarvore")
+    public ResponseEntity<List<NoTarefaDTO>> listarSubarvore(
+            @Parameter(description = "ID da tarefa") @PathVariable Long id,
+            @Parameter(description = "Profundidade máxima (0 = só a tarefa)") @RequestParam(required = false) Integer profundidadeMaxima) {
+        
+        log.info("GET /api/tarefas/{}/subarvore - Listando subtarefas", id);
+        
+        List<NoTarefaDTO> response = tarefaService.listarSubarvore(id, profundidadeMaxima);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "Listar ancestrais da tarefa",
+               description = "Retorna o caminho da tarefa raiz até a tarefa informada, com os totais consolidados de cada uma")
+    @GetMapping("/{id}/ancestrais")
+    public ResponseEntity<List<NoTarefaDTO>> listarAncestrais(
+            @Parameter(description = "ID da tarefa") @PathVariable Long id) {
+        
+        log.info("GET /api/tarefas/{}/ancestrais - Listando caminho até a raiz", id);
+        
+        List<NoTarefaDTO> response = tarefaService.listarAncestrais(id);
+        
+        return ResponseEntity.ok(response);
+    }
 }
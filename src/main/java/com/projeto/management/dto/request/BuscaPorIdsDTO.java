@@ -0,0 +1,27 @@
+package com.projeto.management.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para busca de vários registros por ID (variante POST, para listas longas)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuscaPorIdsDTO {
+    
+    public static final int MAXIMO_IDS = 500;
+    
+    @NotEmpty(message = "Informe ao menos um ID")
+    @Size(max = MAXIMO_IDS, message = "Informe no máximo " + MAXIMO_IDS + " IDs")
+    private List<@NotNull(message = "ID não pode ser nulo") Long> ids;
+}
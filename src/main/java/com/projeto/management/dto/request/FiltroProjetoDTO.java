@@ -0,0 +1,46 @@
+package com.projeto.management.dto.request;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filtros opcionais da listagem de projetos
+ *
+ * Apenas os filtros informados entram na consulta; status e prioridade aceitam
+ * vários valores (parâmetro repetido ou separado por vírgula).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroProjetoDTO {
+    
+    @Parameter(description = "Filtro por nome do projeto (contém)")
+    private String nome;
+    
+    @Parameter(description = "Filtro por status (um ou mais)")
+    private Set<StatusProjeto> status;
+    
+    @Parameter(description = "Filtro por responsável (contém)")
+    private String responsavel;
+    
+    @Parameter(description = "Filtro por prioridade (uma ou mais)")
+    private Set<Prioridade> prioridade;
+    
+    @Parameter(description = "Data fim prevista a partir de (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataFimPrevistaDe;
+    
+    @Parameter(description = "Data fim prevista até (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataFimPrevistaAte;
+}
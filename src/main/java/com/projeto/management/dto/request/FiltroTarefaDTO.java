@@ -0,0 +1,59 @@
+package com.projeto.management.dto.request;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filtros opcionais da listagem de tarefas
+ *
+ * Apenas os filtros informados entram na consulta; status, prioridade e etiquetas aceitam
+ * vários valores (parâmetro repetido ou separado por vírgula). Os filtros por etiqueta são
+ * avaliados no índice em memória (IndiceTarefas) antes da consulta ao banco.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroTarefaDTO {
+    
+    @Parameter(description = "Filtro por projeto")
+    private Long projetoId;
+    
+    @Parameter(description = "Filtro por título (contém)")
+    private String titulo;
+    
+    @Parameter(description = "Filtro por status (um ou mais)")
+    private Set<StatusTarefa> status;
+    
+    @Parameter(description = "Filtro por responsável (contém)")
+    private String responsavel;
+    
+    @Parameter(description = "Filtro por prioridade (uma ou mais)")
+    private Set<Prioridade> prioridade;
+    
+    @Parameter(description = "Data fim prevista a partir de (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataFimPrevistaDe;
+    
+    @Parameter(description = "Data fim prevista até (yyyy-MM-dd)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataFimPrevistaAte;
+    
+    @Parameter(description = "Etiquetas que a tarefa deve ter (todas)")
+    private Set<String> etiquetas;
+    
+    @Parameter(description = "Etiquetas das quais a tarefa deve ter ao menos uma")
+    private Set<String> etiquetasAlguma;
+    
+    @Parameter(description = "Etiquetas que a tarefa não pode ter")
+    private Set<String> etiquetasExceto;
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * DTO para criação de Tarefa
@@ -51,4 +52,12 @@ public class TarefaRequestDTO {
     
     @NotNull(message = "ID do projeto é obrigatório")
     private Long idProjeto;
+    
+    // Tarefa pai, do mesmo projeto (nulo para tarefa de primeiro nível)
+    private Long idTarefaPai;
+    
+    // Etiquetas livres (gravadas em minúsculas); na atualização substituem as atuais
+    @Size(max = 20, message = "Tarefa deve ter no máximo 20 etiquetas")
+    private Set<@NotBlank(message = "Etiqueta não pode ser vazia")
+        @Size(max = 50, message = "Etiqueta deve ter no máximo 50 caracteres") String> etiquetas;
 }
@@ -0,0 +1,24 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO de resposta com o burndown de um projeto no período solicitado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownResponseDTO {
+    
+    private Long idProjeto;
+    private LocalDate desde;
+    private LocalDate ate;
+    private List<PontoBurndownDTO> pontos;
+}
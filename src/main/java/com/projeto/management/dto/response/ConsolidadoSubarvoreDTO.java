@@ -0,0 +1,29 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de resposta com os totais da subárvore de uma tarefa (ela inclusive)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidadoSubarvoreDTO {
+    
+    private Integer quantidadeTarefas;
+    private Integer abertas;
+    private Integer emAndamento;
+    private Integer concluidas;
+    private Integer canceladas;
+    private StatusTarefa status;
+    private Integer percentualConclusao;
+    private BigDecimal estimativaHoras;
+    private BigDecimal horasTrabalhadas;
+}
@@ -0,0 +1,26 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de resposta com uma execução de consulta acima do limite de tempo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsultaLentaDTO {
+    
+    private LocalDateTime executadaEm;
+    private Double duracaoMs;
+    private String sql;
+    private List<String> parametros;
+    private String origem;
+    private String formato;
+}
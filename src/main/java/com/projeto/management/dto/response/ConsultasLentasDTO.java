@@ -0,0 +1,25 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de resposta do endpoint /actuator/consultaslentas
+ * Formatos ordenados pelo tempo total; consultas recentes da mais nova para a mais antiga
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsultasLentasDTO {
+    
+    private Long limiteMs;
+    private Long capturadas;
+    private Long formatosIgnorados;
+    private List<FormatoConsultaDTO> formatos;
+    private List<ConsultaLentaDTO> recentes;
+}
@@ -0,0 +1,31 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO de resposta para o dashboard consolidado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponseDTO {
+    
+    private LocalDateTime geradoEm;
+    
+    // Falso quando alguma seção retornou parcial (tempo esgotado ou erro)
+    private Boolean completo;
+    
+    private SecaoDashboardDTO<Map<StatusProjeto, Long>> projetosPorStatus;
+    private SecaoDashboardDTO<ResumoListaDTO<ProjetoResponseDTO>> projetosAtrasados;
+    private SecaoDashboardDTO<ResumoListaDTO<TarefaResponseDTO>> tarefasAtrasadas;
+    private SecaoDashboardDTO<ResumoListaDTO<TarefaResponseDTO>> tarefasVencendo;
+    private SecaoDashboardDTO<ResumoListaDTO<TarefaResponseDTO>> tarefasAltaPrioridade;
+}
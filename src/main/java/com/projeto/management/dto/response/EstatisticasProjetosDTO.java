@@ -0,0 +1,22 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO de resposta com estatísticas de projetos ativos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasProjetosDTO {
+    
+    private Long totalProjetos;
+    private Map<StatusProjeto, Long> porStatus;
+}
@@ -0,0 +1,32 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO de resposta com estatísticas de tarefas ativas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasTarefasDTO {
+    
+    private Long totalTarefas;
+    private Map<StatusTarefa, Long> porStatus;
+    private Map<Prioridade, Long> porPrioridade;
+    private BigDecimal totalHorasEstimadas;
+    private BigDecimal totalHorasTrabalhadas;
+    
+    // Conclusões por dia e por semana (chave = segunda-feira da semana), a partir da data solicitada
+    private Map<LocalDate, Long> conclusoesPorDia;
+    private Map<LocalDate, Long> conclusoesPorSemana;
+}
@@ -0,0 +1,38 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.sharding.Mesclavel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de resposta da fila de trabalho de um responsável: total de tarefas em aberto e as
+ * mais urgentes, na ordem da fila
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilaTrabalhoDTO implements Mesclavel<FilaTrabalhoDTO> {
+    
+    private String responsavel;
+    private long total;
+    private List<TarefaResponseDTO> tarefas;
+    
+    /**
+     * Junta as tarefas da mesma fila encontradas em shards diferentes; o total vem da fila
+     * em memória, que já cobre todos os shards
+     */
+    @Override
+    public FilaTrabalhoDTO mesclar(FilaTrabalhoDTO outro) {
+        List<TarefaResponseDTO> mescladas = new ArrayList<>(tarefas);
+        mescladas.addAll(outro.tarefas);
+        mescladas.sort(FilaResponsaveis.ORDEM_TAREFAS);
+        return new FilaTrabalhoDTO(responsavel, Math.max(total, outro.total), mescladas);
+    }
+}
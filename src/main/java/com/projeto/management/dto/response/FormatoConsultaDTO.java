@@ -0,0 +1,27 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta com as consultas lentas agregadas por formato (SQL sem valores literais)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormatoConsultaDTO {
+    
+    private String formato;
+    private Long quantidade;
+    private Double totalMs;
+    private Double mediaMs;
+    private Double maximoMs;
+    private LocalDateTime ultimaEm;
+    private String origem;
+    private String plano;
+}
@@ -0,0 +1,20 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um ID pedido numa busca por lista de IDs: o registro, ou a marcação de não encontrado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemBuscaPorIdDTO<T> {
+    
+    private Long id;
+    private boolean encontrado;
+    private T dados;
+}
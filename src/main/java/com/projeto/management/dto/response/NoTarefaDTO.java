@@ -0,0 +1,38 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de resposta para uma tarefa dentro da árvore de subtarefas
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoTarefaDTO {
+    
+    private Long id;
+    private String titulo;
+    private StatusTarefa status;
+    private Prioridade prioridade;
+    private String responsavel;
+    private LocalDate dataFimPrevista;
+    private BigDecimal estimativaHoras;
+    private BigDecimal horasTrabalhadas;
+    private Integer percentualConclusao;
+    
+    // Posição na árvore: pai e distância até a tarefa consultada
+    private Long idTarefaPai;
+    private Integer profundidade;
+    
+    // Totais da subárvore desta tarefa
+    private ConsolidadoSubarvoreDTO consolidado;
+}
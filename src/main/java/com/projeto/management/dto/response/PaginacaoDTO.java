@@ -0,0 +1,22 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com os dados de paginação de uma lista aninhada em outra resposta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginacaoDTO {
+    
+    private int pagina;
+    private int tamanho;
+    private long totalElementos;
+    private int totalPaginas;
+    private String ordenacao;
+}
@@ -0,0 +1,25 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de um ponto diário do burndown de um projeto
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PontoBurndownDTO {
+    
+    private LocalDate data;
+    private BigDecimal horasRestantes;
+    private Integer tarefasAbertas;
+    private Integer tarefasConcluidas;
+    private BigDecimal percentualConclusao;
+}
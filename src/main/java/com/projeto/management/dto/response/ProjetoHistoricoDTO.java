@@ -0,0 +1,42 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de histórico de Projeto, vindo da tabela quente ou do arquivo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoHistoricoDTO {
+    
+    private Long id;
+    private String nome;
+    private String descricao;
+    private LocalDate dataInicio;
+    private LocalDate dataFimPrevista;
+    private LocalDate dataFimReal;
+    private StatusProjeto status;
+    private Prioridade prioridade;
+    private BigDecimal orcamento;
+    private String responsavel;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
+    private String usuarioCriacao;
+    private String usuarioAtualizacao;
+    private Boolean ativo;
+    
+    // Preenchidos apenas para registros arquivados
+    private boolean arquivado;
+    private LocalDateTime dataArquivamento;
+}
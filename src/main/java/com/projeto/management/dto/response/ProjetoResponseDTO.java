@@ -1,5 +1,6 @@
 package com.projeto.management.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.projeto.management.model.enums.Prioridade;
 import com.projeto.management.model.enums.StatusProjeto;
 import lombok.AllArgsConstructor;
@@ -46,4 +47,8 @@ public class ProjetoResponseDTO {
     
     // Lista de tarefas (opcional, para endpoints específicos)
     private List<TarefaResponseDTO> tarefas;
+    
+    // Paginação de tarefas (presente apenas com include=tarefas)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PaginacaoDTO paginacaoTarefas;
 }
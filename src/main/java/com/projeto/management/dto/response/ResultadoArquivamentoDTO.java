@@ -0,0 +1,41 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.sharding.Mesclavel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado de uma execução do arquivamento
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoArquivamentoDTO implements Mesclavel<ResultadoArquivamentoDTO> {
+    
+    private long tarefasArquivadas;
+    private long projetosArquivados;
+    private int lotes;
+    private long duracaoMs;
+    
+    /**
+     * Falso quando a execução parou no limite de lotes e ainda há registros elegíveis
+     */
+    private boolean completo;
+    
+    /**
+     * Soma as execuções de shards diferentes, feitas em paralelo
+     */
+    @Override
+    public ResultadoArquivamentoDTO mesclar(ResultadoArquivamentoDTO outro) {
+        return ResultadoArquivamentoDTO.builder()
+            .tarefasArquivadas(tarefasArquivadas + outro.tarefasArquivadas)
+            .projetosArquivados(projetosArquivados + outro.projetosArquivados)
+            .lotes(lotes + outro.lotes)
+            .duracaoMs(Math.max(duracaoMs, outro.duracaoMs))
+            .completo(completo && outro.completo)
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.sharding.Mesclavel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DTO de resposta da busca por lista de IDs, com um item por ID na ordem pedida
+ * (inclusive repetidos) e os IDs não encontrados (inexistentes ou excluídos)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoBuscaPorIdsDTO<T> implements Mesclavel<ResultadoBuscaPorIdsDTO<T>> {
+    
+    private List<ItemBuscaPorIdDTO<T>> itens;
+    private int encontrados;
+    private List<Long> naoEncontrados;
+    
+    /**
+     * Monta o resultado na ordem dos IDs pedidos a partir dos registros encontrados
+     */
+    public static <E, T> ResultadoBuscaPorIdsDTO<T> de(List<Long> ids, Map<Long, E> encontrados,
+                                                       Function<E, T> conversor) {
+        List<ItemBuscaPorIdDTO<T>> itens = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            E registro = encontrados.get(id);
+            itens.add(new ItemBuscaPorIdDTO<>(id, registro != null, registro != null ? conversor.apply(registro) : null));
+        }
+        return deItens(itens);
+    }
+    
+    /**
+     * Combina as buscas dos mesmos IDs em shards diferentes, posição a posição
+     */
+    @Override
+    public ResultadoBuscaPorIdsDTO<T> mesclar(ResultadoBuscaPorIdsDTO<T> outro) {
+        List<ItemBuscaPorIdDTO<T>> mesclados = new ArrayList<>(itens.size());
+        for (int i = 0; i < itens.size(); i++) {
+            mesclados.add(itens.get(i).isEncontrado() ? itens.get(i) : outro.itens.get(i));
+        }
+        return deItens(mesclados);
+    }
+    
+    private static <T> ResultadoBuscaPorIdsDTO<T> deItens(List<ItemBuscaPorIdDTO<T>> itens) {
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (ItemBuscaPorIdDTO<T> item : itens) {
+            if (!item.isEncontrado()) {
+                naoEncontrados.add(item.getId());
+            }
+        }
+        return new ResultadoBuscaPorIdsDTO<>(itens, itens.size() - naoEncontrados.size(), naoEncontrados);
+    }
+}
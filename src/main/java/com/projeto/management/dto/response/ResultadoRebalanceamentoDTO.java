@@ -0,0 +1,22 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO com o resultado da movimentação de um projeto entre shards
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoRebalanceamentoDTO {
+    
+    private Long idProjeto;
+    private int shardOrigem;
+    private int shardDestino;
+    private long linhasCopiadas;
+    private long duracaoMs;
+}
@@ -0,0 +1,27 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta para uma seção do dashboard
+ * Seções que estouram o orçamento de tempo ou falham retornam sem dados
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecaoDashboardDTO<T> {
+    
+    public enum Situacao {
+        OK,
+        TEMPO_ESGOTADO,
+        ERRO
+    }
+    
+    private Situacao situacao;
+    private Long tempoMs;
+    private T dados;
+}
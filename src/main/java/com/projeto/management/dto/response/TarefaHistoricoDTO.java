@@ -0,0 +1,46 @@
+package com.projeto.management.dto.response;
+
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de histórico de Tarefa, vinda da tabela quente ou do arquivo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaHistoricoDTO {
+    
+    private Long id;
+    private String titulo;
+    private String descricao;
+    private StatusTarefa status;
+    private Prioridade prioridade;
+    private LocalDateTime dataCriacao;
+    private LocalDate dataInicio;
+    private LocalDate dataFimPrevista;
+    private LocalDate dataFimReal;
+    private BigDecimal estimativaHoras;
+    private BigDecimal horasTrabalhadas;
+    private Integer percentualConclusao;
+    private String responsavel;
+    private String observacoes;
+    private LocalDateTime dataAtualizacao;
+    private String usuarioCriacao;
+    private String usuarioAtualizacao;
+    private Boolean ativo;
+    private Long idProjeto;
+    
+    // Preenchidos apenas para registros arquivados
+    private boolean arquivada;
+    private LocalDateTime dataArquivamento;
+}
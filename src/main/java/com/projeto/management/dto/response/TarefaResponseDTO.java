@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * DTO de resposta para Tarefa
@@ -41,6 +42,12 @@ public class TarefaResponseDTO {
     private Long idProjeto;
     private String nomeProjeto;
     
+    // Tarefa pai (subtarefas)
+    private Long idTarefaPai;
+    
+    // Etiquetas (apenas nas visões de detalhe)
+    private Set<String> etiquetas;
+    
     // Campos calculados
     private Boolean atrasada;
     private Long diasRestantes;
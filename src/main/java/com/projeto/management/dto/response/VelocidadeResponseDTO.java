@@ -0,0 +1,24 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO de resposta com a velocidade semanal de um projeto
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VelocidadeResponseDTO {
+    
+    private Long idProjeto;
+    private List<VelocidadeSemanaDTO> semanas;
+    private BigDecimal mediaTarefasPorSemana;
+    private BigDecimal mediaHorasPorSemana;
+}
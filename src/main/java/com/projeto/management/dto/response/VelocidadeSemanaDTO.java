@@ -0,0 +1,24 @@
+package com.projeto.management.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO com o trabalho concluído por um projeto em uma semana
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VelocidadeSemanaDTO {
+    
+    // Segunda-feira da semana
+    private LocalDate semana;
+    private Integer tarefasConcluidas;
+    private BigDecimal horasQueimadas;
+}
@@ -0,0 +1,46 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.dto.response.EstatisticasProjetosDTO;
+import com.projeto.management.event.ProjetoSnapshot;
+import com.projeto.management.model.enums.StatusProjeto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Agregado incremental de projetos ativos por status
+ */
+public class AgregadoProjetos {
+    
+    private final long[] porStatus = new long[StatusProjeto.values().length];
+    private long total;
+    
+    /**
+     * Soma (sinal = 1) ou remove (sinal = -1) a contribuição de um projeto
+     */
+    public synchronized void aplicar(ProjetoSnapshot projeto, int sinal) {
+        if (projeto == null || !projeto.isAtivo()) {
+            return;
+        }
+        
+        total += sinal;
+        if (projeto.status() != null) {
+            porStatus[projeto.status().ordinal()] += sinal;
+        }
+    }
+    
+    public synchronized Map<StatusProjeto, Long> contarPorStatus() {
+        Map<StatusProjeto, Long> status = new EnumMap<>(StatusProjeto.class);
+        for (StatusProjeto s : StatusProjeto.values()) {
+            status.put(s, porStatus[s.ordinal()]);
+        }
+        return status;
+    }
+    
+    public synchronized EstatisticasProjetosDTO paraDTO() {
+        return EstatisticasProjetosDTO.builder()
+            .totalProjetos(total)
+            .porStatus(contarPorStatus())
+            .build();
+    }
+}
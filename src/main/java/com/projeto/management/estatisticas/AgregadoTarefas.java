@@ -0,0 +1,92 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.dto.response.EstatisticasTarefasDTO;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Agregado incremental de tarefas ativas (global, por projeto ou por responsável)
+ *
+ * Cada escrita aplica a contribuição do estado anterior com sinal negativo e a do
+ * estado atual com sinal positivo, de modo que nenhuma consulta precisa varrer a tabela.
+ */
+public class AgregadoTarefas {
+    
+    private final long[] porStatus = new long[StatusTarefa.values().length];
+    private final long[] porPrioridade = new long[Prioridade.values().length];
+    private long total;
+    private BigDecimal horasEstimadas = BigDecimal.ZERO;
+    private BigDecimal horasTrabalhadas = BigDecimal.ZERO;
+    private final NavigableMap<LocalDate, Long> conclusoesPorDia = new TreeMap<>();
+    
+    /**
+     * Soma (sinal = 1) ou remove (sinal = -1) a contribuição de uma tarefa
+     */
+    public synchronized void aplicar(TarefaSnapshot tarefa, int sinal) {
+        if (tarefa == null || !tarefa.isAtiva()) {
+            return;
+        }
+        
+        total += sinal;
+        if (tarefa.status() != null) {
+            porStatus[tarefa.status().ordinal()] += sinal;
+        }
+        if (tarefa.prioridade() != null) {
+            porPrioridade[tarefa.prioridade().ordinal()] += sinal;
+        }
+        if (tarefa.estimativaHoras() != null) {
+            horasEstimadas = horasEstimadas.add(tarefa.estimativaHoras().multiply(BigDecimal.valueOf(sinal)));
+        }
+        if (tarefa.horasTrabalhadas() != null) {
+            horasTrabalhadas = horasTrabalhadas.add(tarefa.horasTrabalhadas().multiply(BigDecimal.valueOf(sinal)));
+        }
+        if (tarefa.status() == StatusTarefa.CONCLUIDA && tarefa.dataFimReal() != null) {
+            conclusoesPorDia.merge(tarefa.dataFimReal(), (long) sinal, Long::sum);
+            conclusoesPorDia.remove(tarefa.dataFimReal(), 0L);
+        }
+    }
+    
+    public synchronized boolean isVazio() {
+        return total == 0;
+    }
+    
+    /**
+     * Converte o agregado em DTO, com as séries de conclusões a partir da data informada
+     */
+    public synchronized EstatisticasTarefasDTO paraDTO(LocalDate desde) {
+        Map<StatusTarefa, Long> status = new EnumMap<>(StatusTarefa.class);
+        for (StatusTarefa s : StatusTarefa.values()) {
+            status.put(s, porStatus[s.ordinal()]);
+        }
+        
+        Map<Prioridade, Long> prioridades = new EnumMap<>(Prioridade.class);
+        for (Prioridade p : Prioridade.values()) {
+            prioridades.put(p, porPrioridade[p.ordinal()]);
+        }
+        
+        NavigableMap<LocalDate, Long> porDia = new TreeMap<>(conclusoesPorDia.tailMap(desde, true));
+        NavigableMap<LocalDate, Long> porSemana = new TreeMap<>();
+        porDia.forEach((dia, quantidade) ->
+            porSemana.merge(dia.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), quantidade, Long::sum));
+        
+        return EstatisticasTarefasDTO.builder()
+            .totalTarefas(total)
+            .porStatus(status)
+            .porPrioridade(prioridades)
+            .totalHorasEstimadas(horasEstimadas)
+            .totalHorasTrabalhadas(horasTrabalhadas)
+            .conclusoesPorDia(porDia)
+            .conclusoesPorSemana(porSemana)
+            .build();
+    }
+}
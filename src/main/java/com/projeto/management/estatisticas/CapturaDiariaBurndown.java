@@ -0,0 +1,28 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.service.BurndownService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Captura diária do progresso dos projetos para o burndown
+ *
+ * Roda no fim do dia; se a aplicação estiver fora do ar no horário, o dia fica sem ponto
+ * e a série segue a partir da próxima captura.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.burndown.captura.habilitada", havingValue = "true", matchIfMissing = true)
+public class CapturaDiariaBurndown {
+    
+    private final BurndownService burndownService;
+    
+    @Scheduled(cron = "${app.burndown.captura.cron:0 55 23 * * *}")
+    public void capturar() {
+        burndownService.capturar(LocalDate.now());
+    }
+}
@@ -0,0 +1,42 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.service.EstatisticasService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega os agregados de estatísticas antes de o servidor web começar a aceitar requisições
+ */
+@Component
+@RequiredArgsConstructor
+public class CargaInicialEstatisticas implements SmartLifecycle {
+    
+    private final EstatisticasService estatisticasService;
+    
+    private volatile boolean executando;
+    
+    @Override
+    public void start() {
+        estatisticasService.recarregar();
+        executando = true;
+    }
+    
+    @Override
+    public void stop() {
+        executando = false;
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+    
+    /**
+     * Fase anterior à do servidor web, que só inicia depois da carga
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.projeto.management.estatisticas;
+
+import java.time.LocalDate;
+
+/**
+ * Fotografia do progresso de um projeto em um dia (horas restantes em centésimos de hora)
+ */
+public record PontoProgresso(
+    LocalDate data,
+    long horasRestantesCentesimos,
+    int tarefasAbertas,
+    int tarefasConcluidas
+) {
+}
@@ -0,0 +1,14 @@
+package com.projeto.management.estatisticas;
+
+import java.math.BigDecimal;
+
+/**
+ * Progresso atual de um projeto, lido do banco no momento da captura diária
+ */
+public record ProgressoProjeto(
+    Long idProjeto,
+    BigDecimal horasRestantes,
+    Long tarefasAbertas,
+    Long tarefasConcluidas
+) {
+}
@@ -0,0 +1,120 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.model.entity.BurndownProjeto;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Codificação compacta da série diária de progresso de um projeto
+ *
+ * Cada ponto é gravado como a distância em dias para o ponto anterior seguida das
+ * diferenças de horas restantes, tarefas abertas e tarefas concluídas, todas em
+ * varint (zigzag para as diferenças). Um dia sem mudanças ocupa 4 bytes.
+ */
+public final class SerieProgresso {
+    
+    private SerieProgresso() {
+    }
+    
+    /**
+     * Inicia a série do ano a partir do primeiro ponto
+     */
+    public static BurndownProjeto iniciar(Long idProjeto, PontoProgresso ponto) {
+        BurndownProjeto serie = BurndownProjeto.builder()
+            .idProjeto(idProjeto)
+            .ano(ponto.data().getYear())
+            .dataInicial(ponto.data())
+            .ultimaData(ponto.data())
+            .ultimasHorasRestantes(0L)
+            .ultimasTarefasAbertas(0)
+            .ultimasTarefasConcluidas(0)
+            .quantidadePontos(0)
+            .dados(new byte[0])
+            .build();
+        acrescentar(serie, ponto);
+        return serie;
+    }
+    
+    /**
+     * Acrescenta um ponto posterior ao último da série, sem decodificá-la
+     */
+    public static void acrescentar(BurndownProjeto serie, PontoProgresso ponto) {
+        long dias = ChronoUnit.DAYS.between(serie.getUltimaData(), ponto.data());
+        if (dias < 0 || (dias == 0 && serie.getQuantidadePontos() > 0)) {
+            throw new IllegalArgumentException("Ponto de " + ponto.data() + " não é posterior a " + serie.getUltimaData());
+        }
+        
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(16);
+        escreverVarint(saida, dias);
+        escreverVarint(saida, zigzag(ponto.horasRestantesCentesimos() - serie.getUltimasHorasRestantes()));
+        escreverVarint(saida, zigzag(ponto.tarefasAbertas() - serie.getUltimasTarefasAbertas()));
+        escreverVarint(saida, zigzag(ponto.tarefasConcluidas() - serie.getUltimasTarefasConcluidas()));
+        
+        byte[] atuais = serie.getDados();
+        byte[] novos = saida.toByteArray();
+        byte[] dados = Arrays.copyOf(atuais, atuais.length + novos.length);
+        System.arraycopy(novos, 0, dados, atuais.length, novos.length);
+        
+        serie.setDados(dados);
+        serie.setUltimaData(ponto.data());
+        serie.setUltimasHorasRestantes(ponto.horasRestantesCentesimos());
+        serie.setUltimasTarefasAbertas(ponto.tarefasAbertas());
+        serie.setUltimasTarefasConcluidas(ponto.tarefasConcluidas());
+        serie.setQuantidadePontos(serie.getQuantidadePontos() + 1);
+    }
+    
+    /**
+     * Reconstrói os valores absolutos de todos os pontos da série
+     */
+    public static List<PontoProgresso> decodificar(BurndownProjeto serie) {
+        byte[] dados = serie.getDados();
+        List<PontoProgresso> pontos = new ArrayList<>(serie.getQuantidadePontos());
+        
+        int[] posicao = {0};
+        LocalDate data = serie.getDataInicial();
+        long horas = 0;
+        long abertas = 0;
+        long concluidas = 0;
+        while (posicao[0] < dados.length) {
+            data = data.plusDays(lerVarint(dados, posicao));
+            horas += dezigzag(lerVarint(dados, posicao));
+            abertas += dezigzag(lerVarint(dados, posicao));
+            concluidas += dezigzag(lerVarint(dados, posicao));
+            pontos.add(new PontoProgresso(data, horas, (int) abertas, (int) concluidas));
+        }
+        return pontos;
+    }
+    
+    private static long zigzag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+    
+    private static long dezigzag(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+    
+    private static void escreverVarint(ByteArrayOutputStream saida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            saida.write((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        saida.write((int) valor);
+    }
+    
+    private static long lerVarint(byte[] dados, int[] posicao) {
+        long valor = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = dados[posicao[0]++];
+            valor |= (long) (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return valor;
+    }
+}
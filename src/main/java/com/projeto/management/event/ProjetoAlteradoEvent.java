@@ -0,0 +1,10 @@
+package com.projeto.management.event;
+
+/**
+ * Evento publicado pelos caminhos de escrita do ProjetoService e pelo arquivamento
+ *
+ * @param anterior estado antes da escrita (nulo na criação)
+ * @param atual estado após a escrita (nulo quando o registro é arquivado)
+ */
+public record ProjetoAlteradoEvent(ProjetoSnapshot anterior, ProjetoSnapshot atual) {
+}
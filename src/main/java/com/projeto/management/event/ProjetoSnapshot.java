@@ -0,0 +1,18 @@
+package com.projeto.management.event;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.StatusProjeto;
+
+/**
+ * Fotografia imutável dos campos de um projeto relevantes para agregados em memória
+ */
+public record ProjetoSnapshot(Long id, StatusProjeto status, Boolean ativo) {
+    
+    public static ProjetoSnapshot de(Projeto projeto) {
+        return new ProjetoSnapshot(projeto.getId(), projeto.getStatus(), projeto.getAtivo());
+    }
+    
+    public boolean isAtivo() {
+        return Boolean.TRUE.equals(ativo);
+    }
+}
@@ -0,0 +1,17 @@
+package com.projeto.management.event;
+
+import java.util.Set;
+
+/**
+ * Evento publicado pelos caminhos de escrita do TarefaService e pelo arquivamento
+ *
+ * @param anterior estado antes da escrita (nulo na criação)
+ * @param atual estado após a escrita (nulo quando o registro é arquivado)
+ * @param etiquetas etiquetas após a escrita (nulo quando a escrita não as altera)
+ */
+public record TarefaAlteradaEvent(TarefaSnapshot anterior, TarefaSnapshot atual, Set<String> etiquetas) {
+
+    public TarefaAlteradaEvent(TarefaSnapshot anterior, TarefaSnapshot atual) {
+        this(anterior, atual, null);
+    }
+}
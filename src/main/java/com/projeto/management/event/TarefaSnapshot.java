@@ -0,0 +1,65 @@
+package com.projeto.management.event;
+
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Fotografia imutável dos campos de uma tarefa relevantes para índices e agregados em memória
+ */
+public record TarefaSnapshot(
+    Long id,
+    Long projetoId,
+    StatusTarefa status,
+    Prioridade prioridade,
+    String responsavel,
+    BigDecimal estimativaHoras,
+    BigDecimal horasTrabalhadas,
+    Integer percentualConclusao,
+    LocalDate dataFimPrevista,
+    LocalDate dataFimReal,
+    Boolean ativo
+) {
+    
+    /**
+     * Estado da tarefa exatamente como carregado ou gravado
+     */
+    public static TarefaSnapshot de(Tarefa tarefa) {
+        return de(tarefa, tarefa.getDataFimReal());
+    }
+    
+    /**
+     * Estado da tarefa após o flush de uma atualização: o @PreUpdate define a data de
+     * conclusão quando a tarefa é concluída sem ela
+     */
+    public static TarefaSnapshot aposAtualizacao(Tarefa tarefa) {
+        LocalDate dataFimReal = tarefa.getDataFimReal();
+        if (dataFimReal == null && tarefa.getStatus() == StatusTarefa.CONCLUIDA) {
+            dataFimReal = LocalDate.now();
+        }
+        return de(tarefa, dataFimReal);
+    }
+    
+    private static TarefaSnapshot de(Tarefa tarefa, LocalDate dataFimReal) {
+        return new TarefaSnapshot(
+            tarefa.getId(),
+            tarefa.getProjeto() != null ? tarefa.getProjeto().getId() : null,
+            tarefa.getStatus(),
+            tarefa.getPrioridade(),
+            tarefa.getResponsavel(),
+            tarefa.getEstimativaHoras(),
+            tarefa.getHorasTrabalhadas(),
+            tarefa.getPercentualConclusao(),
+            tarefa.getDataFimPrevista(),
+            dataFimReal,
+            tarefa.getAtivo()
+        );
+    }
+    
+    public boolean isAtiva() {
+        return Boolean.TRUE.equals(ativo);
+    }
+}
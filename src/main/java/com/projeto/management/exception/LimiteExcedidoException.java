@@ -0,0 +1,18 @@
+package com.projeto.management.exception;
+
+/**
+ * Exceção para requisições recusadas pelo controle de admissão (HTTP 429)
+ */
+public class LimiteExcedidoException extends RuntimeException {
+    
+    private final long retryAfterSegundos;
+    
+    public LimiteExcedidoException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+    
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
@@ -0,0 +1,156 @@
+package com.projeto.management.idempotencia;
+
+import com.projeto.management.config.IdempotenciaProperties;
+import com.projeto.management.model.entity.ChaveIdempotencia;
+import com.projeto.management.model.enums.SituacaoIdempotencia;
+import com.projeto.management.repository.ChaveIdempotenciaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reservas e respostas das chaves de idempotência
+ *
+ * As respostas mais recentes ficam num mapa LRU limitado; o banco (tabela chave_idempotencia)
+ * guarda todas até expirarem e é a fonte de verdade entre instâncias: a restrição única
+ * (usuario, chave) garante que só uma requisição por chave seja executada.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotencia.habilitado", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ArmazenamentoIdempotencia {
+    
+    private static final int TENTATIVAS_RESERVA = 3;
+    
+    private final ChaveIdempotenciaRepository repository;
+    private final IdempotenciaProperties properties;
+    private final Map<String, RespostaArmazenada> memoria;
+    
+    public ArmazenamentoIdempotencia(ChaveIdempotenciaRepository repository, IdempotenciaProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        int maximo = properties.getMaximoMemoria();
+        this.memoria = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RespostaArmazenada> maisAntiga) {
+                return size() > maximo;
+            }
+        };
+    }
+    
+    /**
+     * Resultado de uma tentativa de reserva: nova (executar a requisição), já concluída
+     * (devolver a resposta) ou em andamento em outra instância
+     */
+    public record Reserva(Long id, RespostaArmazenada resposta) {
+        
+        static final Reserva EM_ANDAMENTO = new Reserva(null, null);
+        
+        public boolean isNova() {
+            return id != null;
+        }
+        
+        public boolean isConcluida() {
+            return resposta != null;
+        }
+    }
+    
+    /**
+     * Reserva a chave do usuário para a requisição com a impressão informada
+     */
+    public Reserva reservar(String usuario, String chave, String impressaoRequisicao) {
+        for (int tentativa = 0; tentativa < TENTATIVAS_RESERVA; tentativa++) {
+            LocalDateTime agora = LocalDateTime.now();
+            
+            RespostaArmazenada emMemoria = lembrada(usuario, chave, agora);
+            if (emMemoria != null) {
+                return new Reserva(null, emMemoria);
+            }
+            
+            Optional<ChaveIdempotencia> existente = repository.findByUsuarioAndChave(usuario, chave);
+            if (existente.isPresent()) {
+                ChaveIdempotencia registro = existente.get();
+                if (registro.getSituacao() == SituacaoIdempotencia.CONCLUIDA && !registro.getDataExpiracao().isBefore(agora)) {
+                    RespostaArmazenada resposta = RespostaArmazenada.de(registro);
+                    lembrar(usuario, chave, resposta);
+                    return new Reserva(null, resposta);
+                }
+                boolean abandonada = registro.getSituacao() == SituacaoIdempotencia.EM_ANDAMENTO
+                    && registro.getDataCriacao().isBefore(agora.minus(properties.getTempoMaximoProcessamento()));
+                if (registro.getSituacao() == SituacaoIdempotencia.EM_ANDAMENTO && !abandonada) {
+                    return Reserva.EM_ANDAMENTO;
+                }
+                // Expirada ou abandonada: dá lugar a uma nova reserva
+                repository.removerSeNaSituacao(registro.getId(), registro.getSituacao());
+            }
+            
+            try {
+                ChaveIdempotencia nova = repository.save(ChaveIdempotencia.builder()
+                    .usuario(usuario)
+                    .chave(chave)
+                    .impressaoRequisicao(impressaoRequisicao)
+                    .situacao(SituacaoIdempotencia.EM_ANDAMENTO)
+                    .dataCriacao(agora)
+                    .dataExpiracao(agora.plus(properties.getValidade()))
+                    .build());
+                return new Reserva(nova.getId(), null);
+            } catch (DataIntegrityViolationException e) {
+                // Outra instância reservou a mesma chave entre a leitura e a inserção
+                log.debug("Chave de idempotência {} reservada concorrentemente", chave);
+            }
+        }
+        return Reserva.EM_ANDAMENTO;
+    }
+    
+    /**
+     * Grava a resposta da requisição executada com a reserva
+     */
+    public void concluir(Long idReserva, String usuario, String chave, RespostaArmazenada resposta) {
+        if (repository.concluir(idReserva, resposta.status(), resposta.tipoConteudo(), resposta.corpo()) == 0) {
+            log.warn("Reserva da chave de idempotência {} substituída antes da conclusão", chave);
+            return;
+        }
+        lembrar(usuario, chave, resposta);
+    }
+    
+    /**
+     * Desfaz a reserva de uma requisição cuja resposta não deve ser repetida (falha do servidor)
+     */
+    public void liberar(Long idReserva) {
+        repository.removerSeNaSituacao(idReserva, SituacaoIdempotencia.EM_ANDAMENTO);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.idempotencia.intervalo-limpeza:PT10M}")
+    public void limpar() {
+        LocalDateTime agora = LocalDateTime.now();
+        int removidas = repository.removerExpiradas(agora);
+        synchronized (memoria) {
+            memoria.values().removeIf(resposta -> resposta.isExpirada(agora));
+        }
+        log.debug("{} chaves de idempotência expiradas removidas", removidas);
+    }
+    
+    private RespostaArmazenada lembrada(String usuario, String chave, LocalDateTime agora) {
+        synchronized (memoria) {
+            RespostaArmazenada resposta = memoria.get(chaveMemoria(usuario, chave));
+            return resposta != null && !resposta.isExpirada(agora) ? resposta : null;
+        }
+    }
+    
+    private void lembrar(String usuario, String chave, RespostaArmazenada resposta) {
+        synchronized (memoria) {
+            memoria.put(chaveMemoria(usuario, chave), resposta);
+        }
+    }
+    
+    private static String chaveMemoria(String usuario, String chave) {
+        return usuario + '\n' + chave;
+    }
+}
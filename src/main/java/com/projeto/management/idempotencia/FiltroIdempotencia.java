@@ -0,0 +1,274 @@
+package com.projeto.management.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.IdempotenciaProperties;
+import com.projeto.management.exception.GlobalExceptionHandler.ErrorResponse;
+import com.projeto.management.model.entity.ChaveIdempotencia;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Header Idempotency-Key nas requisições POST e PATCH
+ *
+ * A primeira requisição com uma chave (por usuário, header X-Usuario) é executada e sua
+ * resposta armazenada; as repetições recebem a mesma resposta, com o header
+ * Idempotent-Replayed, sem executar o controller de novo. Repetições simultâneas nesta
+ * instância aguardam a original; em outra instância, recebem 409 até a original terminar.
+ * Reutilizar a chave com outro corpo ou caminho resulta em 422. Respostas 5xx, 409 e 429
+ * não são armazenadas: a reserva é desfeita e a chave pode ser tentada de novo.
+ */
+@Slf4j
+public class FiltroIdempotencia extends OncePerRequestFilter {
+    
+    public static final String HEADER_CHAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+    private static final String HEADER_USUARIO = "X-Usuario";
+    private static final String USUARIO_PADRAO = "sistema";
+    
+    private final ArmazenamentoIdempotencia armazenamento;
+    private final IdempotenciaProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<RespostaArmazenada>> emAndamento = new ConcurrentHashMap<>();
+    
+    public FiltroIdempotencia(ArmazenamentoIdempotencia armazenamento, IdempotenciaProperties properties,
+                              ObjectMapper objectMapper) {
+        this.armazenamento = armazenamento;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(HttpMethod.POST.matches(request.getMethod()) || HttpMethod.PATCH.matches(request.getMethod()))
+            || request.getHeader(HEADER_CHAVE) == null;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String chave = request.getHeader(HEADER_CHAVE).trim();
+        if (chave.isEmpty() || chave.length() > ChaveIdempotencia.TAMANHO_MAXIMO_CHAVE) {
+            erro(request, response, HttpStatus.BAD_REQUEST, "Requisição Inválida",
+                "Header " + HEADER_CHAVE + " deve ter de 1 a " + ChaveIdempotencia.TAMANHO_MAXIMO_CHAVE + " caracteres");
+            return;
+        }
+        String usuario = StringUtils.hasText(request.getHeader(HEADER_USUARIO))
+            ? request.getHeader(HEADER_USUARIO).trim() : USUARIO_PADRAO;
+        
+        CorpoEmMemoria requisicao = new CorpoEmMemoria(request, request.getInputStream().readAllBytes());
+        String impressao = impressao(requisicao);
+        
+        String chaveLocal = usuario + '\n' + chave;
+        CompletableFuture<RespostaArmazenada> execucao = new CompletableFuture<>();
+        CompletableFuture<RespostaArmazenada> original = emAndamento.putIfAbsent(chaveLocal, execucao);
+        if (original != null) {
+            responder(requisicao, response, impressao, aguardar(original));
+            return;
+        }
+        
+        try {
+            ArmazenamentoIdempotencia.Reserva reserva = armazenamento.reservar(usuario, chave, impressao);
+            if (!reserva.isNova()) {
+                execucao.complete(reserva.resposta());
+                responder(requisicao, response, impressao, reserva.resposta());
+                return;
+            }
+            execucao.complete(executar(requisicao, response, filterChain, reserva.id(), usuario, chave, impressao));
+        } finally {
+            execucao.complete(null);
+            emAndamento.remove(chaveLocal, execucao);
+        }
+    }
+    
+    private RespostaArmazenada executar(CorpoEmMemoria requisicao, HttpServletResponse response, FilterChain filterChain,
+                                        Long idReserva, String usuario, String chave, String impressao)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(requisicao, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            armazenamento.liberar(idReserva);
+            throw e;
+        }
+        
+        int status = wrapper.getStatus();
+        byte[] corpo = wrapper.getContentAsByteArray();
+        RespostaArmazenada resposta = null;
+        if (isArmazenavel(status) && corpo.length <= ChaveIdempotencia.TAMANHO_MAXIMO_CORPO) {
+            resposta = new RespostaArmazenada(impressao, status, wrapper.getContentType(), corpo,
+                LocalDateTime.now().plus(properties.getValidade()));
+            armazenamento.concluir(idReserva, usuario, chave, resposta);
+        } else {
+            armazenamento.liberar(idReserva);
+        }
+        wrapper.copyBodyToResponse();
+        return resposta;
+    }
+    
+    private RespostaArmazenada aguardar(CompletableFuture<RespostaArmazenada> original) throws IOException {
+        try {
+            return original.get(properties.getEsperaRepetida().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Devolve a resposta armazenada ou, sem ela, 409 (requisição original em andamento ou sem resposta repetível)
+     */
+    private void responder(HttpServletRequest request, HttpServletResponse response, String impressao,
+                           RespostaArmazenada resposta) throws IOException {
+        if (resposta == null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            erro(request, response, HttpStatus.CONFLICT, "Requisição em Processamento",
+                "Requisição com a mesma " + HEADER_CHAVE + " em processamento; tente novamente");
+            return;
+        }
+        if (!resposta.impressaoRequisicao().equals(impressao)) {
+            erro(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "Chave de Idempotência Reutilizada",
+                HEADER_CHAVE + " já utilizada com outra requisição");
+            return;
+        }
+        
+        log.debug("Repetindo resposta armazenada para {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(resposta.status());
+        if (resposta.tipoConteudo() != null) {
+            response.setContentType(resposta.tipoConteudo());
+        }
+        response.setHeader(HEADER_REPETIDA, "true");
+        response.setContentLength(resposta.corpo().length);
+        response.getOutputStream().write(resposta.corpo());
+    }
+    
+    private void erro(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      String titulo, String mensagem) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(status.value())
+            .error(titulo)
+            .message(mensagem)
+            .path(request.getRequestURI())
+            .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+    
+    private static boolean isArmazenavel(int status) {
+        return status < 500 && status != HttpStatus.CONFLICT.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+    
+    private static String impressao(CorpoEmMemoria requisicao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((requisicao.getMethod() + ' ' + requisicao.getRequestURI() + '?'
+                + requisicao.getQueryString() + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(requisicao.corpo);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Requisição cujo corpo já foi lido, para calcular a impressão antes do controller
+     */
+    static class CorpoEmMemoria extends HttpServletRequestWrapper {
+        
+        private final byte[] corpo;
+        
+        CorpoEmMemoria(HttpServletRequest request, byte[] corpo) {
+            super(request);
+            this.corpo = corpo;
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // O corpo já está todo em memória: disponível e lido de imediato
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+                
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+                
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+        
+        @Override
+        public BufferedReader getReader() {
+            String charset = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(charset)));
+        }
+        
+        @Override
+        public int getContentLength() {
+            return corpo.length;
+        }
+        
+        @Override
+        public long getContentLengthLong() {
+            return corpo.length;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.projeto.management.idempotencia;
+
+import com.projeto.management.model.entity.ChaveIdempotencia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resposta de uma requisição concluída, devolvida às repetições com a mesma chave
+ */
+public record RespostaArmazenada(String impressaoRequisicao, int status, String tipoConteudo, byte[] corpo,
+                                 LocalDateTime dataExpiracao) {
+    
+    static RespostaArmazenada de(ChaveIdempotencia registro) {
+        return new RespostaArmazenada(registro.getImpressaoRequisicao(), registro.getStatus(),
+            registro.getTipoConteudo(), registro.getCorpo(), registro.getDataExpiracao());
+    }
+    
+    boolean isExpirada(LocalDateTime agora) {
+        return dataExpiracao.isBefore(agora);
+    }
+}
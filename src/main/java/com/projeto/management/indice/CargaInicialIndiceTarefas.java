@@ -0,0 +1,69 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.entity.EtiquetaTarefa;
+import com.projeto.management.repository.EtiquetaTarefaRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.sharding.ExecutorShards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Carrega o índice em memória das tarefas e as filas dos responsáveis antes de o servidor web
+ * começar a aceitar requisições, numa única leitura das tarefas ativas
+ */
+@Component
+@RequiredArgsConstructor
+public class CargaInicialIndiceTarefas implements SmartLifecycle {
+
+    private final IndiceTarefas indiceTarefas;
+    private final FilaResponsaveis filaResponsaveis;
+    private final TarefaRepository tarefaRepository;
+    private final EtiquetaTarefaRepository etiquetaTarefaRepository;
+    private final ExecutorShards executorShards;
+
+    private volatile boolean executando;
+
+    @Override
+    public void start() {
+        IndiceTarefas.Recarga recarga = indiceTarefas.recarga();
+        FilaResponsaveis.Recarga recargaFilas = filaResponsaveis.recarga();
+        executorShards.emCadaSomenteLeitura(shard -> {
+            try (Stream<TarefaSnapshot> tarefas = tarefaRepository.streamSnapshotsAtivos()) {
+                tarefas.forEach(tarefa -> {
+                    recarga.adicionar(tarefa);
+                    recargaFilas.adicionar(tarefa);
+                });
+            }
+            try (Stream<EtiquetaTarefa> etiquetas = etiquetaTarefaRepository.streamDeTarefasAtivas()) {
+                etiquetas.forEach(etiqueta -> recarga.adicionarEtiqueta(etiqueta.getIdTarefa(), etiqueta.getEtiqueta()));
+            }
+        });
+        recarga.concluir();
+        recargaFilas.concluir();
+        executando = true;
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Depois da carga das estatísticas (fase 0), que posiciona a leitura do log de alterações
+     * das outras instâncias: as alterações já refletidas aqui e reproduzidas depois são
+     * reaplicadas sem efeito
+     */
+    @Override
+    public int getPhase() {
+        return 1;
+    }
+}
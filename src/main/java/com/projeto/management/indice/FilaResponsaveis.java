@@ -0,0 +1,198 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Fila de trabalho em memória de cada responsável: as tarefas ativas em aberto, da mais urgente
+ * para a menos urgente
+ *
+ * Cada responsável tem uma árvore ordenada; as N primeiras tarefas saem em O(log n + N), qualquer
+ * que seja o total de tarefas. A fila é carregada na inicialização (com o {@link IndiceTarefas})
+ * e atualizada a cada escrita confirmada, inclusive as reproduzidas de outras instâncias; como
+ * no índice, cada evento define a posição da tarefa, então reaplicá-lo não muda nada.
+ *
+ * O nome do responsável é comparado sem diferenciar maiúsculas e sem os espaços das pontas.
+ */
+@Component
+@Slf4j
+public class FilaResponsaveis {
+
+    /**
+     * Ordem da fila aplicada às tarefas já convertidas (mesclagem dos shards)
+     */
+    public static final Comparator<TarefaResponseDTO> ORDEM_TAREFAS = ordem(TarefaResponseDTO::getPrioridade,
+        TarefaResponseDTO::getDataFimPrevista, TarefaResponseDTO::getStatus, TarefaResponseDTO::getId);
+
+    private static final Comparator<Entrada> ORDEM = ordem(Entrada::prioridade, Entrada::dataFimPrevista,
+        Entrada::status, Entrada::id);
+
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private Filas filas = new Filas();
+
+    /**
+     * As primeiras tarefas da fila de um responsável
+     *
+     * @param total quantidade de tarefas em aberto do responsável
+     * @param ids os IDs das primeiras tarefas, da mais urgente
+     */
+    public record Fila(long total, List<Long> ids) {
+    }
+
+    private record Entrada(Long id, String responsavel, Prioridade prioridade, LocalDate dataFimPrevista,
+                           StatusTarefa status) {
+    }
+
+    /**
+     * Inicia uma recarga completa; a fila atual continua respondendo até a conclusão
+     */
+    public Recarga recarga() {
+        return new Recarga();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        TarefaSnapshot tarefa = evento.atual() != null ? evento.atual() : evento.anterior();
+
+        trava.writeLock().lock();
+        try {
+            filas.aplicar(tarefa.id(), evento.atual());
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * As {@code limite} tarefas mais urgentes do responsável
+     */
+    public Fila primeiras(String responsavel, int limite) {
+        String chave = chave(responsavel);
+        if (chave == null) {
+            return new Fila(0, List.of());
+        }
+
+        trava.readLock().lock();
+        try {
+            NavigableSet<Entrada> fila = filas.porResponsavel.get(chave);
+            if (fila == null) {
+                return new Fila(0, List.of());
+            }
+            List<Long> ids = new ArrayList<>(Math.min(limite, fila.size()));
+            Iterator<Entrada> entradas = fila.iterator();
+            while (ids.size() < limite && entradas.hasNext()) {
+                ids.add(entradas.next().id());
+            }
+            return new Fila(fila.size(), ids);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Prioridade mais alta primeiro, depois o vencimento mais próximo (sem data por último), o
+     * trabalho já iniciado e, no empate, o ID
+     */
+    private static <T> Comparator<T> ordem(Function<T, Prioridade> prioridade, Function<T, LocalDate> dataFimPrevista,
+                                           Function<T, StatusTarefa> status, Function<T, Long> id) {
+        return Comparator.comparing(prioridade, Comparator.nullsLast(Comparator.comparingInt(Prioridade::getNivel).reversed()))
+            .thenComparing(dataFimPrevista, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(status, Comparator.nullsLast(Comparator.comparingInt(FilaResponsaveis::posicaoStatus)))
+            .thenComparing(id, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private static int posicaoStatus(StatusTarefa status) {
+        return switch (status) {
+            case EM_ANDAMENTO -> 0;
+            case EM_REVISAO -> 1;
+            case ABERTA -> 2;
+            case CONCLUIDA, CANCELADA -> 3;
+        };
+    }
+
+    private static String chave(String responsavel) {
+        if (responsavel == null || responsavel.isBlank()) {
+            return null;
+        }
+        return responsavel.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Carga de uma fila nova, trocada pela atual na conclusão
+     */
+    public final class Recarga {
+
+        private final long inicio = System.currentTimeMillis();
+        private final Filas novas = new Filas();
+
+        private Recarga() {
+        }
+
+        public void adicionar(TarefaSnapshot tarefa) {
+            novas.aplicar(tarefa.id(), tarefa);
+        }
+
+        public void concluir() {
+            trava.writeLock().lock();
+            try {
+                filas = novas;
+            } finally {
+                trava.writeLock().unlock();
+            }
+            log.info("Filas dos responsáveis carregadas em {} ms: {} tarefas em aberto, {} responsáveis",
+                System.currentTimeMillis() - inicio, novas.porId.size(), novas.porResponsavel.size());
+        }
+    }
+
+    /**
+     * Árvores de uma fila; acessadas apenas sob a trava
+     */
+    private static class Filas {
+
+        private final Map<String, NavigableSet<Entrada>> porResponsavel = new HashMap<>();
+        private final Map<Long, Entrada> porId = new HashMap<>();
+
+        /**
+         * Define a posição da tarefa: fora da fila quando arquivada, inativa, concluída,
+         * cancelada ou sem responsável
+         */
+        private void aplicar(Long id, TarefaSnapshot tarefa) {
+            Entrada anterior = porId.remove(id);
+            if (anterior != null) {
+                NavigableSet<Entrada> fila = porResponsavel.get(anterior.responsavel());
+                fila.remove(anterior);
+                if (fila.isEmpty()) {
+                    porResponsavel.remove(anterior.responsavel());
+                }
+            }
+
+            String responsavel = tarefa != null ? chave(tarefa.responsavel()) : null;
+            if (responsavel == null || !tarefa.isAtiva() || tarefa.status() == StatusTarefa.CONCLUIDA
+                    || tarefa.status() == StatusTarefa.CANCELADA) {
+                return;
+            }
+            Entrada entrada = new Entrada(id, responsavel, tarefa.prioridade(), tarefa.dataFimPrevista(), tarefa.status());
+            porId.put(id, entrada);
+            porResponsavel.computeIfAbsent(responsavel, r -> new TreeSet<>(ORDEM)).add(entrada);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.entity.EtiquetaTarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice em memória das tarefas ativas: um bitmap compactado (Roaring) de IDs por etiqueta,
+ * por status e por prioridade
+ *
+ * Os filtros por etiqueta da listagem são avaliados aqui, com interseção (todas), união
+ * (alguma) e diferença (exceto) dos bitmaps, e viram uma lista curta de IDs candidatos
+ * para a consulta ao banco. O índice é carregado na inicialização e atualizado a cada
+ * escrita confirmada, inclusive as reproduzidas de outras instâncias; cada evento define
+ * o estado da tarefa no índice (em vez de somar uma variação), então reaplicá-lo não muda nada.
+ *
+ * Os IDs são guardados como inteiros de 32 bits sem sinal. Uma tarefa com ID acima disso
+ * fica fora do índice e o desativa para os filtros (a listagem segue só com a consulta ao
+ * banco, que também confere as etiquetas); as etiquetas dessa tarefa vêm do banco.
+ */
+@Component
+@Slf4j
+public class IndiceTarefas {
+
+    private static final long MAIOR_ID = 0xFFFF_FFFFL;
+
+    private final int maximoCandidatos;
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps();
+    private volatile boolean desativado;
+
+    public IndiceTarefas(@Value("${app.etiquetas.maximo-candidatos:1000}") int maximoCandidatos) {
+        this.maximoCandidatos = maximoCandidatos;
+    }
+
+    /**
+     * IDs que atendem aos filtros em memória de uma listagem
+     *
+     * @param quantidade total de tarefas ativas que atendem aos filtros
+     * @param ids os IDs em ordem crescente, ou nulo quando passam do limite de candidatos
+     */
+    public record Candidatos(long quantidade, List<Long> ids) {
+    }
+
+    /**
+     * Inicia uma recarga completa; o índice atual continua respondendo até a conclusão
+     */
+    public Recarga recarga() {
+        return new Recarga();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        TarefaSnapshot tarefa = evento.atual() != null ? evento.atual() : evento.anterior();
+        if (!noIntervalo(tarefa.id())) {
+            desativar(tarefa.id());
+            return;
+        }
+
+        trava.writeLock().lock();
+        try {
+            bitmaps.aplicar(indice(tarefa.id()), evento.atual(), evento.etiquetas());
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Avalia os filtros por etiqueta, combinados com os de status e prioridade; nulo
+     * quando o filtro não usa etiquetas ou o índice está desativado
+     */
+    public Candidatos filtrar(FiltroTarefaDTO filtro) {
+        Set<String> todas = EtiquetaTarefa.normalizar(filtro.getEtiquetas());
+        Set<String> alguma = EtiquetaTarefa.normalizar(filtro.getEtiquetasAlguma());
+        Set<String> exceto = EtiquetaTarefa.normalizar(filtro.getEtiquetasExceto());
+        if (desativado || todas.isEmpty() && alguma.isEmpty() && exceto.isEmpty()) {
+            return null;
+        }
+
+        RoaringBitmap resultado;
+        trava.readLock().lock();
+        try {
+            resultado = bitmaps.avaliar(todas, alguma, exceto, filtro.getStatus(), filtro.getPrioridade());
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        long quantidade = resultado.getLongCardinality();
+        if (quantidade > maximoCandidatos) {
+            return new Candidatos(quantidade, null);
+        }
+        List<Long> ids = new ArrayList<>((int) quantidade);
+        resultado.forEach((int id) -> ids.add(Integer.toUnsignedLong(id)));
+        return new Candidatos(quantidade, ids);
+    }
+
+    /**
+     * Etiquetas da tarefa, em ordem alfabética; nulo quando o ID está fora do índice
+     */
+    public Set<String> etiquetas(Long idTarefa) {
+        if (!noIntervalo(idTarefa)) {
+            return null;
+        }
+        int id = indice(idTarefa);
+        Set<String> etiquetas = new TreeSet<>();
+
+        trava.readLock().lock();
+        try {
+            bitmaps.porEtiqueta.forEach((etiqueta, bitmap) -> {
+                if (bitmap.contains(id)) {
+                    etiquetas.add(etiqueta);
+                }
+            });
+        } finally {
+            trava.readLock().unlock();
+        }
+        return etiquetas;
+    }
+
+    private static boolean noIntervalo(Long id) {
+        return id != null && id >= 0 && id <= MAIOR_ID;
+    }
+
+    private static int indice(Long id) {
+        return (int) id.longValue();
+    }
+
+    private void desativar(Long id) {
+        if (!desativado) {
+            desativado = true;
+            log.warn("Tarefa {} com ID acima de 32 bits: índice em memória desativado para os filtros por etiqueta", id);
+        }
+    }
+
+    /**
+     * Carga de um índice novo, trocado pelo atual na conclusão
+     */
+    public final class Recarga {
+
+        private final long inicio = System.currentTimeMillis();
+        private final Bitmaps novos = new Bitmaps();
+
+        private Recarga() {
+        }
+
+        public void adicionar(TarefaSnapshot tarefa) {
+            if (!noIntervalo(tarefa.id())) {
+                desativar(tarefa.id());
+            } else if (tarefa.isAtiva()) {
+                novos.aplicar(indice(tarefa.id()), tarefa, null);
+            }
+        }
+
+        public void adicionarEtiqueta(Long idTarefa, String etiqueta) {
+            if (!noIntervalo(idTarefa)) {
+                desativar(idTarefa);
+                return;
+            }
+            novos.porEtiqueta.computeIfAbsent(etiqueta, e -> new RoaringBitmap()).add(indice(idTarefa));
+        }
+
+        public void concluir() {
+            novos.compactar();
+
+            trava.writeLock().lock();
+            try {
+                bitmaps = novos;
+            } finally {
+                trava.writeLock().unlock();
+            }
+            log.info("Índice de tarefas carregado em {} ms: {} tarefas ativas, {} etiquetas, {} KB",
+                System.currentTimeMillis() - inicio, novos.ativas.getLongCardinality(),
+                novos.porEtiqueta.size(), novos.tamanhoBytes() / 1024);
+        }
+    }
+
+    /**
+     * Bitmaps de um índice; acessados apenas sob a trava
+     */
+    private static class Bitmaps {
+
+        private final RoaringBitmap ativas = new RoaringBitmap();
+        private final RoaringBitmap[] porStatus = novos(StatusTarefa.values().length);
+        private final RoaringBitmap[] porPrioridade = novos(Prioridade.values().length);
+        private final Map<String, RoaringBitmap> porEtiqueta = new HashMap<>();
+
+        /**
+         * Define o estado da tarefa no índice: fora dele quando arquivada ou inativa; as
+         * etiquetas só mudam quando informadas
+         */
+        private void aplicar(int id, TarefaSnapshot tarefa, Set<String> etiquetas) {
+            if (tarefa == null || !tarefa.isAtiva()) {
+                ativas.remove(id);
+                definir(porStatus, id, -1);
+                definir(porPrioridade, id, -1);
+                definirEtiquetas(id, Set.of());
+                return;
+            }
+
+            ativas.add(id);
+            definir(porStatus, id, tarefa.status() != null ? tarefa.status().ordinal() : -1);
+            definir(porPrioridade, id, tarefa.prioridade() != null ? tarefa.prioridade().ordinal() : -1);
+            if (etiquetas != null) {
+                definirEtiquetas(id, etiquetas);
+            }
+        }
+
+        private RoaringBitmap avaliar(Set<String> todas, Set<String> alguma, Set<String> exceto,
+                                      Set<StatusTarefa> status, Set<Prioridade> prioridades) {
+            RoaringBitmap resultado = null;
+
+            // Interseção a partir do menor bitmap, que limita o custo das demais
+            if (!todas.isEmpty()) {
+                List<RoaringBitmap> operandos = new ArrayList<>();
+                for (String etiqueta : todas) {
+                    RoaringBitmap bitmap = porEtiqueta.get(etiqueta);
+                    if (bitmap == null) {
+                        return new RoaringBitmap();
+                    }
+                    operandos.add(bitmap);
+                }
+                operandos.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+                resultado = operandos.get(0).clone();
+                for (int i = 1; i < operandos.size() && !resultado.isEmpty(); i++) {
+                    resultado.and(operandos.get(i));
+                }
+            }
+            if (!alguma.isEmpty()) {
+                RoaringBitmap uniao = uniao(alguma);
+                if (resultado == null) {
+                    resultado = uniao;
+                } else {
+                    resultado.and(uniao);
+                }
+            }
+            if (resultado == null) {
+                resultado = ativas.clone();
+            }
+
+            if (status != null && !status.isEmpty()) {
+                resultado.and(uniao(porStatus, status));
+            }
+            if (prioridades != null && !prioridades.isEmpty()) {
+                resultado.and(uniao(porPrioridade, prioridades));
+            }
+            if (!exceto.isEmpty()) {
+                resultado.andNot(uniao(exceto));
+            }
+            return resultado;
+        }
+
+        private RoaringBitmap uniao(Set<String> etiquetas) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (String etiqueta : etiquetas) {
+                RoaringBitmap bitmap = porEtiqueta.get(etiqueta);
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                }
+            }
+            return FastAggregation.or(bitmaps.iterator());
+        }
+
+        private static RoaringBitmap uniao(RoaringBitmap[] porValor, Collection<? extends Enum<?>> valores) {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (Enum<?> valor : valores) {
+                bitmaps.add(porValor[valor.ordinal()]);
+            }
+            return FastAggregation.or(bitmaps.iterator());
+        }
+
+        private static void definir(RoaringBitmap[] porValor, int id, int valor) {
+            for (int i = 0; i < porValor.length; i++) {
+                if (i == valor) {
+                    porValor[i].add(id);
+                } else {
+                    porValor[i].remove(id);
+                }
+            }
+        }
+
+        private void definirEtiquetas(int id, Set<String> etiquetas) {
+            Iterator<Map.Entry<String, RoaringBitmap>> entradas = porEtiqueta.entrySet().iterator();
+            while (entradas.hasNext()) {
+                Map.Entry<String, RoaringBitmap> entrada = entradas.next();
+                if (!etiquetas.contains(entrada.getKey())) {
+                    entrada.getValue().remove(id);
+                    if (entrada.getValue().isEmpty()) {
+                        entradas.remove();
+                    }
+                }
+            }
+            for (String etiqueta : etiquetas) {
+                porEtiqueta.computeIfAbsent(etiqueta, e -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        /**
+         * Converte sequências de IDs consecutivos em intervalos (IDs crescentes tornam os bitmaps densos)
+         */
+        private void compactar() {
+            ativas.runOptimize();
+            for (RoaringBitmap bitmap : porStatus) {
+                bitmap.runOptimize();
+            }
+            for (RoaringBitmap bitmap : porPrioridade) {
+                bitmap.runOptimize();
+            }
+            porEtiqueta.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private long tamanhoBytes() {
+            long bytes = ativas.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : porStatus) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : porPrioridade) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : porEtiqueta.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+
+        private static RoaringBitmap[] novos(int quantidade) {
+            RoaringBitmap[] bitmaps = new RoaringBitmap[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                bitmaps[i] = new RoaringBitmap();
+            }
+            return bitmaps;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.projeto.management.limite;
+
+/**
+ * Classe de custo de um endpoint, cada uma com seu próprio limite de taxa por usuário
+ */
+public enum ClasseEndpoint {
+    LEITURA,
+    ESCRITA,
+    RELATORIO
+}
@@ -0,0 +1,146 @@
+package com.projeto.management.limite;
+
+import com.projeto.management.config.LimiteProperties;
+import com.projeto.management.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controle de admissão das requisições da API
+ *
+ * Cada usuário (header X-Usuario) tem um balde de fichas por classe de endpoint, de modo que
+ * uma integração que inunda as escritas não esgota as consultas nem os relatórios dos demais.
+ * Sem o header, a chave é o endereço do cliente (já resolvido a partir do X-Forwarded-For
+ * pelo servidor quando há proxy confiável), e não um balde único compartilhado.
+ * Depois disso, um limite global de requisições simultâneas, dimensionado pelo pool de
+ * conexões, impede que as requisições admitidas fiquem enfileiradas à espera de conexão.
+ * As recusas viram {@link LimiteExcedidoException} (429 com Retry-After) e são contadas em
+ * app.limite.rejeicoes.
+ */
+@Slf4j
+public class ControleAdmissaoInterceptor implements HandlerInterceptor {
+    
+    static final String HEADER_USUARIO = "X-Usuario";
+    private static final String PREFIXO_ENDERECO = "endereco:";
+    
+    private final Map<ClasseEndpoint, LimitadorTaxa> limitadores = new EnumMap<>(ClasseEndpoint.class);
+    private final List<String> relatorios;
+    private final List<String> consultasPost;
+    private final Semaphore concorrencia;
+    private final long esperaNanos;
+    private final MeterRegistry meterRegistry;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    
+    public ControleAdmissaoInterceptor(LimiteProperties properties, int concorrenciaMaxima, List<String> relatorios,
+                                       List<String> consultasPost, MeterRegistry meterRegistry) {
+        this.relatorios = relatorios;
+        this.consultasPost = consultasPost;
+        this.concorrencia = new Semaphore(concorrenciaMaxima);
+        this.esperaNanos = properties.getEsperaConcorrencia().toNanos();
+        this.meterRegistry = meterRegistry;
+        
+        for (ClasseEndpoint classe : ClasseEndpoint.values()) {
+            LimiteProperties.Taxa taxa = switch (classe) {
+                case LEITURA -> properties.getLeitura();
+                case ESCRITA -> properties.getEscrita();
+                case RELATORIO -> properties.getRelatorio();
+            };
+            LimitadorTaxa limitador = new LimitadorTaxa(
+                taxa.getCapacidade(), taxa.getReposicaoPorSegundo(), properties.getMaximoUsuarios());
+            limitadores.put(classe, limitador);
+            Gauge.builder("app.limite.usuarios", limitador, LimitadorTaxa::getChaves)
+                .description("Usuários com balde de fichas em uso")
+                .tag("classe", nomeMetrica(classe))
+                .register(meterRegistry);
+        }
+        Gauge.builder("app.limite.concorrencia", concorrencia, s -> concorrenciaMaxima - s.availablePermits())
+            .description("Requisições da API em andamento")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        ClasseEndpoint classe = classificar(request);
+        String usuario = usuario(request);
+        
+        long esperaFicha = limitadores.get(classe).tentarConsumir(usuario);
+        if (esperaFicha > 0) {
+            recusar(classe, "taxa");
+            log.debug("Limite de {} excedido pelo usuário {}", classe, usuario);
+            throw new LimiteExcedidoException(
+                "Limite de requisições excedido para o usuário " + usuario, segundos(esperaFicha));
+        }
+        
+        if (!concorrencia.tryAcquire(esperaNanos, TimeUnit.NANOSECONDS)) {
+            recusar(classe, "concorrencia");
+            log.debug("Limite global de concorrência atingido ({} de {})", classe, usuario);
+            throw new LimiteExcedidoException("Servidor ocupado, tente novamente em instantes", 1);
+        }
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        // Só é chamado quando preHandle devolveu true, isto é, com a vaga adquirida
+        concorrencia.release();
+    }
+    
+    ClasseEndpoint classificar(HttpServletRequest request) {
+        String caminho = urlPathHelper.getPathWithinApplication(request);
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return HttpMethod.POST.matches(request.getMethod()) && corresponde(consultasPost, caminho)
+                ? ClasseEndpoint.LEITURA : ClasseEndpoint.ESCRITA;
+        }
+        return corresponde(relatorios, caminho) ? ClasseEndpoint.RELATORIO : ClasseEndpoint.LEITURA;
+    }
+    
+    private boolean corresponde(List<String> padroes, String caminho) {
+        for (String padrao : padroes) {
+            if (pathMatcher.match(padrao, caminho)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String usuario(HttpServletRequest request) {
+        String usuario = request.getHeader(HEADER_USUARIO);
+        return StringUtils.hasText(usuario) ? usuario.trim() : PREFIXO_ENDERECO + request.getRemoteAddr();
+    }
+    
+    private void recusar(ClasseEndpoint classe, String motivo) {
+        Counter.builder("app.limite.rejeicoes")
+            .description("Requisições recusadas pelo controle de admissão")
+            .tag("classe", nomeMetrica(classe))
+            .tag("motivo", motivo)
+            .register(meterRegistry)
+            .increment();
+    }
+    
+    private static String nomeMetrica(ClasseEndpoint classe) {
+        return classe.name().toLowerCase();
+    }
+    
+    private static long segundos(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+    }
+}
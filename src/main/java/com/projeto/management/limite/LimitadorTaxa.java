@@ -0,0 +1,94 @@
+package com.projeto.management.limite;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Balde de fichas por chave, sem travas
+ *
+ * Cada balde é um único instante teórico de chegada (GCRA): admitir uma requisição avança
+ * esse instante em um intervalo de reposição por compareAndSet, e a requisição é recusada
+ * quando ele passaria de "agora + capacidade × intervalo". Um balde que já voltou a ficar
+ * cheio equivale a um ausente, e por isso pode ser descartado quando há chaves demais.
+ */
+public class LimitadorTaxa {
+    
+    private static final long INTERVALO_LIMPEZA_NANOS = 1_000_000_000L;
+    
+    private final long intervaloNanos;
+    private final long rajadaNanos;
+    private final int maximoChaves;
+    private final LongSupplier relogio;
+    private final Map<String, AtomicLong> chegadas = new ConcurrentHashMap<>();
+    private final AtomicLong proximaLimpeza;
+    
+    public LimitadorTaxa(int capacidade, double reposicaoPorSegundo, int maximoChaves) {
+        this(capacidade, reposicaoPorSegundo, maximoChaves, System::nanoTime);
+    }
+    
+    LimitadorTaxa(int capacidade, double reposicaoPorSegundo, int maximoChaves, LongSupplier relogio) {
+        if (capacidade < 1 || reposicaoPorSegundo <= 0) {
+            throw new IllegalArgumentException("Capacidade e reposição do limite devem ser positivas");
+        }
+        this.intervaloNanos = Math.max(1, Math.round(1_000_000_000L / reposicaoPorSegundo));
+        this.rajadaNanos = intervaloNanos * capacidade;
+        this.maximoChaves = maximoChaves;
+        this.relogio = relogio;
+        this.proximaLimpeza = new AtomicLong(relogio.getAsLong());
+    }
+    
+    /**
+     * Consome uma ficha do balde da chave
+     *
+     * @return 0 se a requisição foi admitida; senão, nanossegundos até haver uma ficha
+     */
+    public long tentarConsumir(String chave) {
+        AtomicLong chegada = balde(chave);
+        while (true) {
+            long agora = relogio.getAsLong();
+            long atual = chegada.get();
+            long proxima = Math.max(atual, agora) + intervaloNanos;
+            long excesso = proxima - agora - rajadaNanos;
+            if (excesso > 0) {
+                return excesso;
+            }
+            if (chegada.compareAndSet(atual, proxima)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * Chaves acompanhadas no momento
+     */
+    public int getChaves() {
+        return chegadas.size();
+    }
+    
+    private AtomicLong balde(String chave) {
+        AtomicLong chegada = chegadas.get(chave);
+        if (chegada != null) {
+            return chegada;
+        }
+        if (chegadas.size() >= maximoChaves) {
+            descartarCheios();
+        }
+        // Long.MIN_VALUE: balde cheio, qualquer que seja o valor do relógio
+        AtomicLong novo = new AtomicLong(Long.MIN_VALUE);
+        chegada = chegadas.putIfAbsent(chave, novo);
+        return chegada != null ? chegada : novo;
+    }
+    
+    private void descartarCheios() {
+        long agora = relogio.getAsLong();
+        long prevista = proximaLimpeza.get();
+        // No máximo uma varredura por segundo, feita por uma única thread
+        if (agora - prevista < 0 || !proximaLimpeza.compareAndSet(prevista, agora + INTERVALO_LIMPEZA_NANOS)) {
+            return;
+        }
+        // Uma requisição concorrente no balde descartado pode ganhar uma ficha a mais; é aceitável
+        chegadas.values().removeIf(chegada -> chegada.get() <= agora);
+    }
+}
@@ -0,0 +1,78 @@
+package com.projeto.management.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Converte textos longos para a coluna binária, compactando com GZIP a partir de um tamanho
+ *
+ * Abaixo do limite o texto é gravado como UTF-8 puro (o ganho não compensaria o cabeçalho
+ * do GZIP e os scripts SQL continuam podendo inserir o texto diretamente). Na leitura, o
+ * formato é reconhecido pelos dois bytes mágicos do GZIP (0x1f 0x8b), que não formam um
+ * início válido de texto UTF-8.
+ */
+@Converter
+public class TextoCompactadoConverter implements AttributeConverter<String, byte[]> {
+
+    /**
+     * Tamanho em bytes (UTF-8) a partir do qual o texto é gravado compactado
+     */
+    public static final int LIMITE_COMPACTACAO = 512;
+
+    /**
+     * Tamanho máximo da coluna (MEDIUMBLOB no MySQL)
+     */
+    public static final int TAMANHO_MAXIMO = 16_777_215;
+
+    private static final int MAGICO_1 = 0x1f;
+    private static final int MAGICO_2 = 0x8b;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < LIMITE_COMPACTACAO) {
+            return bytes;
+        }
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(bytes.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao compactar texto", e);
+        }
+        byte[] compactado = saida.toByteArray();
+        // Texto pouco repetitivo pode crescer com o GZIP; nesse caso fica como está
+        return compactado.length < bytes.length ? compactado : bytes;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dados) {
+        if (dados == null) {
+            return null;
+        }
+        if (!isCompactado(dados)) {
+            return new String(dados, StandardCharsets.UTF_8);
+        }
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(dados))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao descompactar texto", e);
+        }
+    }
+
+    static boolean isCompactado(byte[] dados) {
+        return dados.length >= 2 && (dados[0] & 0xff) == MAGICO_1 && (dados[1] & 0xff) == MAGICO_2;
+    }
+}
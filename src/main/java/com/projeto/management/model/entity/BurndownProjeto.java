@@ -0,0 +1,66 @@
+package com.projeto.management.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entidade BurndownProjeto
+ * Série anual de fotografias diárias do progresso de um projeto, codificada por deltas
+ * (ver SerieProgresso). Os últimos valores absolutos ficam em colunas para que a
+ * captura do dia seguinte só acrescente bytes, sem decodificar a série.
+ */
+@Entity
+@Table(name = "burndown_projeto", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_burndown_projeto_ano", columnNames = {"id_projeto", "ano"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownProjeto {
+    
+    /**
+     * Tamanho máximo da série de um ano (366 pontos com folga para deltas grandes)
+     */
+    public static final int TAMANHO_MAXIMO_DADOS = 16384;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "id_projeto", nullable = false)
+    private Long idProjeto;
+    
+    @Column(nullable = false)
+    private Integer ano;
+    
+    @Column(name = "data_inicial", nullable = false)
+    private LocalDate dataInicial;
+    
+    @Column(name = "ultima_data", nullable = false)
+    private LocalDate ultimaData;
+    
+    // Últimos valores absolutos (horas em centésimos)
+    @Column(name = "ultimas_horas_restantes", nullable = false)
+    private Long ultimasHorasRestantes;
+    
+    @Column(name = "ultimas_tarefas_abertas", nullable = false)
+    private Integer ultimasTarefasAbertas;
+    
+    @Column(name = "ultimas_tarefas_concluidas", nullable = false)
+    private Integer ultimasTarefasConcluidas;
+    
+    @Column(name = "quantidade_pontos", nullable = false)
+    private Integer quantidadePontos;
+    
+    @Column(nullable = false, length = TAMANHO_MAXIMO_DADOS)
+    private byte[] dados;
+    
+    @Version
+    private Long versao;
+}
@@ -0,0 +1,63 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.SituacaoIdempotencia;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade ChaveIdempotencia
+ * Reserva de um header Idempotency-Key de um usuário e, depois de concluída a requisição,
+ * a resposta devolvida às repetições com a mesma chave
+ */
+@Entity
+@Table(name = "chave_idempotencia",
+    uniqueConstraints = @UniqueConstraint(name = "uk_chave_idempotencia", columnNames = {"usuario", "chave"}),
+    indexes = @Index(name = "idx_chave_idempotencia_expiracao", columnList = "data_expiracao"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChaveIdempotencia {
+    
+    public static final int TAMANHO_MAXIMO_CHAVE = 100;
+    public static final int TAMANHO_MAXIMO_CORPO = 1_048_576;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String usuario;
+    
+    @Column(nullable = false, length = TAMANHO_MAXIMO_CHAVE)
+    private String chave;
+    
+    /**
+     * SHA-256 do método, caminho e corpo da requisição original
+     */
+    @Column(name = "impressao_requisicao", nullable = false, length = 64)
+    private String impressaoRequisicao;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SituacaoIdempotencia situacao;
+    
+    private Integer status;
+    
+    @Column(name = "tipo_conteudo", length = 100)
+    private String tipoConteudo;
+    
+    @Column(length = TAMANHO_MAXIMO_CORPO)
+    private byte[] corpo;
+    
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+}
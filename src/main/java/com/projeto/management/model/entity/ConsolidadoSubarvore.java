@@ -0,0 +1,93 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Totais da subárvore de uma tarefa (ela própria e todas as subtarefas ativas)
+ *
+ * As colunas nascem zeradas e só são alteradas pelos UPDATEs incrementais de
+ * HierarquiaTarefaService (insertable/updatable = false): gravar uma tarefa carregada
+ * antes de um desses UPDATEs não sobrescreve os totais. Status e percentual
+ * consolidados são derivados dos contadores.
+ */
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsolidadoSubarvore {
+    
+    @ColumnDefault("0")
+    @Column(name = "sub_abertas", nullable = false, insertable = false, updatable = false)
+    private Integer abertas;
+    
+    // EM_ANDAMENTO e EM_REVISAO
+    @ColumnDefault("0")
+    @Column(name = "sub_em_andamento", nullable = false, insertable = false, updatable = false)
+    private Integer emAndamento;
+    
+    @ColumnDefault("0")
+    @Column(name = "sub_concluidas", nullable = false, insertable = false, updatable = false)
+    private Integer concluidas;
+    
+    @ColumnDefault("0")
+    @Column(name = "sub_canceladas", nullable = false, insertable = false, updatable = false)
+    private Integer canceladas;
+    
+    // Soma dos percentuais das tarefas não canceladas
+    @ColumnDefault("0")
+    @Column(name = "sub_soma_percentual", nullable = false, insertable = false, updatable = false)
+    private Long somaPercentual;
+    
+    @ColumnDefault("0")
+    @Column(name = "sub_estimativa_horas", nullable = false, insertable = false, updatable = false, precision = 12, scale = 2)
+    private BigDecimal estimativaHoras;
+    
+    @ColumnDefault("0")
+    @Column(name = "sub_horas_trabalhadas", nullable = false, insertable = false, updatable = false, precision = 12, scale = 2)
+    private BigDecimal horasTrabalhadas;
+    
+    public int getQuantidadeTarefas() {
+        return abertas + emAndamento + concluidas + canceladas;
+    }
+    
+    /**
+     * Status da subárvore: encerrada quando todas as tarefas estão encerradas, aberta
+     * enquanto nenhuma começou e em andamento no restante dos casos
+     */
+    public StatusTarefa getStatus() {
+        if (getQuantidadeTarefas() == 0) {
+            return null;
+        }
+        if (abertas + emAndamento == 0) {
+            return concluidas > 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.CANCELADA;
+        }
+        if (emAndamento == 0 && concluidas == 0) {
+            return StatusTarefa.ABERTA;
+        }
+        return StatusTarefa.EM_ANDAMENTO;
+    }
+    
+    /**
+     * Média dos percentuais das tarefas não canceladas
+     */
+    public Integer getPercentualConclusao() {
+        int consideradas = getQuantidadeTarefas() - canceladas;
+        if (consideradas == 0) {
+            return 0;
+        }
+        return BigDecimal.valueOf(somaPercentual)
+            .divide(BigDecimal.valueOf(consideradas), 0, RoundingMode.HALF_UP)
+            .intValue();
+    }
+}
@@ -0,0 +1,68 @@
+package com.projeto.management.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Entidade EtiquetaTarefa
+ * Associação muitos-para-muitos entre tarefas e etiquetas. A etiqueta é o próprio texto
+ * (normalizado em minúsculas), sem tabela de cadastro, de modo que as linhas acompanham
+ * a tarefa entre shards sem remapear IDs.
+ */
+@Entity
+@Table(name = "tarefa_etiqueta", indexes = {
+    @Index(name = "idx_tarefa_etiqueta_etiqueta", columnList = "etiqueta, id_tarefa")
+})
+@IdClass(EtiquetaTarefa.Chave.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EtiquetaTarefa {
+
+    public static final int TAMANHO_MAXIMO = 50;
+
+    @Id
+    @Column(name = "id_tarefa")
+    private Long idTarefa;
+
+    @Id
+    @Column(length = TAMANHO_MAXIMO)
+    private String etiqueta;
+
+    /**
+     * Forma gravada e indexada das etiquetas: sem espaços nas pontas e em minúsculas,
+     * em ordem alfabética; valores vazios são descartados
+     */
+    public static Set<String> normalizar(Collection<String> etiquetas) {
+        Set<String> normalizadas = new TreeSet<>();
+        if (etiquetas != null) {
+            for (String etiqueta : etiquetas) {
+                if (etiqueta != null && !etiqueta.isBlank()) {
+                    normalizadas.add(etiqueta.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return normalizadas;
+    }
+
+    /**
+     * Chave composta (tarefa, etiqueta)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private Long idTarefa;
+        private String etiqueta;
+    }
+}
@@ -0,0 +1,49 @@
+package com.projeto.management.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Entidade HierarquiaTarefa
+ * Tabela de fechamento da árvore de subtarefas: uma linha para cada par ancestral/descendente,
+ * inclusive a da própria tarefa (profundidade 0), de modo que subárvore e caminho até a raiz
+ * saem de uma única consulta pela chave.
+ */
+@Entity
+@Table(name = "tarefa_hierarquia", indexes = {
+    @Index(name = "idx_tarefa_hierarquia_descendente", columnList = "id_descendente, profundidade")
+})
+@IdClass(HierarquiaTarefa.Chave.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HierarquiaTarefa {
+    
+    @Id
+    @Column(name = "id_ancestral")
+    private Long idAncestral;
+    
+    @Id
+    @Column(name = "id_descendente")
+    private Long idDescendente;
+    
+    @Column(nullable = false)
+    private Integer profundidade;
+    
+    /**
+     * Chave composta (ancestral, descendente)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private Long idAncestral;
+        private Long idDescendente;
+    }
+}
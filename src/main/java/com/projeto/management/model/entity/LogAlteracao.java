@@ -0,0 +1,52 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.enums.TipoAlteracao;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade LogAlteracao
+ * Uma linha por escrita confirmada em projetos e tarefas, gravada na mesma transação,
+ * que as demais instâncias da aplicação leem para invalidar seus caches em memória
+ */
+@Entity
+@Table(name = "log_alteracao", indexes = {
+    @Index(name = "idx_log_alteracao_data", columnList = "data_alteracao")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogAlteracao {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoAlteracao tipo;
+    
+    @Column(name = "id_registro", nullable = false)
+    private Long idRegistro;
+    
+    /**
+     * Instância que fez a escrita, que não precisa reaplicá-la
+     */
+    @Column(name = "no_origem", nullable = false, length = 64)
+    private String noOrigem;
+    
+    /**
+     * Fotografias anterior e atual do registro, em JSON
+     */
+    @Column(columnDefinition = "TEXT")
+    private String dados;
+    
+    @Column(name = "data_alteracao", nullable = false)
+    private LocalDateTime dataAlteracao;
+}
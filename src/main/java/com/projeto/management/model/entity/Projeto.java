@@ -25,7 +25,10 @@ import java.util.List;
 @Table(name = "projeto", indexes = {
     @Index(name = "idx_projeto_nome", columnList = "nome"),
     @Index(name = "idx_projeto_status", columnList = "status"),
-    @Index(name = "idx_projeto_responsavel", columnList = "responsavel")
+    @Index(name = "idx_projeto_responsavel", columnList = "responsavel"),
+    @Index(name = "idx_projeto_ativo_status", columnList = "ativo, status"),
+    @Index(name = "idx_projeto_ativo_prioridade", columnList = "ativo, prioridade"),
+    @Index(name = "idx_projeto_ativo_data_fim_prevista", columnList = "ativo, data_fim_prevista")
 })
 @Data
 @Builder
@@ -42,9 +45,6 @@ public class Projeto {
     @Column(nullable = false)
     private String nome;
     
-    @Column(columnDefinition = "TEXT")
-    private String descricao;
-    
     @Column(name = "data_inicio")
     private LocalDate dataInicio;
     
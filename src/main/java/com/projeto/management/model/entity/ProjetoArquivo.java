@@ -0,0 +1,77 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.converter.TextoCompactadoConverter;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade ProjetoArquivo
+ * Projeto retirado da tabela quente pelo arquivamento, depois de todas as suas tarefas.
+ * Mantém o ID original e é somente leitura.
+ */
+@Entity
+@Immutable
+@Table(name = "projeto_arquivo")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoArquivo {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String nome;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String descricao;
+    
+    @Column(name = "data_inicio")
+    private LocalDate dataInicio;
+    
+    @Column(name = "data_fim_prevista")
+    private LocalDate dataFimPrevista;
+    
+    @Column(name = "data_fim_real")
+    private LocalDate dataFimReal;
+    
+    @Enumerated(EnumType.STRING)
+    private StatusProjeto status;
+    
+    @Enumerated(EnumType.STRING)
+    private Prioridade prioridade;
+    
+    @Column(precision = 15, scale = 2)
+    private BigDecimal orcamento;
+    
+    private String responsavel;
+    
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+    
+    @Column(name = "usuario_criacao")
+    private String usuarioCriacao;
+    
+    @Column(name = "usuario_atualizacao")
+    private String usuarioAtualizacao;
+    
+    private Boolean ativo;
+    
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+}
@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -25,7 +26,12 @@ import java.time.LocalDateTime;
     @Index(name = "idx_tarefa_status", columnList = "status"),
     @Index(name = "idx_tarefa_projeto", columnList = "id_projeto"),
     @Index(name = "idx_tarefa_responsavel", columnList = "responsavel"),
-    @Index(name = "idx_tarefa_prioridade", columnList = "prioridade")
+    @Index(name = "idx_tarefa_prioridade", columnList = "prioridade"),
+    @Index(name = "idx_tarefa_ativo_projeto_status", columnList = "ativo, id_projeto, status"),
+    @Index(name = "idx_tarefa_ativo_data_fim_prevista", columnList = "ativo, data_fim_prevista"),
+    @Index(name = "idx_tarefa_projeto_ativo_peso_prioridade",
+           columnList = "id_projeto, ativo, peso_prioridade DESC, data_fim_prevista"),
+    @Index(name = "idx_tarefa_ativo_peso_prioridade", columnList = "ativo, peso_prioridade DESC, data_fim_prevista")
 })
 @Data
 @Builder
@@ -42,9 +48,6 @@ public class Tarefa {
     @Column(nullable = false)
     private String titulo;
     
-    @Column(columnDefinition = "TEXT")
-    private String descricao;
-    
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private StatusTarefa status = StatusTarefa.ABERTA;
@@ -53,6 +56,12 @@ public class Tarefa {
     @Builder.Default
     private Prioridade prioridade = Prioridade.MEDIA;
     
+    // Nível da prioridade (Prioridade.getNivel), gravado para que a ordenação por urgência
+    // siga um índice; a coluna em texto ordena em ordem alfabética. Mantido nos callbacks.
+    @ColumnDefault("2")
+    @Column(name = "peso_prioridade", nullable = false)
+    private Integer pesoPrioridade;
+    
     @CreationTimestamp
     @Column(name = "data_criacao", updatable = false)
     private LocalDateTime dataCriacao;
@@ -84,9 +93,6 @@ public class Tarefa {
     @Size(max = 255)
     private String responsavel;
     
-    @Column(columnDefinition = "TEXT")
-    private String observacoes;
-    
     @UpdateTimestamp
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
@@ -108,6 +114,13 @@ public class Tarefa {
     @NotNull(message = "Projeto é obrigatório")
     private Projeto projeto;
     
+    // Tarefa pai (mesmo projeto); a árvore completa fica em tarefa_hierarquia
+    @Column(name = "id_tarefa_pai")
+    private Long idTarefaPai;
+    
+    @Embedded
+    private ConsolidadoSubarvore consolidado;
+    
     /**
      * Verifica se a tarefa está atrasada
      */
@@ -158,6 +171,13 @@ public class Tarefa {
         }
     }
     
+    /**
+     * Alinha o peso gravado com a prioridade
+     */
+    private void atualizarPesoPrioridade() {
+        pesoPrioridade = prioridade != null ? prioridade.getNivel() : 0;
+    }
+    
     @PrePersist
     protected void onCreate() {
         if (dataCriacao == null) {
@@ -166,11 +186,13 @@ public class Tarefa {
         if (dataAtualizacao == null) {
             dataAtualizacao = LocalDateTime.now();
         }
+        atualizarPesoPrioridade();
     }
     
     @PreUpdate
     protected void onUpdate() {
         dataAtualizacao = LocalDateTime.now();
         atualizarPercentualPorStatus();
+        atualizarPesoPrioridade();
     }
 }
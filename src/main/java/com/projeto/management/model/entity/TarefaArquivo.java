@@ -0,0 +1,94 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.converter.TextoCompactadoConverter;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade TarefaArquivo
+ * Tarefa retirada da tabela quente pelo arquivamento (inativa há muito tempo ou de um
+ * projeto arquivado).
+ * Mantém o ID original e é somente leitura: as consultas do dia a dia nunca a enxergam,
+ * apenas as leituras de histórico.
+ */
+@Entity
+@Immutable
+@Table(name = "tarefa_arquivo", indexes = {
+    @Index(name = "idx_tarefa_arquivo_projeto", columnList = "id_projeto")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaArquivo {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private String titulo;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String descricao;
+    
+    @Enumerated(EnumType.STRING)
+    private StatusTarefa status;
+    
+    @Enumerated(EnumType.STRING)
+    private Prioridade prioridade;
+    
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+    
+    @Column(name = "data_inicio")
+    private LocalDate dataInicio;
+    
+    @Column(name = "data_fim_prevista")
+    private LocalDate dataFimPrevista;
+    
+    @Column(name = "data_fim_real")
+    private LocalDate dataFimReal;
+    
+    @Column(name = "estimativa_horas", precision = 8, scale = 2)
+    private BigDecimal estimativaHoras;
+    
+    @Column(name = "horas_trabalhadas", precision = 8, scale = 2)
+    private BigDecimal horasTrabalhadas;
+    
+    @Column(name = "percentual_conclusao")
+    private Integer percentualConclusao;
+    
+    private String responsavel;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String observacoes;
+    
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+    
+    @Column(name = "usuario_criacao")
+    private String usuarioCriacao;
+    
+    @Column(name = "usuario_atualizacao")
+    private String usuarioAtualizacao;
+    
+    private Boolean ativo;
+    
+    @Column(name = "id_projeto", nullable = false)
+    private Long idProjeto;
+    
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+}
@@ -0,0 +1,37 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.converter.TextoCompactadoConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade TextoProjeto
+ * Descrição do projeto, fora da linha de projeto para que as listagens não a leiam.
+ * Compartilha o ID do projeto e só é carregada nas visões de detalhe.
+ */
+@Entity
+@Table(name = "projeto_texto")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextoProjeto {
+    
+    @Id
+    @Column(name = "id_projeto")
+    private Long idProjeto;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String descricao;
+    
+    /**
+     * Indica se não há texto a guardar (a linha pode ser removida)
+     */
+    public boolean isVazio() {
+        return descricao == null || descricao.isEmpty();
+    }
+}
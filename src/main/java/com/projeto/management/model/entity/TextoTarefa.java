@@ -0,0 +1,41 @@
+package com.projeto.management.model.entity;
+
+import com.projeto.management.model.converter.TextoCompactadoConverter;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade TextoTarefa
+ * Textos longos da tarefa (descrição e observações), fora da linha de tarefa para que as
+ * listagens não os leiam. Compartilha o ID da tarefa e só é carregada nas visões de detalhe.
+ */
+@Entity
+@Table(name = "tarefa_texto")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextoTarefa {
+    
+    @Id
+    @Column(name = "id_tarefa")
+    private Long idTarefa;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String descricao;
+    
+    @Convert(converter = TextoCompactadoConverter.class)
+    @Column(length = TextoCompactadoConverter.TAMANHO_MAXIMO)
+    private String observacoes;
+    
+    /**
+     * Indica se não há texto a guardar (a linha pode ser removida)
+     */
+    public boolean isVazio() {
+        return (descricao == null || descricao.isEmpty()) && (observacoes == null || observacoes.isEmpty());
+    }
+}
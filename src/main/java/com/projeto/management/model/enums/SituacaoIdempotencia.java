@@ -0,0 +1,9 @@
+package com.projeto.management.model.enums;
+
+/**
+ * Situação de uma chave de idempotência
+ */
+public enum SituacaoIdempotencia {
+    EM_ANDAMENTO,
+    CONCLUIDA
+}
@@ -0,0 +1,10 @@
+package com.projeto.management.model.enums;
+
+/**
+ * Enumeração para o tipo de registro do log de alterações
+ */
+public enum TipoAlteracao {
+    PROJETO,
+    TAREFA,
+    SHARD
+}
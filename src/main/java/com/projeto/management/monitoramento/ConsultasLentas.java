@@ -0,0 +1,299 @@
+package com.projeto.management.monitoramento;
+
+import com.projeto.management.config.ConsultasLentasProperties;
+import com.projeto.management.dto.response.ConsultaLentaDTO;
+import com.projeto.management.dto.response.ConsultasLentasDTO;
+import com.projeto.management.dto.response.FormatoConsultaDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Registro das consultas que passaram do limite de tempo
+ *
+ * As execuções ficam num buffer circular de tamanho fixo e são agregadas pelo formato da
+ * consulta (SQL sem literais e com as listas IN reduzidas a um parâmetro). O plano de cada
+ * formato é obtido com EXPLAIN numa thread própria, com os parâmetros da execução lenta,
+ * no máximo uma vez por intervalo; se a fila do EXPLAIN estiver cheia, o pedido é descartado.
+ * Os valores dos parâmetros só são guardados com app.consultas-lentas.exibir-parametros;
+ * caso contrário ficam mascarados pelo tipo.
+ */
+@Slf4j
+public class ConsultasLentas implements DisposableBean {
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA_IN = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final StackWalker PILHA = StackWalker.getInstance();
+    private static final String PACOTE = "com.projeto.management.";
+
+    private final long limiteNanos;
+    private final long intervaloPlanoNanos;
+    private final int maximoFormatos;
+    private final boolean exibirParametros;
+    private final int tamanhoMaximoParametro;
+    private final AtomicReferenceArray<Execucao> recentes;
+    private final AtomicLong capturadas = new AtomicLong();
+    private final LongAdder formatosIgnorados = new LongAdder();
+    private final Map<String, Formato> formatos = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explains = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(100), tarefa -> {
+            Thread thread = new Thread(tarefa, "explain-consultas-lentas");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+
+    private record Execucao(LocalDateTime executadaEm, long nanos, String sql, List<String> parametros,
+                            String origem, Formato formato) {
+    }
+
+    private static final class Formato {
+
+        private final String texto;
+        private final LongAdder quantidade = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maximoNanos = new AtomicLong();
+        private final AtomicLong planoPedidoEm = new AtomicLong(Long.MIN_VALUE);
+        private volatile LocalDateTime ultimaEm;
+        private volatile String origem;
+        private volatile String plano;
+
+        private Formato(String texto) {
+            this.texto = texto;
+        }
+    }
+
+    public ConsultasLentas(ConsultasLentasProperties properties) {
+        this.limiteNanos = properties.getLimite().toNanos();
+        this.intervaloPlanoNanos = properties.getIntervaloPlano().toNanos();
+        this.maximoFormatos = properties.getMaximoFormatos();
+        this.exibirParametros = properties.isExibirParametros();
+        this.tamanhoMaximoParametro = properties.getTamanhoMaximoParametro();
+        this.recentes = new AtomicReferenceArray<>(properties.getCapacidade());
+    }
+
+    public long getLimiteNanos() {
+        return limiteNanos;
+    }
+
+    /**
+     * Registra um comando que passou do limite; chamado na thread que o executou, para
+     * identificar o método da aplicação que originou a consulta
+     *
+     * @param origem DataSource sem interceptação, usado para o EXPLAIN
+     */
+    void registrar(DataSource origem, String sql, Map<Integer, Object> parametros, long nanos) {
+        String texto = normalizar(sql);
+        Formato formato = formatos.get(texto);
+        if (formato == null) {
+            if (formatos.size() < maximoFormatos) {
+                formato = formatos.computeIfAbsent(texto, Formato::new);
+            } else {
+                formatosIgnorados.increment();
+            }
+        }
+
+        String chamador = chamador();
+        LocalDateTime agora = LocalDateTime.now();
+        long posicao = capturadas.getAndIncrement();
+        recentes.set((int) (posicao % recentes.length()),
+            new Execucao(agora, nanos, sql, descrever(parametros), chamador, formato));
+        log.debug("Consulta lenta ({} ms) em {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), chamador, sql);
+
+        if (formato != null) {
+            formato.quantidade.increment();
+            formato.totalNanos.add(nanos);
+            formato.maximoNanos.accumulateAndGet(nanos, Math::max);
+            formato.ultimaEm = agora;
+            formato.origem = chamador;
+            pedirPlano(origem, sql, parametros, formato);
+        }
+    }
+
+    /**
+     * Situação atual: formatos pelo tempo total e as execuções do buffer, da mais recente
+     */
+    public ConsultasLentasDTO resumo() {
+        List<FormatoConsultaDTO> agregados = formatos.values().stream()
+            .sorted(Comparator.comparingLong((Formato f) -> f.totalNanos.sum()).reversed())
+            .map(ConsultasLentas::converter)
+            .toList();
+
+        long total = capturadas.get();
+        List<ConsultaLentaDTO> ultimas = new ArrayList<>();
+        for (long i = total - 1; i >= Math.max(0, total - recentes.length()); i--) {
+            Execucao execucao = recentes.get((int) (i % recentes.length()));
+            if (execucao != null) {
+                ultimas.add(ConsultaLentaDTO.builder()
+                    .executadaEm(execucao.executadaEm())
+                    .duracaoMs(milis(execucao.nanos()))
+                    .sql(execucao.sql())
+                    .parametros(execucao.parametros())
+                    .origem(execucao.origem())
+                    .formato(execucao.formato() != null ? execucao.formato().texto : null)
+                    .build());
+            }
+        }
+
+        return ConsultasLentasDTO.builder()
+            .limiteMs(TimeUnit.NANOSECONDS.toMillis(limiteNanos))
+            .capturadas(total)
+            .formatosIgnorados(formatosIgnorados.sum())
+            .formatos(agregados)
+            .recentes(ultimas)
+            .build();
+    }
+
+    /**
+     * Descarta as execuções e os formatos registrados
+     */
+    public void limpar() {
+        formatos.clear();
+        formatosIgnorados.reset();
+        for (int i = 0; i < recentes.length(); i++) {
+            recentes.set(i, null);
+        }
+        capturadas.set(0);
+    }
+
+    @Override
+    public void destroy() {
+        explains.shutdownNow();
+    }
+
+    static String normalizar(String sql) {
+        String texto = TEXTO.matcher(sql).replaceAll("?");
+        texto = NUMERO.matcher(texto).replaceAll("?");
+        texto = ESPACOS.matcher(texto.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return LISTA_IN.matcher(texto).replaceAll("in (?)");
+    }
+
+    private void pedirPlano(DataSource origem, String sql, Map<Integer, Object> parametros, Formato formato) {
+        String inicio = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (!inicio.startsWith("select") && !inicio.startsWith("with")) {
+            return;
+        }
+        long agora = System.nanoTime();
+        long pedido = formato.planoPedidoEm.get();
+        if ((pedido != Long.MIN_VALUE && agora - pedido < intervaloPlanoNanos)
+                || !formato.planoPedidoEm.compareAndSet(pedido, agora)) {
+            return;
+        }
+        Map<Integer, Object> copia = new TreeMap<>(parametros);
+        explains.execute(() -> formato.plano = explicar(origem, sql, copia));
+    }
+
+    private static String explicar(DataSource origem, String sql, Map<Integer, Object> parametros) {
+        try (Connection conexao = origem.getConnection();
+             PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+            explain.setQueryTimeout(10);
+            for (Map.Entry<Integer, Object> parametro : parametros.entrySet()) {
+                explain.setObject(parametro.getKey(), parametro.getValue());
+            }
+            StringJoiner linhas = new StringJoiner("\n");
+            try (ResultSet resultado = explain.executeQuery()) {
+                ResultSetMetaData colunas = resultado.getMetaData();
+                while (resultado.next()) {
+                    StringJoiner linha = new StringJoiner(", ");
+                    for (int i = 1; i <= colunas.getColumnCount(); i++) {
+                        Object valor = resultado.getObject(i);
+                        if (valor != null) {
+                            linha.add(colunas.getColumnCount() == 1 ? valor.toString()
+                                : colunas.getColumnLabel(i).toLowerCase(Locale.ROOT) + "=" + valor);
+                        }
+                    }
+                    linhas.add(linha.toString());
+                }
+            }
+            return linhas.toString();
+        } catch (SQLException e) {
+            log.debug("EXPLAIN da consulta lenta falhou: {}", e.getMessage());
+            return "EXPLAIN indisponível: " + e.getMessage();
+        }
+    }
+
+    private List<String> descrever(Map<Integer, Object> parametros) {
+        List<String> valores = new ArrayList<>(parametros.size());
+        for (Object valor : parametros.values()) {
+            if (valor == null) {
+                valores.add("NULL");
+            } else if (valor instanceof byte[] bytes) {
+                valores.add("<" + bytes.length + " bytes>");
+            } else if (!exibirParametros) {
+                valores.add(valor instanceof CharSequence texto
+                    ? "<texto de " + texto.length() + " caracteres>"
+                    : "<" + valor.getClass().getSimpleName() + ">");
+            } else {
+                String texto = valor instanceof CharSequence ? "'" + valor + "'" : valor.toString();
+                valores.add(texto.length() > tamanhoMaximoParametro
+                    ? texto.substring(0, tamanhoMaximoParametro) + "..." : texto);
+            }
+        }
+        return valores;
+    }
+
+    /**
+     * Primeiro método da aplicação na pilha, fora dos repositórios e desta interceptação
+     * (ex.: TarefaService.listarTarefas)
+     */
+    private static String chamador() {
+        return PILHA.walk(quadros -> quadros
+            .filter(quadro -> quadro.getClassName().startsWith(PACOTE)
+                && !quadro.getClassName().startsWith(PACOTE + "monitoramento.")
+                && !quadro.getClassName().startsWith(PACOTE + "repository.")
+                && !quadro.getClassName().contains("$$"))
+            .findFirst()
+            .map(quadro -> {
+                String classe = quadro.getClassName().substring(quadro.getClassName().lastIndexOf('.') + 1);
+                String metodo = quadro.getMethodName();
+                // lambda$listarTarefas$3 -> listarTarefas
+                if (metodo.startsWith("lambda$")) {
+                    metodo = metodo.substring(7, Math.max(7, metodo.indexOf('$', 7)));
+                }
+                return classe + "." + metodo;
+            })
+            .orElse("desconhecida"));
+    }
+
+    private static FormatoConsultaDTO converter(Formato formato) {
+        long quantidade = formato.quantidade.sum();
+        long totalNanos = formato.totalNanos.sum();
+        return FormatoConsultaDTO.builder()
+            .formato(formato.texto)
+            .quantidade(quantidade)
+            .totalMs(milis(totalNanos))
+            .mediaMs(quantidade > 0 ? milis(totalNanos / quantidade) : 0.0)
+            .maximoMs(milis(formato.maximoNanos.get()))
+            .ultimaEm(formato.ultimaEm)
+            .origem(formato.origem)
+            .plano(formato.plano)
+            .build();
+    }
+
+    private static double milis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
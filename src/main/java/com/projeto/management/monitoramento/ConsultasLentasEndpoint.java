@@ -0,0 +1,33 @@
+package com.projeto.management.monitoramento;
+
+import com.projeto.management.dto.response.ConsultasLentasDTO;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint /actuator/consultaslentas: consultas acima do limite, agregadas por formato,
+ * com o plano de execução; DELETE descarta o que foi registrado
+ *
+ * Fora da exposição web padrão: deve ser incluído em management.endpoints.web.exposure.include,
+ * de preferência numa porta de gerenciamento própria (management.server.port)
+ */
+@Endpoint(id = "consultaslentas")
+public class ConsultasLentasEndpoint {
+
+    private final ConsultasLentas consultasLentas;
+
+    public ConsultasLentasEndpoint(ConsultasLentas consultasLentas) {
+        this.consultasLentas = consultasLentas;
+    }
+
+    @ReadOperation
+    public ConsultasLentasDTO consultas() {
+        return consultasLentas.resumo();
+    }
+
+    @DeleteOperation
+    public void limpar() {
+        consultasLentas.limpar();
+    }
+}
@@ -0,0 +1,21 @@
+package com.projeto.management.monitoramento;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marca o fim da serialização do corpo na {@link MedicaoRequisicao}
+ *
+ * O afterCompletion roda assim que o DispatcherServlet termina a resposta (o conversor já
+ * escreveu o corpo, inclusive o das exceções tratadas), antes do pós-processamento dos
+ * filtros de fora, como a gravação da resposta pela idempotência, que não é serialização.
+ */
+public class FimSerializacaoInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        MedicaoRequisicao.encerrarSerializacao();
+    }
+}
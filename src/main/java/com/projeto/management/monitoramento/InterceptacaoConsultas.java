@@ -0,0 +1,145 @@
+package com.projeto.management.monitoramento;
+
+import com.projeto.management.sharding.RoteadorDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mede cada comando SQL executado pelos DataSources da aplicação e entrega os que
+ * passaram do limite a {@link ConsultasLentas}, com os parâmetros do PreparedStatement
+ *
+ * Com particionamento, cada shard do {@link RoteadorDataSource} é envolvido separadamente,
+ * para que o EXPLAIN rode no mesmo banco que executou a consulta.
+ */
+public class InterceptacaoConsultas implements BeanPostProcessor {
+
+    private final ObjectProvider<ConsultasLentas> provedor;
+    private volatile ConsultasLentas consultasLentas;
+
+    /**
+     * O registro é obtido na primeira consulta: o BeanPostProcessor é criado antes
+     * de as propriedades da aplicação estarem disponíveis
+     */
+    public InterceptacaoConsultas(ObjectProvider<ConsultasLentas> provedor) {
+        this.provedor = provedor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RoteadorDataSource roteador) {
+            return new RoteadorDataSource(roteador.getShards().stream().map(this::envolver).toList());
+        }
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return envolver(dataSource);
+        }
+        return bean;
+    }
+
+    DataSource envolver(DataSource dataSource) {
+        return proxy(DataSource.class, (metodo, args) -> {
+            Object resultado = metodo.invoke(dataSource, args);
+            return resultado instanceof Connection conexao ? envolver(dataSource, conexao) : resultado;
+        });
+    }
+
+    private Connection envolver(DataSource origem, Connection conexao) {
+        return proxy(Connection.class, (metodo, args) -> {
+            Object resultado = metodo.invoke(conexao, args);
+            if (resultado instanceof PreparedStatement statement && metodo.getName().equals("prepareStatement")) {
+                return envolver(origem, statement, (String) args[0]);
+            }
+            if (resultado instanceof Statement statement && metodo.getName().equals("createStatement")) {
+                return envolver(origem, statement);
+            }
+            return resultado;
+        });
+    }
+
+    private PreparedStatement envolver(DataSource origem, PreparedStatement statement, String sql) {
+        Map<Integer, Object> parametros = new TreeMap<>();
+        return proxy(PreparedStatement.class, (metodo, args) -> {
+            String nome = metodo.getName();
+            if (nome.startsWith("execute") && (args == null || args.length == 0)) {
+                return medir(origem, sql, parametros, () -> metodo.invoke(statement, args));
+            }
+            if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                parametros.put(indice, nome.equals("setNull") ? null : args[1]);
+            } else if (nome.equals("clearParameters")) {
+                parametros.clear();
+            }
+            return metodo.invoke(statement, args);
+        });
+    }
+
+    private Statement envolver(DataSource origem, Statement statement) {
+        return proxy(Statement.class, (metodo, args) -> {
+            if (metodo.getName().startsWith("execute") && args != null && args.length > 0 && args[0] instanceof String sql) {
+                return medir(origem, sql, Map.of(), () -> metodo.invoke(statement, args));
+            }
+            return metodo.invoke(statement, args);
+        });
+    }
+
+    private Object medir(DataSource origem, String sql, Map<Integer, Object> parametros, Execucao execucao)
+            throws Exception {
+        long inicio = System.nanoTime();
+        try {
+            return execucao.executar();
+        } finally {
+            long nanos = System.nanoTime() - inicio;
+            ConsultasLentas registro = consultasLentas();
+            if (nanos >= registro.getLimiteNanos()) {
+                registro.registrar(origem, sql, parametros, nanos);
+            }
+        }
+    }
+
+    private ConsultasLentas consultasLentas() {
+        ConsultasLentas registro = consultasLentas;
+        if (registro == null) {
+            registro = provedor.getObject();
+            consultasLentas = registro;
+        }
+        return registro;
+    }
+
+    @FunctionalInterface
+    private interface Execucao {
+        Object executar() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Invocacao {
+        Object invocar(Method metodo, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, Invocacao invocacao) {
+        InvocationHandler handler = (proxy, metodo, args) -> {
+            // Identidade do próprio proxy: o alvo não se reconhece no proxy que o envolve
+            if (metodo.getName().equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (metodo.getName().equals("hashCode") && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            try {
+                return invocacao.invocar(metodo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+}
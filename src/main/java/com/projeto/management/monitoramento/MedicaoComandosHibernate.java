@@ -0,0 +1,34 @@
+package com.projeto.management.monitoramento;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mede a execução dos comandos SQL de cada sessão do Hibernate para a {@link MedicaoRequisicao}
+ *
+ * Instanciado pelo Hibernate a cada sessão (hibernate.session.events.auto); a sessão é usada
+ * por uma única thread, então o início do comando em andamento pode ficar num campo simples.
+ */
+public class MedicaoComandosHibernate implements SessionEventListener {
+
+    private long inicio;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        MedicaoRequisicao.registrarComando(System.nanoTime() - inicio);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicio = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        MedicaoRequisicao.registrarComando(System.nanoTime() - inicio);
+    }
+}
@@ -0,0 +1,168 @@
+package com.projeto.management.monitoramento;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tempos por fase de uma requisição amostrada (banco, mapeamento, serialização)
+ *
+ * A medição fica associada à thread da requisição e é propagada às threads dos executores
+ * (shards, seções do dashboard) por {@link #propagar(Runnable)}; fora de uma requisição
+ * amostrada os pontos de medição apenas consultam a thread local e retornam.
+ */
+public final class MedicaoRequisicao {
+
+    private static final ThreadLocal<Trecho> ATUAL = new ThreadLocal<>();
+
+    private final long inicio = System.nanoTime();
+    private final LongAdder bancoNanos = new LongAdder();
+    private final LongAdder comandos = new LongAdder();
+    private final LongAdder mapeamentoNanos = new LongAdder();
+    private volatile long inicioSerializacao;
+    private volatile long fimSerializacao;
+    private long fim;
+
+    /**
+     * Parte da medição executada numa thread; acumula o tempo de banco da própria thread
+     * para descontá-lo do mapeamento (carregamentos lazy durante a conversão)
+     */
+    private static final class Trecho {
+
+        private final MedicaoRequisicao medicao;
+        private long banco;
+        private long bancoNoInicioMapeamento;
+
+        private Trecho(MedicaoRequisicao medicao) {
+            this.medicao = medicao;
+        }
+    }
+
+    static MedicaoRequisicao iniciar() {
+        MedicaoRequisicao medicao = new MedicaoRequisicao();
+        ATUAL.set(new Trecho(medicao));
+        return medicao;
+    }
+
+    void encerrar() {
+        fim = System.nanoTime();
+        ATUAL.remove();
+    }
+
+    /**
+     * Executa a tarefa com a medição da thread que a criou (decorador dos executores)
+     */
+    public static Runnable propagar(Runnable tarefa) {
+        Trecho origem = ATUAL.get();
+        if (origem == null) {
+            return tarefa;
+        }
+        return () -> {
+            Trecho anterior = ATUAL.get();
+            ATUAL.set(new Trecho(origem.medicao));
+            try {
+                tarefa.run();
+            } finally {
+                if (anterior != null) {
+                    ATUAL.set(anterior);
+                } else {
+                    ATUAL.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Registra a execução de um comando SQL
+     */
+    public static void registrarComando(long nanos) {
+        Trecho trecho = ATUAL.get();
+        if (trecho != null) {
+            trecho.banco += nanos;
+            trecho.medicao.bancoNanos.add(nanos);
+            trecho.medicao.comandos.increment();
+        }
+    }
+
+    /**
+     * Início da conversão de uma entidade em DTO; devolve 0 quando a requisição não é medida
+     */
+    public static long inicioMapeamento() {
+        Trecho trecho = ATUAL.get();
+        if (trecho == null) {
+            return 0;
+        }
+        trecho.bancoNoInicioMapeamento = trecho.banco;
+        return System.nanoTime();
+    }
+
+    /**
+     * Fim da conversão iniciada em {@link #inicioMapeamento()}, sem o tempo de banco do intervalo
+     */
+    public static void fimMapeamento(long inicio) {
+        Trecho trecho = inicio != 0 ? ATUAL.get() : null;
+        if (trecho != null) {
+            long banco = trecho.banco - trecho.bancoNoInicioMapeamento;
+            trecho.medicao.mapeamentoNanos.add(Math.max(0, System.nanoTime() - inicio - banco));
+        }
+    }
+
+    /**
+     * Marca o início da escrita do corpo da resposta
+     */
+    static void iniciarSerializacao() {
+        Trecho trecho = ATUAL.get();
+        if (trecho != null && trecho.medicao.inicioSerializacao == 0) {
+            trecho.medicao.inicioSerializacao = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marca o fim da escrita do corpo da resposta
+     */
+    static void encerrarSerializacao() {
+        Trecho trecho = ATUAL.get();
+        if (trecho != null && trecho.medicao.inicioSerializacao != 0 && trecho.medicao.fimSerializacao == 0) {
+            trecho.medicao.fimSerializacao = System.nanoTime();
+        }
+    }
+
+    long bancoNanos() {
+        return bancoNanos.sum();
+    }
+
+    long comandos() {
+        return comandos.sum();
+    }
+
+    long mapeamentoNanos() {
+        return mapeamentoNanos.sum();
+    }
+
+    /**
+     * Do início ao fim da escrita do corpo (sem o fim marcado, até o fim da requisição);
+     * 0 quando não houve corpo
+     */
+    long serializacaoNanos() {
+        if (inicioSerializacao == 0) {
+            return 0;
+        }
+        return (fimSerializacao != 0 ? fimSerializacao : fim) - inicioSerializacao;
+    }
+
+    long totalNanos() {
+        return fim - inicio;
+    }
+
+    /**
+     * Valor do header Server-Timing (durações em milissegundos)
+     */
+    String serverTiming() {
+        return String.format(Locale.ROOT,
+            "db;dur=%.1f;desc=\"%d comandos\", mapeamento;dur=%.1f, serializacao;dur=%.1f, total;dur=%.1f",
+            milis(bancoNanos()), comandos(), milis(mapeamentoNanos()), milis(serializacaoNanos()), milis(totalNanos()));
+    }
+
+    private static double milis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.projeto.management.monitoramento;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Header Server-Timing com o tempo de cada fase das requisições amostradas
+ *
+ * O header precisa incluir a serialização, que termina depois de o corpo ser escrito; por isso
+ * o corpo das requisições amostradas fica num buffer até o fim da cadeia. As demais seguem sem
+ * buffer nem medição. Os mesmos tempos vão para app.tempo.servidor (/actuator/metrics), por
+ * endpoint (padrão do mapeamento), método e fase.
+ */
+public class TempoServidorFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    private static final String SEM_ENDPOINT = "desconhecido";
+
+    private final double taxaAmostragem;
+    private final MeterRegistry meterRegistry;
+
+    public TempoServidorFilter(double taxaAmostragem, MeterRegistry meterRegistry) {
+        this.taxaAmostragem = taxaAmostragem;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (taxaAmostragem <= 0 || ThreadLocalRandom.current().nextDouble() >= taxaAmostragem) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        MedicaoRequisicao medicao = MedicaoRequisicao.iniciar();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            medicao.encerrar();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, medicao.serverTiming());
+            }
+            wrapper.copyBodyToResponse();
+            registrarMetricas(request, medicao);
+        }
+    }
+
+    private void registrarMetricas(HttpServletRequest request, MedicaoRequisicao medicao) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = padrao != null ? padrao.toString() : SEM_ENDPOINT;
+        registrar(endpoint, request.getMethod(), "db", medicao.bancoNanos());
+        registrar(endpoint, request.getMethod(), "mapeamento", medicao.mapeamentoNanos());
+        registrar(endpoint, request.getMethod(), "serializacao", medicao.serializacaoNanos());
+        registrar(endpoint, request.getMethod(), "total", medicao.totalNanos());
+    }
+
+    private void registrar(String endpoint, String metodo, String fase, long nanos) {
+        Timer.builder("app.tempo.servidor")
+            .description("Tempo por fase das requisições amostradas")
+            .tag("endpoint", endpoint)
+            .tag("metodo", metodo)
+            .tag("fase", fase)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
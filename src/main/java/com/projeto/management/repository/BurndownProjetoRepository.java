@@ -0,0 +1,30 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.BurndownProjeto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para as séries de burndown dos projetos
+ */
+@Repository
+public interface BurndownProjetoRepository extends JpaRepository<BurndownProjeto, Long> {
+    
+    /**
+     * Busca a série de um projeto em um ano
+     */
+    Optional<BurndownProjeto> findByIdProjetoAndAno(Long idProjeto, Integer ano);
+    
+    /**
+     * Busca as séries anuais de um projeto em um intervalo de anos
+     */
+    List<BurndownProjeto> findByIdProjetoAndAnoBetweenOrderByAnoAsc(Long idProjeto, Integer anoInicial, Integer anoFinal);
+    
+    /**
+     * Busca as séries de um ano para vários projetos (captura diária)
+     */
+    List<BurndownProjeto> findByAno(Integer ano);
+}
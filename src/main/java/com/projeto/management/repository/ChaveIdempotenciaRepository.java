@@ -0,0 +1,48 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ChaveIdempotencia;
+import com.projeto.management.model.enums.SituacaoIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório para as chaves de idempotência das requisições POST e PATCH
+ */
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, Long> {
+    
+    Optional<ChaveIdempotencia> findByUsuarioAndChave(String usuario, String chave);
+    
+    /**
+     * Remove uma chave expirada ou abandonada, desde que não tenha mudado de situação desde a leitura
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.id = :id AND c.situacao = :situacao")
+    int removerSeNaSituacao(@Param("id") Long id, @Param("situacao") SituacaoIdempotencia situacao);
+    
+    /**
+     * Grava a resposta de uma reserva (nada muda se ela já foi substituída por abandono)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChaveIdempotencia c SET c.situacao = 'CONCLUIDA', c.status = :status, " +
+           "c.tipoConteudo = :tipoConteudo, c.corpo = :corpo WHERE c.id = :id")
+    int concluir(@Param("id") Long id, @Param("status") int status, @Param("tipoConteudo") String tipoConteudo,
+                 @Param("corpo") byte[] corpo);
+    
+    /**
+     * Remove as chaves cuja validade terminou
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.dataExpiracao < :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,195 @@
+package com.projeto.management.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Montador de consultas JPQL que inclui apenas os predicados informados
+ *
+ * Cada combinação de filtros gera sempre o mesmo texto (parâmetros numerados na ordem
+ * em que os predicados são adicionados), então o cache de planos do Hibernate compila
+ * cada formato de consulta uma única vez e o banco recebe um plano específico para os
+ * filtros realmente usados, em vez de um plano genérico com {@code :x IS NULL OR ...}.
+ */
+public class ConsultaDinamica<T> {
+
+    private final Class<T> entidade;
+    private final String alias;
+    private final List<String> associacoes = new ArrayList<>();
+    private final List<String> predicados = new ArrayList<>();
+    private final List<Object> parametros = new ArrayList<>();
+
+    private ConsultaDinamica(Class<T> entidade, String alias) {
+        this.entidade = entidade;
+        this.alias = alias;
+    }
+
+    public static <T> ConsultaDinamica<T> de(Class<T> entidade, String alias) {
+        return new ConsultaDinamica<>(entidade, alias);
+    }
+
+    /**
+     * Carrega a associação na mesma consulta ({@code LEFT JOIN FETCH}); não entra na contagem
+     */
+    public ConsultaDinamica<T> buscando(String associacao) {
+        associacoes.add(" LEFT JOIN FETCH " + caminho(associacao));
+        return this;
+    }
+
+    /**
+     * Predicado fixo, sem parâmetros (ex.: {@code t.ativo = true})
+     */
+    public ConsultaDinamica<T> onde(String predicado) {
+        predicados.add(predicado);
+        return this;
+    }
+
+    /**
+     * {@code atributo = valor}, ignorado quando o valor é nulo
+     */
+    public ConsultaDinamica<T> igual(String atributo, Object valor) {
+        if (valor != null) {
+            predicados.add(caminho(atributo) + " = " + parametro(valor));
+        }
+        return this;
+    }
+
+    /**
+     * {@code atributo IN (...)}, ignorado quando não há valores; um único valor vira igualdade
+     */
+    public ConsultaDinamica<T> em(String atributo, Collection<?> valores) {
+        if (valores == null || valores.isEmpty()) {
+            return this;
+        }
+        if (valores.size() == 1) {
+            return igual(atributo, valores.iterator().next());
+        }
+        predicados.add(caminho(atributo) + " IN " + parametro(List.copyOf(valores)));
+        return this;
+    }
+
+    /**
+     * Busca por trecho sem diferenciar maiúsculas, ignorada quando o texto é vazio
+     */
+    public ConsultaDinamica<T> contem(String atributo, String texto) {
+        if (texto != null && !texto.isBlank()) {
+            String padrao = "%" + escaparLike(texto.toLowerCase(Locale.ROOT)) + "%";
+            predicados.add("LOWER(" + caminho(atributo) + ") LIKE " + parametro(padrao) + " ESCAPE '!'");
+        }
+        return this;
+    }
+
+    /**
+     * {@code atributo >= valor}, ignorado quando o valor é nulo
+     */
+    public ConsultaDinamica<T> aPartirDe(String atributo, Comparable<?> valor) {
+        if (valor != null) {
+            predicados.add(caminho(atributo) + " >= " + parametro(valor));
+        }
+        return this;
+    }
+
+    /**
+     * {@code atributo <= valor}, ignorado quando o valor é nulo
+     */
+    public ConsultaDinamica<T> ate(String atributo, Comparable<?> valor) {
+        if (valor != null) {
+            predicados.add(caminho(atributo) + " <= " + parametro(valor));
+        }
+        return this;
+    }
+
+    /**
+     * {@code EXISTS} sobre a entidade associada pela chave (ex.: {@code e.idTarefa = t.id}) com
+     * o atributo entre os valores, ignorado quando não há valores
+     */
+    public ConsultaDinamica<T> existe(String associada, String chave, String atributo, Collection<?> valores) {
+        return subconsulta("EXISTS", associada, chave, atributo, valores);
+    }
+
+    /**
+     * {@code NOT EXISTS} sobre a entidade associada, como em {@link #existe}
+     */
+    public ConsultaDinamica<T> naoExiste(String associada, String chave, String atributo, Collection<?> valores) {
+        return subconsulta("NOT EXISTS", associada, chave, atributo, valores);
+    }
+
+    /**
+     * Texto JPQL da consulta, sem ordenação
+     */
+    public String jpql() {
+        return "SELECT " + alias + " FROM " + entidade.getSimpleName() + " " + alias
+            + String.join("", associacoes) + where();
+    }
+
+    String jpqlContagem() {
+        return "SELECT COUNT(" + alias + ") FROM " + entidade.getSimpleName() + " " + alias + where();
+    }
+
+    /**
+     * Executa a consulta paginada; a contagem só é feita quando a página não basta para deduzir o total
+     */
+    public Page<T> paginar(EntityManager entityManager, Pageable pageable) {
+        TypedQuery<T> consulta = entityManager.createQuery(
+            QueryUtils.applySorting(jpql(), pageable.getSort(), alias), entidade);
+        vincular(consulta);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(consulta.getResultList(), pageable, () -> {
+            TypedQuery<Long> contagem = entityManager.createQuery(jpqlContagem(), Long.class);
+            vincular(contagem);
+            return contagem.getSingleResult();
+        });
+    }
+
+    private void vincular(TypedQuery<?> consulta) {
+        for (int i = 0; i < parametros.size(); i++) {
+            consulta.setParameter("p" + (i + 1), parametros.get(i));
+        }
+    }
+
+    private ConsultaDinamica<T> subconsulta(String operador, String associada, String chave, String atributo,
+                                            Collection<?> valores) {
+        if (valores == null || valores.isEmpty()) {
+            return this;
+        }
+        String aliasAssociada = alias + "_" + (predicados.size() + 1);
+        String comparacao = valores.size() == 1
+            ? " = " + parametro(valores.iterator().next())
+            : " IN " + parametro(List.copyOf(valores));
+        predicados.add(operador + " (SELECT 1 FROM " + associada + " " + aliasAssociada
+            + " WHERE " + aliasAssociada + "." + chave + " = " + caminho("id")
+            + " AND " + aliasAssociada + "." + atributo + comparacao + ")");
+        return this;
+    }
+
+    private String where() {
+        return predicados.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicados);
+    }
+
+    private String caminho(String atributo) {
+        return alias + "." + atributo;
+    }
+
+    private String parametro(Object valor) {
+        parametros.add(valor);
+        return ":p" + parametros.size();
+    }
+
+    private static String escaparLike(String texto) {
+        // '!' como escape evita a barra invertida, que o MySQL interpreta dentro de literais
+        return texto.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
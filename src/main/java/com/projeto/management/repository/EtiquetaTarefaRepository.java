@@ -0,0 +1,54 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.EtiquetaTarefa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório das etiquetas das tarefas
+ *
+ * Os filtros por etiqueta da listagem são avaliados no índice em memória; aqui ficam
+ * a gravação, a carga do índice e as subconsultas de conferência usadas na listagem.
+ */
+@Repository
+public interface EtiquetaTarefaRepository extends JpaRepository<EtiquetaTarefa, EtiquetaTarefa.Chave> {
+
+    /**
+     * Etiquetas da tarefa, em ordem alfabética
+     */
+    @Query("SELECT e.etiqueta FROM EtiquetaTarefa e WHERE e.idTarefa = :id ORDER BY e.etiqueta")
+    List<String> findEtiquetasPorTarefa(@Param("id") Long idTarefa);
+
+    /**
+     * Etiquetas de todas as tarefas ativas, em streaming (carga do índice em memória)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.projeto.management.model.entity.EtiquetaTarefa(e.idTarefa, e.etiqueta) " +
+           "FROM EtiquetaTarefa e JOIN Tarefa t ON t.id = e.idTarefa WHERE t.ativo = true")
+    Stream<EtiquetaTarefa> streamDeTarefasAtivas();
+
+    @Modifying
+    @Query("INSERT INTO EtiquetaTarefa (idTarefa, etiqueta) VALUES (:id, :etiqueta)")
+    int inserir(@Param("id") Long idTarefa, @Param("etiqueta") String etiqueta);
+
+    @Modifying
+    @Query("DELETE FROM EtiquetaTarefa e WHERE e.idTarefa = :id AND e.etiqueta IN :etiquetas")
+    int remover(@Param("id") Long idTarefa, @Param("etiquetas") Collection<String> etiquetas);
+
+    /**
+     * Remove as etiquetas das tarefas informadas (arquivamento)
+     */
+    @Modifying
+    @Query("DELETE FROM EtiquetaTarefa e WHERE e.idTarefa IN :ids")
+    int removerPorTarefas(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,91 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.HierarquiaTarefa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório da tabela de fechamento das subtarefas
+ *
+ * A manutenção é feita com INSERT ... SELECT e DELETE em massa sobre os caminhos; os
+ * IDs envolvidos são lidos antes porque o MySQL não aceita a própria tabela numa
+ * subconsulta do DELETE.
+ */
+@Repository
+public interface HierarquiaTarefaRepository extends JpaRepository<HierarquiaTarefa, HierarquiaTarefa.Chave> {
+    
+    /**
+     * Linha da própria tarefa (profundidade 0)
+     */
+    @Modifying
+    @Query("INSERT INTO HierarquiaTarefa (idAncestral, idDescendente, profundidade) VALUES (:id, :id, 0)")
+    int inserirRaiz(@Param("id") Long idTarefa);
+    
+    /**
+     * Caminhos de todos os ancestrais da tarefa pai até a nova tarefa
+     */
+    @Modifying
+    @Query("INSERT INTO HierarquiaTarefa (idAncestral, idDescendente, profundidade) " +
+           "SELECT h.idAncestral, :id, h.profundidade + 1 FROM HierarquiaTarefa h WHERE h.idDescendente = :idPai")
+    int inserirCaminhos(@Param("id") Long idTarefa, @Param("idPai") Long idPai);
+    
+    /**
+     * Caminhos de cada ancestral do novo pai (inclusive ele) até cada tarefa da subárvore movida
+     */
+    @Modifying
+    @Query("INSERT INTO HierarquiaTarefa (idAncestral, idDescendente, profundidade) " +
+           "SELECT acima.idAncestral, abaixo.idDescendente, acima.profundidade + abaixo.profundidade + 1 " +
+           "FROM HierarquiaTarefa acima, HierarquiaTarefa abaixo " +
+           "WHERE acima.idDescendente = :idPai AND abaixo.idAncestral = :id")
+    int inserirCaminhosSubarvore(@Param("id") Long idTarefa, @Param("idPai") Long idPai);
+    
+    /**
+     * Remove os caminhos entre os ancestrais e os descendentes informados
+     */
+    @Modifying
+    @Query("DELETE FROM HierarquiaTarefa h WHERE h.idDescendente IN :descendentes AND h.idAncestral IN :ancestrais")
+    int removerCaminhos(@Param("descendentes") Collection<Long> descendentes,
+                        @Param("ancestrais") Collection<Long> ancestrais);
+    
+    /**
+     * Remove todos os caminhos que passam pelas tarefas informadas
+     */
+    @Modifying
+    @Query("DELETE FROM HierarquiaTarefa h WHERE h.idDescendente IN :ids OR h.idAncestral IN :ids")
+    int removerPorTarefas(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * IDs da subárvore da tarefa, ela inclusive
+     */
+    @Query("SELECT h.idDescendente FROM HierarquiaTarefa h WHERE h.idAncestral = :id")
+    List<Long> findIdsSubarvore(@Param("id") Long idTarefa);
+    
+    /**
+     * IDs dos ancestrais da tarefa, ela exclusive
+     */
+    @Query("SELECT h.idAncestral FROM HierarquiaTarefa h WHERE h.idDescendente = :id AND h.profundidade > 0")
+    List<Long> findIdsAncestrais(@Param("id") Long idTarefa);
+    
+    /**
+     * Caminhos até as subtarefas diretas das tarefas informadas
+     */
+    List<HierarquiaTarefa> findByIdAncestralInAndProfundidade(Collection<Long> idsAncestrais, Integer profundidade);
+    
+    /**
+     * Verifica se a tarefa tem subtarefas diretas (ativas ou não)
+     */
+    boolean existsByIdAncestralAndProfundidade(Long idAncestral, Integer profundidade);
+    
+    /**
+     * Verifica se a tarefa tem alguma subtarefa ativa, em qualquer nível
+     */
+    @Query("SELECT COUNT(h) > 0 FROM HierarquiaTarefa h JOIN Tarefa t ON t.id = h.idDescendente " +
+           "WHERE h.idAncestral = :id AND h.profundidade > 0 AND t.ativo = true")
+    boolean existsSubtarefaAtiva(@Param("id") Long idTarefa);
+}
@@ -0,0 +1,48 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.LogAlteracao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório para o log de alterações usado na invalidação de caches entre instâncias
+ */
+@Repository
+public interface LogAlteracaoRepository extends JpaRepository<LogAlteracao, Long> {
+    
+    /**
+     * Próximas alterações depois de um ID, em ordem
+     */
+    List<LogAlteracao> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    /**
+     * IDs visíveis num intervalo (busca de alterações confirmadas fora de ordem)
+     */
+    @Query("SELECT l.id FROM LogAlteracao l WHERE l.id > :de AND l.id <= :ate")
+    List<Long> findIdsEntre(@Param("de") Long de, @Param("ate") Long ate);
+    
+    List<LogAlteracao> findByIdIn(Collection<Long> ids);
+    
+    /**
+     * Maior ID gravado antes do instante, ou null
+     */
+    @Query("SELECT MAX(l.id) FROM LogAlteracao l WHERE l.dataAlteracao < :limite")
+    Long findMaiorIdAnteriorA(@Param("limite") LocalDateTime limite);
+    
+    /**
+     * Remove as alterações mais antigas que a retenção
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LogAlteracao l WHERE l.dataAlteracao < :limite")
+    int removerAnterioresA(@Param("limite") LocalDateTime limite);
+}
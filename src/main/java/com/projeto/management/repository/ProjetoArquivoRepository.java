@@ -0,0 +1,32 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.ProjetoArquivo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repositório dos projetos arquivados
+ */
+@Repository
+public interface ProjetoArquivoRepository extends JpaRepository<ProjetoArquivo, Long> {
+    
+    /**
+     * Copia projetos da tabela quente para o arquivo, no próprio banco, com a descrição
+     * (os bytes são copiados como estão: o arquivo usa a mesma compactação de projeto_texto)
+     */
+    @Modifying
+    @Query("INSERT INTO ProjetoArquivo (id, nome, descricao, dataInicio, dataFimPrevista, dataFimReal, status, " +
+           "prioridade, orcamento, responsavel, dataCriacao, dataAtualizacao, usuarioCriacao, usuarioAtualizacao, " +
+           "ativo, dataArquivamento) " +
+           "SELECT p.id, p.nome, px.descricao, p.dataInicio, p.dataFimPrevista, p.dataFimReal, p.status, " +
+           "p.prioridade, p.orcamento, p.responsavel, p.dataCriacao, p.dataAtualizacao, p.usuarioCriacao, " +
+           "p.usuarioAtualizacao, p.ativo, CAST(:dataArquivamento AS LocalDateTime) " +
+           "FROM Projeto p LEFT JOIN TextoProjeto px ON px.idProjeto = p.id WHERE p.id IN :ids")
+    int copiarDaTabelaQuente(@Param("ids") Collection<Long> ids, @Param("dataArquivamento") LocalDateTime dataArquivamento);
+}
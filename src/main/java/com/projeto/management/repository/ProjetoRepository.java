@@ -1,24 +1,33 @@
 package com.projeto.management.repository;
 
+import com.projeto.management.estatisticas.ProgressoProjeto;
+import com.projeto.management.event.ProjetoSnapshot;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para a entidade Projeto
  */
 @Repository
-public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
+public interface ProjetoRepository extends JpaRepository<Projeto, Long>, ProjetoRepositoryCustom {
     
     /**
      * Busca projetos ativos
@@ -57,22 +66,23 @@ public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
     List<Projeto> findProjetosAtrasados(@Param("dataAtual") LocalDate dataAtual);
     
     /**
-     * Busca projetos com paginação e filtros
+     * Busca projetos atrasados com paginação (total e primeiros N)
      */
-    @Query("SELECT p FROM Projeto p WHERE p.ativo = true " +
-           "AND (:nome IS NULL OR LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) " +
-           "AND (:status IS NULL OR p.status = :status) " +
-           "AND (:responsavel IS NULL OR LOWER(p.responsavel) LIKE LOWER(CONCAT('%', :responsavel, '%')))")
-    Page<Projeto> findProjetosComFiltros(@Param("nome") String nome, 
-                                        @Param("status") StatusProjeto status,
-                                        @Param("responsavel") String responsavel,
-                                        Pageable pageable);
+    @Query("SELECT p FROM Projeto p WHERE p.ativo = true AND p.dataFimPrevista < :dataAtual AND p.status != 'CONCLUIDO'")
+    Page<Projeto> findProjetosAtrasados(@Param("dataAtual") LocalDate dataAtual, Pageable pageable);
     
     /**
-     * Conta projetos por status
+     * Verifica se existe projeto ativo com o ID
      */
-    @Query("SELECT p.status, COUNT(p) FROM Projeto p WHERE p.ativo = true GROUP BY p.status")
-    List<Object[]> countProjetosPorStatus();
+    boolean existsByIdAndAtivoTrue(Long id);
+    
+    /**
+     * Percorre os projetos ativos como snapshots, para a carga dos agregados em memória
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.projeto.management.event.ProjetoSnapshot(p.id, p.status, p.ativo) " +
+           "FROM Projeto p WHERE p.ativo = true")
+    Stream<ProjetoSnapshot> streamSnapshotsAtivos();
     
     /**
      * Busca projetos com resumo de tarefas
@@ -82,4 +92,49 @@ public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
            "WHERE p.ativo = true AND (t.ativo = true OR t IS NULL) " +
            "GROUP BY p.id")
     List<Object[]> findProjetosComResumoTarefas();
+    
+    /**
+     * Progresso atual de cada projeto ativo (horas estimadas das tarefas em aberto,
+     * tarefas em aberto e concluídas), para a captura diária do burndown
+     */
+    @Query("SELECT new com.projeto.management.estatisticas.ProgressoProjeto(p.id, " +
+           "SUM(CASE WHEN t.status NOT IN ('CONCLUIDA', 'CANCELADA') THEN COALESCE(t.estimativaHoras, 0) ELSE 0 END), " +
+           "SUM(CASE WHEN t.status NOT IN ('CONCLUIDA', 'CANCELADA') THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'CONCLUIDA' THEN 1 ELSE 0 END)) " +
+           "FROM Projeto p LEFT JOIN p.tarefas t ON t.ativo = true " +
+           "WHERE p.ativo = true GROUP BY p.id")
+    List<ProgressoProjeto> findProgressoProjetosAtivos();
+    
+    /**
+     * Próximos projetos a arquivar, percorrendo a chave primária a partir de ultimoId:
+     * inativos ou encerrados sem alteração desde os respectivos limites
+     */
+    @Query("SELECT p.id FROM Projeto p WHERE p.id > :ultimoId AND (" +
+           "(p.ativo = false AND p.dataAtualizacao < :limiteInativos) " +
+           "OR (p.status IN ('CONCLUIDO', 'CANCELADO') AND p.dataAtualizacao < :limiteEncerrados)) " +
+           "ORDER BY p.id")
+    List<Long> findIdsParaArquivar(@Param("ultimoId") Long ultimoId,
+                                   @Param("limiteInativos") LocalDateTime limiteInativos,
+                                   @Param("limiteEncerrados") LocalDateTime limiteEncerrados,
+                                   Pageable lote);
+    
+    /**
+     * Snapshots dos projetos informados, para notificar os agregados sobre o arquivamento
+     */
+    @Query("SELECT new com.projeto.management.event.ProjetoSnapshot(p.id, p.status, p.ativo) " +
+           "FROM Projeto p WHERE p.id IN :ids")
+    List<ProjetoSnapshot> findSnapshotsPorIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Projetos ativos entre os IDs informados, com as tarefas na mesma consulta (busca por lista de IDs)
+     */
+    @Query("SELECT DISTINCT p FROM Projeto p LEFT JOIN FETCH p.tarefas WHERE p.id IN :ids AND p.ativo = true")
+    List<Projeto> findAtivosComTarefasPorIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Projeto ativo com as tarefas carregadas pelo entity graph, numa única consulta (detalhe com tarefas)
+     */
+    @EntityGraph(attributePaths = "tarefas")
+    @Query("SELECT p FROM Projeto p WHERE p.id = :id AND p.ativo = true")
+    Optional<Projeto> findComTarefasPorId(@Param("id") Long id);
 }
@@ -0,0 +1,17 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroProjetoDTO;
+import com.projeto.management.model.entity.Projeto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Consultas de projetos montadas dinamicamente
+ */
+public interface ProjetoRepositoryCustom {
+
+    /**
+     * Busca projetos ativos aplicando apenas os filtros informados
+     */
+    Page<Projeto> buscarComFiltros(FiltroProjetoDTO filtro, Pageable pageable);
+}
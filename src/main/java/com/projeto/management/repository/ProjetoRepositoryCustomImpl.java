@@ -0,0 +1,30 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroProjetoDTO;
+import com.projeto.management.model.entity.Projeto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Implementação das consultas dinâmicas de projetos
+ */
+class ProjetoRepositoryCustomImpl implements ProjetoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Projeto> buscarComFiltros(FiltroProjetoDTO filtro, Pageable pageable) {
+        return ConsultaDinamica.de(Projeto.class, "p")
+            .onde("p.ativo = true")
+            .em("status", filtro.getStatus())
+            .em("prioridade", filtro.getPrioridade())
+            .aPartirDe("dataFimPrevista", filtro.getDataFimPrevistaDe())
+            .ate("dataFimPrevista", filtro.getDataFimPrevistaAte())
+            .contem("nome", filtro.getNome())
+            .contem("responsavel", filtro.getResponsavel())
+            .paginar(entityManager, pageable);
+    }
+}
@@ -0,0 +1,39 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.TarefaArquivo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório das tarefas arquivadas
+ */
+@Repository
+public interface TarefaArquivoRepository extends JpaRepository<TarefaArquivo, Long> {
+    
+    /**
+     * Busca as tarefas arquivadas de um projeto
+     */
+    List<TarefaArquivo> findByIdProjetoOrderByIdAsc(Long idProjeto);
+    
+    /**
+     * Copia tarefas da tabela quente para o arquivo, no próprio banco, com os textos
+     * (os bytes são copiados como estão: o arquivo usa a mesma compactação de tarefa_texto)
+     */
+    @Modifying
+    @Query("INSERT INTO TarefaArquivo (id, titulo, descricao, status, prioridade, dataCriacao, dataInicio, " +
+           "dataFimPrevista, dataFimReal, estimativaHoras, horasTrabalhadas, percentualConclusao, responsavel, " +
+           "observacoes, dataAtualizacao, usuarioCriacao, usuarioAtualizacao, ativo, idProjeto, dataArquivamento) " +
+           "SELECT t.id, t.titulo, tx.descricao, t.status, t.prioridade, t.dataCriacao, t.dataInicio, " +
+           "t.dataFimPrevista, t.dataFimReal, t.estimativaHoras, t.horasTrabalhadas, t.percentualConclusao, t.responsavel, " +
+           "tx.observacoes, t.dataAtualizacao, t.usuarioCriacao, t.usuarioAtualizacao, t.ativo, t.projeto.id, " +
+           "CAST(:dataArquivamento AS LocalDateTime) FROM Tarefa t LEFT JOIN TextoTarefa tx ON tx.idTarefa = t.id " +
+           "WHERE t.id IN :ids")
+    int copiarDaTabelaQuente(@Param("ids") Collection<Long> ids, @Param("dataArquivamento") LocalDateTime dataArquivamento);
+}
@@ -1,34 +1,49 @@
 package com.projeto.management.repository;
 
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.entity.ConsolidadoSubarvore;
 import com.projeto.management.model.entity.Tarefa;
 import com.projeto.management.model.enums.StatusTarefa;
-import com.projeto.management.model.enums.Prioridade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para a entidade Tarefa
  */
 @Repository
-public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+public interface TarefaRepository extends JpaRepository<Tarefa, Long>, TarefaRepositoryCustom {
     
     /**
      * Busca tarefas ativas
+     *
+     * As consultas de leitura que viram TarefaResponseDTO trazem o projeto pelo entity graph,
+     * pois a conversão lê o ID e o nome dele para cada linha.
      */
     List<Tarefa> findByAtivoTrue();
     
     /**
-     * Busca tarefas por projeto
+     * Quadro de tarefas do projeto, da mais urgente: peso da prioridade e data fim prevista,
+     * na ordem do índice idx_tarefa_projeto_ativo_peso_prioridade (sem ordenação à parte)
      */
-    List<Tarefa> findByProjetoIdAndAtivoTrue(Long projetoId);
+    @EntityGraph(attributePaths = "projeto")
+    List<Tarefa> findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc(Long projetoId);
     
     /**
      * Busca tarefas por status
@@ -38,53 +53,43 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
     /**
      * Busca tarefas por responsável
      */
+    @EntityGraph(attributePaths = "projeto")
     List<Tarefa> findByResponsavelContainingIgnoreCaseAndAtivoTrue(String responsavel);
     
     /**
      * Busca tarefa ativa por ID
      */
+    @EntityGraph(attributePaths = "projeto")
     Optional<Tarefa> findByIdAndAtivoTrue(Long id);
     
     /**
      * Busca tarefas atrasadas
      */
+    @EntityGraph(attributePaths = "projeto")
     @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
            "AND t.dataFimPrevista < :dataAtual " +
            "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
     List<Tarefa> findTarefasAtrasadas(@Param("dataAtual") LocalDate dataAtual);
     
     /**
-     * Busca tarefas por projeto com paginação
-     */
-    Page<Tarefa> findByProjetoIdAndAtivoTrueOrderByPrioridadeDescDataFimPrevistaAsc(Long projetoId, Pageable pageable);
-    
-    /**
-     * Busca tarefas com filtros
+     * Busca tarefas atrasadas com paginação (total e primeiras N)
      */
+    @EntityGraph(attributePaths = "projeto")
     @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
-           "AND (:projetoId IS NULL OR t.projeto.id = :projetoId) " +
-           "AND (:titulo IS NULL OR LOWER(t.titulo) LIKE LOWER(CONCAT('%', :titulo, '%'))) " +
-           "AND (:status IS NULL OR t.status = :status) " +
-           "AND (:responsavel IS NULL OR LOWER(t.responsavel) LIKE LOWER(CONCAT('%', :responsavel, '%'))) " +
-           "AND (:prioridade IS NULL OR t.prioridade = :prioridade)")
-    Page<Tarefa> findTarefasComFiltros(@Param("projetoId") Long projetoId,
-                                      @Param("titulo") String titulo,
-                                      @Param("status") StatusTarefa status,
-                                      @Param("responsavel") String responsavel,
-                                      @Param("prioridade") Prioridade prioridade,
-                                      Pageable pageable);
+           "AND t.dataFimPrevista < :dataAtual " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
+    Page<Tarefa> findTarefasAtrasadas(@Param("dataAtual") LocalDate dataAtual, Pageable pageable);
     
     /**
-     * Conta tarefas por status de um projeto
+     * Quadro de tarefas do projeto com paginação; a leitura pelo índice para ao completar a página
      */
-    @Query("SELECT t.status, COUNT(t) FROM Tarefa t " +
-           "WHERE t.projeto.id = :projetoId AND t.ativo = true " +
-           "GROUP BY t.status")
-    List<Object[]> countTarefasPorStatusPorProjeto(@Param("projetoId") Long projetoId);
+    @EntityGraph(attributePaths = "projeto")
+    Page<Tarefa> findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc(Long projetoId, Pageable pageable);
     
     /**
      * Busca tarefas que vencem em X dias
      */
+    @EntityGraph(attributePaths = "projeto")
     @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
            "AND t.dataFimPrevista BETWEEN :dataAtual AND :dataLimite " +
            "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
@@ -92,21 +97,128 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
                                       @Param("dataLimite") LocalDate dataLimite);
     
     /**
-     * Busca tarefas de alta prioridade em aberto
+     * Busca tarefas que vencem em X dias com paginação (total e primeiras N)
+     */
+    @EntityGraph(attributePaths = "projeto")
+    @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
+           "AND t.dataFimPrevista BETWEEN :dataAtual AND :dataLimite " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
+    Page<Tarefa> findTarefasVencendoEm(@Param("dataAtual") LocalDate dataAtual,
+                                      @Param("dataLimite") LocalDate dataLimite,
+                                      Pageable pageable);
+    
+    /**
+     * Busca tarefas de alta prioridade em aberto (peso 3 = ALTA e 4 = CRITICA)
      */
+    @EntityGraph(attributePaths = "projeto")
     @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
-           "AND t.prioridade IN ('ALTA', 'CRITICA') " +
+           "AND t.pesoPrioridade >= 3 " +
            "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
     List<Tarefa> findTarefasAltaPrioridadeEmAberto();
     
     /**
-     * Calcula estatísticas de um projeto
+     * Busca tarefas de alta prioridade em aberto com paginação (total e primeiras N); ordenadas
+     * por peso e data fim prevista, seguem o índice idx_tarefa_ativo_peso_prioridade
+     */
+    @EntityGraph(attributePaths = "projeto")
+    @Query("SELECT t FROM Tarefa t WHERE t.ativo = true " +
+           "AND t.pesoPrioridade >= 3 " +
+           "AND t.status NOT IN ('CONCLUIDA', 'CANCELADA')")
+    Page<Tarefa> findTarefasAltaPrioridadeEmAberto(Pageable pageable);
+    
+    /**
+     * Percorre as tarefas ativas como snapshots, para a carga dos agregados em memória
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.projeto.management.event.TarefaSnapshot(t.id, t.projeto.id, t.status, t.prioridade, " +
+           "t.responsavel, t.estimativaHoras, t.horasTrabalhadas, t.percentualConclusao, t.dataFimPrevista, t.dataFimReal, t.ativo) " +
+           "FROM Tarefa t WHERE t.ativo = true")
+    Stream<TarefaSnapshot> streamSnapshotsAtivos();
+    
+    /**
+     * Busca todas as tarefas de um projeto, inclusive inativas (leitura de histórico)
+     */
+    List<Tarefa> findByProjetoIdOrderByIdAsc(Long projetoId);
+    
+    /**
+     * Próximas tarefas a arquivar, percorrendo a chave primária a partir de ultimoId:
+     * inativas sem alteração desde o limite. Tarefas ativas, mesmo encerradas, só saem
+     * junto com o projeto: o progresso do burndown e as estatísticas contam as concluídas
+     */
+    @Query("SELECT t.id FROM Tarefa t WHERE t.id > :ultimoId " +
+           "AND t.ativo = false AND t.dataAtualizacao < :limiteInativos ORDER BY t.id")
+    List<Long> findIdsParaArquivar(@Param("ultimoId") Long ultimoId,
+                                   @Param("limiteInativos") LocalDateTime limiteInativos,
+                                   Pageable lote);
+    
+    /**
+     * Tarefas (de qualquer estado) dos projetos informados, para arquivá-las junto com eles
+     */
+    @Query("SELECT t.id FROM Tarefa t WHERE t.projeto.id IN :idsProjetos")
+    List<Long> findIdsPorProjetos(@Param("idsProjetos") Collection<Long> idsProjetos, Pageable lote);
+    
+    /**
+     * Snapshots das tarefas informadas, para notificar os agregados sobre o arquivamento
+     */
+    @Query("SELECT new com.projeto.management.event.TarefaSnapshot(t.id, t.projeto.id, t.status, t.prioridade, " +
+           "t.responsavel, t.estimativaHoras, t.horasTrabalhadas, t.percentualConclusao, t.dataFimPrevista, t.dataFimReal, t.ativo) " +
+           "FROM Tarefa t WHERE t.id IN :ids")
+    List<TarefaSnapshot> findSnapshotsPorIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Tarefas ativas entre os IDs informados, com o projeto na mesma consulta (busca por lista de IDs)
+     */
+    @Query("SELECT t FROM Tarefa t LEFT JOIN FETCH t.projeto WHERE t.id IN :ids AND t.ativo = true")
+    List<Tarefa> findAtivasComProjetoPorIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Subárvore ativa da tarefa (ela inclusive) até a profundidade informada, com a
+     * profundidade de cada uma, nível a nível
+     */
+    @Query("SELECT t, h.profundidade FROM HierarquiaTarefa h JOIN Tarefa t ON t.id = h.idDescendente " +
+           "WHERE h.idAncestral = :id AND h.profundidade <= :profundidadeMaxima AND t.ativo = true " +
+           "ORDER BY h.profundidade, t.id")
+    List<Object[]> findSubarvore(@Param("id") Long id, @Param("profundidadeMaxima") int profundidadeMaxima);
+    
+    /**
+     * Caminho da raiz até a tarefa (ela inclusive), com a distância de cada ancestral até ela
+     */
+    @Query("SELECT t, h.profundidade FROM HierarquiaTarefa h JOIN Tarefa t ON t.id = h.idAncestral " +
+           "WHERE h.idDescendente = :id ORDER BY h.profundidade DESC")
+    List<Object[]> findCaminhoAteRaiz(@Param("id") Long id);
+    
+    /**
+     * Totais atuais da subárvore da tarefa, lidos do banco (não da instância em memória)
+     */
+    @Query("SELECT t.consolidado FROM Tarefa t WHERE t.id = :id")
+    Optional<ConsolidadoSubarvore> findConsolidadoPorId(@Param("id") Long id);
+    
+    /**
+     * Soma a variação informada nos totais da tarefa e de todos os seus ancestrais
+     */
+    @Modifying
+    @Query("UPDATE Tarefa t SET " +
+           "t.consolidado.abertas = t.consolidado.abertas + :abertas, " +
+           "t.consolidado.emAndamento = t.consolidado.emAndamento + :emAndamento, " +
+           "t.consolidado.concluidas = t.consolidado.concluidas + :concluidas, " +
+           "t.consolidado.canceladas = t.consolidado.canceladas + :canceladas, " +
+           "t.consolidado.somaPercentual = t.consolidado.somaPercentual + :somaPercentual, " +
+           "t.consolidado.estimativaHoras = t.consolidado.estimativaHoras + :estimativaHoras, " +
+           "t.consolidado.horasTrabalhadas = t.consolidado.horasTrabalhadas + :horasTrabalhadas " +
+           "WHERE t.id IN (SELECT h.idAncestral FROM HierarquiaTarefa h WHERE h.idDescendente = :id)")
+    int somarConsolidado(@Param("id") Long id,
+                         @Param("abertas") int abertas,
+                         @Param("emAndamento") int emAndamento,
+                         @Param("concluidas") int concluidas,
+                         @Param("canceladas") int canceladas,
+                         @Param("somaPercentual") long somaPercentual,
+                         @Param("estimativaHoras") BigDecimal estimativaHoras,
+                         @Param("horasTrabalhadas") BigDecimal horasTrabalhadas);
+    
+    /**
+     * Transforma as tarefas informadas em raízes (a tarefa pai foi arquivada)
      */
-    @Query("SELECT " +
-           "COUNT(t), " +
-           "COUNT(CASE WHEN t.status = 'CONCLUIDA' THEN 1 END), " +
-           "SUM(COALESCE(t.estimativaHoras, 0)), " +
-           "SUM(COALESCE(t.horasTrabalhadas, 0)) " +
-           "FROM Tarefa t WHERE t.projeto.id = :projetoId AND t.ativo = true")
-    Object[] getEstatisticasProjeto(@Param("projetoId") Long projetoId);
+    @Modifying
+    @Query("UPDATE Tarefa t SET t.idTarefaPai = NULL WHERE t.id IN :ids")
+    int desvincularDoPai(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,20 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.model.entity.Tarefa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * Consultas de tarefas montadas dinamicamente
+ */
+public interface TarefaRepositoryCustom {
+
+    /**
+     * Busca tarefas ativas aplicando apenas os filtros informados, restritas aos IDs
+     * candidatos quando informados (pré-seleção feita pelo índice em memória)
+     */
+    Page<Tarefa> buscarComFiltros(FiltroTarefaDTO filtro, Collection<Long> candidatos, Pageable pageable);
+}
@@ -0,0 +1,49 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.model.entity.EtiquetaTarefa;
+import com.projeto.management.model.entity.Tarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementação das consultas dinâmicas de tarefas
+ */
+class TarefaRepositoryCustomImpl implements TarefaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tarefa> buscarComFiltros(FiltroTarefaDTO filtro, Collection<Long> candidatos, Pageable pageable) {
+        if (candidatos != null && candidatos.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        ConsultaDinamica<Tarefa> consulta = ConsultaDinamica.de(Tarefa.class, "t")
+            .buscando("projeto")
+            .onde("t.ativo = true")
+            .em("id", candidatos)
+            .igual("projeto.id", filtro.getProjetoId())
+            .em("status", filtro.getStatus())
+            .em("prioridade", filtro.getPrioridade())
+            .aPartirDe("dataFimPrevista", filtro.getDataFimPrevistaDe())
+            .ate("dataFimPrevista", filtro.getDataFimPrevistaAte())
+            .contem("titulo", filtro.getTitulo())
+            .contem("responsavel", filtro.getResponsavel());
+
+        // Etiquetas conferidas pela chave de tarefa_etiqueta, inclusive nos candidatos do índice
+        for (String etiqueta : EtiquetaTarefa.normalizar(filtro.getEtiquetas())) {
+            consulta.existe("EtiquetaTarefa", "idTarefa", "etiqueta", List.of(etiqueta));
+        }
+        return consulta
+            .existe("EtiquetaTarefa", "idTarefa", "etiqueta", EtiquetaTarefa.normalizar(filtro.getEtiquetasAlguma()))
+            .naoExiste("EtiquetaTarefa", "idTarefa", "etiqueta", EtiquetaTarefa.normalizar(filtro.getEtiquetasExceto()))
+            .paginar(entityManager, pageable);
+    }
+}
@@ -0,0 +1,12 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.TextoProjeto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório dos textos longos dos projetos (mesmo ID do projeto)
+ */
+@Repository
+public interface TextoProjetoRepository extends JpaRepository<TextoProjeto, Long> {
+}
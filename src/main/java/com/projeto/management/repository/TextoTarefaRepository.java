@@ -0,0 +1,12 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.TextoTarefa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório dos textos longos das tarefas (mesmo ID da tarefa)
+ */
+@Repository
+public interface TextoTarefaRepository extends JpaRepository<TextoTarefa, Long> {
+}
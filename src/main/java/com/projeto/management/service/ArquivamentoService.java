@@ -0,0 +1,226 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ArquivamentoProperties;
+import com.projeto.management.dto.response.ResultadoArquivamentoDTO;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.ProjetoSnapshot;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.repository.EtiquetaTarefaRepository;
+import com.projeto.management.repository.ProjetoArquivoRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TextoProjetoRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import com.projeto.management.sharding.TodosOsShards;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Service de arquivamento (particionamento quente/frio)
+ *
+ * Move para tarefa_arquivo e projeto_arquivo os registros inativos ou encerrados que
+ * não são alterados há mais do que a idade configurada. Tarefas ativas, mesmo concluídas,
+ * ficam na tabela quente enquanto o projeto estiver nela, para que as contagens do
+ * burndown e das estatísticas não caiam com o arquivamento. Cada lote é copiado e removido
+ * da tabela quente na mesma transação, com uma pausa entre lotes. Como os registros saem
+ * fisicamente de tarefa e projeto, as consultas do dia a dia não precisam filtrá-los;
+ * só as leituras de histórico (HistoricoService) consultam o arquivo. Subtarefas que
+ * continuam na tabela quente passam a ser raízes quando a tarefa pai é arquivada. As
+ * etiquetas não vão para o arquivo.
+ */
+@Service
+@Slf4j
+public class ArquivamentoService {
+    
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoRepository projetoRepository;
+    private final TarefaArquivoRepository tarefaArquivoRepository;
+    private final ProjetoArquivoRepository projetoArquivoRepository;
+    private final TextoTarefaRepository textoTarefaRepository;
+    private final EtiquetaTarefaRepository etiquetaTarefaRepository;
+    private final TextoProjetoRepository textoProjetoRepository;
+    private final HierarquiaTarefaService hierarquiaTarefaService;
+    private final VersaoDados versaoDados;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArquivamentoProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    
+    public ArquivamentoService(TarefaRepository tarefaRepository,
+                               ProjetoRepository projetoRepository,
+                               TarefaArquivoRepository tarefaArquivoRepository,
+                               ProjetoArquivoRepository projetoArquivoRepository,
+                               TextoTarefaRepository textoTarefaRepository,
+                               EtiquetaTarefaRepository etiquetaTarefaRepository,
+                               TextoProjetoRepository textoProjetoRepository,
+                               HierarquiaTarefaService hierarquiaTarefaService,
+                               VersaoDados versaoDados,
+                               ApplicationEventPublisher eventPublisher,
+                               ArquivamentoProperties properties,
+                               PlatformTransactionManager transactionManager) {
+        this.tarefaRepository = tarefaRepository;
+        this.projetoRepository = projetoRepository;
+        this.tarefaArquivoRepository = tarefaArquivoRepository;
+        this.projetoArquivoRepository = projetoArquivoRepository;
+        this.textoTarefaRepository = textoTarefaRepository;
+        this.etiquetaTarefaRepository = etiquetaTarefaRepository;
+        this.textoProjetoRepository = textoProjetoRepository;
+        this.hierarquiaTarefaService = hierarquiaTarefaService;
+        this.versaoDados = versaoDados;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Arquiva, em lotes, as tarefas elegíveis e depois os projetos elegíveis com todas as
+     * suas tarefas, até esgotar os candidatos ou atingir o limite de lotes
+     */
+    @TodosOsShards
+    public ResultadoArquivamentoDTO arquivar(LocalDateTime agora) {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime limiteInativos = agora.minus(properties.getInativosApos());
+        LocalDateTime limiteEncerrados = agora.minus(properties.getEncerradosApos());
+        Pageable lote = PageRequest.of(0, properties.getTamanhoLote());
+        Execucao execucao = new Execucao();
+        
+        // Tarefas elegíveis por si mesmas (inativas), percorrendo a chave primária
+        long ultimoId = 0;
+        while (execucao.podeContinuar()) {
+            List<Long> ids = tarefaRepository.findIdsParaArquivar(ultimoId, limiteInativos, lote);
+            if (ids.isEmpty()) {
+                break;
+            }
+            execucao.tarefas += emTransacao(() -> moverTarefas(ids, agora));
+            ultimoId = ids.get(ids.size() - 1);
+            execucao.concluirLote(ids.size() == lote.getPageSize());
+        }
+        
+        // Projetos elegíveis: primeiro as tarefas restantes, depois o próprio projeto
+        ultimoId = 0;
+        int projetosPorLote = Math.max(1, properties.getTamanhoLote() / 10);
+        Pageable loteProjetos = PageRequest.of(0, projetosPorLote);
+        while (execucao.podeContinuar()) {
+            List<Long> idsProjetos = projetoRepository.findIdsParaArquivar(ultimoId, limiteInativos, limiteEncerrados, loteProjetos);
+            if (idsProjetos.isEmpty()) {
+                break;
+            }
+            
+            while (execucao.podeContinuar()) {
+                List<Long> ids = tarefaRepository.findIdsPorProjetos(idsProjetos, lote);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                execucao.tarefas += emTransacao(() -> moverTarefas(ids, agora));
+                execucao.concluirLote(true);
+            }
+            // Sem lotes restantes pode haver tarefas dos projetos ainda na tabela quente
+            if (!execucao.podeContinuar()) {
+                break;
+            }
+            
+            execucao.projetos += emTransacao(() -> moverProjetos(idsProjetos, agora, execucao));
+            ultimoId = idsProjetos.get(idsProjetos.size() - 1);
+            execucao.concluirLote(idsProjetos.size() == loteProjetos.getPageSize());
+        }
+        
+        ResultadoArquivamentoDTO resultado = ResultadoArquivamentoDTO.builder()
+            .tarefasArquivadas(execucao.tarefas)
+            .projetosArquivados(execucao.projetos)
+            .lotes(execucao.lotes)
+            .duracaoMs(System.currentTimeMillis() - inicio)
+            .completo(execucao.completo)
+            .build();
+        log.info("Arquivamento: {} tarefas e {} projetos em {} lotes ({} ms){}",
+            resultado.getTarefasArquivadas(), resultado.getProjetosArquivados(), resultado.getLotes(),
+            resultado.getDuracaoMs(), resultado.isCompleto() ? "" : " - limite de lotes atingido");
+        return resultado;
+    }
+    
+    private int moverTarefas(Collection<Long> ids, LocalDateTime agora) {
+        List<TarefaSnapshot> snapshots = tarefaRepository.findSnapshotsPorIds(ids);
+        hierarquiaTarefaService.removerDaHierarquia(snapshots);
+        tarefaArquivoRepository.copiarDaTabelaQuente(ids, agora);
+        textoTarefaRepository.deleteAllByIdInBatch(ids);
+        etiquetaTarefaRepository.removerPorTarefas(ids);
+        tarefaRepository.deleteAllByIdInBatch(ids);
+        
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.TAREFAS);
+        snapshots.forEach(snapshot -> eventPublisher.publishEvent(new TarefaAlteradaEvent(snapshot, null)));
+        return snapshots.size();
+    }
+    
+    private int moverProjetos(Collection<Long> ids, LocalDateTime agora, Execucao execucao) {
+        // Tarefas criadas nos projetos depois do último lote de tarefas saem na mesma transação
+        List<Long> tarefasRestantes = tarefaRepository.findIdsPorProjetos(ids, Pageable.unpaged());
+        if (!tarefasRestantes.isEmpty()) {
+            execucao.tarefas += moverTarefas(tarefasRestantes, agora);
+        }
+        
+        List<ProjetoSnapshot> snapshots = projetoRepository.findSnapshotsPorIds(ids);
+        projetoArquivoRepository.copiarDaTabelaQuente(ids, agora);
+        textoProjetoRepository.deleteAllByIdInBatch(ids);
+        projetoRepository.deleteAllByIdInBatch(ids);
+        
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.PROJETOS);
+        snapshots.forEach(snapshot -> eventPublisher.publishEvent(new ProjetoAlteradoEvent(snapshot, null)));
+        return snapshots.size();
+    }
+    
+    private int emTransacao(IntSupplier lote) {
+        Integer movidos = transactionTemplate.execute(status -> lote.getAsInt());
+        return movidos != null ? movidos : 0;
+    }
+    
+    /**
+     * Controle de lotes e pausas de uma execução
+     */
+    private class Execucao {
+        
+        private long tarefas;
+        private long projetos;
+        private int lotes;
+        private boolean completo = true;
+        private boolean interrompida;
+        
+        private boolean podeContinuar() {
+            if (interrompida) {
+                return false;
+            }
+            if (lotes >= properties.getMaximoLotes()) {
+                completo = false;
+                return false;
+            }
+            return true;
+        }
+        
+        /**
+         * Contabiliza o lote e pausa antes do próximo quando ainda há candidatos
+         */
+        private void concluirLote(boolean haMais) {
+            lotes++;
+            if (!haMais || properties.getPausaEntreLotes().isZero()) {
+                return;
+            }
+            try {
+                Thread.sleep(properties.getPausaEntreLotes().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrompida = true;
+                completo = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.BurndownResponseDTO;
+import com.projeto.management.dto.response.PontoBurndownDTO;
+import com.projeto.management.dto.response.VelocidadeResponseDTO;
+import com.projeto.management.dto.response.VelocidadeSemanaDTO;
+import com.projeto.management.estatisticas.PontoProgresso;
+import com.projeto.management.estatisticas.ProgressoProjeto;
+import com.projeto.management.estatisticas.SerieProgresso;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.model.entity.BurndownProjeto;
+import com.projeto.management.repository.BurndownProjetoRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.sharding.ChaveShard;
+import com.projeto.management.sharding.TodosOsShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service de burndown e velocidade dos projetos
+ *
+ * Uma captura diária grava, por projeto, as horas estimadas em aberto e as contagens de
+ * tarefas abertas e concluídas em uma série anual codificada por deltas. As consultas
+ * leem no máximo uma linha por ano do período e decodificam a série em memória.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BurndownService {
+    
+    private static final int DIAS_BURNDOWN_PADRAO = 90;
+    
+    private final BurndownProjetoRepository burndownRepository;
+    private final ProjetoRepository projetoRepository;
+    
+    /**
+     * Registra o progresso do dia para todos os projetos ativos que ainda não têm ponto na data
+     *
+     * @return quantidade de projetos capturados
+     */
+    @TodosOsShards
+    @Transactional
+    public int capturar(LocalDate dia) {
+        Map<Long, BurndownProjeto> series = burndownRepository.findByAno(dia.getYear()).stream()
+            .collect(Collectors.toMap(BurndownProjeto::getIdProjeto, Function.identity()));
+        
+        int capturados = 0;
+        for (ProgressoProjeto progresso : projetoRepository.findProgressoProjetosAtivos()) {
+            PontoProgresso ponto = new PontoProgresso(
+                dia,
+                paraCentesimos(progresso.horasRestantes()),
+                progresso.tarefasAbertas() != null ? progresso.tarefasAbertas().intValue() : 0,
+                progresso.tarefasConcluidas() != null ? progresso.tarefasConcluidas().intValue() : 0);
+            
+            BurndownProjeto serie = series.get(progresso.idProjeto());
+            if (serie == null) {
+                burndownRepository.save(SerieProgresso.iniciar(progresso.idProjeto(), ponto));
+                capturados++;
+            } else if (serie.getUltimaData().isBefore(dia)) {
+                SerieProgresso.acrescentar(serie, ponto);
+                capturados++;
+            }
+        }
+        
+        log.info("Burndown de {} capturado para {} projetos", dia, capturados);
+        return capturados;
+    }
+    
+    /**
+     * Obtém os pontos diários do burndown de um projeto no período
+     */
+    @Transactional(readOnly = true)
+    public BurndownResponseDTO obterBurndown(@ChaveShard Long idProjeto, LocalDate desde, LocalDate ate) {
+        log.debug("Obtendo burndown do projeto {} - Período: {} a {}", idProjeto, desde, ate);
+        
+        LocalDate fim = ate != null ? ate : LocalDate.now();
+        LocalDate inicio = desde != null ? desde : fim.minusDays(DIAS_BURNDOWN_PADRAO);
+        if (inicio.isAfter(fim)) {
+            throw new BusinessException("Data inicial não pode ser posterior à data final");
+        }
+        validarProjeto(idProjeto);
+        
+        List<PontoBurndownDTO> pontos = carregarPontos(idProjeto, inicio, fim).stream()
+            .filter(ponto -> !ponto.data().isBefore(inicio))
+            .map(this::converterParaDTO)
+            .toList();
+        
+        return BurndownResponseDTO.builder()
+            .idProjeto(idProjeto)
+            .desde(inicio)
+            .ate(fim)
+            .pontos(pontos)
+            .build();
+    }
+    
+    /**
+     * Calcula a velocidade das últimas semanas (a atual inclusive): tarefas concluídas e
+     * horas estimadas queimadas entre o último ponto de cada semana e o da semana anterior
+     */
+    @Transactional(readOnly = true)
+    public VelocidadeResponseDTO obterVelocidade(@ChaveShard Long idProjeto, int semanas) {
+        log.debug("Obtendo velocidade do projeto {} - Semanas: {}", idProjeto, semanas);
+        
+        validarProjeto(idProjeto);
+        
+        LocalDate semanaAtual = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate primeiraSemana = semanaAtual.minusWeeks(semanas - 1L);
+        // Inclui a semana anterior à primeira como base de comparação
+        List<PontoProgresso> pontos = carregarPontos(idProjeto, primeiraSemana.minusWeeks(1), LocalDate.now());
+        
+        List<VelocidadeSemanaDTO> resultado = new ArrayList<>(semanas);
+        int indice = 0;
+        PontoProgresso base = null;
+        while (indice < pontos.size() && pontos.get(indice).data().isBefore(primeiraSemana)) {
+            base = pontos.get(indice++);
+        }
+        
+        for (LocalDate semana = primeiraSemana; !semana.isAfter(semanaAtual); semana = semana.plusWeeks(1)) {
+            LocalDate proximaSemana = semana.plusWeeks(1);
+            PontoProgresso fimSemana = base;
+            while (indice < pontos.size() && pontos.get(indice).data().isBefore(proximaSemana)) {
+                fimSemana = pontos.get(indice++);
+            }
+            
+            int concluidas = 0;
+            long horasQueimadas = 0;
+            if (base != null && fimSemana != null) {
+                concluidas = fimSemana.tarefasConcluidas() - base.tarefasConcluidas();
+                horasQueimadas = base.horasRestantesCentesimos() - fimSemana.horasRestantesCentesimos();
+            }
+            resultado.add(VelocidadeSemanaDTO.builder()
+                .semana(semana)
+                .tarefasConcluidas(concluidas)
+                .horasQueimadas(deCentesimos(horasQueimadas))
+                .build());
+            base = fimSemana;
+        }
+        
+        BigDecimal quantidade = BigDecimal.valueOf(resultado.size());
+        return VelocidadeResponseDTO.builder()
+            .idProjeto(idProjeto)
+            .semanas(resultado)
+            .mediaTarefasPorSemana(resultado.stream()
+                .map(s -> BigDecimal.valueOf(s.getTarefasConcluidas()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(quantidade, 2, RoundingMode.HALF_UP))
+            .mediaHorasPorSemana(resultado.stream()
+                .map(VelocidadeSemanaDTO::getHorasQueimadas)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(quantidade, 2, RoundingMode.HALF_UP))
+            .build();
+    }
+    
+    // Métodos privados de apoio
+    
+    private void validarProjeto(Long idProjeto) {
+        if (!projetoRepository.existsByIdAndAtivoTrue(idProjeto)) {
+            throw new EntityNotFoundException("Projeto não encontrado com ID: " + idProjeto);
+        }
+    }
+    
+    /**
+     * Decodifica as séries anuais que cobrem o período, devolvendo os pontos até a data final
+     */
+    private List<PontoProgresso> carregarPontos(Long idProjeto, LocalDate desde, LocalDate ate) {
+        List<PontoProgresso> pontos = new ArrayList<>();
+        for (BurndownProjeto serie : burndownRepository.findByIdProjetoAndAnoBetweenOrderByAnoAsc(
+                idProjeto, desde.getYear(), ate.getYear())) {
+            for (PontoProgresso ponto : SerieProgresso.decodificar(serie)) {
+                if (!ponto.data().isAfter(ate)) {
+                    pontos.add(ponto);
+                }
+            }
+        }
+        return pontos;
+    }
+    
+    private PontoBurndownDTO converterParaDTO(PontoProgresso ponto) {
+        int total = ponto.tarefasAbertas() + ponto.tarefasConcluidas();
+        BigDecimal percentual = total == 0 ? BigDecimal.ZERO
+            : BigDecimal.valueOf(ponto.tarefasConcluidas() * 100L).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+        
+        return PontoBurndownDTO.builder()
+            .data(ponto.data())
+            .horasRestantes(deCentesimos(ponto.horasRestantesCentesimos()))
+            .tarefasAbertas(ponto.tarefasAbertas())
+            .tarefasConcluidas(ponto.tarefasConcluidas())
+            .percentualConclusao(percentual)
+            .build();
+    }
+    
+    private static long paraCentesimos(BigDecimal horas) {
+        return horas == null ? 0 : horas.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    private static BigDecimal deCentesimos(long centesimos) {
+        return BigDecimal.valueOf(centesimos, 2);
+    }
+}
@@ -0,0 +1,138 @@
+package com.projeto.management.service;
+
+import com.projeto.management.config.DashboardProperties;
+import com.projeto.management.dto.response.DashboardResponseDTO;
+import com.projeto.management.dto.response.SecaoDashboardDTO;
+import com.projeto.management.dto.response.SecaoDashboardDTO.Situacao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Service do dashboard consolidado
+ *
+ * Cada seção roda em paralelo, na sua própria transação somente leitura, com orçamento
+ * de tempo próprio. Seções que estouram o orçamento ou falham voltam sem dados e o
+ * dashboard é marcado como incompleto, sem atrasar as demais. O orçamento também vira o
+ * timeout da transação da seção (aplicado pelo Hibernate como query timeout em cada
+ * comando), para que uma consulta lenta libere a thread e a conexão em vez de segurá-las
+ * depois que a resposta já seguiu sem ela.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+    
+    static final String PROJETOS_POR_STATUS = "projetos-por-status";
+    static final String PROJETOS_ATRASADOS = "projetos-atrasados";
+    static final String TAREFAS_ATRASADAS = "tarefas-atrasadas";
+    static final String TAREFAS_VENCENDO = "tarefas-vencendo";
+    static final String TAREFAS_ALTA_PRIORIDADE = "tarefas-alta-prioridade";
+    
+    private final ProjetoService projetoService;
+    private final TarefaService tarefaService;
+    private final DashboardProperties properties;
+    private final Executor executor;
+    private final PlatformTransactionManager transactionManager;
+    
+    public DashboardService(ProjetoService projetoService, TarefaService tarefaService,
+                            DashboardProperties properties,
+                            @Qualifier("dashboardExecutor") Executor executor,
+                            PlatformTransactionManager transactionManager) {
+        this.projetoService = projetoService;
+        this.tarefaService = tarefaService;
+        this.properties = properties;
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+    }
+    
+    /**
+     * Monta o dashboard com contagens e listas top-N
+     */
+    public DashboardResponseDTO obterDashboard(Integer dias, Integer limite) {
+        int diasVencimento = dias != null ? dias : properties.getDiasVencimentoPadrao();
+        int limiteItens = limite != null ? limite : properties.getLimitePadrao();
+        log.debug("Montando dashboard - Dias: {}, Limite: {}", diasVencimento, limiteItens);
+        
+        var projetosPorStatus = executarSecao(PROJETOS_POR_STATUS,
+            projetoService::contarProjetosPorStatus);
+        var projetosAtrasados = executarSecao(PROJETOS_ATRASADOS,
+            () -> projetoService.resumirProjetosAtrasados(limiteItens));
+        var tarefasAtrasadas = executarSecao(TAREFAS_ATRASADAS,
+            () -> tarefaService.resumirTarefasAtrasadas(limiteItens));
+        var tarefasVencendo = executarSecao(TAREFAS_VENCENDO,
+            () -> tarefaService.resumirTarefasVencendoEm(diasVencimento, limiteItens));
+        var tarefasAltaPrioridade = executarSecao(TAREFAS_ALTA_PRIORIDADE,
+            () -> tarefaService.resumirTarefasAltaPrioridade(limiteItens));
+        
+        DashboardResponseDTO dashboard = DashboardResponseDTO.builder()
+            .geradoEm(LocalDateTime.now())
+            .projetosPorStatus(projetosPorStatus.join())
+            .projetosAtrasados(projetosAtrasados.join())
+            .tarefasAtrasadas(tarefasAtrasadas.join())
+            .tarefasVencendo(tarefasVencendo.join())
+            .tarefasAltaPrioridade(tarefasAltaPrioridade.join())
+            .build();
+        
+        dashboard.setCompleto(Stream.of(dashboard.getProjetosPorStatus(), dashboard.getProjetosAtrasados(),
+                dashboard.getTarefasAtrasadas(), dashboard.getTarefasVencendo(), dashboard.getTarefasAltaPrioridade())
+            .allMatch(secao -> secao.getSituacao() == Situacao.OK));
+        
+        return dashboard;
+    }
+    
+    private <T> CompletableFuture<SecaoDashboardDTO<T>> executarSecao(String nome, Supplier<T> consulta) {
+        Duration orcamento = properties.orcamentoDe(nome);
+        long inicio = System.nanoTime();
+        TransactionTemplate transacao = transacaoDaSecao(orcamento);
+        
+        CompletableFuture<T> execucao;
+        try {
+            execucao = CompletableFuture.supplyAsync(() -> transacao.execute(status -> consulta.get()), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Seção {} do dashboard rejeitada: executor saturado", nome);
+            return CompletableFuture.completedFuture(secao(Situacao.ERRO, null, inicio));
+        }
+        
+        return execucao
+            .handle((dados, erro) -> {
+                if (erro != null) {
+                    log.error("Erro ao calcular seção {} do dashboard", nome, erro);
+                    return secao(Situacao.ERRO, (T) null, inicio);
+                }
+                return secao(Situacao.OK, dados, inicio);
+            })
+            .completeOnTimeout(
+                SecaoDashboardDTO.<T>builder().situacao(Situacao.TEMPO_ESGOTADO).tempoMs(orcamento.toMillis()).build(),
+                orcamento.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Transação somente leitura com timeout igual ao orçamento, arredondado para cima
+     * (o query timeout do JDBC é em segundos)
+     */
+    private TransactionTemplate transacaoDaSecao(Duration orcamento) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(true);
+        transacao.setTimeout((int) Math.max(1, (orcamento.toMillis() + 999) / 1000));
+        return transacao;
+    }
+    
+    private <T> SecaoDashboardDTO<T> secao(Situacao situacao, T dados, long inicio) {
+        return SecaoDashboardDTO.<T>builder()
+            .situacao(situacao)
+            .tempoMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio))
+            .dados(dados)
+            .build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.SincronizacaoInvalidacao;
+import com.projeto.management.dto.response.EstatisticasProjetosDTO;
+import com.projeto.management.dto.response.EstatisticasTarefasDTO;
+import com.projeto.management.estatisticas.AgregadoProjetos;
+import com.projeto.management.estatisticas.AgregadoTarefas;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.ProjetoSnapshot;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.sharding.ChaveShard;
+import com.projeto.management.sharding.ExecutorShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service de estatísticas mantidas incrementalmente em memória
+ *
+ * Os agregados são carregados uma vez na inicialização e, a partir daí, atualizados
+ * a cada escrita confirmada (eventos de alteração de tarefa e projeto), de modo que
+ * as consultas não executam GROUP BY no banco.
+ *
+ * Escritas confirmadas durante uma recarga são aplicadas aos agregados em uso e anotadas;
+ * ao fim da leitura, o estado carregado de cada registro alterado é trocado pelo último
+ * estado anotado antes de os novos agregados entrarem em uso.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EstatisticasService {
+
+    private static final int DIAS_SERIE_PADRAO = 30;
+
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoRepository projetoRepository;
+    private final ExecutorShards executorShards;
+    private final ObjectProvider<SincronizacaoInvalidacao> sincronizacaoInvalidacao;
+
+    private volatile Indices indices = new Indices();
+
+    // Recarga em andamento, protegida pelo monitor do service (também usado pelos listeners)
+    private Recarga recarga;
+
+    /**
+     * Reconstrói todos os agregados a partir dos bancos de todos os shards e troca-os atomicamente
+     */
+    public void recarregar() {
+        long inicio = System.currentTimeMillis();
+        Indices novos = new Indices();
+        Recarga emAndamento = new Recarga();
+        synchronized (this) {
+            recarga = emAndamento;
+        }
+
+        executorShards.emCadaSomenteLeitura(shard -> {
+            // Alterações de outras instâncias já visíveis aqui não devem ser reaplicadas depois
+            sincronizacaoInvalidacao.ifAvailable(sincronizacao -> sincronizacao.posicionar(shard));
+            try (Stream<TarefaSnapshot> tarefas = tarefaRepository.streamSnapshotsAtivos()) {
+                tarefas.forEach(tarefa -> {
+                    novos.aplicar(tarefa, 1);
+                    emAndamento.tarefasCarregadas.put(tarefa.id(), tarefa);
+                });
+            }
+            try (Stream<ProjetoSnapshot> projetos = projetoRepository.streamSnapshotsAtivos()) {
+                projetos.forEach(projeto -> {
+                    novos.projetos.aplicar(projeto, 1);
+                    emAndamento.projetosCarregados.put(projeto.id(), projeto);
+                });
+            }
+        });
+
+        synchronized (this) {
+            emAndamento.corrigir(novos);
+            indices = novos;
+            recarga = null;
+        }
+        log.info("Estatísticas carregadas em {} ms", System.currentTimeMillis() - inicio);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        indices.aplicar(evento.anterior(), -1);
+        indices.aplicar(evento.atual(), 1);
+        if (recarga != null) {
+            TarefaSnapshot referencia = evento.atual() != null ? evento.atual() : evento.anterior();
+            recarga.tarefasAlteradas.put(referencia.id(), evento.atual());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarProjeto(ProjetoAlteradoEvent evento) {
+        indices.projetos.aplicar(evento.anterior(), -1);
+        indices.projetos.aplicar(evento.atual(), 1);
+        if (recarga != null) {
+            ProjetoSnapshot referencia = evento.atual() != null ? evento.atual() : evento.anterior();
+            recarga.projetosAlterados.put(referencia.id(), evento.atual());
+        }
+    }
+
+    /**
+     * Estatísticas de todas as tarefas ativas
+     */
+    public EstatisticasTarefasDTO estatisticasTarefas(LocalDate desde) {
+        log.debug("Gerando estatísticas de tarefas desde {}", desde);
+
+        return indices.tarefas.paraDTO(inicioSerie(desde));
+    }
+
+    /**
+     * Estatísticas das tarefas ativas de um projeto
+     */
+    public EstatisticasTarefasDTO estatisticasTarefasPorProjeto(@ChaveShard Long projetoId, LocalDate desde) {
+        log.debug("Gerando estatísticas de tarefas do projeto {}", projetoId);
+
+        if (!projetoRepository.existsByIdAndAtivoTrue(projetoId)) {
+            throw new EntityNotFoundException("Projeto não encontrado com ID: " + projetoId);
+        }
+
+        AgregadoTarefas agregado = indices.porProjeto.get(projetoId);
+        return (agregado != null ? agregado : new AgregadoTarefas()).paraDTO(inicioSerie(desde));
+    }
+
+    /**
+     * Estatísticas das tarefas ativas de um responsável (nome exato, sem diferenciar maiúsculas)
+     */
+    public EstatisticasTarefasDTO estatisticasTarefasPorResponsavel(String responsavel, LocalDate desde) {
+        log.debug("Gerando estatísticas de tarefas do responsável {}", responsavel);
+
+        AgregadoTarefas agregado = indices.porResponsavel.get(chaveResponsavel(responsavel));
+        return (agregado != null ? agregado : new AgregadoTarefas()).paraDTO(inicioSerie(desde));
+    }
+
+    /**
+     * Estatísticas dos projetos ativos
+     */
+    public EstatisticasProjetosDTO estatisticasProjetos() {
+        return indices.projetos.paraDTO();
+    }
+
+    private static LocalDate inicioSerie(LocalDate desde) {
+        return desde != null ? desde : LocalDate.now().minusDays(DIAS_SERIE_PADRAO);
+    }
+
+    private static String chaveResponsavel(String responsavel) {
+        return responsavel == null ? null : responsavel.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Estado lido de cada registro durante uma recarga e último estado dos registros
+     * alterados no mesmo período (nulo quando arquivado)
+     */
+    private static class Recarga {
+
+        private final Map<Long, TarefaSnapshot> tarefasCarregadas = new HashMap<>();
+        private final Map<Long, ProjetoSnapshot> projetosCarregados = new HashMap<>();
+        private final Map<Long, TarefaSnapshot> tarefasAlteradas = new HashMap<>();
+        private final Map<Long, ProjetoSnapshot> projetosAlterados = new HashMap<>();
+
+        /**
+         * Troca nos agregados novos o estado lido pelo último estado confirmado; a leitura
+         * pode ter visto o registro antes ou depois da escrita, o resultado é o mesmo
+         */
+        private void corrigir(Indices novos) {
+            tarefasAlteradas.forEach((id, ultimo) -> {
+                novos.aplicar(tarefasCarregadas.get(id), -1);
+                novos.aplicar(ultimo, 1);
+            });
+            projetosAlterados.forEach((id, ultimo) -> {
+                novos.projetos.aplicar(projetosCarregados.get(id), -1);
+                novos.projetos.aplicar(ultimo, 1);
+            });
+        }
+    }
+
+    /**
+     * Conjunto de agregados trocado por inteiro a cada recarga
+     */
+    private static class Indices {
+
+        private final AgregadoTarefas tarefas = new AgregadoTarefas();
+        private final Map<Long, AgregadoTarefas> porProjeto = new ConcurrentHashMap<>();
+        private final Map<String, AgregadoTarefas> porResponsavel = new ConcurrentHashMap<>();
+        private final AgregadoProjetos projetos = new AgregadoProjetos();
+
+        private void aplicar(TarefaSnapshot tarefa, int sinal) {
+            if (tarefa == null || !tarefa.isAtiva()) {
+                return;
+            }
+
+            tarefas.aplicar(tarefa, sinal);
+            if (tarefa.projetoId() != null) {
+                aplicarEm(porProjeto, tarefa.projetoId(), tarefa, sinal);
+            }
+            String responsavel = chaveResponsavel(tarefa.responsavel());
+            if (responsavel != null && !responsavel.isEmpty()) {
+                aplicarEm(porResponsavel, responsavel, tarefa, sinal);
+            }
+        }
+
+        private static <K> void aplicarEm(Map<K, AgregadoTarefas> mapa, K chave, TarefaSnapshot tarefa, int sinal) {
+            // compute serializa as alterações da mesma chave e permite descartar agregados vazios
+            mapa.compute(chave, (k, agregado) -> {
+                AgregadoTarefas alvo = agregado != null ? agregado : new AgregadoTarefas();
+                alvo.aplicar(tarefa, sinal);
+                return alvo.isVazio() ? null : alvo;
+            });
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.projeto.management.service;
+
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.model.entity.ConsolidadoSubarvore;
+import com.projeto.management.model.entity.HierarquiaTarefa;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.HierarquiaTarefaRepository;
+import com.projeto.management.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Manutenção da árvore de subtarefas (tarefa_hierarquia) e dos totais consolidados
+ *
+ * Cada tarefa ativa contribui para os totais dela própria e de todos os ancestrais. As
+ * escritas aplicam só a variação da contribuição, com um único UPDATE sobre os ancestrais
+ * encontrados pela tabela de fechamento; mover uma subárvore retira os totais dela dos
+ * ancestrais antigos e os soma nos novos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class HierarquiaTarefaService {
+    
+    private final HierarquiaTarefaRepository hierarquiaRepository;
+    private final TarefaRepository tarefaRepository;
+    
+    /**
+     * Valida a tarefa pai informada para uma tarefa do projeto (idTarefa nulo na criação)
+     */
+    @Transactional(readOnly = true)
+    public void validarPai(Long idTarefa, Long idPai, Long idProjeto) {
+        if (idPai == null) {
+            return;
+        }
+        Tarefa pai = tarefaRepository.findByIdAndAtivoTrue(idPai)
+            .orElseThrow(() -> new EntityNotFoundException("Tarefa pai não encontrada com ID: " + idPai));
+        if (!pai.getProjeto().getId().equals(idProjeto)) {
+            throw new BusinessException("Tarefa pai deve pertencer ao mesmo projeto");
+        }
+        if (idTarefa != null && hierarquiaRepository.existsById(new HierarquiaTarefa.Chave(idTarefa, idPai))) {
+            throw new BusinessException("Tarefa pai não pode ser a própria tarefa nem uma de suas subtarefas");
+        }
+    }
+    
+    /**
+     * Coloca uma tarefa recém-criada na árvore, abaixo do pai dela
+     */
+    public void inserir(Tarefa tarefa) {
+        hierarquiaRepository.inserirRaiz(tarefa.getId());
+        if (tarefa.getIdTarefaPai() != null) {
+            hierarquiaRepository.inserirCaminhos(tarefa.getId(), tarefa.getIdTarefaPai());
+        }
+    }
+    
+    /**
+     * Move a subárvore da tarefa para baixo de outro pai (ou para a raiz, com novoPai nulo)
+     */
+    public void mover(Long idTarefa, Long paiAnterior, Long novoPai) {
+        if (Objects.equals(paiAnterior, novoPai)) {
+            return;
+        }
+        Contribuicao subarvore = Contribuicao.de(tarefaRepository.findConsolidadoPorId(idTarefa)
+            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + idTarefa)));
+        
+        if (paiAnterior != null) {
+            somar(paiAnterior, subarvore.negativa());
+            hierarquiaRepository.removerCaminhos(hierarquiaRepository.findIdsSubarvore(idTarefa),
+                hierarquiaRepository.findIdsAncestrais(idTarefa));
+        }
+        if (novoPai != null) {
+            hierarquiaRepository.inserirCaminhosSubarvore(idTarefa, novoPai);
+            somar(novoPai, subarvore);
+        }
+        log.debug("Subárvore da tarefa {} movida de {} para {}", idTarefa, paiAnterior, novoPai);
+    }
+    
+    /**
+     * Impede a exclusão de uma tarefa que ainda tem subtarefas ativas
+     */
+    @Transactional(readOnly = true)
+    public void validarExclusao(Long idTarefa) {
+        if (hierarquiaRepository.existsSubtarefaAtiva(idTarefa)) {
+            throw new BusinessException("Tarefa possui subtarefas ativas");
+        }
+    }
+    
+    /**
+     * Verifica se a tarefa tem subtarefas (ativas ou não)
+     */
+    @Transactional(readOnly = true)
+    public boolean possuiSubtarefas(Long idTarefa) {
+        return hierarquiaRepository.existsByIdAncestralAndProfundidade(idTarefa, 1);
+    }
+    
+    /**
+     * Aplica nos totais da tarefa e dos ancestrais a variação causada por uma escrita
+     * (anterior nulo na criação). Descarrega a sessão antes para que a contribuição
+     * nova inclua o que o @PreUpdate ajusta (percentual por status).
+     */
+    public void propagar(TarefaSnapshot anterior, Tarefa atual) {
+        tarefaRepository.flush();
+        Contribuicao variacao = Contribuicao.de(TarefaSnapshot.de(atual)).menos(Contribuicao.de(anterior));
+        if (!variacao.isNula()) {
+            somar(atual.getId(), variacao);
+        }
+    }
+    
+    /**
+     * Tira da árvore as tarefas que vão para o arquivo: as subtarefas que ficam passam a
+     * ser raízes e os ancestrais deixam de somar as tarefas arquivadas
+     */
+    public void removerDaHierarquia(List<TarefaSnapshot> tarefas) {
+        Set<Long> ids = new HashSet<>();
+        tarefas.forEach(tarefa -> ids.add(tarefa.id()));
+        
+        List<HierarquiaTarefa> filhosQueFicam = hierarquiaRepository.findByIdAncestralInAndProfundidade(ids, 1).stream()
+            .filter(caminho -> !ids.contains(caminho.getIdDescendente()))
+            .toList();
+        for (HierarquiaTarefa caminho : filhosQueFicam) {
+            mover(caminho.getIdDescendente(), caminho.getIdAncestral(), null);
+        }
+        if (!filhosQueFicam.isEmpty()) {
+            tarefaRepository.desvincularDoPai(filhosQueFicam.stream().map(HierarquiaTarefa::getIdDescendente).toList());
+        }
+        
+        for (TarefaSnapshot tarefa : tarefas) {
+            Contribuicao propria = Contribuicao.de(tarefa);
+            if (!propria.isNula()) {
+                somar(tarefa.id(), propria.negativa());
+            }
+        }
+        hierarquiaRepository.removerPorTarefas(ids);
+    }
+    
+    private void somar(Long idTarefa, Contribuicao variacao) {
+        tarefaRepository.somarConsolidado(idTarefa, variacao.abertas(), variacao.emAndamento(),
+            variacao.concluidas(), variacao.canceladas(), variacao.somaPercentual(),
+            variacao.estimativaHoras(), variacao.horasTrabalhadas());
+    }
+    
+    /**
+     * Contribuição de uma tarefa (ou de uma subárvore) para os totais dos ancestrais
+     */
+    private record Contribuicao(int abertas, int emAndamento, int concluidas, int canceladas,
+                                long somaPercentual, BigDecimal estimativaHoras, BigDecimal horasTrabalhadas) {
+        
+        private static final Contribuicao NENHUMA = new Contribuicao(0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+        
+        static Contribuicao de(TarefaSnapshot tarefa) {
+            if (tarefa == null || !tarefa.isAtiva()) {
+                return NENHUMA;
+            }
+            StatusTarefa status = tarefa.status();
+            boolean cancelada = status == StatusTarefa.CANCELADA;
+            return new Contribuicao(
+                status == StatusTarefa.ABERTA ? 1 : 0,
+                status == StatusTarefa.EM_ANDAMENTO || status == StatusTarefa.EM_REVISAO ? 1 : 0,
+                status == StatusTarefa.CONCLUIDA ? 1 : 0,
+                cancelada ? 1 : 0,
+                cancelada || tarefa.percentualConclusao() == null ? 0 : tarefa.percentualConclusao(),
+                valor(tarefa.estimativaHoras()),
+                valor(tarefa.horasTrabalhadas()));
+        }
+        
+        static Contribuicao de(ConsolidadoSubarvore consolidado) {
+            return new Contribuicao(consolidado.getAbertas(), consolidado.getEmAndamento(),
+                consolidado.getConcluidas(), consolidado.getCanceladas(), consolidado.getSomaPercentual(),
+                consolidado.getEstimativaHoras(), consolidado.getHorasTrabalhadas());
+        }
+        
+        Contribuicao menos(Contribuicao outra) {
+            return new Contribuicao(abertas - outra.abertas, emAndamento - outra.emAndamento,
+                concluidas - outra.concluidas, canceladas - outra.canceladas,
+                somaPercentual - outra.somaPercentual,
+                estimativaHoras.subtract(outra.estimativaHoras), horasTrabalhadas.subtract(outra.horasTrabalhadas));
+        }
+        
+        Contribuicao negativa() {
+            return NENHUMA.menos(this);
+        }
+        
+        boolean isNula() {
+            return abertas == 0 && emAndamento == 0 && concluidas == 0 && canceladas == 0 && somaPercentual == 0
+                && estimativaHoras.signum() == 0 && horasTrabalhadas.signum() == 0;
+        }
+        
+        private static BigDecimal valor(BigDecimal horas) {
+            return horas != null ? horas : BigDecimal.ZERO;
+        }
+    }
+}
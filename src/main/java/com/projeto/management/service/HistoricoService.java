@@ -0,0 +1,126 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.ProjetoHistoricoDTO;
+import com.projeto.management.dto.response.TarefaHistoricoDTO;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.ProjetoArquivo;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TarefaArquivo;
+import com.projeto.management.model.entity.TextoProjeto;
+import com.projeto.management.model.entity.TextoTarefa;
+import com.projeto.management.repository.ProjetoArquivoRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TextoProjetoRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import com.projeto.management.sharding.ChaveShard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service de leitura de histórico
+ *
+ * Lê da tabela quente (inclusive registros inativos) e, quando o registro não está mais
+ * lá, do arquivo; quem consulta não precisa saber se o registro já foi arquivado.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class HistoricoService {
+    
+    private final TarefaRepository tarefaRepository;
+    private final ProjetoRepository projetoRepository;
+    private final TarefaArquivoRepository tarefaArquivoRepository;
+    private final ProjetoArquivoRepository projetoArquivoRepository;
+    private final TextoTarefaRepository textoTarefaRepository;
+    private final TextoProjetoRepository textoProjetoRepository;
+    private final ModelMapper modelMapper;
+    
+    /**
+     * Busca uma tarefa pelo ID, ativa, inativa ou arquivada
+     */
+    public TarefaHistoricoDTO buscarTarefa(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id) {
+        log.debug("Buscando histórico da tarefa ID: {}", id);
+        
+        return tarefaRepository.findById(id)
+            .map(tarefa -> converterTarefa(tarefa, textoTarefaRepository.findById(id).orElse(null)))
+            .or(() -> tarefaArquivoRepository.findById(id).map(this::converterTarefaArquivada))
+            .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+    }
+    
+    /**
+     * Busca um projeto pelo ID, ativo, inativo ou arquivado
+     */
+    public ProjetoHistoricoDTO buscarProjeto(@ChaveShard Long id) {
+        log.debug("Buscando histórico do projeto ID: {}", id);
+        
+        return projetoRepository.findById(id)
+            .map(projeto -> converterProjeto(projeto, textoProjetoRepository.findById(id).orElse(null)))
+            .or(() -> projetoArquivoRepository.findById(id).map(this::converterProjetoArquivado))
+            .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+    }
+    
+    /**
+     * Lista todas as tarefas que o projeto já teve, das tabelas quente e de arquivo, por ID
+     */
+    public List<TarefaHistoricoDTO> listarTarefasDoProjeto(@ChaveShard Long projetoId) {
+        log.debug("Listando histórico de tarefas do projeto: {}", projetoId);
+        
+        if (!projetoRepository.existsById(projetoId) && !projetoArquivoRepository.existsById(projetoId)) {
+            throw new EntityNotFoundException("Projeto não encontrado com ID: " + projetoId);
+        }
+        
+        List<Tarefa> tarefas = tarefaRepository.findByProjetoIdOrderByIdAsc(projetoId);
+        Map<Long, TextoTarefa> textos = textoTarefaRepository.findAllById(tarefas.stream().map(Tarefa::getId).toList()).stream()
+            .collect(Collectors.toMap(TextoTarefa::getIdTarefa, Function.identity()));
+        
+        return Stream.concat(
+                tarefas.stream().map(tarefa -> converterTarefa(tarefa, textos.get(tarefa.getId()))),
+                tarefaArquivoRepository.findByIdProjetoOrderByIdAsc(projetoId).stream().map(this::converterTarefaArquivada))
+            .sorted(Comparator.comparing(TarefaHistoricoDTO::getId))
+            .toList();
+    }
+    
+    private TarefaHistoricoDTO converterTarefa(Tarefa tarefa, TextoTarefa texto) {
+        TarefaHistoricoDTO dto = modelMapper.map(tarefa, TarefaHistoricoDTO.class);
+        dto.setIdProjeto(tarefa.getProjeto() != null ? tarefa.getProjeto().getId() : null);
+        if (texto != null) {
+            dto.setDescricao(texto.getDescricao());
+            dto.setObservacoes(texto.getObservacoes());
+        }
+        return dto;
+    }
+    
+    private ProjetoHistoricoDTO converterProjeto(Projeto projeto, TextoProjeto texto) {
+        ProjetoHistoricoDTO dto = modelMapper.map(projeto, ProjetoHistoricoDTO.class);
+        if (texto != null) {
+            dto.setDescricao(texto.getDescricao());
+        }
+        return dto;
+    }
+    
+    private TarefaHistoricoDTO converterTarefaArquivada(TarefaArquivo tarefa) {
+        TarefaHistoricoDTO dto = modelMapper.map(tarefa, TarefaHistoricoDTO.class);
+        dto.setArquivada(true);
+        return dto;
+    }
+    
+    private ProjetoHistoricoDTO converterProjetoArquivado(ProjetoArquivo projeto) {
+        ProjetoHistoricoDTO dto = modelMapper.map(projeto, ProjetoHistoricoDTO.class);
+        dto.setArquivado(true);
+        return dto;
+    }
+}
@@ -1,27 +1,57 @@
 package com.projeto.management.service;
 
+import com.projeto.management.cache.Coalescer;
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.dto.request.BuscaPorIdsDTO;
+import com.projeto.management.dto.request.FiltroProjetoDTO;
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.PaginacaoDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.dto.response.EstatisticasProjetosDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.ProjetoSnapshot;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
 import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TextoProjeto;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.monitoramento.MedicaoRequisicao;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TextoProjetoRepository;
+import com.projeto.management.sharding.ChaveShard;
+import com.projeto.management.sharding.LimiteItens;
+import com.projeto.management.sharding.NovoProjeto;
+import com.projeto.management.sharding.TodosOsShards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service para gerenciamento de Projetos
+ *
+ * A descrição fica em projeto_texto e só é lida nas visões de detalhe (um projeto ou a
+ * busca por IDs); as listagens devolvem os projetos sem ela.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,12 +59,29 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProjetoService {
     
+    /**
+     * Campos aceitos na ordenação das tarefas aninhadas no detalhe do projeto
+     */
+    private static final Map<String, Function<Tarefa, Comparable<?>>> ORDENACOES_TAREFAS = Map.of(
+        "id", Tarefa::getId,
+        "titulo", Tarefa::getTitulo,
+        "status", Tarefa::getStatus,
+        "prioridade", Tarefa::getPrioridade,
+        "dataCriacao", Tarefa::getDataCriacao,
+        "dataFimPrevista", Tarefa::getDataFimPrevista,
+        "responsavel", Tarefa::getResponsavel);
+    
     private final ProjetoRepository projetoRepository;
+    private final TextoProjetoRepository textoProjetoRepository;
     private final ModelMapper modelMapper;
+    private final VersaoDados versaoDados;
+    private final EstatisticasService estatisticasService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Cria um novo projeto
      */
+    @NovoProjeto
     public ProjetoResponseDTO criarProjeto(ProjetoRequestDTO requestDTO, String usuarioLogado) {
         log.info("Criando novo projeto: {}", requestDTO.getNome());
         
@@ -54,34 +101,95 @@ public class ProjetoService {
         }
         
         Projeto projetoSalvo = projetoRepository.save(projeto);
+        TextoProjeto texto = salvarTexto(projetoSalvo.getId(), requestDTO, true);
+        registrarAlteracao(null, projetoSalvo);
         log.info("Projeto criado com ID: {}", projetoSalvo.getId());
         
-        return converterParaResponseDTO(projetoSalvo);
+        return converterParaDetalheDTO(projetoSalvo, texto);
     }
     
     /**
      * Busca projeto por ID
      */
+    @Coalescer
     @Transactional(readOnly = true)
-    public ProjetoResponseDTO buscarPorId(Long id) {
+    public ProjetoResponseDTO buscarPorId(@ChaveShard Long id) {
         log.debug("Buscando projeto por ID: {}", id);
         
         Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
             
-        return converterParaResponseDTO(projeto);
+        return converterParaDetalheDTO(projeto, textoProjetoRepository.findById(id).orElse(null));
+    }
+    
+    /**
+     * Busca projeto por ID com a página pedida das suas tarefas ativas
+     *
+     * Projeto e tarefas vêm numa única consulta; a mesma coleção alimenta os totais
+     * calculados e a lista aninhada, que é ordenada e paginada em memória.
+     */
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ProjetoResponseDTO buscarPorIdComTarefas(@ChaveShard Long id, Pageable pageable) {
+        log.debug("Buscando projeto por ID com tarefas: {}", id);
+        
+        Comparator<Tarefa> ordem = comparadorTarefas(pageable.getSort());
+        Projeto projeto = projetoRepository.findComTarefasPorId(id)
+            .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+        
+        List<Tarefa> ativas = projeto.getTarefas().stream()
+            .filter(Tarefa::getAtivo)
+            .sorted(ordem)
+            .toList();
+        int tamanho = pageable.getPageSize();
+        int totalPaginas = (ativas.size() + tamanho - 1) / tamanho;
+        
+        ProjetoResponseDTO dto = converterParaDetalheDTO(projeto, textoProjetoRepository.findById(id).orElse(null));
+        dto.setTarefas(ativas.stream()
+            .skip(pageable.getOffset())
+            .limit(tamanho)
+            .map(this::converterTarefaParaResponseDTO)
+            .toList());
+        dto.setPaginacaoTarefas(PaginacaoDTO.builder()
+            .pagina(pageable.getPageNumber())
+            .tamanho(tamanho)
+            .totalElementos(ativas.size())
+            .totalPaginas(totalPaginas)
+            .ordenacao(pageable.getSort().toString())
+            .build());
+        return dto;
+    }
+    
+    /**
+     * Busca os projetos dos IDs informados numa única consulta, na ordem pedida
+     */
+    @TodosOsShards
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResultadoBuscaPorIdsDTO<ProjetoResponseDTO> buscarPorIds(List<Long> ids) {
+        log.debug("Buscando projetos por IDs: {}", ids);
+        
+        validarIdsBusca(ids);
+        Map<Long, Projeto> encontrados = projetoRepository.findAtivosComTarefasPorIds(new LinkedHashSet<>(ids)).stream()
+            .collect(Collectors.toMap(Projeto::getId, Function.identity()));
+        Map<Long, TextoProjeto> textos = textoProjetoRepository.findAllById(encontrados.keySet()).stream()
+            .collect(Collectors.toMap(TextoProjeto::getIdProjeto, Function.identity()));
+        
+        return ResultadoBuscaPorIdsDTO.de(ids, encontrados,
+            projeto -> converterParaDetalheDTO(projeto, textos.get(projeto.getId())));
     }
     
     /**
      * Lista todos os projetos ativos com paginação
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
-    public Page<ProjetoResponseDTO> listarProjetos(String nome, StatusProjeto status, 
-                                                  String responsavel, Pageable pageable) {
-        log.debug("Listando projetos com filtros - Nome: {}, Status: {}, Responsável: {}", 
-                 nome, status, responsavel);
+    public Page<ProjetoResponseDTO> listarProjetos(FiltroProjetoDTO filtro, Pageable pageable) {
+        log.debug("Listando projetos com filtros: {}", filtro);
         
-        Page<Projeto> projetos = projetoRepository.findProjetosComFiltros(nome, status, responsavel, pageable);
+        validarIntervaloFiltro(filtro.getDataFimPrevistaDe(), filtro.getDataFimPrevistaAte());
+        Page<Projeto> projetos = projetoRepository.buscarComFiltros(filtro, pageable);
         
         return projetos.map(this::converterParaResponseDTO);
     }
@@ -89,11 +197,12 @@ public class ProjetoService {
     /**
      * Atualiza um projeto
      */
-    public ProjetoResponseDTO atualizarProjeto(Long id, ProjetoRequestDTO requestDTO, String usuarioLogado) {
+    public ProjetoResponseDTO atualizarProjeto(@ChaveShard Long id, ProjetoRequestDTO requestDTO, String usuarioLogado) {
         log.info("Atualizando projeto ID: {}", id);
         
         Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+        ProjetoSnapshot anterior = ProjetoSnapshot.de(projeto);
         
         // Validações de negócio
         validarDatasProject(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
@@ -103,19 +212,22 @@ public class ProjetoService {
         projeto.setUsuarioAtualizacao(usuarioLogado);
         
         Projeto projetoAtualizado = projetoRepository.save(projeto);
+        TextoProjeto texto = salvarTexto(id, requestDTO, false);
+        registrarAlteracao(anterior, projetoAtualizado);
         log.info("Projeto atualizado: {}", projetoAtualizado.getId());
         
-        return converterParaResponseDTO(projetoAtualizado);
+        return converterParaDetalheDTO(projetoAtualizado, texto);
     }
     
     /**
      * Exclui logicamente um projeto
      */
-    public void excluirProjeto(Long id, String usuarioLogado) {
+    public void excluirProjeto(@ChaveShard Long id, String usuarioLogado) {
         log.info("Excluindo projeto ID: {}", id);
         
         Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+        ProjetoSnapshot anterior = ProjetoSnapshot.de(projeto);
         
         // Verifica se pode excluir
         if (projeto.getStatus() == StatusProjeto.EM_ANDAMENTO) {
@@ -125,6 +237,7 @@ public class ProjetoService {
         projeto.setAtivo(false);
         projeto.setUsuarioAtualizacao(usuarioLogado);
         projetoRepository.save(projeto);
+        registrarAlteracao(anterior, projeto);
         
         log.info("Projeto excluído logicamente: {}", id);
     }
@@ -132,11 +245,12 @@ public class ProjetoService {
     /**
      * Altera status do projeto
      */
-    public ProjetoResponseDTO alterarStatus(Long id, StatusProjeto novoStatus, String usuarioLogado) {
+    public ProjetoResponseDTO alterarStatus(@ChaveShard Long id, StatusProjeto novoStatus, String usuarioLogado) {
         log.info("Alterando status do projeto {} para {}", id, novoStatus);
         
         Projeto projeto = projetoRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + id));
+        ProjetoSnapshot anterior = ProjetoSnapshot.de(projeto);
         
         StatusProjeto statusAnterior = projeto.getStatus();
         
@@ -152,14 +266,17 @@ public class ProjetoService {
         }
         
         Projeto projetoAtualizado = projetoRepository.save(projeto);
+        registrarAlteracao(anterior, projetoAtualizado);
         log.info("Status alterado de {} para {}", statusAnterior, novoStatus);
         
-        return converterParaResponseDTO(projetoAtualizado);
+        return converterParaDetalheDTO(projetoAtualizado, textoProjetoRepository.findById(id).orElse(null));
     }
     
     /**
      * Busca projetos atrasados
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<ProjetoResponseDTO> buscarProjetosAtrasados() {
         log.debug("Buscando projetos atrasados");
@@ -171,9 +288,29 @@ public class ProjetoService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Resumo dos projetos atrasados: total e os N com vencimento mais antigo
+     */
+    @TodosOsShards(ordenarPor = "dataFimPrevista")
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResumoListaDTO<ProjetoResponseDTO> resumirProjetosAtrasados(@LimiteItens int limite) {
+        log.debug("Resumindo projetos atrasados (limite {})", limite);
+        
+        Page<Projeto> projetos = projetoRepository.findProjetosAtrasados(LocalDate.now(),
+            PageRequest.of(0, limite, Sort.by("dataFimPrevista")));
+        
+        return ResumoListaDTO.<ProjetoResponseDTO>builder()
+            .total(projetos.getTotalElements())
+            .itens(projetos.map(this::converterParaResponseDTO).getContent())
+            .build();
+    }
+    
     /**
      * Busca projetos por responsável
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<ProjetoResponseDTO> buscarPorResponsavel(String responsavel) {
         log.debug("Buscando projetos por responsável: {}", responsavel);
@@ -188,15 +325,43 @@ public class ProjetoService {
     /**
      * Obtém estatísticas dos projetos
      */
-    @Transactional(readOnly = true)
-    public Object getEstatisticasProjetos() {
+    public EstatisticasProjetosDTO getEstatisticasProjetos() {
         log.debug("Gerando estatísticas dos projetos");
         
-        return projetoRepository.countProjetosPorStatus();
+        return estatisticasService.estatisticasProjetos();
+    }
+    
+    /**
+     * Conta projetos ativos por status
+     */
+    public Map<StatusProjeto, Long> contarProjetosPorStatus() {
+        log.debug("Contando projetos por status");
+        
+        return estatisticasService.estatisticasProjetos().getPorStatus();
     }
     
     // Métodos privados de apoio
     
+    private void validarIdsBusca(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException("Informe ao menos um ID");
+        }
+        if (ids.size() > BuscaPorIdsDTO.MAXIMO_IDS) {
+            throw new BusinessException("Informe no máximo " + BuscaPorIdsDTO.MAXIMO_IDS + " IDs");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("ID não pode ser nulo");
+        }
+    }
+    
+    /**
+     * Invalida caches e notifica os agregados em memória sobre a escrita
+     */
+    private void registrarAlteracao(ProjetoSnapshot anterior, Projeto atual) {
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.PROJETOS);
+        eventPublisher.publishEvent(new ProjetoAlteradoEvent(anterior, ProjetoSnapshot.de(atual)));
+    }
+    
     private void validarDatasProject(LocalDate dataInicio, LocalDate dataFimPrevista) {
         if (dataInicio != null && dataFimPrevista != null) {
             if (dataFimPrevista.isBefore(dataInicio)) {
@@ -205,6 +370,12 @@ public class ProjetoService {
         }
     }
     
+    private void validarIntervaloFiltro(LocalDate de, LocalDate ate) {
+        if (de != null && ate != null && ate.isBefore(de)) {
+            throw new BusinessException("Data fim prevista final não pode ser anterior à inicial");
+        }
+    }
+    
     private void validarTransicaoStatus(StatusProjeto statusAtual, StatusProjeto novoStatus) {
         // Regras de negócio para transição de status
         if (statusAtual == StatusProjeto.CANCELADO) {
@@ -216,7 +387,61 @@ public class ProjetoService {
         }
     }
     
+    private Comparator<Tarefa> comparadorTarefas(Sort sort) {
+        Comparator<Tarefa> comparador = null;
+        for (Sort.Order ordem : sort) {
+            Function<Tarefa, Comparable<?>> campo = ORDENACOES_TAREFAS.get(ordem.getProperty());
+            if (campo == null) {
+                throw new BusinessException("Ordenação de tarefas não suportada: " + ordem.getProperty()
+                    + ". Use " + ORDENACOES_TAREFAS.keySet().stream().sorted().collect(Collectors.joining(", ")));
+            }
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Comparator<Tarefa> proximo = Comparator.comparing((Function) campo, Comparator.nullsLast(Comparator.naturalOrder()));
+            if (ordem.isDescending()) {
+                proximo = proximo.reversed();
+            }
+            comparador = comparador == null ? proximo : comparador.thenComparing(proximo);
+        }
+        // ID como desempate mantém as páginas estáveis entre requisições
+        Comparator<Tarefa> porId = Comparator.comparing(Tarefa::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+        return comparador == null ? porId : comparador.thenComparing(porId);
+    }
+    
+    /**
+     * Grava a descrição em projeto_texto; sem descrição a linha não existe
+     */
+    private TextoProjeto salvarTexto(Long idProjeto, ProjetoRequestDTO requestDTO, boolean novo) {
+        TextoProjeto texto = TextoProjeto.builder()
+            .idProjeto(idProjeto)
+            .descricao(requestDTO.getDescricao())
+            .build();
+        
+        if (texto.isVazio()) {
+            if (!novo) {
+                textoProjetoRepository.deleteById(idProjeto);
+            }
+            return null;
+        }
+        return textoProjetoRepository.save(texto);
+    }
+    
+    private TarefaResponseDTO converterTarefaParaResponseDTO(Tarefa tarefa) {
+        TarefaResponseDTO dto = modelMapper.map(tarefa, TarefaResponseDTO.class);
+        
+        // O projeto já está carregado: é o dono da coleção
+        if (tarefa.getProjeto() != null) {
+            dto.setIdProjeto(tarefa.getProjeto().getId());
+            dto.setNomeProjeto(tarefa.getProjeto().getNome());
+        }
+        
+        dto.setAtrasada(tarefa.isAtrasada());
+        dto.setDiasRestantes(tarefa.getDiasRestantes());
+        
+        return dto;
+    }
+    
     private ProjetoResponseDTO converterParaResponseDTO(Projeto projeto) {
+        long inicio = MedicaoRequisicao.inicioMapeamento();
         ProjetoResponseDTO dto = modelMapper.map(projeto, ProjetoResponseDTO.class);
         
         // Calcula campos adicionais
@@ -246,6 +471,15 @@ public class ProjetoService {
             );
         }
         
+        MedicaoRequisicao.fimMapeamento(inicio);
+        return dto;
+    }
+    
+    private ProjetoResponseDTO converterParaDetalheDTO(Projeto projeto, TextoProjeto texto) {
+        ProjetoResponseDTO dto = converterParaResponseDTO(projeto);
+        if (texto != null) {
+            dto.setDescricao(texto.getDescricao());
+        }
         return dto;
     }
 }
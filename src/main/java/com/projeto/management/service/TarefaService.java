@@ -1,29 +1,75 @@
 package com.projeto.management.service;
 
+import com.projeto.management.cache.Coalescer;
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.dto.request.BuscaPorIdsDTO;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
 import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ConsolidadoSubarvoreDTO;
+import com.projeto.management.dto.response.FilaTrabalhoDTO;
+import com.projeto.management.dto.response.NoTarefaDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
 import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.indice.IndiceTarefas;
+import com.projeto.management.model.entity.ConsolidadoSubarvore;
+import com.projeto.management.model.entity.EtiquetaTarefa;
 import com.projeto.management.model.entity.Projeto;
 import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TextoTarefa;
 import com.projeto.management.model.enums.StatusTarefa;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.monitoramento.MedicaoRequisicao;
+import com.projeto.management.repository.EtiquetaTarefaRepository;
 import com.projeto.management.repository.TarefaRepository;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import com.projeto.management.sharding.ChaveShard;
+import com.projeto.management.sharding.ContextoShard;
+import com.projeto.management.sharding.DiretorioShards;
+import com.projeto.management.sharding.LimiteItens;
+import com.projeto.management.sharding.TodosOsShards;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service para gerenciamento de Tarefas
+ *
+ * Descrição e observações ficam em tarefa_texto e só são lidas nas visões de detalhe
+ * (uma tarefa ou a busca por IDs); as listagens devolvem as tarefas sem esses textos.
+ *
+ * Subtarefas: a árvore e os totais consolidados são mantidos por HierarquiaTarefaService
+ * em cada escrita; subárvore e caminho até a raiz são lidos numa única consulta.
+ *
+ * Etiquetas: gravadas em tarefa_etiqueta e lidas do IndiceTarefas (bitmaps em memória), que
+ * também pré-seleciona os IDs dos filtros por etiqueta da listagem.
+ *
+ * Fila de trabalho: as tarefas em aberto de cada responsável ficam ordenadas por urgência
+ * na FilaResponsaveis; a consulta ao banco lê só as N primeiras, pelo ID.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,12 +79,20 @@ public class TarefaService {
     
     private final TarefaRepository tarefaRepository;
     private final ProjetoRepository projetoRepository;
+    private final TextoTarefaRepository textoTarefaRepository;
+    private final EtiquetaTarefaRepository etiquetaTarefaRepository;
+    private final IndiceTarefas indiceTarefas;
+    private final FilaResponsaveis filaResponsaveis;
+    private final HierarquiaTarefaService hierarquiaTarefaService;
     private final ModelMapper modelMapper;
+    private final VersaoDados versaoDados;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<DiretorioShards> diretorioShards;
     
     /**
      * Cria uma nova tarefa
      */
-    public TarefaResponseDTO criarTarefa(TarefaRequestDTO requestDTO, String usuarioLogado) {
+    public TarefaResponseDTO criarTarefa(@ChaveShard(propriedade = "idProjeto") TarefaRequestDTO requestDTO, String usuarioLogado) {
         log.info("Criando nova tarefa: {} para projeto ID: {}", requestDTO.getTitulo(), requestDTO.getIdProjeto());
         
         // Verifica se o projeto existe
@@ -47,6 +101,7 @@ public class TarefaService {
         
         // Validações de negócio
         validarDatasTarefa(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
+        hierarquiaTarefaService.validarPai(null, requestDTO.getIdTarefaPai(), projeto.getId());
         
         Tarefa tarefa = modelMapper.map(requestDTO, Tarefa.class);
         tarefa.setProjeto(projeto);
@@ -65,47 +120,76 @@ public class TarefaService {
         }
         
         Tarefa tarefaSalva = tarefaRepository.save(tarefa);
+        hierarquiaTarefaService.inserir(tarefaSalva);
+        TextoTarefa texto = salvarTextos(tarefaSalva.getId(), requestDTO, true);
+        Set<String> etiquetas = salvarEtiquetas(tarefaSalva.getId(), requestDTO.getEtiquetas(), true);
+        registrarAlteracao(null, tarefaSalva, etiquetas);
         log.info("Tarefa criada com ID: {}", tarefaSalva.getId());
         
-        return converterParaResponseDTO(tarefaSalva);
+        return converterParaDetalheDTO(tarefaSalva, texto, etiquetas);
     }
     
     /**
      * Busca tarefa por ID
      */
+    @Coalescer
     @Transactional(readOnly = true)
-    public TarefaResponseDTO buscarPorId(Long id) {
+    public TarefaResponseDTO buscarPorId(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id) {
         log.debug("Buscando tarefa por ID: {}", id);
         
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
             
-        return converterParaResponseDTO(tarefa);
+        return converterParaDetalheDTO(tarefa, textoTarefaRepository.findById(id).orElse(null), etiquetasDaTarefa(id));
+    }
+    
+    /**
+     * Busca as tarefas dos IDs informados numa única consulta, na ordem pedida
+     */
+    @TodosOsShards
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResultadoBuscaPorIdsDTO<TarefaResponseDTO> buscarPorIds(List<Long> ids) {
+        log.debug("Buscando tarefas por IDs: {}", ids);
+        
+        validarIdsBusca(ids);
+        Map<Long, Tarefa> encontradas = tarefaRepository.findAtivasComProjetoPorIds(new LinkedHashSet<>(ids)).stream()
+            .collect(Collectors.toMap(Tarefa::getId, Function.identity()));
+        Map<Long, TextoTarefa> textos = textoTarefaRepository.findAllById(encontradas.keySet()).stream()
+            .collect(Collectors.toMap(TextoTarefa::getIdTarefa, Function.identity()));
+        
+        return ResultadoBuscaPorIdsDTO.de(ids, encontradas,
+            tarefa -> converterParaDetalheDTO(tarefa, textos.get(tarefa.getId()), etiquetasDaTarefa(tarefa.getId())));
     }
     
     /**
      * Lista tarefas com paginação e filtros
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
-    public Page<TarefaResponseDTO> listarTarefas(Long projetoId, String titulo, StatusTarefa status,
-                                               String responsavel, Prioridade prioridade, Pageable pageable) {
-        log.debug("Listando tarefas com filtros - Projeto: {}, Título: {}, Status: {}", 
-                 projetoId, titulo, status);
+    public Page<TarefaResponseDTO> listarTarefas(@ChaveShard(propriedade = "projetoId") FiltroTarefaDTO filtro, Pageable pageable) {
+        log.debug("Listando tarefas com filtros: {}", filtro);
         
-        Page<Tarefa> tarefas = tarefaRepository.findTarefasComFiltros(
-            projetoId, titulo, status, responsavel, prioridade, pageable);
+        validarIntervaloFiltro(filtro.getDataFimPrevistaDe(), filtro.getDataFimPrevistaAte());
+        
+        // Com filtros por etiqueta, o índice em memória pré-seleciona os IDs quando são poucos
+        IndiceTarefas.Candidatos candidatos = indiceTarefas.filtrar(filtro);
+        Page<Tarefa> tarefas = tarefaRepository.buscarComFiltros(filtro,
+            candidatos != null ? candidatos.ids() : null, pageable);
         
         return tarefas.map(this::converterParaResponseDTO);
     }
     
     /**
-     * Lista tarefas por projeto
+     * Lista tarefas por projeto, da mais urgente (prioridade e data fim prevista)
      */
+    @Coalescer
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> listarTarefasPorProjeto(Long projetoId) {
+    public List<TarefaResponseDTO> listarTarefasPorProjeto(@ChaveShard Long projetoId) {
         log.debug("Listando tarefas do projeto: {}", projetoId);
         
-        List<Tarefa> tarefas = tarefaRepository.findByProjetoIdAndAtivoTrue(projetoId);
+        List<Tarefa> tarefas = tarefaRepository.findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc(projetoId);
         
         return tarefas.stream()
             .map(this::converterParaResponseDTO)
@@ -115,14 +199,21 @@ public class TarefaService {
     /**
      * Atualiza uma tarefa
      */
-    public TarefaResponseDTO atualizarTarefa(Long id, TarefaRequestDTO requestDTO, String usuarioLogado) {
+    public TarefaResponseDTO atualizarTarefa(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id, TarefaRequestDTO requestDTO, String usuarioLogado) {
         log.info("Atualizando tarefa ID: {}", id);
         
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+        TarefaSnapshot anterior = TarefaSnapshot.de(tarefa);
         
-        // Se mudou o projeto, valida se existe
+        // Se mudou o projeto, valida se existe; subtarefas ficam sempre no projeto da tarefa pai
         if (!tarefa.getProjeto().getId().equals(requestDTO.getIdProjeto())) {
+            if (hierarquiaTarefaService.possuiSubtarefas(id)) {
+                throw new BusinessException("Tarefa com subtarefas não pode mudar de projeto");
+            }
+            if (!noShardDaTransacao(requestDTO.getIdProjeto())) {
+                throw new BusinessException("Tarefa não pode mudar para um projeto de outro shard");
+            }
             Projeto novoProjeto = projetoRepository.findByIdAndAtivoTrue(requestDTO.getIdProjeto())
                 .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com ID: " + requestDTO.getIdProjeto()));
             tarefa.setProjeto(novoProjeto);
@@ -130,29 +221,37 @@ public class TarefaService {
         
         // Validações de negócio
         validarDatasTarefa(requestDTO.getDataInicio(), requestDTO.getDataFimPrevista());
+        hierarquiaTarefaService.validarPai(id, requestDTO.getIdTarefaPai(), requestDTO.getIdProjeto());
+        hierarquiaTarefaService.mover(id, tarefa.getIdTarefaPai(), requestDTO.getIdTarefaPai());
         
         // Atualiza os campos
         modelMapper.map(requestDTO, tarefa);
         tarefa.setUsuarioAtualizacao(usuarioLogado);
         
         Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
+        TextoTarefa texto = salvarTextos(id, requestDTO, false);
+        Set<String> etiquetas = salvarEtiquetas(id, requestDTO.getEtiquetas(), false);
+        registrarAlteracao(anterior, tarefaAtualizada, etiquetas);
         log.info("Tarefa atualizada: {}", tarefaAtualizada.getId());
         
-        return converterParaResponseDTO(tarefaAtualizada);
+        return converterParaDetalheDTO(tarefaAtualizada, texto, etiquetas);
     }
     
     /**
      * Exclui logicamente uma tarefa
      */
-    public void excluirTarefa(Long id, String usuarioLogado) {
+    public void excluirTarefa(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id, String usuarioLogado) {
         log.info("Excluindo tarefa ID: {}", id);
         
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+        hierarquiaTarefaService.validarExclusao(id);
+        TarefaSnapshot anterior = TarefaSnapshot.de(tarefa);
         
         tarefa.setAtivo(false);
         tarefa.setUsuarioAtualizacao(usuarioLogado);
         tarefaRepository.save(tarefa);
+        registrarAlteracao(anterior, tarefa);
         
         log.info("Tarefa excluída logicamente: {}", id);
     }
@@ -160,11 +259,12 @@ public class TarefaService {
     /**
      * Altera status da tarefa
      */
-    public TarefaResponseDTO alterarStatus(Long id, StatusTarefa novoStatus, String usuarioLogado) {
+    public TarefaResponseDTO alterarStatus(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id, StatusTarefa novoStatus, String usuarioLogado) {
         log.info("Alterando status da tarefa {} para {}", id, novoStatus);
         
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+        TarefaSnapshot anterior = TarefaSnapshot.de(tarefa);
         
         StatusTarefa statusAnterior = tarefa.getStatus();
         
@@ -175,15 +275,17 @@ public class TarefaService {
         tarefa.atualizarPercentualPorStatus();
         
         Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
+        registrarAlteracao(anterior, tarefaAtualizada);
         log.info("Status alterado de {} para {}", statusAnterior, novoStatus);
         
-        return converterParaResponseDTO(tarefaAtualizada);
+        return converterParaDetalheDTO(tarefaAtualizada, textoTarefaRepository.findById(id).orElse(null),
+            etiquetasDaTarefa(id));
     }
     
     /**
      * Atualiza percentual de conclusão
      */
-    public TarefaResponseDTO atualizarPercentual(Long id, Integer percentual, String usuarioLogado) {
+    public TarefaResponseDTO atualizarPercentual(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id, Integer percentual, String usuarioLogado) {
         log.info("Atualizando percentual da tarefa {} para {}%", id, percentual);
         
         if (percentual < 0 || percentual > 100) {
@@ -192,6 +294,7 @@ public class TarefaService {
         
         Tarefa tarefa = tarefaRepository.findByIdAndAtivoTrue(id)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa não encontrada com ID: " + id));
+        TarefaSnapshot anterior = TarefaSnapshot.de(tarefa);
         
         tarefa.setPercentualConclusao(percentual);
         tarefa.setUsuarioAtualizacao(usuarioLogado);
@@ -205,13 +308,17 @@ public class TarefaService {
         }
         
         Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
+        registrarAlteracao(anterior, tarefaAtualizada);
         
-        return converterParaResponseDTO(tarefaAtualizada);
+        return converterParaDetalheDTO(tarefaAtualizada, textoTarefaRepository.findById(id).orElse(null),
+            etiquetasDaTarefa(id));
     }
     
     /**
      * Busca tarefas atrasadas
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<TarefaResponseDTO> buscarTarefasAtrasadas() {
         log.debug("Buscando tarefas atrasadas");
@@ -226,6 +333,8 @@ public class TarefaService {
     /**
      * Busca tarefas que vencem em X dias
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<TarefaResponseDTO> buscarTarefasVencendoEm(int dias) {
         log.debug("Buscando tarefas que vencem em {} dias", dias);
@@ -243,6 +352,8 @@ public class TarefaService {
     /**
      * Busca tarefas de alta prioridade em aberto
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<TarefaResponseDTO> buscarTarefasAltaPrioridade() {
         log.debug("Buscando tarefas de alta prioridade em aberto");
@@ -254,9 +365,58 @@ public class TarefaService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Resumo das tarefas atrasadas: total e as N com vencimento mais antigo
+     */
+    @TodosOsShards(ordenarPor = "dataFimPrevista")
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResumoListaDTO<TarefaResponseDTO> resumirTarefasAtrasadas(@LimiteItens int limite) {
+        log.debug("Resumindo tarefas atrasadas (limite {})", limite);
+        
+        Page<Tarefa> tarefas = tarefaRepository.findTarefasAtrasadas(LocalDate.now(),
+            PageRequest.of(0, limite, Sort.by("dataFimPrevista")));
+        
+        return resumir(tarefas);
+    }
+    
+    /**
+     * Resumo das tarefas que vencem em X dias: total e as N com vencimento mais próximo
+     */
+    @TodosOsShards(ordenarPor = "dataFimPrevista")
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResumoListaDTO<TarefaResponseDTO> resumirTarefasVencendoEm(int dias, @LimiteItens int limite) {
+        log.debug("Resumindo tarefas que vencem em {} dias (limite {})", dias, limite);
+        
+        LocalDate dataAtual = LocalDate.now();
+        Page<Tarefa> tarefas = tarefaRepository.findTarefasVencendoEm(dataAtual, dataAtual.plusDays(dias),
+            PageRequest.of(0, limite, Sort.by("dataFimPrevista")));
+        
+        return resumir(tarefas);
+    }
+    
+    /**
+     * Resumo das tarefas de alta prioridade em aberto: total e as N mais urgentes
+     * (a mesclagem dos shards compara o peso pelo nível da prioridade, como o banco)
+     */
+    @TodosOsShards(ordenarPor = {"-pesoPrioridade", "dataFimPrevista"})
+    @Coalescer
+    @Transactional(readOnly = true)
+    public ResumoListaDTO<TarefaResponseDTO> resumirTarefasAltaPrioridade(@LimiteItens int limite) {
+        log.debug("Resumindo tarefas de alta prioridade (limite {})", limite);
+        
+        Page<Tarefa> tarefas = tarefaRepository.findTarefasAltaPrioridadeEmAberto(
+            PageRequest.of(0, limite, Sort.by(Sort.Order.desc("pesoPrioridade"), Sort.Order.asc("dataFimPrevista"))));
+        
+        return resumir(tarefas);
+    }
+    
     /**
      * Busca tarefas por responsável
      */
+    @TodosOsShards
+    @Coalescer
     @Transactional(readOnly = true)
     public List<TarefaResponseDTO> buscarPorResponsavel(String responsavel) {
         log.debug("Buscando tarefas por responsável: {}", responsavel);
@@ -268,8 +428,91 @@ public class TarefaService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Fila de trabalho do responsável: as tarefas em aberto mais urgentes, escolhidas pela
+     * FilaResponsaveis em memória e lidas do banco pelo ID
+     */
+    @TodosOsShards
+    @Coalescer
+    @Transactional(readOnly = true)
+    public FilaTrabalhoDTO listarFila(String responsavel, int limite) {
+        log.debug("Listando fila de trabalho de {} (limite {})", responsavel, limite);
+        
+        FilaResponsaveis.Fila fila = filaResponsaveis.primeiras(responsavel, limite);
+        List<TarefaResponseDTO> tarefas = fila.ids().isEmpty() ? List.of()
+            : tarefaRepository.findAtivasComProjetoPorIds(fila.ids()).stream()
+                .map(this::converterParaResponseDTO)
+                .sorted(FilaResponsaveis.ORDEM_TAREFAS)
+                .collect(Collectors.toList());
+        
+        return new FilaTrabalhoDTO(responsavel, fila.total(), tarefas);
+    }
+    
+    /**
+     * Lista a subárvore ativa da tarefa (ela primeiro), nível a nível, com os totais de cada tarefa
+     */
+    @Coalescer
+    @Transactional(readOnly = true)
+    public List<NoTarefaDTO> listarSubarvore(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id, Integer profundidadeMaxima) {
+        log.debug("Listando subárvore da tarefa {} (profundidade máxima {})", id, profundidadeMaxima);
+        
+        if (profundidadeMaxima != null && profundidadeMaxima < 0) {
+            throw new BusinessException("Profundidade máxima não pode ser negativa");
+        }
+        List<Object[]> linhas = tarefaRepository.findSubarvore(id,
+            profundidadeMaxima != null ? profundidadeMaxima : Integer.MAX_VALUE);
+        if (linhas.isEmpty()) {
+            throw new EntityNotFoundException("Tarefa não encontrada com ID: " + id);
+        }
+        
+        return linhas.stream()
+            .map(linha -> converterParaNoDTO((Tarefa) linha[0], (Integer) linha[1]))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Lista o caminho da raiz até a tarefa (ela por último), com os totais de cada ancestral
+     */
+    @Coalescer
+    @Transactional(readOnly = true)
+    public List<NoTarefaDTO> listarAncestrais(@ChaveShard(ChaveShard.Tipo.TAREFA) Long id) {
+        log.debug("Listando ancestrais da tarefa {}", id);
+        
+        List<Object[]> linhas = tarefaRepository.findCaminhoAteRaiz(id);
+        Tarefa tarefa = linhas.isEmpty() ? null : (Tarefa) linhas.get(linhas.size() - 1)[0];
+        if (tarefa == null || !Boolean.TRUE.equals(tarefa.getAtivo())) {
+            throw new EntityNotFoundException("Tarefa não encontrada com ID: " + id);
+        }
+        
+        return linhas.stream()
+            .map(linha -> converterParaNoDTO((Tarefa) linha[0], (Integer) linha[1]))
+            .collect(Collectors.toList());
+    }
+    
     // Métodos privados de apoio
     
+    /**
+     * Etiquetas da tarefa pelo índice em memória; do banco quando o ID está fora dele
+     */
+    private Set<String> etiquetasDaTarefa(Long id) {
+        Set<String> etiquetas = indiceTarefas.etiquetas(id);
+        return etiquetas != null ? etiquetas : new LinkedHashSet<>(etiquetaTarefaRepository.findEtiquetasPorTarefa(id));
+    }
+    
+    /**
+     * Se o projeto está no shard da transação corrente; projetos sem registro no diretório
+     * (inexistentes) e a aplicação sem particionamento respondem true
+     */
+    private boolean noShardDaTransacao(Long idProjeto) {
+        DiretorioShards diretorio = diretorioShards.getIfAvailable();
+        Integer atual = ContextoShard.atual();
+        if (diretorio == null || atual == null) {
+            return true;
+        }
+        Integer shard = diretorio.shardRegistrado(idProjeto);
+        return shard == null || shard.equals(atual);
+    }
+    
     private void validarDatasTarefa(LocalDate dataInicio, LocalDate dataFimPrevista) {
         if (dataInicio != null && dataFimPrevista != null) {
             if (dataFimPrevista.isBefore(dataInicio)) {
@@ -278,7 +521,84 @@ public class TarefaService {
         }
     }
     
+    private void validarIntervaloFiltro(LocalDate de, LocalDate ate) {
+        if (de != null && ate != null && ate.isBefore(de)) {
+            throw new BusinessException("Data fim prevista final não pode ser anterior à inicial");
+        }
+    }
+    
+    private void validarIdsBusca(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException("Informe ao menos um ID");
+        }
+        if (ids.size() > BuscaPorIdsDTO.MAXIMO_IDS) {
+            throw new BusinessException("Informe no máximo " + BuscaPorIdsDTO.MAXIMO_IDS + " IDs");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("ID não pode ser nulo");
+        }
+    }
+    
+    private void registrarAlteracao(TarefaSnapshot anterior, Tarefa atual) {
+        registrarAlteracao(anterior, atual, null);
+    }
+    
+    /**
+     * Atualiza os totais da árvore, invalida caches e notifica os agregados e índices em memória
+     * sobre a escrita (etiquetas nulas quando a escrita não as altera)
+     */
+    private void registrarAlteracao(TarefaSnapshot anterior, Tarefa atual, Set<String> etiquetas) {
+        hierarquiaTarefaService.propagar(anterior, atual);
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.TAREFAS);
+        TarefaSnapshot snapshot = anterior == null ? TarefaSnapshot.de(atual) : TarefaSnapshot.aposAtualizacao(atual);
+        eventPublisher.publishEvent(new TarefaAlteradaEvent(anterior, snapshot, etiquetas));
+    }
+    
+    /**
+     * Grava descrição e observações em tarefa_texto; sem nenhum dos dois a linha não existe
+     */
+    private TextoTarefa salvarTextos(Long idTarefa, TarefaRequestDTO requestDTO, boolean nova) {
+        TextoTarefa texto = TextoTarefa.builder()
+            .idTarefa(idTarefa)
+            .descricao(requestDTO.getDescricao())
+            .observacoes(requestDTO.getObservacoes())
+            .build();
+        
+        if (texto.isVazio()) {
+            if (!nova) {
+                textoTarefaRepository.deleteById(idTarefa);
+            }
+            return null;
+        }
+        return textoTarefaRepository.save(texto);
+    }
+    
+    /**
+     * Grava as etiquetas em tarefa_etiqueta, inserindo e removendo só a diferença para as atuais
+     */
+    private Set<String> salvarEtiquetas(Long idTarefa, Set<String> solicitadas, boolean nova) {
+        Set<String> etiquetas = EtiquetaTarefa.normalizar(solicitadas);
+        Set<String> atuais = nova ? Set.of() : new HashSet<>(etiquetaTarefaRepository.findEtiquetasPorTarefa(idTarefa));
+        
+        List<String> removidas = atuais.stream().filter(etiqueta -> !etiquetas.contains(etiqueta)).toList();
+        if (!removidas.isEmpty()) {
+            etiquetaTarefaRepository.remover(idTarefa, removidas);
+        }
+        etiquetas.stream()
+            .filter(etiqueta -> !atuais.contains(etiqueta))
+            .forEach(etiqueta -> etiquetaTarefaRepository.inserir(idTarefa, etiqueta));
+        return etiquetas;
+    }
+    
+    private ResumoListaDTO<TarefaResponseDTO> resumir(Page<Tarefa> tarefas) {
+        return ResumoListaDTO.<TarefaResponseDTO>builder()
+            .total(tarefas.getTotalElements())
+            .itens(tarefas.map(this::converterParaResponseDTO).getContent())
+            .build();
+    }
+    
     private TarefaResponseDTO converterParaResponseDTO(Tarefa tarefa) {
+        long inicio = MedicaoRequisicao.inicioMapeamento();
         TarefaResponseDTO dto = modelMapper.map(tarefa, TarefaResponseDTO.class);
         
         // Adiciona informações do projeto
@@ -291,6 +611,36 @@ public class TarefaService {
         dto.setAtrasada(tarefa.isAtrasada());
         dto.setDiasRestantes(tarefa.getDiasRestantes());
         
+        MedicaoRequisicao.fimMapeamento(inicio);
+        return dto;
+    }
+    
+    private NoTarefaDTO converterParaNoDTO(Tarefa tarefa, Integer profundidade) {
+        NoTarefaDTO dto = modelMapper.map(tarefa, NoTarefaDTO.class);
+        dto.setProfundidade(profundidade);
+        
+        ConsolidadoSubarvore consolidado = tarefa.getConsolidado();
+        dto.setConsolidado(ConsolidadoSubarvoreDTO.builder()
+            .quantidadeTarefas(consolidado.getQuantidadeTarefas())
+            .abertas(consolidado.getAbertas())
+            .emAndamento(consolidado.getEmAndamento())
+            .concluidas(consolidado.getConcluidas())
+            .canceladas(consolidado.getCanceladas())
+            .status(consolidado.getStatus())
+            .percentualConclusao(consolidado.getPercentualConclusao())
+            .estimativaHoras(consolidado.getEstimativaHoras())
+            .horasTrabalhadas(consolidado.getHorasTrabalhadas())
+            .build());
+        return dto;
+    }
+    
+    private TarefaResponseDTO converterParaDetalheDTO(Tarefa tarefa, TextoTarefa texto, Set<String> etiquetas) {
+        TarefaResponseDTO dto = converterParaResponseDTO(tarefa);
+        dto.setEtiquetas(etiquetas);
+        if (texto != null) {
+            dto.setDescricao(texto.getDescricao());
+            dto.setObservacoes(texto.getObservacoes());
+        }
         return dto;
     }
-}
\ No newline at end of file
+}
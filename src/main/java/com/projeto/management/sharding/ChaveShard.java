@@ -0,0 +1,24 @@
+package com.projeto.management.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o parâmetro de um método de service que identifica o shard da operação
+ * Com a propriedade informada, o ID é lido dessa propriedade do argumento (ex.: DTO de requisição)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ChaveShard {
+    
+    enum Tipo {
+        PROJETO,
+        TAREFA
+    }
+    
+    Tipo value() default Tipo.PROJETO;
+    
+    String propriedade() default "";
+}
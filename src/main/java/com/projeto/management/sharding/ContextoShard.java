@@ -0,0 +1,36 @@
+package com.projeto.management.sharding;
+
+/**
+ * Shard da thread corrente, consultado pelo RoteadorDataSource ao abrir conexões
+ */
+public final class ContextoShard {
+    
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+    
+    private ContextoShard() {
+    }
+    
+    /**
+     * Shard da thread corrente, ou null fora de uma operação roteada
+     */
+    public static Integer atual() {
+        return SHARD.get();
+    }
+    
+    /**
+     * Define o shard da thread e devolve o anterior, para ser restaurado com {@link #restaurar}
+     */
+    static Integer definir(int shard) {
+        Integer anterior = SHARD.get();
+        SHARD.set(shard);
+        return anterior;
+    }
+    
+    static void restaurar(Integer anterior) {
+        if (anterior == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(anterior);
+        }
+    }
+}
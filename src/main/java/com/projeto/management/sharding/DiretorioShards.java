@@ -0,0 +1,186 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.event.TarefaAlteradaEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.DatabaseMetaData;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Diretório projeto → shard, gravado na tabela projeto_shard do primeiro shard
+ *
+ * Projetos sem registro são os anteriores ao particionamento e ficam no primeiro shard
+ * (a inicialização registra os existentes). Só as entradas encontradas em projeto_shard são
+ * guardadas em memória: um projeto criado depois por outra instância continua visível.
+ * As escritas travam a linha do projeto no shard ({@link #travarParaEscrita}), a mesma que
+ * o rebalanceamento trava de forma exclusiva, e isso vale entre instâncias.
+ */
+@Slf4j
+public class DiretorioShards {
+    
+    private static final int MAXIMO_TAREFAS_EM_MEMORIA = 10_000;
+    
+    private final List<JdbcTemplate> shards;
+    private final JdbcTemplate roteado;
+    private final ExecutorShards executorShards;
+    private final Map<Long, Integer> shardPorProjeto = new ConcurrentHashMap<>();
+    private final Map<Long, Long> projetoPorTarefa = Collections.synchronizedMap(
+        new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> maisAntiga) {
+                return size() > MAXIMO_TAREFAS_EM_MEMORIA;
+            }
+        });
+    private final AtomicInteger proximoShard = new AtomicInteger();
+    private volatile String travaCompartilhada;
+    
+    public DiretorioShards(RoteadorDataSource roteador, ExecutorShards executorShards) {
+        this.shards = roteador.getShards().stream().map(JdbcTemplate::new).toList();
+        this.roteado = new JdbcTemplate(roteador);
+        this.executorShards = executorShards;
+    }
+    
+    public int quantidade() {
+        return shards.size();
+    }
+    
+    public JdbcTemplate jdbc(int shard) {
+        return shards.get(shard);
+    }
+    
+    public int shardDoProjeto(Long idProjeto) {
+        Integer shard = shardRegistrado(idProjeto);
+        return shard != null ? shard : 0;
+    }
+    
+    /**
+     * Shard registrado para o projeto, ou null se não há registro (projeto inexistente)
+     */
+    public Integer shardRegistrado(Long idProjeto) {
+        Integer shard = shardPorProjeto.get(idProjeto);
+        if (shard != null) {
+            return shard;
+        }
+        List<Integer> registro = shards.get(0).queryForList(
+            "SELECT shard FROM projeto_shard WHERE id_projeto = ?", Integer.class, idProjeto);
+        if (registro.isEmpty()) {
+            return null;
+        }
+        shardPorProjeto.put(idProjeto, registro.get(0));
+        return registro.get(0);
+    }
+    
+    /**
+     * Relê o shard do projeto no banco, descartando o guardado em memória
+     */
+    public int recarregar(Long idProjeto) {
+        shardPorProjeto.remove(idProjeto);
+        return shardDoProjeto(idProjeto);
+    }
+    
+    /**
+     * Trava a linha do projeto no shard da transação corrente até o fim dela (compartilhada
+     * no MySQL, para que escritas do mesmo projeto não se bloqueiem). O rebalanceamento
+     * trava a mesma linha de forma exclusiva: a mudança espera as escritas em andamento e as
+     * novas esperam a mudança terminar. Devolve false se o projeto não está nesse shard.
+     */
+    boolean travarParaEscrita(Long idProjeto) {
+        return !roteado.queryForList("SELECT id FROM projeto WHERE id = ? " + travaCompartilhada(),
+            Long.class, idProjeto).isEmpty();
+    }
+    
+    private String travaCompartilhada() {
+        String trava = travaCompartilhada;
+        if (trava == null) {
+            // O H2 só tem a trava exclusiva
+            trava = "MySQL".equals(produto()) ? "FOR SHARE" : "FOR UPDATE";
+            travaCompartilhada = trava;
+        }
+        return trava;
+    }
+    
+    private String produto() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(shards.get(0).getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        } catch (Exception e) {
+            throw new IllegalStateException("Banco do primeiro shard indisponível", e);
+        }
+    }
+    
+    /**
+     * Projeto de uma tarefa (na tabela quente ou no arquivo), procurado em todos os shards,
+     * ou null se a tarefa não existe
+     */
+    public Long projetoDaTarefa(Long idTarefa) {
+        Long idProjeto = projetoPorTarefa.get(idTarefa);
+        if (idProjeto != null) {
+            return idProjeto;
+        }
+        
+        idProjeto = executorShards.emTodos(shard -> shards.get(shard).queryForList(
+                "SELECT id_projeto FROM tarefa WHERE id = ? UNION ALL SELECT id_projeto FROM tarefa_arquivo WHERE id = ?",
+                Long.class, idTarefa, idTarefa))
+            .stream()
+            .flatMap(List::stream)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+        if (idProjeto != null) {
+            projetoPorTarefa.put(idTarefa, idProjeto);
+        }
+        return idProjeto;
+    }
+    
+    /**
+     * Shard de um novo projeto, em rodízio
+     */
+    public int escolherShardNovoProjeto() {
+        return Math.floorMod(proximoShard.getAndIncrement(), shards.size());
+    }
+    
+    /**
+     * Registra um projeto novo; chamado dentro da transação que o cria, que é desfeita se o
+     * registro falhar
+     */
+    public void registrar(Long idProjeto, int shard) {
+        shards.get(0).update("INSERT INTO projeto_shard (id_projeto, shard) VALUES (?, ?)", idProjeto, shard);
+        shardPorProjeto.put(idProjeto, shard);
+    }
+    
+    /**
+     * Aponta o projeto para outro shard; chamado com o projeto travado na origem
+     */
+    void mover(Long idProjeto, int shard) {
+        if (shards.get(0).update("UPDATE projeto_shard SET shard = ? WHERE id_projeto = ?", shard, idProjeto) == 0) {
+            shards.get(0).update("INSERT INTO projeto_shard (id_projeto, shard) VALUES (?, ?)", idProjeto, shard);
+        }
+        shardPorProjeto.put(idProjeto, shard);
+    }
+    
+    /**
+     * Descarta o shard guardado do projeto (movido por outra instância)
+     */
+    public void esquecer(Long idProjeto) {
+        shardPorProjeto.remove(idProjeto);
+    }
+    
+    /**
+     * Esquece o projeto guardado de uma tarefa que mudou de projeto
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        if (evento.anterior() != null && evento.atual() != null
+                && !Objects.equals(evento.anterior().projetoId(), evento.atual().projetoId())) {
+            projetoPorTarefa.remove(evento.atual().id());
+        }
+    }
+}
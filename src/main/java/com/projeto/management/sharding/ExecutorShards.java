@@ -0,0 +1,113 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.config.ShardingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Executa uma operação em cada shard com o {@link ContextoShard} definido
+ * Sem particionamento há um único shard e a operação roda na própria thread.
+ */
+@Component
+public class ExecutorShards {
+    
+    private final int quantidade;
+    private final Executor executor;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate somenteLeitura;
+    
+    public ExecutorShards(ShardingProperties properties,
+                          PlatformTransactionManager transactionManager,
+                          @Qualifier("shardsExecutor") ObjectProvider<Executor> executor) {
+        this.quantidade = properties.isHabilitado() ? properties.getShards().size() : 1;
+        this.executor = executor.getIfAvailable();
+        this.transactionManager = transactionManager;
+        this.somenteLeitura = new TransactionTemplate(transactionManager);
+        this.somenteLeitura.setReadOnly(true);
+    }
+    
+    public int quantidade() {
+        return quantidade;
+    }
+    
+    /**
+     * Executa a operação em todos os shards em paralelo e devolve os resultados na ordem dos shards
+     * Cada execução abre suas próprias transações; a thread chamadora apenas aguarda. Se a
+     * chamadora está numa transação com timeout, o tempo restante vale para cada shard.
+     */
+    public <T> List<T> emTodos(IntFunction<T> operacao) {
+        if (quantidade == 1) {
+            return Collections.singletonList(noShard(0, operacao));
+        }
+        
+        IntFunction<T> porShard = comTimeoutDaChamadora(operacao);
+        List<CompletableFuture<T>> futuros = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            int shard = i;
+            futuros.add(CompletableFuture.supplyAsync(() -> noShard(shard, porShard), executor));
+        }
+        
+        List<T> resultados = new ArrayList<>(quantidade);
+        for (CompletableFuture<T> futuro : futuros) {
+            try {
+                resultados.add(futuro.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw e;
+            }
+        }
+        return resultados;
+    }
+    
+    /**
+     * Executa a operação em cada shard, um de cada vez na thread chamadora, numa transação
+     * somente leitura por shard (cargas que acumulam numa estrutura não concorrente)
+     */
+    public void emCadaSomenteLeitura(IntConsumer operacao) {
+        for (int i = 0; i < quantidade; i++) {
+            int shard = i;
+            noShard(shard, s -> {
+                somenteLeitura.executeWithoutResult(status -> operacao.accept(s));
+                return null;
+            });
+        }
+    }
+    
+    private <T> IntFunction<T> comTimeoutDaChamadora(IntFunction<T> operacao) {
+        if (!(transactionManager instanceof JpaTransactionManager jpa)
+                || !(TransactionSynchronizationManager.getResource(jpa.getEntityManagerFactory())
+                    instanceof EntityManagerHolder holder)
+                || !holder.hasTimeout()) {
+            return operacao;
+        }
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setTimeout(holder.getTimeToLiveInSeconds());
+        return shard -> transacao.execute(status -> operacao.apply(shard));
+    }
+    
+    private static <T> T noShard(int shard, IntFunction<T> operacao) {
+        Integer anterior = ContextoShard.definir(shard);
+        try {
+            return operacao.apply(shard);
+        } finally {
+            ContextoShard.restaurar(anterior);
+        }
+    }
+}
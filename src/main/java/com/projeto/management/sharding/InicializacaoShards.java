@@ -0,0 +1,110 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.config.ShardingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepara os shards depois que o Hibernate validou (ou criou) o esquema no primeiro
+ *
+ * Cria a tabela do diretório, registra nela os projetos do primeiro shard que ainda não têm
+ * entrada (anteriores ao particionamento) e, nos bancos H2 de desenvolvimento e testes,
+ * replica o esquema para os demais shards e ajusta as colunas de identidade. No MySQL o intervalo de IDs é
+ * definido por conexão (auto_increment_increment/offset, ver ShardingConfig).
+ */
+@Slf4j
+public class InicializacaoShards implements SmartInitializingSingleton {
+    
+    private final RoteadorDataSource roteador;
+    private final ShardingProperties properties;
+    
+    public InicializacaoShards(RoteadorDataSource roteador, ShardingProperties properties) {
+        this.roteador = roteador;
+        this.properties = properties;
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        JdbcTemplate diretorio = new JdbcTemplate(roteador.shard(0));
+        diretorio.execute("CREATE TABLE IF NOT EXISTS projeto_shard ("
+            + "id_projeto BIGINT NOT NULL PRIMARY KEY, shard INT NOT NULL)");
+        registrarProjetosExistentes(diretorio);
+        
+        List<DataSource> shards = roteador.getShards();
+        for (int i = 0; i < shards.size(); i++) {
+            if (!isH2(shards.get(i))) {
+                continue;
+            }
+            JdbcTemplate jdbc = new JdbcTemplate(shards.get(i));
+            if (i > 0 && properties.isReplicarEsquema() && semTabelas(jdbc)) {
+                replicarEsquema(diretorio, jdbc);
+            }
+            ajustarIdentidades(jdbc, i);
+        }
+        log.info("{} shards inicializados", shards.size());
+    }
+    
+    private static void registrarProjetosExistentes(JdbcTemplate diretorio) {
+        try {
+            int registrados = diretorio.update("INSERT INTO projeto_shard (id_projeto, shard) "
+                + "SELECT p.id, 0 FROM (SELECT id FROM projeto UNION SELECT id FROM projeto_arquivo) p "
+                + "WHERE NOT EXISTS (SELECT 1 FROM projeto_shard s WHERE s.id_projeto = p.id)");
+            if (registrados > 0) {
+                log.info("{} projetos anteriores ao particionamento registrados no primeiro shard", registrados);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância registrou os mesmos projetos ao mesmo tempo
+            log.debug("Projetos existentes já registrados por outra instância: {}", e.getMessage());
+        }
+    }
+    
+    private static void replicarEsquema(JdbcTemplate origem, JdbcTemplate destino) {
+        for (String comando : origem.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class)) {
+            if (!comando.startsWith("--") && !comando.startsWith("CREATE USER")) {
+                destino.execute(comando);
+            }
+        }
+    }
+    
+    /**
+     * O shard N passa a gerar IDs congruentes a N + 1 módulo o incremento, acima dos existentes
+     */
+    private void ajustarIdentidades(JdbcTemplate jdbc, int shard) {
+        int incremento = properties.getIncrementoIds();
+        List<Map<String, Object>> colunas = jdbc.queryForList("SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+            + "WHERE IS_IDENTITY = 'YES' AND TABLE_SCHEMA = 'PUBLIC'");
+        for (Map<String, Object> coluna : colunas) {
+            String tabela = (String) coluna.get("TABLE_NAME");
+            String nome = (String) coluna.get("COLUMN_NAME");
+            Long maior = jdbc.queryForObject("SELECT COALESCE(MAX(" + nome + "), 0) FROM " + tabela, Long.class);
+            long proximo = maior - Math.floorMod(maior, incremento) + shard + 1;
+            if (proximo <= maior) {
+                proximo += incremento;
+            }
+            jdbc.execute("ALTER TABLE " + tabela + " ALTER COLUMN " + nome
+                + " RESTART WITH " + proximo + " SET INCREMENT BY " + incremento);
+        }
+    }
+    
+    private static boolean semTabelas(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'",
+            Integer.class) == 0;
+    }
+    
+    private static boolean isH2(DataSource dataSource) {
+        try {
+            String produto = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "H2".equals(produto);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.projeto.management.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o parâmetro com a quantidade de itens de um resumo, usada para cortar os itens mesclados
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LimiteItens {
+}
@@ -0,0 +1,170 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.enums.Prioridade;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Mescla os resultados de um método executado em todos os shards
+ */
+final class MesclagemShards {
+    
+    /**
+     * Propriedades da entidade que chegam ao item com outro nome (projeto.nome → nomeProjeto)
+     */
+    private static final Map<String, String> PROPRIEDADES_DOS_ITENS = Map.of(
+        "projeto.id", "idProjeto",
+        "projeto.nome", "nomeProjeto");
+    
+    private MesclagemShards() {
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object mesclar(List<Object> resultados, String[] ordenarPor, Pageable pagina, Integer limite) {
+        Object primeiro = resultados.get(0);
+        if (primeiro == null) {
+            return null;
+        }
+        if (resultados.size() == 1) {
+            return primeiro;
+        }
+        
+        if (primeiro instanceof Page<?>) {
+            List<Object> itens = new ArrayList<>();
+            long total = 0;
+            for (Object resultado : resultados) {
+                itens.addAll(((Page<?>) resultado).getContent());
+                total += ((Page<?>) resultado).getTotalElements();
+            }
+            if (pagina == null || pagina.isUnpaged()) {
+                return new PageImpl<>(ordenar(itens, pagina != null ? pagina.getSort() : Sort.unsorted()));
+            }
+            ordenar(itens, pagina.getSort());
+            int inicio = (int) Math.min(pagina.getOffset(), itens.size());
+            int fim = Math.min(inicio + pagina.getPageSize(), itens.size());
+            return new PageImpl<>(new ArrayList<>(itens.subList(inicio, fim)), pagina, total);
+        }
+        if (primeiro instanceof ResumoListaDTO<?>) {
+            List<Object> itens = new ArrayList<>();
+            long total = 0;
+            for (Object resultado : resultados) {
+                itens.addAll(((ResumoListaDTO<?>) resultado).getItens());
+                total += ((ResumoListaDTO<?>) resultado).getTotal();
+            }
+            ordenar(itens, ordenacao(ordenarPor));
+            if (limite != null && itens.size() > limite) {
+                itens = new ArrayList<>(itens.subList(0, limite));
+            }
+            return new ResumoListaDTO<>(total, itens);
+        }
+        if (primeiro instanceof Collection<?>) {
+            List<Object> itens = new ArrayList<>();
+            resultados.forEach(resultado -> itens.addAll((Collection<?>) resultado));
+            return ordenar(itens, ordenacao(ordenarPor));
+        }
+        if (primeiro instanceof Map<?, ?>) {
+            Map mesclado = primeiro instanceof EnumMap<?, ?> enumMap ? new EnumMap(enumMap) : new HashMap<>((Map<?, ?>) primeiro);
+            for (Object resultado : resultados.subList(1, resultados.size())) {
+                ((Map<?, ?>) resultado).forEach((chave, valor) -> mesclado.merge(chave, valor, MesclagemShards::somar));
+            }
+            return mesclado;
+        }
+        if (primeiro instanceof Number) {
+            return resultados.stream().reduce(MesclagemShards::somar).orElseThrow();
+        }
+        if (primeiro instanceof Mesclavel<?>) {
+            Mesclavel mesclado = (Mesclavel) primeiro;
+            for (Object resultado : resultados.subList(1, resultados.size())) {
+                mesclado = (Mesclavel) mesclado.mesclar(resultado);
+            }
+            return mesclado;
+        }
+        throw new IllegalStateException("Sem mescla entre shards para " + primeiro.getClass().getName());
+    }
+    
+    private static Object somar(Object a, Object b) {
+        if (a instanceof Integer x && b instanceof Integer y) {
+            return x + y;
+        }
+        return ((Number) a).longValue() + ((Number) b).longValue();
+    }
+    
+    private static Sort ordenacao(String[] ordenarPor) {
+        List<Sort.Order> ordens = new ArrayList<>();
+        for (String propriedade : ordenarPor) {
+            ordens.add(propriedade.startsWith("-")
+                ? Sort.Order.desc(propriedade.substring(1))
+                : Sort.Order.asc(propriedade));
+        }
+        return Sort.by(ordens);
+    }
+    
+    /**
+     * Ordena pelos valores das propriedades dos itens, como o banco ordenaria: enums pelo
+     * nome (gravados como texto), o peso pelo nível da prioridade e nulos primeiro na ordem
+     * crescente. Propriedades da entidade sem correspondente no item são recusadas.
+     */
+    private static List<Object> ordenar(List<Object> itens, Sort sort) {
+        if (itens.isEmpty()) {
+            return itens;
+        }
+        Comparator<Object> comparador = null;
+        for (Sort.Order ordem : sort) {
+            Function<Object, Object> chave = chave(itens.get(0), ordem.getProperty());
+            Comparator<Object> porPropriedade = (a, b) -> comparar(chave.apply(a), chave.apply(b));
+            if (ordem.isDescending()) {
+                porPropriedade = porPropriedade.reversed();
+            }
+            comparador = comparador == null ? porPropriedade : comparador.thenComparing(porPropriedade);
+        }
+        if (comparador != null) {
+            itens.sort(comparador);
+        }
+        return itens;
+    }
+    
+    private static Function<Object, Object> chave(Object exemplo, String propriedade) {
+        if ("pesoPrioridade".equals(propriedade)) {
+            return item -> {
+                Prioridade prioridade = (Prioridade) new BeanWrapperImpl(item).getPropertyValue("prioridade");
+                return prioridade != null ? prioridade.getNivel() : 0;
+            };
+        }
+        String propriedadeItem = PROPRIEDADES_DOS_ITENS.getOrDefault(propriedade, propriedade);
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(exemplo);
+        if (!wrapper.isReadableProperty(propriedadeItem)
+                || !ordenavel(wrapper.getPropertyType(propriedadeItem))) {
+            throw new BusinessException("Ordenação não suportada entre shards: " + propriedade);
+        }
+        return item -> {
+            Object valor = new BeanWrapperImpl(item).getPropertyValue(propriedadeItem);
+            return valor instanceof Enum<?> constante ? constante.name() : valor;
+        };
+    }
+    
+    private static boolean ordenavel(Class<?> tipo) {
+        return tipo != null && (Comparable.class.isAssignableFrom(tipo) || tipo.isPrimitive());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static int comparar(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+}
@@ -0,0 +1,9 @@
+package com.projeto.management.sharding;
+
+/**
+ * Resultado que sabe se combinar com o resultado equivalente de outro shard
+ */
+public interface Mesclavel<T> {
+    
+    T mesclar(T outro);
+}
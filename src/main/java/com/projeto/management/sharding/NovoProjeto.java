@@ -0,0 +1,15 @@
+package com.projeto.management.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o método que cria um projeto: o shard é escolhido antes da chamada e o projeto
+ * criado (propriedade "id" do retorno) é registrado no diretório depois dela
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NovoProjeto {
+}
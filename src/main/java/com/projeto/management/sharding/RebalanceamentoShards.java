@@ -0,0 +1,159 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.cache.LogAlteracoes;
+import com.projeto.management.dto.response.ResultadoRebalanceamentoDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Move um projeto, com tudo o que pertence a ele, de um shard para outro sem parar a aplicação
+ *
+ * Numa transação na origem, trava a linha do projeto de forma exclusiva: as escritas em
+ * andamento, de qualquer instância, terminam antes da leitura e as novas esperam (as escritas
+ * seguram a mesma linha, ver {@link DiretorioShards#travarParaEscrita}); as dos demais
+ * projetos seguem normalmente. Com a trava, copia as linhas para o destino numa transação,
+ * aponta o diretório para o destino e remove as linhas da origem na transação da trava. As
+ * escritas que esperavam não encontram mais o projeto na origem e seguem para o destino.
+ * Uma falha antes da troca do diretório deixa o projeto na origem (a cópia é idempotente: o
+ * destino é limpo antes); depois dela, sobras na origem, que as consultas em todos os shards
+ * enxergariam até serem removidas, por isso a falha é registrada com o projeto e o shard.
+ */
+@Slf4j
+public class RebalanceamentoShards {
+    
+    /**
+     * Tabelas com linhas do projeto, na ordem de inserção (pais antes de filhos)
+     */
+    private static final List<TabelaDoProjeto> TABELAS = List.of(
+        new TabelaDoProjeto("projeto", "id = ?"),
+        new TabelaDoProjeto("projeto_arquivo", "id = ?"),
+        new TabelaDoProjeto("projeto_texto", "id_projeto = ?"),
+        new TabelaDoProjeto("tarefa", "id_projeto = ?"),
+        new TabelaDoProjeto("tarefa_hierarquia", "id_descendente IN (SELECT id FROM tarefa WHERE id_projeto = ?)"),
+        new TabelaDoProjeto("tarefa_texto", "id_tarefa IN (SELECT id FROM tarefa WHERE id_projeto = ?)"),
+        new TabelaDoProjeto("tarefa_etiqueta", "id_tarefa IN (SELECT id FROM tarefa WHERE id_projeto = ?)"),
+        new TabelaDoProjeto("tarefa_arquivo", "id_projeto = ?"),
+        new TabelaDoProjeto("burndown_projeto", "id_projeto = ?"));
+    
+    private final DiretorioShards diretorio;
+    private final LogAlteracoes logAlteracoes;
+    private final List<TransactionTemplate> transacoes = new ArrayList<>();
+    private final TransactionTemplate transacaoDiretorio;
+    
+    public RebalanceamentoShards(DiretorioShards diretorio, LogAlteracoes logAlteracoes) {
+        this.diretorio = diretorio;
+        this.logAlteracoes = logAlteracoes;
+        for (int i = 0; i < diretorio.quantidade(); i++) {
+            transacoes.add(new TransactionTemplate(new DataSourceTransactionManager(diretorio.jdbc(i).getDataSource())));
+        }
+        // O diretório é confirmado antes da remoção na origem, mesmo quando a origem é o primeiro shard
+        this.transacaoDiretorio = new TransactionTemplate(new DataSourceTransactionManager(diretorio.jdbc(0).getDataSource()));
+        this.transacaoDiretorio.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    public ResultadoRebalanceamentoDTO moverProjeto(Long idProjeto, int destino) {
+        if (destino < 0 || destino >= diretorio.quantidade()) {
+            throw new BusinessException("Shard de destino inválido: " + destino);
+        }
+        
+        long inicio = System.currentTimeMillis();
+        int origem = diretorio.recarregar(idProjeto);
+        if (origem == destino) {
+            throw new BusinessException("Projeto " + idProjeto + " já está no shard " + destino);
+        }
+        
+        JdbcTemplate jdbcOrigem = diretorio.jdbc(origem);
+        JdbcTemplate jdbcDestino = diretorio.jdbc(destino);
+        AtomicBoolean diretorioTrocado = new AtomicBoolean();
+        long copiadas;
+        try {
+            copiadas = transacoes.get(origem).execute(status -> {
+                jdbcOrigem.queryForList("SELECT id FROM projeto WHERE id = ? FOR UPDATE", Long.class, idProjeto);
+                if (diretorio.recarregar(idProjeto) != origem) {
+                    throw new BusinessException("Projeto " + idProjeto + " foi movido por outra operação");
+                }
+                
+                List<List<Map<String, Object>>> linhas = TABELAS.stream()
+                    .map(tabela -> tabela.ler(jdbcOrigem, idProjeto))
+                    .toList();
+                if (linhas.get(0).isEmpty() && linhas.get(1).isEmpty()) {
+                    throw new EntityNotFoundException("Projeto não encontrado com ID: " + idProjeto);
+                }
+                
+                long total = transacoes.get(destino).execute(statusDestino -> {
+                    remover(jdbcDestino, idProjeto);
+                    long inseridas = 0;
+                    for (int i = 0; i < TABELAS.size(); i++) {
+                        inseridas += TABELAS.get(i).inserir(jdbcDestino, linhas.get(i));
+                    }
+                    return inseridas;
+                });
+                
+                transacaoDiretorio.executeWithoutResult(statusDiretorio -> diretorio.mover(idProjeto, destino));
+                diretorioTrocado.set(true);
+                logAlteracoes.registrarMovimentacao(idProjeto);
+                remover(jdbcOrigem, idProjeto);
+                return total;
+            });
+        } catch (RuntimeException e) {
+            if (diretorioTrocado.get()) {
+                log.error("Projeto {} movido para o shard {}, mas as linhas do shard {} não foram removidas",
+                    idProjeto, destino, origem, e);
+            }
+            throw e;
+        }
+        
+        log.info("Projeto {} movido do shard {} para o shard {} ({} linhas)", idProjeto, origem, destino, copiadas);
+        return ResultadoRebalanceamentoDTO.builder()
+            .idProjeto(idProjeto)
+            .shardOrigem(origem)
+            .shardDestino(destino)
+            .linhasCopiadas(copiadas)
+            .duracaoMs(System.currentTimeMillis() - inicio)
+            .build();
+    }
+    
+    private static void remover(JdbcTemplate jdbc, Long idProjeto) {
+        for (int i = TABELAS.size() - 1; i >= 0; i--) {
+            TABELAS.get(i).remover(jdbc, idProjeto);
+        }
+    }
+    
+    /**
+     * Tabela e condição que seleciona as linhas do projeto (tarefa_texto chega ao projeto
+     * pela tarefa, por isso é removida antes dela)
+     */
+    private record TabelaDoProjeto(String nome, String filtroProjeto) {
+        
+        List<Map<String, Object>> ler(JdbcTemplate jdbc, Long idProjeto) {
+            return jdbc.queryForList("SELECT * FROM " + nome + " WHERE " + filtroProjeto, idProjeto);
+        }
+        
+        int inserir(JdbcTemplate jdbc, List<Map<String, Object>> linhas) {
+            if (linhas.isEmpty()) {
+                return 0;
+            }
+            List<String> colunas = List.copyOf(linhas.get(0).keySet());
+            String sql = "INSERT INTO " + nome + " (" + String.join(", ", colunas) + ") VALUES ("
+                + String.join(", ", colunas.stream().map(coluna -> "?").toList()) + ")";
+            jdbc.batchUpdate(sql, linhas.stream()
+                .map(linha -> colunas.stream().map(linha::get).toArray())
+                .toList());
+            return linhas.size();
+        }
+        
+        void remover(JdbcTemplate jdbc, Long idProjeto) {
+            jdbc.update("DELETE FROM " + nome + " WHERE " + filtroProjeto, idProjeto);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.projeto.management.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource que entrega conexões do shard definido em {@link ContextoShard}
+ * Sem shard definido, usa o primeiro, onde ficam os dados anteriores ao particionamento
+ */
+public class RoteadorDataSource extends AbstractRoutingDataSource {
+    
+    private final List<DataSource> shards;
+    
+    public RoteadorDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        
+        Map<Object, Object> alvos = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            alvos.put(i, shards.get(i));
+        }
+        setTargetDataSources(alvos);
+        setDefaultTargetDataSource(shards.get(0));
+        afterPropertiesSet();
+    }
+    
+    public DataSource shard(int indice) {
+        return shards.get(indice);
+    }
+    
+    public List<DataSource> getShards() {
+        return shards;
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ContextoShard.atual();
+    }
+}
@@ -0,0 +1,259 @@
+package com.projeto.management.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Roteia as chamadas aos services para o shard do projeto envolvido
+ *
+ * Executa fora da transação do método (precedência maior que a do TransactionInterceptor),
+ * porque a conexão é obtida ao iniciar a transação e precisa vir do shard certo. Nas escritas
+ * a transação é aberta aqui, com a linha do projeto travada antes do método, para que um
+ * rebalanceamento em qualquer instância não perca a escrita; a criação de projeto registra
+ * o diretório nessa mesma transação.
+ */
+@Slf4j
+public class RoteamentoShardInterceptor implements MethodInterceptor {
+    
+    private static final int MAXIMO_TENTATIVAS_ESCRITA = 3;
+    private static final AnnotationTransactionAttributeSource ATRIBUTOS = new AnnotationTransactionAttributeSource();
+    
+    private final DiretorioShards diretorio;
+    private final ExecutorShards executorShards;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<Method, Roteamento> roteamentos = new ConcurrentHashMap<>();
+    
+    public RoteamentoShardInterceptor(DiretorioShards diretorio, ExecutorShards executorShards,
+                                      PlatformTransactionManager transactionManager) {
+        this.diretorio = diretorio;
+        this.executorShards = executorShards;
+        this.transactionManager = transactionManager;
+    }
+    
+    /**
+     * Se o método é roteado: tem parâmetro {@link ChaveShard} ou é {@link TodosOsShards} / {@link NovoProjeto}
+     */
+    public static boolean isRoteado(Method metodo) {
+        if (metodo.isAnnotationPresent(TodosOsShards.class) || metodo.isAnnotationPresent(NovoProjeto.class)) {
+            return true;
+        }
+        for (Parameter parametro : metodo.getParameters()) {
+            if (parametro.isAnnotationPresent(ChaveShard.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Roteamento roteamento = roteamentos.computeIfAbsent(metodoAlvo(invocation), Roteamento::de);
+        Object[] argumentos = invocation.getArguments();
+        
+        Long idProjeto = roteamento.idProjeto(argumentos, diretorio);
+        if (idProjeto != null) {
+            return roteamento.escrita()
+                ? escreverNoShardDoProjeto(idProjeto, invocation)
+                : noShard(diretorio.shardDoProjeto(idProjeto), invocation::proceed);
+        }
+        if (roteamento.novoProjeto()) {
+            return criarProjeto(invocation);
+        }
+        if (roteamento.todos() != null) {
+            return emTodos(roteamento, invocation);
+        }
+        // Chave nula (ex.: tarefa inexistente): o shard padrão responde como antes
+        return invocation.proceed();
+    }
+    
+    /**
+     * Escrita com a linha do projeto travada no shard. Se o projeto não está mais lá (movido
+     * por outra instância depois que o shard foi guardado em memória), segue para o shard
+     * atual do diretório; se não está em lugar nenhum, o método responde como de costume.
+     */
+    private Object escreverNoShardDoProjeto(Long idProjeto, MethodInvocation invocation) throws Throwable {
+        int shard = diretorio.shardDoProjeto(idProjeto);
+        for (int tentativa = 1; ; tentativa++) {
+            int atual = shard;
+            boolean ultima = tentativa == MAXIMO_TENTATIVAS_ESCRITA;
+            Object resultado = emTransacaoNoShard(atual, () -> {
+                if (!diretorio.travarParaEscrita(idProjeto) && !ultima && diretorio.recarregar(idProjeto) != atual) {
+                    return Movido.INSTANCIA;
+                }
+                return invocation.proceed();
+            });
+            if (resultado != Movido.INSTANCIA) {
+                return resultado;
+            }
+            shard = diretorio.shardDoProjeto(idProjeto);
+            log.debug("Projeto {} foi movido do shard {} para o shard {}: escrita refeita", idProjeto, atual, shard);
+        }
+    }
+    
+    private Object criarProjeto(MethodInvocation invocation) throws Throwable {
+        int shard = diretorio.escolherShardNovoProjeto();
+        return emTransacaoNoShard(shard, () -> {
+            Object criado = invocation.proceed();
+            Long id = (Long) new BeanWrapperImpl(criado).getPropertyValue("id");
+            diretorio.registrar(id, shard);
+            log.debug("Projeto {} criado no shard {}", id, shard);
+            return criado;
+        });
+    }
+    
+    private Object emTransacaoNoShard(int shard, Operacao operacao) throws Throwable {
+        return noShard(shard, () -> {
+            try {
+                return new TransactionTemplate(transactionManager).execute(status -> {
+                    try {
+                        return operacao.executar();
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new ExcecaoVerificada(e);
+                    }
+                });
+            } catch (ExcecaoVerificada e) {
+                throw e.getCause();
+            }
+        });
+    }
+    
+    private Object emTodos(Roteamento roteamento, MethodInvocation invocation) {
+        Object[] argumentos = invocation.getArguments();
+        Pageable pagina = roteamento.pagina(argumentos);
+        Object[] argumentosPorShard = argumentos.clone();
+        if (pagina != null && pagina.isPaged()) {
+            // Cada shard devolve tudo até o fim da página pedida; o corte acontece depois da mescla
+            argumentosPorShard[roteamento.indicePagina()] =
+                PageRequest.of(0, (int) pagina.getOffset() + pagina.getPageSize(), pagina.getSort());
+        }
+        
+        ProxyMethodInvocation original = (ProxyMethodInvocation) invocation;
+        List<Object> resultados = executorShards.emTodos(shard -> {
+            try {
+                return original.invocableClone(argumentosPorShard.clone()).proceed();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        });
+        
+        return MesclagemShards.mesclar(resultados, roteamento.todos().ordenarPor(), pagina, roteamento.limite(argumentos));
+    }
+    
+    private static Object noShard(int shard, Operacao operacao) throws Throwable {
+        Integer atual = ContextoShard.atual();
+        if (atual != null && atual != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Operação no shard " + shard + " dentro de uma transação do shard " + atual);
+        }
+        
+        Integer anterior = ContextoShard.definir(shard);
+        try {
+            return operacao.executar();
+        } finally {
+            ContextoShard.restaurar(anterior);
+        }
+    }
+    
+    private static Method metodoAlvo(MethodInvocation invocation) {
+        return invocation.getThis() != null
+            ? AopUtils.getMostSpecificMethod(invocation.getMethod(), AopUtils.getTargetClass(invocation.getThis()))
+            : invocation.getMethod();
+    }
+    
+    @FunctionalInterface
+    private interface Operacao {
+        Object executar() throws Throwable;
+    }
+    
+    /**
+     * Exceção verificada do método, levada através do TransactionTemplate (que desfaz a transação)
+     */
+    private static final class ExcecaoVerificada extends RuntimeException {
+        
+        ExcecaoVerificada(Throwable causa) {
+            super(causa);
+        }
+    }
+    
+    /**
+     * Resultado da tentativa de escrita num shard de onde o projeto já saiu
+     */
+    private enum Movido {
+        INSTANCIA
+    }
+    
+    /**
+     * Como rotear as chamadas de um método, lido das anotações uma única vez
+     * (escrita: transação que não é somente leitura)
+     */
+    private record Roteamento(int indiceChave, ChaveShard chave, int indicePagina, int indiceLimite,
+                              TodosOsShards todos, boolean novoProjeto, boolean escrita) {
+        
+        static Roteamento de(Method metodo) {
+            int indiceChave = -1;
+            int indicePagina = -1;
+            int indiceLimite = -1;
+            ChaveShard chave = null;
+            Parameter[] parametros = metodo.getParameters();
+            for (int i = 0; i < parametros.length; i++) {
+                if (parametros[i].isAnnotationPresent(ChaveShard.class)) {
+                    indiceChave = i;
+                    chave = parametros[i].getAnnotation(ChaveShard.class);
+                }
+                if (parametros[i].isAnnotationPresent(LimiteItens.class)) {
+                    indiceLimite = i;
+                }
+                if (Pageable.class.isAssignableFrom(parametros[i].getType())) {
+                    indicePagina = i;
+                }
+            }
+            TransactionAttribute transacao = ATRIBUTOS.getTransactionAttribute(metodo, metodo.getDeclaringClass());
+            return new Roteamento(indiceChave, chave, indicePagina, indiceLimite,
+                metodo.getAnnotation(TodosOsShards.class), metodo.isAnnotationPresent(NovoProjeto.class),
+                transacao != null && !transacao.isReadOnly());
+        }
+        
+        Long idProjeto(Object[] argumentos, DiretorioShards diretorio) {
+            if (chave == null || argumentos[indiceChave] == null) {
+                return null;
+            }
+            Object argumento = argumentos[indiceChave];
+            Long id = chave.propriedade().isEmpty()
+                ? (Long) argumento
+                : (Long) new BeanWrapperImpl(argumento).getPropertyValue(chave.propriedade());
+            if (id == null || chave.value() == ChaveShard.Tipo.PROJETO) {
+                return id;
+            }
+            return diretorio.projetoDaTarefa(id);
+        }
+        
+        Pageable pagina(Object[] argumentos) {
+            return indicePagina >= 0 ? (Pageable) argumentos[indicePagina] : null;
+        }
+        
+        Integer limite(Object[] argumentos) {
+            return indiceLimite >= 0 ? ((Number) argumentos[indiceLimite]).intValue() : null;
+        }
+    }
+}
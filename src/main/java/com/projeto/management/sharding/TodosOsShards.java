@@ -0,0 +1,22 @@
+package com.projeto.management.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executa o método em paralelo em todos os shards e mescla os resultados conforme o tipo de
+ * retorno: listas são concatenadas, páginas e resumos reordenados e cortados, números somados
+ * e {@link Mesclavel} combinados. Se um parâmetro {@link ChaveShard} vier preenchido,
+ * a chamada vai apenas ao shard desse projeto.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TodosOsShards {
+    
+    /**
+     * Ordenação aplicada aos itens mesclados de listas e resumos; prefixo "-" para decrescente
+     */
+    String[] ordenarPor() default {};
+}
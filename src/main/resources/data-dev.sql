@@ -1,32 +1,92 @@
 -- Script SQL para dados de exemplo em ambiente de desenvolvimento
 -- Inserir projetos de exemplo
-INSERT INTO projeto (nome, descricao, data_inicio, data_fim_prevista, status, prioridade, orcamento, responsavel, usuario_criacao) VALUES
-('E-commerce Platform', 'Desenvolvimento de plataforma de e-commerce completa com painel administrativo', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 150000.00, 'João Silva', 'admin'),
-('Migração Legacy', 'Migração do sistema legado para nova arquitetura de microserviços', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 80000.00, 'Maria Santos', 'admin'),
-('App Mobile iOS/Android', 'Desenvolvimento do aplicativo mobile para iOS e Android', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 120000.00, 'Pedro Costa', 'admin'),
-('Sistema de Relatórios', 'Desenvolvimento de sistema de relatórios avançados com dashboards', '2025-11-01', '2026-01-31', 'PLANEJAMENTO', 'MEDIA', 60000.00, 'Ana Lima', 'admin');
+INSERT INTO projeto (nome, data_inicio, data_fim_prevista, status, prioridade, orcamento, responsavel, usuario_criacao) VALUES
+('E-commerce Platform', '2025-09-01', '2025-12-31', 'EM_ANDAMENTO', 'ALTA', 150000.00, 'João Silva', 'admin'),
+('Migração Legacy', '2025-10-01', '2025-11-30', 'PLANEJAMENTO', 'CRITICA', 80000.00, 'Maria Santos', 'admin'),
+('App Mobile iOS/Android', '2025-09-15', '2026-03-15', 'EM_ANDAMENTO', 'MEDIA', 120000.00, 'Pedro Costa', 'admin'),
+('Sistema de Relatórios', '2025-11-01', '2026-01-31', 'PLANEJAMENTO', 'MEDIA', 60000.00, 'Ana Lima', 'admin');
 
 -- Inserir tarefas de exemplo
-INSERT INTO tarefa (titulo, descricao, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, horas_trabalhadas, percentual_conclusao, responsavel, id_projeto, usuario_criacao) VALUES
+INSERT INTO tarefa (titulo, status, prioridade, data_inicio, data_fim_prevista, estimativa_horas, horas_trabalhadas, percentual_conclusao, responsavel, id_projeto, usuario_criacao) VALUES
 -- Tarefas do E-commerce Platform (ID 1)
-('Análise de Requisitos', 'Levantamento completo dos requisitos funcionais e não funcionais', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
-('Design System e UI/UX', 'Criação do design system e protótipos das interfaces', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
-('API Backend - Autenticação', 'Desenvolvimento da API de autenticação e autorização', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
-('API Backend - Catálogo', 'Desenvolvimento da API de gerenciamento do catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
-('Frontend - Página Inicial', 'Desenvolvimento da página inicial do e-commerce', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
-('Testes Automatizados', 'Implementação da suite de testes automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
+('Análise de Requisitos', 'CONCLUIDA', 'ALTA', '2025-09-01', '2025-09-15', 80.00, 75.50, 100, 'Ana Lima', 1, 'admin'),
+('Design System e UI/UX', 'EM_ANDAMENTO', 'ALTA', '2025-09-16', '2025-10-15', 120.00, 60.00, 50, 'Carlos Designer', 1, 'admin'),
+('API Backend - Autenticação', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-20', 60.00, 20.00, 30, 'João Silva', 1, 'admin'),
+('API Backend - Catálogo', 'ABERTA', 'ALTA', '2025-10-15', '2025-11-10', 80.00, 0.00, 0, 'João Silva', 1, 'admin'),
+('Frontend - Página Inicial', 'ABERTA', 'MEDIA', '2025-10-20', '2025-11-05', 40.00, 0.00, 0, 'Roberto Frontend', 1, 'admin'),
+('Testes Automatizados', 'ABERTA', 'MEDIA', '2025-11-15', '2025-12-10', 60.00, 0.00, 0, 'Testadora QA', 1, 'admin'),
 
 -- Tarefas da Migração Legacy (ID 2)
-('Mapeamento da Arquitetura Atual', 'Documentação detalhada da arquitetura legada', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
-('Planejamento da Nova Arquitetura', 'Design da nova arquitetura de microserviços', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
-('Setup da Infraestrutura', 'Configuração da infraestrutura para os microserviços', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
+('Mapeamento da Arquitetura Atual', 'EM_ANDAMENTO', 'CRITICA', '2025-10-01', '2025-10-15', 40.00, 15.00, 40, 'Arquiteto Senior', 2, 'admin'),
+('Planejamento da Nova Arquitetura', 'ABERTA', 'CRITICA', '2025-10-10', '2025-10-25', 60.00, 0.00, 0, 'Arquiteto Senior', 2, 'admin'),
+('Setup da Infraestrutura', 'ABERTA', 'ALTA', '2025-10-20', '2025-11-05', 80.00, 0.00, 0, 'DevOps Engineer', 2, 'admin'),
 
 -- Tarefas do App Mobile (ID 3)
-('Prototipação Mobile', 'Criação dos protótipos para iOS e Android', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
-('Setup React Native', 'Configuração inicial do projeto React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
-('Telas de Autenticação', 'Desenvolvimento das telas de login e cadastro', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
-('Integração com APIs', 'Integração do app com as APIs do backend', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
+('Prototipação Mobile', 'CONCLUIDA', 'ALTA', '2025-09-15', '2025-09-30', 50.00, 48.00, 100, 'UX Designer', 3, 'admin'),
+('Setup React Native', 'CONCLUIDA', 'MEDIA', '2025-10-01', '2025-10-05', 20.00, 18.00, 100, 'Pedro Costa', 3, 'admin'),
+('Telas de Autenticação', 'EM_ANDAMENTO', 'ALTA', '2025-10-06', '2025-10-20', 40.00, 25.00, 60, 'Pedro Costa', 3, 'admin'),
+('Integração com APIs', 'ABERTA', 'ALTA', '2025-10-25', '2025-11-15', 60.00, 0.00, 0, 'Mobile Dev', 3, 'admin'),
 
 -- Tarefas do Sistema de Relatórios (ID 4)
-('Especificação dos Relatórios', 'Definição detalhada dos relatórios necessários', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
-('Configuração do BI', 'Setup da ferramenta de Business Intelligence', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
+('Especificação dos Relatórios', 'ABERTA', 'MEDIA', '2025-11-01', '2025-11-10', 30.00, 0.00, 0, 'Analista de Negócio', 4, 'admin'),
+('Configuração do BI', 'ABERTA', 'MEDIA', '2025-11-15', '2025-11-25', 40.00, 0.00, 0, 'Especialista BI', 4, 'admin');
+
+-- Peso numérico da prioridade (Prioridade.getNivel), gravado pela aplicação nas demais escritas
+UPDATE tarefa SET peso_prioridade = CASE prioridade
+    WHEN 'BAIXA' THEN 1 WHEN 'MEDIA' THEN 2 WHEN 'ALTA' THEN 3 WHEN 'CRITICA' THEN 4 ELSE 0 END;
+
+-- Textos longos (tabelas à parte, ver TextoProjeto e TextoTarefa)
+INSERT INTO projeto_texto (id_projeto, descricao) VALUES
+(1, CAST('Desenvolvimento de plataforma de e-commerce completa com painel administrativo' AS VARBINARY)),
+(2, CAST('Migração do sistema legado para nova arquitetura de microserviços' AS VARBINARY)),
+(3, CAST('Desenvolvimento do aplicativo mobile para iOS e Android' AS VARBINARY)),
+(4, CAST('Desenvolvimento de sistema de relatórios avançados com dashboards' AS VARBINARY));
+
+INSERT INTO tarefa_texto (id_tarefa, descricao) VALUES
+(1, CAST('Levantamento completo dos requisitos funcionais e não funcionais' AS VARBINARY)),
+(2, CAST('Criação do design system e protótipos das interfaces' AS VARBINARY)),
+(3, CAST('Desenvolvimento da API de autenticação e autorização' AS VARBINARY)),
+(4, CAST('Desenvolvimento da API de gerenciamento do catálogo' AS VARBINARY)),
+(5, CAST('Desenvolvimento da página inicial do e-commerce' AS VARBINARY)),
+(6, CAST('Implementação da suite de testes automatizados' AS VARBINARY)),
+(7, CAST('Documentação detalhada da arquitetura legada' AS VARBINARY)),
+(8, CAST('Design da nova arquitetura de microserviços' AS VARBINARY)),
+(9, CAST('Configuração da infraestrutura para os microserviços' AS VARBINARY)),
+(10, CAST('Criação dos protótipos para iOS e Android' AS VARBINARY)),
+(11, CAST('Configuração inicial do projeto React Native' AS VARBINARY)),
+(12, CAST('Desenvolvimento das telas de login e cadastro' AS VARBINARY)),
+(13, CAST('Integração do app com as APIs do backend' AS VARBINARY)),
+(14, CAST('Definição detalhada dos relatórios necessários' AS VARBINARY)),
+(15, CAST('Setup da ferramenta de Business Intelligence' AS VARBINARY));
+
+-- Árvore de subtarefas: a linha de cada tarefa com ela mesma (todas são raízes) e os
+-- totais da subárvore, que nesse caso são os da própria tarefa
+INSERT INTO tarefa_hierarquia (id_ancestral, id_descendente, profundidade)
+SELECT id, id, 0 FROM tarefa;
+
+UPDATE tarefa SET
+    sub_abertas = CASE WHEN status = 'ABERTA' THEN 1 ELSE 0 END,
+    sub_em_andamento = CASE WHEN status IN ('EM_ANDAMENTO', 'EM_REVISAO') THEN 1 ELSE 0 END,
+    sub_concluidas = CASE WHEN status = 'CONCLUIDA' THEN 1 ELSE 0 END,
+    sub_canceladas = CASE WHEN status = 'CANCELADA' THEN 1 ELSE 0 END,
+    sub_soma_percentual = CASE WHEN status <> 'CANCELADA' THEN percentual_conclusao ELSE 0 END,
+    sub_estimativa_horas = COALESCE(estimativa_horas, 0),
+    sub_horas_trabalhadas = COALESCE(horas_trabalhadas, 0)
+WHERE ativo = TRUE;
+
+-- Etiquetas de exemplo (texto normalizado em minúsculas)
+INSERT INTO tarefa_etiqueta (id_tarefa, etiqueta) VALUES
+(1, 'documentacao'),
+(2, 'frontend'), (2, 'ux'),
+(3, 'backend'), (3, 'seguranca'),
+(4, 'backend'),
+(5, 'frontend'),
+(6, 'qualidade'),
+(7, 'documentacao'), (7, 'legado'),
+(8, 'legado'),
+(9, 'infraestrutura'),
+(10, 'mobile'), (10, 'ux'),
+(11, 'mobile'),
+(12, 'mobile'), (12, 'seguranca'),
+(13, 'mobile'), (13, 'backend'),
+(15, 'infraestrutura');
@@ -0,0 +1,92 @@
+package com.projeto.management.aquecimento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.AquecimentoProperties;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.service.ProjetoService;
+import com.projeto.management.service.TarefaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários do aquecimento na inicialização
+ */
+@ExtendWith(MockitoExtension.class)
+class AquecimentoAplicacaoTest {
+    
+    @Mock
+    private ProjetoService projetoService;
+    
+    @Mock
+    private TarefaService tarefaService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    private final AquecimentoProperties properties = new AquecimentoProperties();
+    
+    private AquecimentoAplicacao aquecimento;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setRodadas(10);
+        properties.setThreads(2);
+        aquecimento = new AquecimentoAplicacao(properties, projetoService, tarefaService,
+            new ObjectMapper().findAndRegisterModules(), eventPublisher);
+    }
+    
+    @Test
+    void run_DeveRecusarTrafegoEExecutarTodasAsRodadas() throws Exception {
+        // Given
+        Page<TarefaResponseDTO> tarefas = new PageImpl<>(List.of(TarefaResponseDTO.builder().id(7L).titulo("T").build()),
+            PageRequest.of(0, 20), 1);
+        when(tarefaService.listarTarefas(any(), any())).thenReturn(tarefas);
+        when(projetoService.listarProjetos(any(), any())).thenReturn(Page.empty(PageRequest.of(0, 20)));
+        
+        // When
+        aquecimento.run(new DefaultApplicationArguments());
+        
+        // Then
+        ArgumentCaptor<AvailabilityChangeEvent<?>> evento = ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, evento.getValue().getState());
+        verify(tarefaService, times(20)).listarTarefas(any(), any());
+        verify(tarefaService, times(20)).buscarPorId(7L);
+        verify(projetoService, never()).buscarPorId(any());
+    }
+    
+    @Test
+    void aquecer_DeveContinuarAposFalhasEParar_QuandoAtingeDuracaoMaxima() throws Exception {
+        // Given
+        properties.setRodadas(Integer.MAX_VALUE);
+        properties.setDuracaoMaxima(Duration.ofMillis(300));
+        when(tarefaService.listarTarefas(any(), any())).thenThrow(new IllegalStateException("banco indisponível"));
+        
+        // When
+        long inicio = System.nanoTime();
+        aquecimento.aquecer();
+        
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofSeconds(5)) < 0);
+        verify(tarefaService, atLeast(2)).listarTarefas(any(), any());
+        verify(projetoService, atLeast(2)).listarProjetos(any(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.projeto.management.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de serialização de uma página de tarefas em cada formato suportado
+ *
+ * Executar com: mvn test -Dtest=SerializacaoBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SerializacaoBenchmarkTest {
+
+    private static final int TAMANHO_PAGINA = 500;
+    private static final int ITERACOES_AQUECIMENTO = 2_000;
+    private static final int ITERACOES_MEDICAO = 2_000;
+
+    @Test
+    void medirTempoETamanhoPorFormato() throws Exception {
+        Page<TarefaResponseDTO> pagina = criarPagina();
+
+        Map<String, ObjectMapper> formatos = new LinkedHashMap<>();
+        formatos.put("JSON", criarMapper(new JsonFactory(), false));
+        formatos.put("JSON + Blackbird", criarMapper(new JsonFactory(), true));
+        formatos.put("CBOR + Blackbird", criarMapper(new CBORFactory(), true));
+        formatos.put("Smile + Blackbird", criarMapper(new SmileFactory(), true));
+
+        System.out.printf("%n%-20s %15s %15s%n", "Formato", "us/pagina", "bytes");
+        for (Map.Entry<String, ObjectMapper> formato : formatos.entrySet()) {
+            ObjectMapper mapper = formato.getValue();
+
+            for (int i = 0; i < ITERACOES_AQUECIMENTO; i++) {
+                mapper.writeValueAsBytes(pagina);
+            }
+
+            long tamanho = 0;
+            long inicio = System.nanoTime();
+            for (int i = 0; i < ITERACOES_MEDICAO; i++) {
+                tamanho = mapper.writeValueAsBytes(pagina).length;
+            }
+            double microsPorPagina = (System.nanoTime() - inicio) / 1_000.0 / ITERACOES_MEDICAO;
+
+            System.out.printf("%-20s %15.1f %15d%n", formato.getKey(), microsPorPagina, tamanho);
+            assertTrue(tamanho > 0);
+        }
+    }
+
+    private ObjectMapper criarMapper(JsonFactory factory, boolean blackbird) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    private Page<TarefaResponseDTO> criarPagina() {
+        List<TarefaResponseDTO> tarefas = new ArrayList<>();
+        for (int i = 0; i < TAMANHO_PAGINA; i++) {
+            tarefas.add(TarefaResponseDTO.builder()
+                .id((long) i)
+                .titulo("Tarefa de benchmark " + i)
+                .descricao("Descrição da tarefa " + i)
+                .status(StatusTarefa.values()[i % StatusTarefa.values().length])
+                .prioridade(Prioridade.values()[i % Prioridade.values().length])
+                .dataCriacao(LocalDateTime.of(2025, 9, 1, 10, 30).plusMinutes(i))
+                .dataInicio(LocalDate.of(2025, 9, 1).plusDays(i % 30))
+                .dataFimPrevista(LocalDate.of(2025, 10, 1).plusDays(i % 60))
+                .estimativaHoras(new BigDecimal("40.00"))
+                .horasTrabalhadas(new BigDecimal("12.50"))
+                .percentualConclusao(i % 101)
+                .responsavel("Responsável " + (i % 20))
+                .dataAtualizacao(LocalDateTime.of(2025, 9, 2, 8, 0).plusMinutes(i))
+                .ativo(true)
+                .idProjeto((long) (i % 10))
+                .nomeProjeto("Projeto " + (i % 10))
+                .atrasada(i % 7 == 0)
+                .diasRestantes((long) (i % 45))
+                .build());
+        }
+        return new PageImpl<>(tarefas, PageRequest.of(0, TAMANHO_PAGINA), 10_000);
+    }
+}
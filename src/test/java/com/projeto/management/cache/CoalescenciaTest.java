@@ -0,0 +1,120 @@
+package com.projeto.management.cache;
+
+import com.projeto.management.config.CoalescenciaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da coalescência de chamadas idênticas e simultâneas
+ */
+class CoalescenciaTest {
+    
+    private final VersaoDados versaoDados = new VersaoDados();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void invoke_DeveExecutarUmaVez_QuandoChamadasIdenticasSimultaneas() throws Exception {
+        // Given
+        Leituras leituras = new Leituras();
+        Leituras proxy = proxy(leituras, new CoalescenciaProperties());
+        
+        // When
+        List<Future<String>> chamadas = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            chamadas.add(executor.submit(() -> proxy.buscar("atrasadas")));
+        }
+        assertTrue(leituras.iniciada.await(5, TimeUnit.SECONDS));
+        aguardarCompartilhadas(7);
+        leituras.liberar.countDown();
+        
+        // Then
+        for (Future<String> chamada : chamadas) {
+            assertEquals("atrasadas#1", chamada.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, leituras.execucoes.get());
+        assertEquals(1.0, contador("executada"));
+        assertEquals(7.0, contador("compartilhada"));
+    }
+    
+    @Test
+    void invoke_DeveExecutarDeNovo_QuandoDadosMudamOuChamadaEmTransacao() {
+        // Given
+        Leituras leituras = new Leituras();
+        leituras.liberar.countDown();
+        CoalescenciaProperties properties = new CoalescenciaProperties();
+        properties.setJanela(Duration.ofMinutes(1));
+        Leituras proxy = proxy(leituras, properties);
+        
+        // When / Then: dentro da janela, o resultado concluído é reaproveitado
+        assertEquals("x#1", proxy.buscar("x"));
+        assertEquals("x#1", proxy.buscar("x"));
+        
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.TAREFAS);
+        assertEquals("x#2", proxy.buscar("x"));
+        
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals("x#3", proxy.buscar("x"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+    
+    private Leituras proxy(Leituras alvo, CoalescenciaProperties properties) {
+        ProxyFactory factory = new ProxyFactory(alvo);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new CoalescenciaInterceptor(versaoDados, properties, registry)));
+        return (Leituras) factory.getProxy();
+    }
+    
+    private void aguardarCompartilhadas(int esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador("compartilhada") < esperadas && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+    
+    private double contador(String resultado) {
+        return registry.get("app.coalescencia.chamadas").tag("resultado", resultado).counter().count();
+    }
+    
+    public static class Leituras {
+        
+        private final AtomicInteger execucoes = new AtomicInteger();
+        private final CountDownLatch iniciada = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+        
+        @Coalescer
+        public String buscar(String filtro) {
+            int execucao = execucoes.incrementAndGet();
+            iniciada.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return filtro + "#" + execucao;
+        }
+    }
+}
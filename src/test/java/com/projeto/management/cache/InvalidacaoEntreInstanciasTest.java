@@ -0,0 +1,134 @@
+package com.projeto.management.cache;
+
+import com.projeto.management.ProjetoManagementApplication;
+import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.EstatisticasService;
+import com.projeto.management.service.TarefaService;
+import com.projeto.management.service.ProjetoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes da invalidação entre duas instâncias da aplicação na mesma máquina, ligadas
+ * apenas pelo banco compartilhado
+ */
+class InvalidacaoEntreInstanciasTest {
+    
+    private static ConfigurableApplicationContext instanciaA;
+    private static ConfigurableApplicationContext instanciaB;
+    
+    @BeforeAll
+    static void iniciar() {
+        instanciaA = iniciarInstancia("a");
+        instanciaB = iniciarInstancia("b");
+    }
+    
+    @AfterAll
+    static void encerrar() {
+        instanciaB.close();
+        instanciaA.close();
+    }
+    
+    @Test
+    void escritaEmUmaInstanciaChegaAosAgregadosDaOutra() {
+        EstatisticasService estatisticasB = instanciaB.getBean(EstatisticasService.class);
+        VersaoDados versaoB = instanciaB.getBean(VersaoDados.class);
+        long tarefasAntes = estatisticasB.estatisticasTarefas(null).getTotalTarefas();
+        long versaoAntes = versaoB.getVersao(VersaoDados.Dominio.TAREFAS);
+        
+        ProjetoResponseDTO projeto = criarProjeto(instanciaA);
+        TarefaResponseDTO tarefa = criarTarefa(instanciaA, projeto.getId());
+        
+        aguardar(() -> estatisticasB.estatisticasTarefas(null).getTotalTarefas() == tarefasAntes + 1);
+        assertTrue(versaoB.getVersao(VersaoDados.Dominio.TAREFAS) > versaoAntes);
+        assertEquals(1L, estatisticasB.estatisticasTarefasPorProjeto(projeto.getId(), null).getTotalTarefas());
+        
+        instanciaA.getBean(TarefaService.class).alterarStatus(tarefa.getId(), StatusTarefa.CONCLUIDA, "teste");
+        aguardar(() -> estatisticasB.estatisticasTarefasPorProjeto(projeto.getId(), null)
+            .getPorStatus().getOrDefault(StatusTarefa.CONCLUIDA, 0L) == 1L);
+        
+        Timer atraso = instanciaB.getBean(MeterRegistry.class).get("app.invalidacao.atraso").timer();
+        assertTrue(atraso.count() >= 3);
+        assertTrue(atraso.max(TimeUnit.MILLISECONDS) < 2_000, "atraso máximo: " + atraso.max(TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void instanciaNaoReaplicaAsPropriasEscritas() throws InterruptedException {
+        EstatisticasService estatisticasA = instanciaA.getBean(EstatisticasService.class);
+        EstatisticasService estatisticasB = instanciaB.getBean(EstatisticasService.class);
+        long tarefasAntes = estatisticasA.estatisticasTarefas(null).getTotalTarefas();
+        
+        ProjetoResponseDTO projeto = criarProjeto(instanciaA);
+        criarTarefa(instanciaA, projeto.getId());
+        criarTarefa(instanciaA, projeto.getId());
+        aguardar(() -> estatisticasB.estatisticasTarefas(null).getTotalTarefas() == tarefasAntes + 2);
+        
+        // Várias leituras do log depois, cada instância contou cada tarefa uma única vez
+        Thread.sleep(300);
+        assertEquals(tarefasAntes + 2, estatisticasA.estatisticasTarefas(null).getTotalTarefas());
+        assertEquals(tarefasAntes + 2, estatisticasB.estatisticasTarefas(null).getTotalTarefas());
+    }
+    
+    private static ProjetoResponseDTO criarProjeto(ConfigurableApplicationContext instancia) {
+        return instancia.getBean(ProjetoService.class).criarProjeto(ProjetoRequestDTO.builder()
+            .nome("Projeto compartilhado")
+            .dataInicio(LocalDate.now())
+            .dataFimPrevista(LocalDate.now().plusDays(30))
+            .build(), "teste");
+    }
+    
+    private static TarefaResponseDTO criarTarefa(ConfigurableApplicationContext instancia, Long idProjeto) {
+        return instancia.getBean(TarefaService.class).criarTarefa(TarefaRequestDTO.builder()
+            .titulo("Tarefa compartilhada")
+            .idProjeto(idProjeto)
+            .build(), "teste");
+    }
+    
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.currentTimeMillis() + 5_000;
+        while (!condicao.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                fail("Alteração não chegou à outra instância em 5 s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * Argumentos de linha de comando, que têm precedência sobre o application.properties
+     */
+    private static ConfigurableApplicationContext iniciarInstancia(String no) {
+        return new SpringApplicationBuilder(ProjetoManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--app.invalidacao.no=" + no,
+                "--app.invalidacao.intervalo=PT0.05S",
+                "--app.burndown.captura.habilitada=false",
+                "--app.arquivamento.habilitado=false",
+                "--app.aquecimento.habilitado=false",
+                "--spring.datasource.url=jdbc:h2:mem:invalidacao-teste;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=INFO",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=update");
+    }
+}
@@ -0,0 +1,121 @@
+package com.projeto.management.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do cache de respostas serializadas
+ */
+class RespostaCacheFilterTest {
+    
+    private static final String ATRASADAS = "/api/tarefas/atrasadas";
+    private static final String CORPO = "[{\"titulo\":\"" + "x".repeat(2000) + "\"}]";
+    
+    private final VersaoDados versaoDados = new VersaoDados();
+    private final RespostaCacheFilter filter = new RespostaCacheFilter(versaoDados,
+        Map.of(ATRASADAS, EnumSet.of(VersaoDados.Dominio.TAREFAS)), 1024);
+    private final AtomicInteger execucoes = new AtomicInteger();
+    private int status = 200;
+    
+    private final FilterChain controller = (request, response) -> {
+        execucoes.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(CORPO.getBytes(StandardCharsets.UTF_8));
+    };
+    
+    @Test
+    void doFilter_DeveServirDoCache_AteAVersaoMudar() throws Exception {
+        // Given / When
+        MockHttpServletResponse primeira = executar(null, null);
+        MockHttpServletResponse segunda = executar(null, null);
+        versaoDados.registrarAlteracao(VersaoDados.Dominio.TAREFAS);
+        MockHttpServletResponse aposAlteracao = executar(null, null);
+        
+        // Then
+        assertEquals("MISS", primeira.getHeader("X-Cache"));
+        assertEquals("HIT", segunda.getHeader("X-Cache"));
+        assertEquals(CORPO, segunda.getContentAsString());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, segunda.getContentType());
+        assertEquals("MISS", aposAlteracao.getHeader("X-Cache"));
+        assertEquals(2, execucoes.get());
+    }
+    
+    @Test
+    void doFilter_DeveEntregarGzip_QuandoClienteAceita() throws Exception {
+        // When
+        executar(null, null);
+        MockHttpServletResponse comGzip = executar(null, "gzip, deflate");
+        MockHttpServletResponse semGzip = executar(null, null);
+        
+        // Then
+        assertEquals("gzip", comGzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(comGzip.getHeaders(HttpHeaders.VARY).containsAll(
+            List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comGzip.getContentAsByteArray()))) {
+            assertEquals(CORPO, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertNull(semGzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(CORPO, semGzip.getContentAsString());
+    }
+    
+    @Test
+    void doFilter_NaoDeveArmazenar_RespostaDiferenteDe200() throws Exception {
+        // Given
+        status = 404;
+        
+        // When
+        MockHttpServletResponse primeira = executar(null, null);
+        MockHttpServletResponse segunda = executar(null, null);
+        
+        // Then
+        assertEquals(404, primeira.getStatus());
+        assertEquals(CORPO, primeira.getContentAsString());
+        assertNull(primeira.getHeader("X-Cache"));
+        assertNull(segunda.getHeader("X-Cache"));
+        assertEquals(2, execucoes.get());
+        assertEquals(0, filter.quantidadeRespostas());
+    }
+    
+    @Test
+    void doFilter_DeveGuardarUmaRespostaPorContentType_IndependenteDoAccept() throws Exception {
+        // When
+        for (int i = 0; i < 500; i++) {
+            executar("application/json;q=0." + i, null);
+        }
+        MockHttpServletResponse repetida = executar("application/json;q=0.499", null);
+        
+        // Then
+        assertEquals(1, filter.quantidadeRespostas());
+        assertEquals("HIT", repetida.getHeader("X-Cache"));
+        assertEquals(500, execucoes.get());
+    }
+    
+    private MockHttpServletResponse executar(String accept, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ATRASADAS);
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
@@ -0,0 +1,78 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.DashboardResponseDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.dto.response.SecaoDashboardDTO;
+import com.projeto.management.dto.response.SecaoDashboardDTO.Situacao;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.service.DashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para DashboardController
+ */
+@WebMvcTest(DashboardController.class)
+class DashboardControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private DashboardService dashboardService;
+    
+    @Test
+    void obterDashboard_DeveRetornar200_ComSecoesESituacao() throws Exception {
+        // Given
+        DashboardResponseDTO dashboard = DashboardResponseDTO.builder()
+            .geradoEm(LocalDateTime.now())
+            .completo(false)
+            .projetosPorStatus(SecaoDashboardDTO.<Map<StatusProjeto, Long>>builder()
+                .situacao(Situacao.OK).tempoMs(3L).dados(Map.of(StatusProjeto.EM_ANDAMENTO, 2L)).build())
+            .tarefasAtrasadas(SecaoDashboardDTO.<ResumoListaDTO<TarefaResponseDTO>>builder()
+                .situacao(Situacao.TEMPO_ESGOTADO).tempoMs(800L).build())
+            .build();
+        when(dashboardService.obterDashboard(7, 10)).thenReturn(dashboard);
+        
+        // When & Then
+        mockMvc.perform(get("/api/dashboard").param("dias", "7").param("limite", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completo").value(false))
+                .andExpect(jsonPath("$.projetosPorStatus.situacao").value("OK"))
+                .andExpect(jsonPath("$.projetosPorStatus.dados.EM_ANDAMENTO").value(2))
+                .andExpect(jsonPath("$.tarefasAtrasadas.situacao").value("TEMPO_ESGOTADO"))
+                .andExpect(jsonPath("$.tarefasAtrasadas.tempoMs").value(800));
+    }
+    
+    @Test
+    void obterDashboard_DeveRetornar400_QuandoLimiteForaDoIntervalo() throws Exception {
+        mockMvc.perform(get("/api/dashboard").param("limite", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/dashboard").param("limite", "51"))
+                .andExpect(status().isBadRequest());
+        
+        verify(dashboardService, never()).obterDashboard(any(), any());
+    }
+    
+    @Test
+    void obterDashboard_DeveRetornar400_QuandoDiasNegativo() throws Exception {
+        mockMvc.perform(get("/api/dashboard").param("dias", "-1"))
+                .andExpect(status().isBadRequest());
+        
+        verify(dashboardService, never()).obterDashboard(any(), any());
+    }
+}
@@ -0,0 +1,86 @@
+package com.projeto.management.controller;
+
+import com.projeto.management.dto.response.EstatisticasTarefasDTO;
+import com.projeto.management.exception.EntityNotFoundException;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.service.EstatisticasService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para EstatisticasController
+ */
+@WebMvcTest(EstatisticasController.class)
+class EstatisticasControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private EstatisticasService estatisticasService;
+    
+    @Test
+    void estatisticasTarefas_DeveRetornar200_ComSerieDesdeAData() throws Exception {
+        // Given
+        LocalDate desde = LocalDate.of(2024, 3, 1);
+        when(estatisticasService.estatisticasTarefas(desde)).thenReturn(estatisticas(12L));
+        
+        // When & Then
+        mockMvc.perform(get("/api/estatisticas/tarefas").param("desde", "2024-03-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTarefas").value(12))
+                .andExpect(jsonPath("$.porStatus.ABERTA").value(12));
+    }
+    
+    @Test
+    void estatisticasTarefasPorProjeto_DeveRetornar200_QuandoProjetoExiste() throws Exception {
+        // Given
+        when(estatisticasService.estatisticasTarefasPorProjeto(eq(1L), isNull())).thenReturn(estatisticas(3L));
+        
+        // When & Then
+        mockMvc.perform(get("/api/estatisticas/projetos/1/tarefas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTarefas").value(3));
+    }
+    
+    @Test
+    void estatisticasTarefasPorProjeto_DeveRetornar404_QuandoProjetoNaoExiste() throws Exception {
+        // Given
+        when(estatisticasService.estatisticasTarefasPorProjeto(eq(99L), isNull()))
+            .thenThrow(new EntityNotFoundException("Projeto não encontrado com ID: 99"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/estatisticas/projetos/99/tarefas"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void estatisticasTarefasPorResponsavel_DeveRetornar200() throws Exception {
+        // Given
+        when(estatisticasService.estatisticasTarefasPorResponsavel("Ana", null)).thenReturn(estatisticas(5L));
+        
+        // When & Then
+        mockMvc.perform(get("/api/estatisticas/responsaveis/Ana/tarefas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalTarefas").value(5));
+    }
+    
+    private static EstatisticasTarefasDTO estatisticas(long total) {
+        return EstatisticasTarefasDTO.builder()
+            .totalTarefas(total)
+            .porStatus(Map.of(StatusTarefa.ABERTA, total))
+            .build();
+    }
+}
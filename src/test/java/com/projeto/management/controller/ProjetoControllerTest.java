@@ -1,26 +1,38 @@
 package com.projeto.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.dto.request.FiltroProjetoDTO;
 import com.projeto.management.dto.request.ProjetoRequestDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.service.BurndownService;
 import com.projeto.management.service.ProjetoService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +52,9 @@ class ProjetoControllerTest {
     @MockBean
     private ProjetoService projetoService;
     
+    @MockBean
+    private BurndownService burndownService;
+    
     @Test
     void criarProjeto_DeveRetornar201_QuandoDadosValidos() throws Exception {
         // Given
@@ -106,6 +121,24 @@ class ProjetoControllerTest {
                 .andExpect(jsonPath("$.nome").value("Projeto Teste"));
     }
     
+    @Test
+    void buscarPorId_DeveRetornarCbor_QuandoAcceptCbor() throws Exception {
+        // Given
+        ProjetoResponseDTO responseDTO = ProjetoResponseDTO.builder()
+            .id(1L)
+            .nome("Projeto Teste")
+            .status(StatusProjeto.PLANEJAMENTO)
+            .build();
+        
+        when(projetoService.buscarPorId(1L)).thenReturn(responseDTO);
+        
+        // When & Then
+        mockMvc.perform(get("/api/projetos/1")
+                .accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"));
+    }
+    
     @Test
     void listarProjetos_DeveRetornar200_ComPaginacao() throws Exception {
         // Given
@@ -117,7 +150,7 @@ class ProjetoControllerTest {
         
         Page<ProjetoResponseDTO> page = new PageImpl<>(List.of(responseDTO), PageRequest.of(0, 20), 1);
         
-        when(projetoService.listarProjetos(any(), any(), any(), any()))
+        when(projetoService.listarProjetos(any(), any()))
             .thenReturn(page);
         
         // When & Then
@@ -130,6 +163,30 @@ class ProjetoControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
     
+    @Test
+    void listarProjetos_DeveAceitarFiltrosMultivaloradosEIntervaloDeDatas() throws Exception {
+        // Given
+        when(projetoService.listarProjetos(any(), any())).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+        ArgumentCaptor<FiltroProjetoDTO> filtro = ArgumentCaptor.forClass(FiltroProjetoDTO.class);
+        
+        // When
+        mockMvc.perform(get("/api/projetos")
+                .param("status", "PLANEJAMENTO,EM_ANDAMENTO")
+                .param("prioridade", "ALTA")
+                .param("prioridade", "CRITICA")
+                .param("dataFimPrevistaDe", "2025-01-01")
+                .param("dataFimPrevistaAte", "2025-06-30"))
+                .andExpect(status().isOk());
+        
+        // Then
+        verify(projetoService).listarProjetos(filtro.capture(), any());
+        assertEquals(Set.of(StatusProjeto.PLANEJAMENTO, StatusProjeto.EM_ANDAMENTO), filtro.getValue().getStatus());
+        assertEquals(Set.of(Prioridade.ALTA, Prioridade.CRITICA), filtro.getValue().getPrioridade());
+        assertEquals(LocalDate.of(2025, 1, 1), filtro.getValue().getDataFimPrevistaDe());
+        assertEquals(LocalDate.of(2025, 6, 30), filtro.getValue().getDataFimPrevistaAte());
+        assertNull(filtro.getValue().getNome());
+    }
+    
     @Test
     void alterarStatus_DeveRetornar200_QuandoStatusValido() throws Exception {
         // Given
@@ -157,4 +214,59 @@ class ProjetoControllerTest {
                 .header("X-Usuario", "teste"))
                 .andExpect(status().isNoContent());
     }
+    
+    @Test
+    void buscarPorIds_DeveRetornarItensNaOrdem_QuandoParametroIds() throws Exception {
+        // Given
+        ResultadoBuscaPorIdsDTO<ProjetoResponseDTO> resultado = ResultadoBuscaPorIdsDTO.de(List.of(3L, 1L),
+            Map.of(1L, ProjetoResponseDTO.builder().id(1L).nome("Projeto Teste").build()), p -> p);
+        when(projetoService.buscarPorIds(List.of(3L, 1L))).thenReturn(resultado);
+        
+        // When & Then
+        mockMvc.perform(get("/api/projetos").param("ids", "3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id").value(3))
+                .andExpect(jsonPath("$.itens[0].encontrado").value(false))
+                .andExpect(jsonPath("$.itens[1].dados.nome").value("Projeto Teste"))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(3));
+        verify(projetoService, never()).listarProjetos(any(), any());
+    }
+    
+    @Test
+    void buscarPorIdsLista_DeveRetornar400_QuandoListaVazia() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/projetos/buscar-por-ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void buscarPorId_DeveIncluirTarefasPaginadas_QuandoIncludeTarefas() throws Exception {
+        // Given
+        ProjetoResponseDTO responseDTO = ProjetoResponseDTO.builder().id(1L).nome("Projeto Teste").tarefas(List.of()).build();
+        when(projetoService.buscarPorIdComTarefas(eq(1L), any(Pageable.class))).thenReturn(responseDTO);
+        
+        // When & Then
+        mockMvc.perform(get("/api/projetos/1")
+                .param("include", "tarefas")
+                .param("page", "2")
+                .param("size", "5")
+                .param("sort", "dataFimPrevista,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+        
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(projetoService).buscarPorIdComTarefas(eq(1L), pageable.capture());
+        assertEquals(PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "dataFimPrevista")), pageable.getValue());
+        verify(projetoService, never()).buscarPorId(any());
+    }
+    
+    @Test
+    void buscarPorId_DeveRetornar400_QuandoIncludeNaoSuportado() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/projetos/1").param("include", "historico"))
+                .andExpect(status().isBadRequest());
+        verify(projetoService, never()).buscarPorId(any());
+    }
 }
@@ -0,0 +1,57 @@
+package com.projeto.management.estatisticas;
+
+import com.projeto.management.model.entity.BurndownProjeto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a codificação por deltas da série de progresso
+ */
+class SerieProgressoTest {
+    
+    @Test
+    void decodificar_DeveReconstruirPontos_QuandoSerieTemDeltasPositivosNegativosELacunas() {
+        // Given
+        List<PontoProgresso> pontos = List.of(
+            new PontoProgresso(LocalDate.of(2025, 1, 1), 120_000L, 12, 0),
+            new PontoProgresso(LocalDate.of(2025, 1, 2), 110_050L, 11, 1),
+            new PontoProgresso(LocalDate.of(2025, 1, 9), 130_000L, 14, 1),
+            new PontoProgresso(LocalDate.of(2025, 1, 10), 0L, 0, 15));
+        
+        // When
+        BurndownProjeto serie = SerieProgresso.iniciar(1L, pontos.get(0));
+        pontos.subList(1, pontos.size()).forEach(ponto -> SerieProgresso.acrescentar(serie, ponto));
+        
+        // Then
+        assertEquals(pontos, SerieProgresso.decodificar(serie));
+        assertEquals(4, serie.getQuantidadePontos());
+        assertEquals(LocalDate.of(2025, 1, 10), serie.getUltimaData());
+    }
+    
+    @Test
+    void acrescentar_DeveUsarQuatroBytes_QuandoDiaSemMudancas() {
+        // Given
+        BurndownProjeto serie = SerieProgresso.iniciar(1L, new PontoProgresso(LocalDate.of(2025, 1, 1), 50_000L, 5, 2));
+        int tamanhoInicial = serie.getDados().length;
+        
+        // When
+        SerieProgresso.acrescentar(serie, new PontoProgresso(LocalDate.of(2025, 1, 2), 50_000L, 5, 2));
+        
+        // Then
+        assertEquals(tamanhoInicial + 4, serie.getDados().length);
+    }
+    
+    @Test
+    void acrescentar_DeveLancarExcecao_QuandoPontoNaoEPosterior() {
+        // Given
+        BurndownProjeto serie = SerieProgresso.iniciar(1L, new PontoProgresso(LocalDate.of(2025, 1, 5), 0L, 0, 0));
+        
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> SerieProgresso.acrescentar(serie, new PontoProgresso(LocalDate.of(2025, 1, 5), 0L, 0, 0)));
+    }
+}
@@ -0,0 +1,214 @@
+package com.projeto.management.idempotencia;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projeto.management.config.IdempotenciaProperties;
+import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.model.entity.ChaveIdempotencia;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.SituacaoIdempotencia;
+import com.projeto.management.repository.ChaveIdempotenciaRepository;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Testes das chaves de idempotência em POST /api/projetos
+ */
+@SpringBootTest(properties = {
+    "app.burndown.captura.habilitada=false",
+    "app.arquivamento.habilitado=false",
+    "app.aquecimento.habilitado=false",
+    "spring.datasource.url=jdbc:h2:mem:idempotencia-teste;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class IdempotenciaTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ChaveIdempotenciaRepository repository;
+    
+    @Autowired
+    private IdempotenciaProperties properties;
+    
+    @Test
+    void post_DeveRepetirResposta_QuandoMesmaChaveReenviada() throws Exception {
+        String nome = "Idempotente " + UUID.randomUUID();
+        String chave = UUID.randomUUID().toString();
+        
+        MockHttpServletResponse primeira = criarProjeto(nome, chave, "integracao");
+        MockHttpServletResponse repetida = criarProjeto(nome, chave, "integracao");
+        
+        assertEquals(201, primeira.getStatus());
+        assertEquals(201, repetida.getStatus());
+        assertEquals("true", repetida.getHeader(FiltroIdempotencia.HEADER_REPETIDA));
+        assertEquals(id(primeira), id(repetida));
+        assertEquals(1, contarProjetos(nome));
+        
+        // Outro usuário com a mesma chave é outra requisição
+        assertEquals(201, criarProjeto(nome, chave, "outro").getStatus());
+        assertEquals(2, contarProjetos(nome));
+    }
+    
+    @Test
+    void post_DeveCriarUmaVez_QuandoRepeticoesSimultaneas() throws Exception {
+        String nome = "Simultaneo " + UUID.randomUUID();
+        String chave = UUID.randomUUID().toString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        List<MockHttpServletResponse> respostas = new ArrayList<>();
+        try {
+            List<Future<MockHttpServletResponse>> envios = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                envios.add(executor.submit(() -> criarProjeto(nome, chave, "integracao")));
+            }
+            for (Future<MockHttpServletResponse> envio : envios) {
+                respostas.add(envio.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        Set<Long> ids = new HashSet<>();
+        for (MockHttpServletResponse resposta : respostas) {
+            assertEquals(201, resposta.getStatus());
+            ids.add(id(resposta));
+        }
+        assertEquals(1, ids.size());
+        assertEquals(1, contarProjetos(nome));
+    }
+    
+    @Test
+    void post_DeveRecusar_QuandoChaveReutilizadaOuEmAndamentoEmOutraInstancia() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        criarProjeto("Original " + chave, chave, "integracao");
+        
+        assertEquals(422, criarProjeto("Outro corpo " + chave, chave, "integracao").getStatus());
+        
+        String emOutraInstancia = UUID.randomUUID().toString();
+        repository.save(ChaveIdempotencia.builder()
+            .usuario("integracao")
+            .chave(emOutraInstancia)
+            .impressaoRequisicao("0".repeat(64))
+            .situacao(SituacaoIdempotencia.EM_ANDAMENTO)
+            .dataCriacao(LocalDateTime.now())
+            .dataExpiracao(LocalDateTime.now().plusHours(1))
+            .build());
+        MockHttpServletResponse conflito = criarProjeto("Em andamento " + emOutraInstancia, emOutraInstancia, "integracao");
+        assertEquals(409, conflito.getStatus());
+        assertEquals("1", conflito.getHeader("Retry-After"));
+    }
+    
+    @Test
+    void reservar_DeveLerRespostaDoBanco_QuandoAusenteDaMemoria() throws Exception {
+        String nome = "Banco " + UUID.randomUUID();
+        String chave = UUID.randomUUID().toString();
+        MockHttpServletResponse primeira = criarProjeto(nome, chave, "integracao");
+        
+        // Instância recém-iniciada: memória vazia
+        ArmazenamentoIdempotencia outraInstancia = new ArmazenamentoIdempotencia(repository, properties);
+        ArmazenamentoIdempotencia.Reserva reserva = outraInstancia.reservar("integracao", chave, "qualquer");
+        
+        assertTrue(reserva.isConcluida());
+        assertEquals(201, reserva.resposta().status());
+        assertArrayEquals(primeira.getContentAsByteArray(), reserva.resposta().corpo());
+    }
+    
+    @Test
+    void setReadListener_DeveEntregarCorpoEmMemoria_QuandoLeituraAssincrona() throws Exception {
+        byte[] corpo = "{\"nome\":\"Assíncrono\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream entrada = new FiltroIdempotencia.CorpoEmMemoria(
+            new MockHttpServletRequest("POST", "/api/projetos"), corpo).getInputStream();
+        ByteArrayOutputStream lido = new ByteArrayOutputStream();
+        List<String> eventos = new ArrayList<>();
+        
+        entrada.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                eventos.add("dados");
+                while (entrada.isReady() && !entrada.isFinished()) {
+                    lido.write(entrada.read());
+                }
+            }
+            
+            @Override
+            public void onAllDataRead() {
+                eventos.add("fim");
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                eventos.add("erro");
+            }
+        });
+        
+        assertEquals(List.of("dados", "fim"), eventos);
+        assertArrayEquals(corpo, lido.toByteArray());
+    }
+    
+    private MockHttpServletResponse criarProjeto(String nome, String chave, String usuario) throws Exception {
+        ProjetoRequestDTO request = ProjetoRequestDTO.builder()
+            .nome(nome)
+            .prioridade(Prioridade.MEDIA)
+            .responsavel("Responsável")
+            .dataInicio(LocalDate.now())
+            .dataFimPrevista(LocalDate.now().plusDays(30))
+            .build();
+        return mockMvc.perform(post("/api/projetos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(FiltroIdempotencia.HEADER_CHAVE, chave)
+                .header("X-Usuario", usuario)
+                .content(objectMapper.writeValueAsString(request)))
+            .andReturn().getResponse();
+    }
+    
+    private long id(MockHttpServletResponse resposta) throws Exception {
+        JsonNode corpo = objectMapper.readTree(resposta.getContentAsByteArray());
+        return corpo.get("id").asLong();
+    }
+    
+    private int contarProjetos(String nome) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projeto WHERE nome = ?", Integer.class, nome);
+    }
+}
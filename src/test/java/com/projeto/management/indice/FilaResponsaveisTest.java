@@ -0,0 +1,110 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.dto.response.FilaTrabalhoDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para FilaResponsaveis
+ */
+class FilaResponsaveisTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2024, 3, 1);
+
+    private FilaResponsaveis filas;
+
+    @BeforeEach
+    void setUp() {
+        filas = new FilaResponsaveis();
+        criar(snapshot(1L, "Ana", StatusTarefa.ABERTA, Prioridade.MEDIA, HOJE));
+        criar(snapshot(2L, "Ana", StatusTarefa.ABERTA, Prioridade.CRITICA, null));
+        criar(snapshot(3L, "Ana", StatusTarefa.ABERTA, Prioridade.CRITICA, HOJE.plusDays(5)));
+        criar(snapshot(4L, "Ana", StatusTarefa.EM_ANDAMENTO, Prioridade.CRITICA, HOJE.plusDays(5)));
+        criar(snapshot(5L, "ana ", StatusTarefa.EM_REVISAO, Prioridade.ALTA, HOJE));
+        criar(snapshot(6L, "Ana", StatusTarefa.CONCLUIDA, Prioridade.CRITICA, HOJE));
+        criar(snapshot(7L, "Bruno", StatusTarefa.ABERTA, Prioridade.CRITICA, HOJE));
+        criar(snapshot(8L, null, StatusTarefa.ABERTA, Prioridade.CRITICA, HOJE));
+    }
+
+    @Test
+    void primeiras_DeveOrdenarPorPrioridadeVencimentoEStatus() {
+        FilaResponsaveis.Fila fila = filas.primeiras("ANA", 10);
+
+        assertEquals(5, fila.total());
+        assertEquals(List.of(4L, 3L, 2L, 5L, 1L), fila.ids());
+        assertEquals(List.of(4L, 3L), filas.primeiras(" ana", 2).ids());
+        assertEquals(List.of(7L), filas.primeiras("Bruno", 10).ids());
+        assertEquals(new FilaResponsaveis.Fila(0, List.of()), filas.primeiras("Carla", 10));
+        assertEquals(new FilaResponsaveis.Fila(0, List.of()), filas.primeiras(" ", 10));
+    }
+
+    @Test
+    void aoAlterarTarefa_DeveReposicionarOuRetirarATarefa() {
+        // Nova prioridade muda a posição; reaplicar o evento não duplica a tarefa
+        TarefaAlteradaEvent promocao = new TarefaAlteradaEvent(snapshot(1L, "Ana", StatusTarefa.ABERTA, Prioridade.MEDIA, HOJE),
+            snapshot(1L, "Ana", StatusTarefa.ABERTA, Prioridade.CRITICA, HOJE));
+        filas.aoAlterarTarefa(promocao);
+        filas.aoAlterarTarefa(promocao);
+        assertEquals(List.of(1L, 4L, 3L, 2L, 5L), filas.primeiras("Ana", 10).ids());
+
+        // Troca de responsável, conclusão e arquivamento
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(null, snapshot(4L, "Bruno", StatusTarefa.EM_ANDAMENTO, Prioridade.CRITICA, null)));
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(null, snapshot(3L, "Ana", StatusTarefa.CONCLUIDA, Prioridade.CRITICA, null)));
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(snapshot(2L, "Ana", StatusTarefa.ABERTA, Prioridade.CRITICA, null), null));
+
+        assertEquals(List.of(1L, 5L), filas.primeiras("Ana", 10).ids());
+        assertEquals(List.of(7L, 4L), filas.primeiras("Bruno", 10).ids());
+
+        // Conclusão da última tarefa do responsável
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(null, snapshot(7L, "Bruno", StatusTarefa.CANCELADA, Prioridade.CRITICA, HOJE)));
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(null, snapshot(4L, "Bruno", StatusTarefa.CONCLUIDA, Prioridade.CRITICA, null)));
+        assertEquals(0, filas.primeiras("Bruno", 10).total());
+    }
+
+    @Test
+    void recarga_DeveTrocarAsFilasSomenteNaConclusao() {
+        FilaResponsaveis.Recarga recarga = filas.recarga();
+        recarga.adicionar(snapshot(10L, "Carla", StatusTarefa.ABERTA, Prioridade.BAIXA, HOJE));
+        recarga.adicionar(snapshot(11L, "Carla", StatusTarefa.ABERTA, Prioridade.ALTA, HOJE));
+
+        assertEquals(5, filas.primeiras("Ana", 10).total());
+        recarga.concluir();
+        assertEquals(0, filas.primeiras("Ana", 10).total());
+        assertEquals(List.of(11L, 10L), filas.primeiras("Carla", 10).ids());
+    }
+
+    @Test
+    void mesclar_DeveManterAOrdemDaFilaEntreShards() {
+        FilaTrabalhoDTO shard0 = new FilaTrabalhoDTO("Ana", 3, List.of(dto(4L, StatusTarefa.EM_ANDAMENTO, Prioridade.CRITICA, HOJE)));
+        FilaTrabalhoDTO shard1 = new FilaTrabalhoDTO("Ana", 3, List.of(
+            dto(2L, StatusTarefa.ABERTA, Prioridade.CRITICA, null), dto(5L, StatusTarefa.ABERTA, Prioridade.ALTA, HOJE)));
+
+        FilaTrabalhoDTO mesclada = shard1.mesclar(shard0);
+
+        assertEquals(3, mesclada.getTotal());
+        assertEquals(List.of(4L, 2L, 5L), mesclada.getTarefas().stream().map(TarefaResponseDTO::getId).toList());
+    }
+
+    private void criar(TarefaSnapshot tarefa) {
+        filas.aoAlterarTarefa(new TarefaAlteradaEvent(null, tarefa));
+    }
+
+    private static TarefaSnapshot snapshot(Long id, String responsavel, StatusTarefa status, Prioridade prioridade,
+                                           LocalDate dataFimPrevista) {
+        return new TarefaSnapshot(id, 1L, status, prioridade, responsavel, null, null, 0, dataFimPrevista, null, true);
+    }
+
+    private static TarefaResponseDTO dto(Long id, StatusTarefa status, Prioridade prioridade, LocalDate dataFimPrevista) {
+        return TarefaResponseDTO.builder().id(id).status(status).prioridade(prioridade).dataFimPrevista(dataFimPrevista).build();
+    }
+}
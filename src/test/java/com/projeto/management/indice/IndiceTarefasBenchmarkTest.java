@@ -0,0 +1,89 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark da avaliação de filtros de etiquetas no índice em memória
+ *
+ * Um milhão de tarefas, 500 etiquetas com distribuição enviesada (as primeiras são muito
+ * mais frequentes) e 1 a 4 etiquetas por tarefa.
+ *
+ * Executar com: mvn test -Dtest=IndiceTarefasBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IndiceTarefasBenchmarkTest {
+
+    private static final int TAREFAS = 1_000_000;
+    private static final int ETIQUETAS = 500;
+    private static final int ITERACOES_AQUECIMENTO = 2_000;
+    private static final int ITERACOES_MEDICAO = 2_000;
+
+    @Test
+    void medirAvaliacaoDeFiltros() {
+        IndiceTarefas indice = new IndiceTarefas(1000);
+        popular(indice);
+
+        Map<String, FiltroTarefaDTO> filtros = new LinkedHashMap<>();
+        filtros.put("todas(e0, e1)", FiltroTarefaDTO.builder().etiquetas(Set.of("e0", "e1")).build());
+        filtros.put("todas(e0, e250)", FiltroTarefaDTO.builder().etiquetas(Set.of("e0", "e250")).build());
+        filtros.put("alguma(e10..e14)", FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("e10", "e11", "e12", "e13", "e14")).build());
+        filtros.put("alguma(e1, e2) exceto(e0) ABERTA", FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("e1", "e2")).etiquetasExceto(Set.of("e0")).status(Set.of(StatusTarefa.ABERTA)).build());
+        filtros.put("todas(e3) exceto(e4, e5) ALTA/CRITICA", FiltroTarefaDTO.builder()
+            .etiquetas(Set.of("e3")).etiquetasExceto(Set.of("e4", "e5"))
+            .prioridade(Set.of(Prioridade.ALTA, Prioridade.CRITICA)).build());
+
+        System.out.printf("%n%-40s %12s %12s %12s%n", "Filtro", "candidatas", "média us", "p99 us");
+        for (Map.Entry<String, FiltroTarefaDTO> filtro : filtros.entrySet()) {
+            for (int i = 0; i < ITERACOES_AQUECIMENTO; i++) {
+                indice.filtrar(filtro.getValue());
+            }
+
+            long[] tempos = new long[ITERACOES_MEDICAO];
+            long quantidade = 0;
+            for (int i = 0; i < ITERACOES_MEDICAO; i++) {
+                long inicio = System.nanoTime();
+                quantidade = indice.filtrar(filtro.getValue()).quantidade();
+                tempos[i] = System.nanoTime() - inicio;
+            }
+            Arrays.sort(tempos);
+            double media = Arrays.stream(tempos).average().orElse(0) / 1_000.0;
+            double p99 = tempos[(int) (ITERACOES_MEDICAO * 0.99)] / 1_000.0;
+
+            System.out.printf("%-40s %12d %12.1f %12.1f%n", filtro.getKey(), quantidade, media, p99);
+            assertTrue(quantidade > 0);
+        }
+    }
+
+    private void popular(IndiceTarefas indice) {
+        Random random = new Random(42);
+        StatusTarefa[] status = StatusTarefa.values();
+        Prioridade[] prioridades = Prioridade.values();
+
+        IndiceTarefas.Recarga recarga = indice.recarga();
+        for (long id = 1; id <= TAREFAS; id++) {
+            recarga.adicionar(new TarefaSnapshot(id, id % 100, status[random.nextInt(status.length)],
+                prioridades[random.nextInt(prioridades.length)], null, null, null, 0, null, null, true));
+            int quantidade = 1 + random.nextInt(4);
+            for (int i = 0; i < quantidade; i++) {
+                // Distribuição enviesada: o quadrado concentra os sorteios nas primeiras etiquetas
+                double sorteio = random.nextDouble();
+                recarga.adicionarEtiqueta(id, "e" + (int) (sorteio * sorteio * ETIQUETAS));
+            }
+        }
+        recarga.concluir();
+    }
+}
@@ -0,0 +1,148 @@
+package com.projeto.management.indice;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceTarefas
+ */
+class IndiceTarefasTest {
+
+    private IndiceTarefas indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceTarefas(3);
+        criar(1L, StatusTarefa.ABERTA, Prioridade.ALTA, "backend", "api");
+        criar(2L, StatusTarefa.EM_ANDAMENTO, Prioridade.MEDIA, "backend");
+        criar(3L, StatusTarefa.ABERTA, Prioridade.BAIXA, "frontend", "api");
+        criar(4L, StatusTarefa.CONCLUIDA, Prioridade.ALTA, "frontend", "legado");
+        criar(5L, StatusTarefa.ABERTA, Prioridade.CRITICA);
+    }
+
+    @Test
+    void filtrar_DeveCombinarTodasAlgumaEExceto() {
+        assertEquals(List.of(1L), ids(FiltroTarefaDTO.builder().etiquetas(Set.of("backend", "API")).build()));
+        assertEquals(List.of(1L, 2L, 4L), ids(FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("backend", "legado")).build()));
+        assertEquals(List.of(3L, 4L, 5L), ids(FiltroTarefaDTO.builder().etiquetasExceto(Set.of("backend")).build()));
+        assertEquals(List.of(3L), ids(FiltroTarefaDTO.builder()
+            .etiquetas(Set.of("api")).etiquetasAlguma(Set.of("frontend", "legado")).etiquetasExceto(Set.of("backend")).build()));
+        assertEquals(List.of(), ids(FiltroTarefaDTO.builder().etiquetas(Set.of("backend", "inexistente")).build()));
+    }
+
+    @Test
+    void filtrar_DeveIntersectarComStatusEPrioridade() {
+        assertEquals(List.of(1L, 3L), ids(FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("backend", "frontend")).status(Set.of(StatusTarefa.ABERTA)).build()));
+        assertEquals(List.of(1L, 4L), ids(FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("backend", "frontend")).prioridade(Set.of(Prioridade.ALTA, Prioridade.CRITICA)).build()));
+    }
+
+    @Test
+    void filtrar_SemEtiquetasOuAcimaDoLimite_NaoDeveDevolverIds() {
+        assertNull(indice.filtrar(FiltroTarefaDTO.builder().status(Set.of(StatusTarefa.ABERTA)).build()));
+
+        IndiceTarefas.Candidatos amplos = indice.filtrar(FiltroTarefaDTO.builder().etiquetasExceto(Set.of("api")).build());
+        assertEquals(3, amplos.quantidade());
+        assertEquals(List.of(2L, 4L, 5L), amplos.ids());
+
+        IndiceTarefas.Candidatos acimaDoLimite = indice.filtrar(FiltroTarefaDTO.builder().etiquetasExceto(Set.of("legado")).build());
+        assertEquals(4, acimaDoLimite.quantidade());
+        assertNull(acimaDoLimite.ids());
+    }
+
+    @Test
+    void filtrar_NaoDeveAlterarOsBitmapsDoIndice() {
+        FiltroTarefaDTO filtro = FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("backend")).etiquetasExceto(Set.of("api")).status(Set.of(StatusTarefa.ABERTA)).build();
+
+        assertEquals(List.of(), ids(filtro));
+        assertEquals(List.of(1L, 2L), ids(FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("backend")).build()));
+    }
+
+    @Test
+    void aoAlterarTarefa_DeveSubstituirEtiquetasSoQuandoInformadas() {
+        TarefaSnapshot anterior = snapshot(2L, StatusTarefa.EM_ANDAMENTO, Prioridade.MEDIA, true);
+
+        // Alteração de status sem etiquetas mantém as atuais
+        indice.aoAlterarTarefa(new TarefaAlteradaEvent(anterior, snapshot(2L, StatusTarefa.CONCLUIDA, Prioridade.MEDIA, true)));
+        assertEquals(Set.of("backend"), indice.etiquetas(2L));
+        assertEquals(List.of(2L, 4L), ids(FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("backend", "frontend")).status(Set.of(StatusTarefa.CONCLUIDA)).build()));
+
+        // Etiquetas informadas substituem as atuais; etiquetas sem tarefas somem do índice
+        indice.aoAlterarTarefa(new TarefaAlteradaEvent(anterior, anterior, Set.of("mobile")));
+        assertEquals(Set.of("mobile"), indice.etiquetas(2L));
+        assertEquals(List.of(1L), ids(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()));
+    }
+
+    @Test
+    void aoAlterarTarefa_DeveRetirarTarefasInativasEArquivadas() {
+        indice.aoAlterarTarefa(new TarefaAlteradaEvent(snapshot(1L, StatusTarefa.ABERTA, Prioridade.ALTA, true),
+            snapshot(1L, StatusTarefa.ABERTA, Prioridade.ALTA, false)));
+        indice.aoAlterarTarefa(new TarefaAlteradaEvent(snapshot(3L, StatusTarefa.ABERTA, Prioridade.BAIXA, true), null));
+
+        assertEquals(Set.of(), indice.etiquetas(1L));
+        assertEquals(List.of(4L), ids(FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("api", "frontend")).build()));
+        assertEquals(List.of(2L, 5L), ids(FiltroTarefaDTO.builder().etiquetasExceto(Set.of("legado")).build()));
+    }
+
+    @Test
+    void recarga_DeveTrocarOIndiceSomenteNaConclusao() {
+        IndiceTarefas.Recarga recarga = indice.recarga();
+        recarga.adicionar(snapshot(10L, StatusTarefa.ABERTA, Prioridade.ALTA, true));
+        recarga.adicionar(snapshot(11L, StatusTarefa.ABERTA, Prioridade.ALTA, false));
+        recarga.adicionarEtiqueta(10L, "backend");
+
+        assertEquals(List.of(1L, 2L), ids(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()));
+        recarga.concluir();
+        assertEquals(List.of(10L), ids(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()));
+        assertEquals(List.of(10L), ids(FiltroTarefaDTO.builder().etiquetasExceto(Set.of("api")).build()));
+    }
+
+    @Test
+    void recarga_ComIdAcimaDe32Bits_DeveDesativarOsFiltrosSemFalhar() {
+        long grande = (1L << 32) + 7;
+        IndiceTarefas.Recarga recarga = indice.recarga();
+        recarga.adicionar(snapshot(10L, StatusTarefa.ABERTA, Prioridade.ALTA, true));
+        recarga.adicionar(snapshot(grande, StatusTarefa.ABERTA, Prioridade.ALTA, true));
+        recarga.adicionarEtiqueta(10L, "backend");
+        recarga.adicionarEtiqueta(grande, "backend");
+        recarga.concluir();
+
+        // Os filtros seguem para o banco; as etiquetas dos IDs menores continuam no índice
+        assertNull(indice.filtrar(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()));
+        assertNull(indice.etiquetas(grande));
+        assertEquals(Set.of("backend"), indice.etiquetas(10L));
+    }
+
+    @Test
+    void aoAlterarTarefa_ComIdAcimaDe32Bits_DeveDesativarOsFiltros() {
+        criar((1L << 32) + 1, StatusTarefa.ABERTA, Prioridade.ALTA, "backend");
+
+        assertNull(indice.filtrar(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()));
+        assertEquals(Set.of("api", "backend"), indice.etiquetas(1L));
+    }
+
+    private List<Long> ids(FiltroTarefaDTO filtro) {
+        return indice.filtrar(filtro).ids();
+    }
+
+    private void criar(Long id, StatusTarefa status, Prioridade prioridade, String... etiquetas) {
+        indice.aoAlterarTarefa(new TarefaAlteradaEvent(null, snapshot(id, status, prioridade, true), Set.of(etiquetas)));
+    }
+
+    private static TarefaSnapshot snapshot(Long id, StatusTarefa status, Prioridade prioridade, boolean ativo) {
+        return new TarefaSnapshot(id, 1L, status, prioridade, null, null, null, 0, null, null, ativo);
+    }
+}
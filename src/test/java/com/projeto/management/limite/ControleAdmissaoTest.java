@@ -0,0 +1,164 @@
+package com.projeto.management.limite;
+
+import com.projeto.management.config.LimiteProperties;
+import com.projeto.management.exception.LimiteExcedidoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do balde de fichas e do interceptor de admissão
+ */
+class ControleAdmissaoTest {
+    
+    private static final long SEGUNDO = 1_000_000_000L;
+    
+    @Test
+    void tentarConsumir_DeveAdmitirRajadaERecusar_QuandoFichasAcabam() {
+        // Given
+        AtomicLong relogio = new AtomicLong(0);
+        LimitadorTaxa limitador = new LimitadorTaxa(3, 2, 100, relogio::get);
+        
+        // When / Then
+        assertEquals(0, limitador.tentarConsumir("integracao"));
+        assertEquals(0, limitador.tentarConsumir("integracao"));
+        assertEquals(0, limitador.tentarConsumir("integracao"));
+        assertEquals(SEGUNDO / 2, limitador.tentarConsumir("integracao"));
+        assertEquals(0, limitador.tentarConsumir("interativo"));
+        
+        relogio.addAndGet(SEGUNDO / 2);
+        assertEquals(0, limitador.tentarConsumir("integracao"));
+        assertTrue(limitador.tentarConsumir("integracao") > 0);
+    }
+    
+    @Test
+    void tentarConsumir_DeveAdmitirExatamenteCapacidade_QuandoThreadsConcorrem() throws Exception {
+        // Given
+        LimitadorTaxa limitador = new LimitadorTaxa(500, 0.001, 100, () -> 0L);
+        AtomicInteger admitidas = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        // When
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        if (limitador.tentarConsumir("integracao") == 0) {
+                            admitidas.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // Then
+        assertEquals(500, admitidas.get());
+    }
+    
+    @Test
+    void tentarConsumir_DeveDescartarBaldesCheios_QuandoHaChavesDemais() {
+        // Given
+        AtomicLong relogio = new AtomicLong(0);
+        LimitadorTaxa limitador = new LimitadorTaxa(1, 1, 2, relogio::get);
+        limitador.tentarConsumir("a");
+        limitador.tentarConsumir("b");
+        
+        // When
+        relogio.addAndGet(2 * SEGUNDO);
+        limitador.tentarConsumir("c");
+        
+        // Then
+        assertEquals(1, limitador.getChaves());
+    }
+    
+    @Test
+    void preHandle_DeveLimitarPorUsuarioEClasse_QuandoEscritasExcedemTaxa() throws Exception {
+        // Given
+        LimiteProperties properties = new LimiteProperties();
+        properties.setEscrita(new LimiteProperties.Taxa(1, 0.01));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ControleAdmissaoInterceptor interceptor = new ControleAdmissaoInterceptor(
+            properties, 4, List.of("/api/estatisticas/**"), List.of("/api/*/buscar-por-ids"), registry);
+        
+        // When
+        assertTrue(interceptor.preHandle(requisicao("POST", "/api/tarefas", "integracao"), new MockHttpServletResponse(), null));
+        LimiteExcedidoException excecao = assertThrows(LimiteExcedidoException.class, () ->
+            interceptor.preHandle(requisicao("POST", "/api/tarefas", "integracao"), new MockHttpServletResponse(), null));
+        
+        // Then
+        assertEquals(100, excecao.getRetryAfterSegundos());
+        assertTrue(interceptor.preHandle(requisicao("GET", "/api/tarefas", "integracao"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(requisicao("POST", "/api/tarefas", "interativo"), new MockHttpServletResponse(), null));
+        assertEquals(ClasseEndpoint.RELATORIO,
+            interceptor.classificar(requisicao("GET", "/api/estatisticas/tarefas", "integracao")));
+        assertEquals(ClasseEndpoint.LEITURA,
+            interceptor.classificar(requisicao("POST", "/api/tarefas/buscar-por-ids", "integracao")));
+        assertEquals(1.0, registry.get("app.limite.rejeicoes").tag("classe", "escrita").tag("motivo", "taxa")
+            .counter().count());
+    }
+    
+    @Test
+    void preHandle_DeveRecusar_QuandoConcorrenciaGlobalEsgotada() throws Exception {
+        // Given
+        LimiteProperties properties = new LimiteProperties();
+        properties.setEsperaConcorrencia(Duration.ofMillis(10));
+        ControleAdmissaoInterceptor interceptor = new ControleAdmissaoInterceptor(
+            properties, 1, List.of(), List.of(), new SimpleMeterRegistry());
+        MockHttpServletRequest primeira = requisicao("GET", "/api/projetos", "a");
+        assertTrue(interceptor.preHandle(primeira, new MockHttpServletResponse(), null));
+        
+        // When / Then
+        assertThrows(LimiteExcedidoException.class, () ->
+            interceptor.preHandle(requisicao("GET", "/api/projetos", "b"), new MockHttpServletResponse(), null));
+        interceptor.afterCompletion(primeira, new MockHttpServletResponse(), null, null);
+        assertTrue(interceptor.preHandle(requisicao("GET", "/api/projetos", "b"), new MockHttpServletResponse(), null));
+    }
+    
+    @Test
+    void preHandle_DeveSepararBaldesPorEndereco_QuandoSemHeaderDeUsuario() throws Exception {
+        // Given
+        LimiteProperties properties = new LimiteProperties();
+        properties.setEscrita(new LimiteProperties.Taxa(1, 0.01));
+        ControleAdmissaoInterceptor interceptor = new ControleAdmissaoInterceptor(
+            properties, 4, List.of(), List.of(), new SimpleMeterRegistry());
+        
+        // When
+        assertTrue(interceptor.preHandle(anonima("10.0.0.1"), new MockHttpServletResponse(), null));
+        
+        // Then
+        assertThrows(LimiteExcedidoException.class, () ->
+            interceptor.preHandle(anonima("10.0.0.1"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(anonima("10.0.0.2"), new MockHttpServletResponse(), null));
+    }
+    
+    private static MockHttpServletRequest anonima(String endereco) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tarefas");
+        request.setRemoteAddr(endereco);
+        return request;
+    }
+    
+    private static MockHttpServletRequest requisicao(String metodo, String caminho, String usuario) {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+        request.addHeader(ControleAdmissaoInterceptor.HEADER_USUARIO, usuario);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+package com.projeto.management.model.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a compactação dos textos longos
+ */
+class TextoCompactadoConverterTest {
+
+    private final TextoCompactadoConverter converter = new TextoCompactadoConverter();
+
+    @Test
+    void convertToDatabaseColumn_DeveGravarUtf8Puro_QuandoTextoAbaixoDoLimite() {
+        // Given
+        String texto = "Levantamento completo dos requisitos (ação, revisão)";
+
+        // When
+        byte[] dados = converter.convertToDatabaseColumn(texto);
+
+        // Then
+        assertArrayEquals(texto.getBytes(StandardCharsets.UTF_8), dados);
+        assertFalse(TextoCompactadoConverter.isCompactado(dados));
+        assertEquals(texto, converter.convertToEntityAttribute(dados));
+    }
+
+    @Test
+    void convertToDatabaseColumn_DeveCompactar_QuandoTextoAcimaDoLimite() {
+        // Given
+        String texto = "Critério de aceite: a tela deve validar os campos obrigatórios. ".repeat(40);
+
+        // When
+        byte[] dados = converter.convertToDatabaseColumn(texto);
+
+        // Then
+        assertTrue(TextoCompactadoConverter.isCompactado(dados));
+        assertTrue(dados.length < texto.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertEquals(texto, converter.convertToEntityAttribute(dados));
+    }
+
+    @Test
+    void convertToDatabaseColumn_DeveRespeitarOLimite() {
+        // Given
+        String abaixo = "a".repeat(TextoCompactadoConverter.LIMITE_COMPACTACAO - 1);
+        String noLimite = "a".repeat(TextoCompactadoConverter.LIMITE_COMPACTACAO);
+
+        // When & Then
+        assertFalse(TextoCompactadoConverter.isCompactado(converter.convertToDatabaseColumn(abaixo)));
+        assertTrue(TextoCompactadoConverter.isCompactado(converter.convertToDatabaseColumn(noLimite)));
+    }
+
+    @Test
+    void converter_DevePreservarNulo() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,147 @@
+package com.projeto.management.monitoramento;
+
+import com.projeto.management.config.ConsultasLentasProperties;
+import com.projeto.management.dto.response.ConsultaLentaDTO;
+import com.projeto.management.dto.response.ConsultasLentasDTO;
+import com.projeto.management.dto.response.FormatoConsultaDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários da captura de consultas lentas sobre um banco H2 em memória
+ */
+class ConsultasLentasTest {
+
+    private final ConsultasLentasProperties properties = new ConsultasLentasProperties();
+    private ConsultasLentas consultasLentas;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Limite zero: todo comando é registrado
+        properties.setLimite(Duration.ZERO);
+        properties.setCapacidade(5);
+        properties.setExibirParametros(true);
+        consultasLentas = new ConsultasLentas(properties);
+
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE tarefa (id BIGINT PRIMARY KEY, titulo VARCHAR(200))");
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("consultasLentas", consultasLentas);
+        InterceptacaoConsultas interceptacao = new InterceptacaoConsultas(beanFactory.getBeanProvider(ConsultasLentas.class));
+        jdbcTemplate = new JdbcTemplate(interceptacao.envolver(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        consultasLentas.destroy();
+    }
+
+    @Test
+    void registrar_DeveGuardarParametrosEAgregarPorFormato() throws Exception {
+        // When
+        jdbcTemplate.update("INSERT INTO tarefa (id, titulo) VALUES (?, ?)", 1L, "Primeira");
+        jdbcTemplate.update("INSERT INTO tarefa (id, titulo) VALUES (?, ?)", 2L, null);
+        jdbcTemplate.queryForList("SELECT titulo FROM tarefa WHERE id = ?", String.class, 1L);
+        jdbcTemplate.queryForList("SELECT titulo FROM tarefa WHERE id = ?", String.class, 2L);
+
+        // Then
+        ConsultasLentasDTO resumo = consultasLentas.resumo();
+        assertEquals(4, resumo.getCapturadas());
+        assertEquals(2, resumo.getFormatos().size());
+
+        ConsultaLentaDTO maisRecente = resumo.getRecentes().get(0);
+        assertEquals("SELECT titulo FROM tarefa WHERE id = ?", maisRecente.getSql());
+        assertEquals(List.of("2"), maisRecente.getParametros());
+        assertEquals(List.of("2", "NULL"), resumo.getRecentes().get(2).getParametros());
+
+        FormatoConsultaDTO select = formato(resumo, "select titulo from tarefa where id = ?");
+        assertEquals(2, select.getQuantidade());
+        assertTrue(select.getMaximoMs() <= select.getTotalMs());
+        assertNotNull(aguardarPlano("select titulo from tarefa where id = ?"));
+        assertNull(formato(consultasLentas.resumo(), "insert into tarefa (id, titulo) values (?, ?)").getPlano());
+    }
+
+    @Test
+    void registrar_DeveSobrescreverAsExecucoesMaisAntigas_QuandoBufferEstaCheio() {
+        // When
+        for (long id = 1; id <= 8; id++) {
+            jdbcTemplate.update("INSERT INTO tarefa (id, titulo) VALUES (?, ?)", id, "Tarefa " + id);
+        }
+
+        // Then
+        ConsultasLentasDTO resumo = consultasLentas.resumo();
+        assertEquals(8, resumo.getCapturadas());
+        assertEquals(List.of("8", "7", "6", "5", "4"),
+            resumo.getRecentes().stream().map(consulta -> consulta.getParametros().get(0)).toList());
+        assertEquals(8, resumo.getFormatos().get(0).getQuantidade());
+
+        consultasLentas.limpar();
+        assertTrue(consultasLentas.resumo().getRecentes().isEmpty());
+    }
+
+    @Test
+    void registrar_DeveMascararParametros_QuandoExibicaoDesligada() {
+        // Given
+        ConsultasLentasProperties padrao = new ConsultasLentasProperties();
+        ConsultasLentas mascarada = new ConsultasLentas(padrao);
+        Map<Integer, Object> parametros = new TreeMap<>();
+        parametros.put(1, 42L);
+        parametros.put(2, "maria@empresa.com");
+        parametros.put(3, null);
+        parametros.put(4, new byte[] {1, 2, 3});
+
+        // When
+        try {
+            mascarada.registrar(null, "UPDATE tarefa SET responsavel = ? WHERE id = ?", parametros,
+                mascarada.getLimiteNanos());
+
+            // Then
+            assertFalse(padrao.isExibirParametros());
+            assertEquals(List.of("<Long>", "<texto de 17 caracteres>", "NULL", "<3 bytes>"),
+                mascarada.resumo().getRecentes().get(0).getParametros());
+        } finally {
+            mascarada.destroy();
+        }
+    }
+
+    @Test
+    void normalizar_DeveRemoverLiteraisEReduzirListasIn() {
+        assertEquals("select t.id from tarefa t where t.status in (?) and t.titulo like ? and t1_0.prioridade = ?",
+            ConsultasLentas.normalizar("SELECT t.id\n  FROM tarefa t WHERE t.status IN (?, ?,?) "
+                + "AND t.titulo LIKE '%it''s%' AND t1_0.prioridade = 3"));
+        assertEquals(ConsultasLentas.normalizar("select * from tarefa where id in (?)"),
+            ConsultasLentas.normalizar("select * from tarefa where id in (?, ?, ?, ?)"));
+    }
+
+    private String aguardarPlano(String formato) throws InterruptedException {
+        for (int tentativa = 0; tentativa < 100; tentativa++) {
+            String plano = formato(consultasLentas.resumo(), formato).getPlano();
+            if (plano != null) {
+                return plano;
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+
+    private static FormatoConsultaDTO formato(ConsultasLentasDTO resumo, String texto) {
+        return resumo.getFormatos().stream()
+            .filter(formato -> formato.getFormato().equals(texto))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,149 @@
+package com.projeto.management.monitoramento;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do filtro Server-Timing e da medição por fase
+ */
+class TempoServidorTest {
+
+    private static final long MILISSEGUNDO = 1_000_000L;
+    private static final String CORPO = "{\"id\":1}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void doFilter_DeveEmitirServerTimingERegistrarMetricas_QuandoAmostrada() throws Exception {
+        // Given
+        TempoServidorFilter filtro = new TempoServidorFilter(1, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tarefas/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filtro.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tarefas/{id}");
+            MedicaoRequisicao.registrarComando(3 * MILISSEGUNDO);
+            MedicaoRequisicao.registrarComando(2 * MILISSEGUNDO);
+            long inicio = MedicaoRequisicao.inicioMapeamento();
+            MedicaoRequisicao.fimMapeamento(inicio);
+            MedicaoRequisicao.iniciarSerializacao();
+            res.getOutputStream().write(CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Then
+        String serverTiming = response.getHeader(TempoServidorFilter.HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("db;dur=5.0;desc=\"2 comandos\", mapeamento;dur="), serverTiming);
+        assertTrue(duracao(serverTiming, "total") >= duracao(serverTiming, "serializacao"), serverTiming);
+        assertEquals(CORPO, response.getContentAsString());
+
+        Timer banco = meterRegistry.get("app.tempo.servidor")
+            .tags("endpoint", "/api/tarefas/{id}", "metodo", "GET", "fase", "db").timer();
+        assertEquals(1, banco.count());
+        assertEquals(5, banco.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(4, meterRegistry.find("app.tempo.servidor").timers().size());
+    }
+
+    @Test
+    void serializacao_NaoDeveIncluirPosProcessamentoDosFiltros() throws Exception {
+        // Given
+        TempoServidorFilter filtro = new TempoServidorFilter(1, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tarefas");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When: o conversor escreve o corpo e um filtro interno grava a resposta depois
+        filtro.doFilter(request, response, (req, res) -> {
+            MedicaoRequisicao.iniciarSerializacao();
+            res.getOutputStream().write(CORPO.getBytes(StandardCharsets.UTF_8));
+            new FimSerializacaoInterceptor().afterCompletion((HttpServletRequest) req, (HttpServletResponse) res, null, null);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Then
+        String serverTiming = response.getHeader(TempoServidorFilter.HEADER);
+        assertTrue(duracao(serverTiming, "serializacao") < 50, serverTiming);
+        assertTrue(duracao(serverTiming, "total") >= 100, serverTiming);
+    }
+
+    @Test
+    void doFilter_NaoDeveMedir_QuandoForaDaAmostra() throws Exception {
+        // Given
+        TempoServidorFilter filtro = new TempoServidorFilter(0, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filtro.doFilter(new MockHttpServletRequest("GET", "/api/tarefas"), response, (req, res) -> {
+            assertEquals(0, MedicaoRequisicao.inicioMapeamento());
+            res.getOutputStream().write(CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        // Then
+        assertNull(response.getHeader(TempoServidorFilter.HEADER));
+        assertEquals(CORPO, response.getContentAsString());
+        assertTrue(meterRegistry.find("app.tempo.servidor").timers().isEmpty());
+    }
+
+    @Test
+    void mapeamento_DeveDescontarComandosExecutadosDuranteAConversao() throws Exception {
+        // Given
+        MedicaoRequisicao medicao = MedicaoRequisicao.iniciar();
+
+        // When
+        try {
+            long inicio = MedicaoRequisicao.inicioMapeamento();
+            MedicaoRequisicao.registrarComando(500 * MILISSEGUNDO);
+            MedicaoRequisicao.fimMapeamento(inicio);
+        } finally {
+            medicao.encerrar();
+        }
+
+        // Then
+        assertEquals(500 * MILISSEGUNDO, medicao.bancoNanos());
+        assertTrue(medicao.mapeamentoNanos() < 100 * MILISSEGUNDO);
+    }
+
+    @Test
+    void propagar_DeveSomarComandosDeOutrasThreadsNaMedicaoDaRequisicao() throws Exception {
+        // Given
+        MedicaoRequisicao medicao = MedicaoRequisicao.iniciar();
+
+        // When
+        try {
+            Runnable consulta = MedicaoRequisicao.propagar(() -> MedicaoRequisicao.registrarComando(MILISSEGUNDO));
+            CompletableFuture.allOf(CompletableFuture.runAsync(consulta), CompletableFuture.runAsync(consulta))
+                .get(10, TimeUnit.SECONDS);
+        } finally {
+            medicao.encerrar();
+        }
+
+        // Then
+        assertEquals(2, medicao.comandos());
+        assertEquals(2 * MILISSEGUNDO, medicao.bancoNanos());
+        assertEquals(0, MedicaoRequisicao.inicioMapeamento());
+    }
+
+    private static double duracao(String serverTiming, String fase) {
+        Matcher matcher = Pattern.compile(fase + ";dur=([0-9.]+)").matcher(serverTiming);
+        assertTrue(matcher.find(), serverTiming);
+        return Double.parseDouble(matcher.group(1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.projeto.management.repository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Registra o SQL e os parâmetros de cada PreparedStatement aberto por um DataSource,
+ * para que as consultas geradas pelos repositórios possam ser repetidas com EXPLAIN
+ */
+class CapturaConsultas {
+
+    /**
+     * SQL preparado e seus parâmetros, pelo índice JDBC
+     */
+    record ConsultaCapturada(String sql, Map<Integer, Object> parametros) {
+
+        boolean isSelect() {
+            return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+        }
+    }
+
+    private final List<ConsultaCapturada> consultas = new ArrayList<>();
+
+    synchronized void limpar() {
+        consultas.clear();
+    }
+
+    synchronized List<ConsultaCapturada> consultas() {
+        return List.copyOf(consultas);
+    }
+
+    DataSource envolver(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (metodo, args, resultado) ->
+            resultado instanceof Connection conexao ? envolver(conexao) : resultado);
+    }
+
+    private Connection envolver(Connection conexao) {
+        return proxy(Connection.class, conexao, (metodo, args, resultado) -> {
+            if (resultado instanceof PreparedStatement statement && metodo.getName().equals("prepareStatement")) {
+                ConsultaCapturada consulta = new ConsultaCapturada((String) args[0], new TreeMap<>());
+                synchronized (this) {
+                    consultas.add(consulta);
+                }
+                return envolver(statement, consulta);
+            }
+            return resultado;
+        });
+    }
+
+    private PreparedStatement envolver(PreparedStatement statement, ConsultaCapturada consulta) {
+        return proxy(PreparedStatement.class, statement, (metodo, args, resultado) -> {
+            if (metodo.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                consulta.parametros().put(indice, metodo.getName().equals("setNull") ? null : args[1]);
+            }
+            return resultado;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AposInvocacao {
+        Object aplicar(Method metodo, Object[] args, Object resultado) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, T alvo, AposInvocacao aposInvocacao) {
+        InvocationHandler handler = (proxy, metodo, args) -> {
+            try {
+                return aposInvocacao.aplicar(metodo, args, metodo.invoke(alvo, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+}
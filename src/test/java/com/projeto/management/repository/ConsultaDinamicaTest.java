@@ -0,0 +1,77 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testes unitários para ConsultaDinamica
+ */
+class ConsultaDinamicaTest {
+
+    @Test
+    void jpql_DeveConterApenasOsPredicadosInformados() {
+        String jpql = ConsultaDinamica.de(Tarefa.class, "t")
+            .onde("t.ativo = true")
+            .igual("projeto.id", null)
+            .em("status", Set.of())
+            .aPartirDe("dataFimPrevista", LocalDate.of(2025, 1, 1))
+            .ate("dataFimPrevista", null)
+            .contem("titulo", "  ")
+            .jpql();
+
+        assertEquals("SELECT t FROM Tarefa t WHERE t.ativo = true AND t.dataFimPrevista >= :p1", jpql);
+    }
+
+    @Test
+    void jpql_DeveUsarIgualdadeParaUmValorEInParaVarios() {
+        String umValor = ConsultaDinamica.de(Tarefa.class, "t")
+            .em("status", Set.of(StatusTarefa.ABERTA))
+            .jpql();
+        String variosValores = ConsultaDinamica.de(Tarefa.class, "t")
+            .em("status", List.of(StatusTarefa.ABERTA, StatusTarefa.EM_REVISAO))
+            .jpql();
+
+        assertEquals("SELECT t FROM Tarefa t WHERE t.status = :p1", umValor);
+        assertEquals("SELECT t FROM Tarefa t WHERE t.status IN :p1", variosValores);
+    }
+
+    @Test
+    void jpql_DeveGerarOMesmoTextoParaAMesmaCombinacaoDeFiltros() {
+        String primeira = ConsultaDinamica.de(Tarefa.class, "t").igual("projeto.id", 1L).contem("titulo", "api").jpql();
+        String segunda = ConsultaDinamica.de(Tarefa.class, "t").igual("projeto.id", 99L).contem("titulo", "x").jpql();
+
+        assertEquals(primeira, segunda);
+        assertEquals("SELECT t FROM Tarefa t WHERE t.projeto.id = :p1 AND LOWER(t.titulo) LIKE :p2 ESCAPE '!'", primeira);
+    }
+
+    @Test
+    void jpql_DeveCarregarAssociacaoSemAlterarAContagem() {
+        ConsultaDinamica<Tarefa> consulta = ConsultaDinamica.de(Tarefa.class, "t")
+            .buscando("projeto")
+            .onde("t.ativo = true");
+
+        assertEquals("SELECT t FROM Tarefa t LEFT JOIN FETCH t.projeto WHERE t.ativo = true", consulta.jpql());
+        assertEquals("SELECT COUNT(t) FROM Tarefa t WHERE t.ativo = true", consulta.jpqlContagem());
+    }
+
+    @Test
+    void jpql_DeveGerarSubconsultasDeExistenciaComAliasProprio() {
+        String jpql = ConsultaDinamica.de(Tarefa.class, "t")
+            .onde("t.ativo = true")
+            .existe("EtiquetaTarefa", "idTarefa", "etiqueta", List.of("backend"))
+            .existe("EtiquetaTarefa", "idTarefa", "etiqueta", List.of())
+            .naoExiste("EtiquetaTarefa", "idTarefa", "etiqueta", List.of("bloqueada", "adiada"))
+            .jpql();
+
+        assertEquals("SELECT t FROM Tarefa t WHERE t.ativo = true"
+            + " AND EXISTS (SELECT 1 FROM EtiquetaTarefa t_2 WHERE t_2.idTarefa = t.id AND t_2.etiqueta = :p1)"
+            + " AND NOT EXISTS (SELECT 1 FROM EtiquetaTarefa t_3 WHERE t_3.idTarefa = t.id AND t_3.etiqueta IN :p2)", jpql);
+    }
+}
@@ -0,0 +1,193 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.CapturaConsultas.ConsultaCapturada;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comparação de planos e latência entre a consulta de filtros opcionais antiga
+ * ({@code :x IS NULL OR ...}) e a consulta dinâmica, nas combinações de filtros mais comuns
+ *
+ * Executar com: mvn test -Dtest=FiltrosDinamicosBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PlanoConsultasTestBase.CapturaConfig.class)
+class FiltrosDinamicosBenchmarkTest {
+
+    private static final String CONSULTA_ANTIGA = "SELECT t FROM Tarefa t WHERE t.ativo = true " +
+        "AND (:projetoId IS NULL OR t.projeto.id = :projetoId) " +
+        "AND (:titulo IS NULL OR LOWER(t.titulo) LIKE LOWER(CONCAT('%', :titulo, '%'))) " +
+        "AND (:status IS NULL OR t.status = :status) " +
+        "AND (:responsavel IS NULL OR LOWER(t.responsavel) LIKE LOWER(CONCAT('%', :responsavel, '%'))) " +
+        "AND (:prioridade IS NULL OR t.prioridade = :prioridade)";
+
+    private static final int ITERACOES_AQUECIMENTO = 100;
+    private static final int ITERACOES_MEDICAO = 300;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CapturaConsultas captura;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void popularBase() {
+        PlanoConsultasTestBase.popular(jdbcTemplate);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void compararPlanosELatencia() throws Exception {
+        LocalDate hoje = LocalDate.now();
+        Pageable pagina = PageRequest.of(0, 20);
+
+        List<FiltroTarefaDTO> filtros = List.of(
+            FiltroTarefaDTO.builder().projetoId(42L).build(),
+            FiltroTarefaDTO.builder().status(Set.of(StatusTarefa.EM_REVISAO)).build(),
+            FiltroTarefaDTO.builder().projetoId(42L).status(Set.of(StatusTarefa.ABERTA)).build(),
+            FiltroTarefaDTO.builder().responsavel("oa 17").build(),
+            FiltroTarefaDTO.builder().build(),
+            FiltroTarefaDTO.builder().status(Set.of(StatusTarefa.ABERTA, StatusTarefa.EM_REVISAO)).build(),
+            FiltroTarefaDTO.builder().dataFimPrevistaDe(hoje).dataFimPrevistaAte(hoje.plusDays(7)).build()
+        );
+
+        System.out.printf("%n%-70s %12s %12s%n", "Filtros", "antiga us", "dinâmica us");
+        for (FiltroTarefaDTO filtro : filtros) {
+            boolean suportadoAntes = filtro.getDataFimPrevistaDe() == null
+                && (filtro.getStatus() == null || filtro.getStatus().size() == 1);
+
+            long totalDinamica = executar(() -> tarefaRepository.buscarComFiltros(filtro, null, pagina).getTotalElements());
+            String planoDinamica = planos(() -> tarefaRepository.buscarComFiltros(filtro, null, pagina).getTotalElements());
+            double usDinamica = medir(() -> tarefaRepository.buscarComFiltros(filtro, null, pagina).getTotalElements());
+
+            String linhaAntiga = "n/d";
+            String planoAntiga = "(combinação não suportada)";
+            if (suportadoAntes) {
+                assertEquals(totalDinamica, executar(() -> consultarAntiga(filtro, pagina)));
+                planoAntiga = planos(() -> consultarAntiga(filtro, pagina));
+                linhaAntiga = String.format("%.1f", medir(() -> consultarAntiga(filtro, pagina)));
+            }
+
+            System.out.printf("%-70s %12s %12.1f%n", descrever(filtro), linhaAntiga, usDinamica);
+            System.out.printf("    antiga:   %s%n    dinâmica: %s%n", planoAntiga, planoDinamica);
+        }
+    }
+
+    /**
+     * Executa a consulta antiga com a contagem, como fazia o repositório
+     */
+    private long consultarAntiga(FiltroTarefaDTO filtro, Pageable pagina) {
+        TypedQuery<Tarefa> consulta = entityManager.createQuery(CONSULTA_ANTIGA, Tarefa.class);
+        vincularAntiga(consulta, filtro);
+        consulta.setFirstResult((int) pagina.getOffset()).setMaxResults(pagina.getPageSize()).getResultList();
+
+        TypedQuery<Long> contagem = entityManager.createQuery(
+            CONSULTA_ANTIGA.replaceFirst("SELECT t", "SELECT COUNT(t)"), Long.class);
+        vincularAntiga(contagem, filtro);
+        return contagem.getSingleResult();
+    }
+
+    private static void vincularAntiga(TypedQuery<?> consulta, FiltroTarefaDTO filtro) {
+        consulta.setParameter("projetoId", filtro.getProjetoId());
+        consulta.setParameter("titulo", filtro.getTitulo());
+        consulta.setParameter("status", filtro.getStatus() != null ? filtro.getStatus().iterator().next() : null);
+        consulta.setParameter("responsavel", filtro.getResponsavel());
+        consulta.setParameter("prioridade", filtro.getPrioridade() != null ? filtro.getPrioridade().iterator().next() : null);
+    }
+
+    private long executar(ConsultaMedida consulta) {
+        return transactionTemplate.execute(status -> consulta.executar());
+    }
+
+    private double medir(ConsultaMedida consulta) {
+        for (int i = 0; i < ITERACOES_AQUECIMENTO; i++) {
+            executar(consulta);
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACOES_MEDICAO; i++) {
+            executar(consulta);
+        }
+        return (System.nanoTime() - inicio) / 1_000.0 / ITERACOES_MEDICAO;
+    }
+
+    /**
+     * Índices escolhidos pelo H2 para cada SELECT emitido (página e contagem)
+     */
+    private String planos(ConsultaMedida consulta) throws Exception {
+        captura.limpar();
+        executar(consulta);
+
+        List<String> acessos = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection()) {
+            for (ConsultaCapturada capturada : captura.consultas()) {
+                if (!capturada.isSelect()) {
+                    continue;
+                }
+                Matcher acesso = PlanoConsultasH2Test.ACESSO_TABELA.matcher(PlanoConsultasH2Test.explicar(conexao, capturada));
+                while (acesso.find()) {
+                    String condicao = acesso.group(3) != null ? ": " + acesso.group(3).trim().replaceAll("\\s+", " ") : "";
+                    acessos.add(acesso.group(2) + condicao);
+                }
+            }
+        }
+        return String.join(" | ", acessos);
+    }
+
+    private static String descrever(FiltroTarefaDTO filtro) {
+        List<String> partes = new ArrayList<>();
+        if (filtro.getProjetoId() != null) partes.add("projeto");
+        if (filtro.getStatus() != null) partes.add("status" + filtro.getStatus());
+        if (filtro.getResponsavel() != null) partes.add("responsável");
+        if (filtro.getDataFimPrevistaDe() != null) partes.add("prazo 7 dias");
+        return partes.isEmpty() ? "(sem filtros)" : String.join(" + ", partes);
+    }
+
+    @FunctionalInterface
+    private interface ConsultaMedida {
+        long executar();
+    }
+}
@@ -0,0 +1,86 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.repository.CapturaConsultas.ConsultaCapturada;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Planos de execução das consultas dos repositórios no H2
+ *
+ * O plano do H2 anota cada tabela com o índice escolhido e a condição usada nele. Conta
+ * como varredura completa o tableScan, o índice percorrido sem condição e o índice cuja
+ * condição é apenas {@code ativo = TRUE} (que seleciona quase toda a tabela).
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class PlanoConsultasH2Test extends PlanoConsultasTestBase {
+    
+    static final Pattern ACESSO_TABELA = Pattern.compile(
+        "\"PUBLIC\"\\.\"(\\w+)\" \"\\w+\"\\s*/\\* PUBLIC\\.([\\w.]+)(?:: (.*?))? \\*/", Pattern.DOTALL);
+    private static final Pattern SOMENTE_ATIVO = Pattern.compile("^\"?ATIVO\"?(\\s*=\\s*TRUE)?$");
+    
+    @Override
+    List<Varredura> varredurasCompletas(Connection conexao, ConsultaCapturada consulta) throws SQLException {
+        String plano = explicar(conexao, consulta);
+        
+        List<Varredura> varreduras = new ArrayList<>();
+        Matcher acesso = ACESSO_TABELA.matcher(plano);
+        while (acesso.find()) {
+            String tabela = acesso.group(1).toLowerCase(Locale.ROOT);
+            String indice = acesso.group(2);
+            String condicao = acesso.group(3) != null ? acesso.group(3).trim().replaceAll("\\s+", " ") : null;
+            
+            if (indice.endsWith(".tableScan")) {
+                varreduras.add(new Varredura(tabela, "tableScan"));
+            } else if (condicao == null) {
+                varreduras.add(new Varredura(tabela, "índice " + indice + " percorrido sem condição"));
+            } else if (SOMENTE_ATIVO.matcher(condicao).matches()) {
+                varreduras.add(new Varredura(tabela, "índice " + indice + " filtrando apenas " + condicao));
+            }
+        }
+        return varreduras;
+    }
+    
+    /**
+     * O H2 só reconhece como ordenado ("index sorted") o índice que começa pelas colunas do
+     * ORDER BY, sem descontar as colunas fixadas por igualdade (id_projeto, ativo); a
+     * verificação da ordenação fica a cargo do MySQL
+     */
+    @Override
+    boolean ordenaForaDoIndice(Connection conexao, ConsultaCapturada consulta) {
+        return false;
+    }
+    
+    /**
+     * Plano do H2 para a consulta capturada, com os mesmos parâmetros
+     */
+    static String explicar(Connection conexao, ConsultaCapturada consulta) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + consulta.sql())) {
+            for (Map.Entry<Integer, Object> parametro : consulta.parametros().entrySet()) {
+                explain.setObject(parametro.getKey(), parametro.getValue());
+            }
+            try (ResultSet resultado = explain.executeQuery()) {
+                resultado.next();
+                return resultado.getString(1);
+            }
+        }
+    }
+    
+    @Override
+    void atualizarEstatisticas(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
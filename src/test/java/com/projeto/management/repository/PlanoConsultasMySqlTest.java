@@ -0,0 +1,103 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.repository.CapturaConsultas.ConsultaCapturada;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Planos de execução das consultas dos repositórios no MySQL (Testcontainers)
+ *
+ * Conta como varredura completa o acesso do tipo ALL (tabela inteira) ou index (índice
+ * inteiro). Ignorado quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PlanoConsultasMySqlTest extends PlanoConsultasTestBase {
+    
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+    
+    private static final Pattern TABELA_ALIAS = Pattern.compile("(?:from|join)\\s+(\\w+)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+    
+    @DynamicPropertySource
+    static void configurarDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+    }
+    
+    @Override
+    List<Varredura> varredurasCompletas(Connection conexao, ConsultaCapturada consulta) throws SQLException {
+        Map<String, String> tabelasPorAlias = new HashMap<>();
+        Matcher alias = TABELA_ALIAS.matcher(consulta.sql());
+        while (alias.find()) {
+            tabelasPorAlias.put(alias.group(2).toLowerCase(Locale.ROOT), alias.group(1).toLowerCase(Locale.ROOT));
+        }
+        
+        List<Varredura> varreduras = new ArrayList<>();
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + consulta.sql())) {
+            for (Map.Entry<Integer, Object> parametro : consulta.parametros().entrySet()) {
+                explain.setObject(parametro.getKey(), parametro.getValue());
+            }
+            try (ResultSet resultado = explain.executeQuery()) {
+                while (resultado.next()) {
+                    String tipo = resultado.getString("type");
+                    String tabela = resultado.getString("table");
+                    if (tabela == null || !("ALL".equals(tipo) || "index".equals(tipo))) {
+                        continue;
+                    }
+                    tabela = tabela.toLowerCase(Locale.ROOT);
+                    varreduras.add(new Varredura(tabelasPorAlias.getOrDefault(tabela, tabela),
+                        "type=" + tipo + ", key=" + resultado.getString("key") + ", rows=" + resultado.getLong("rows")));
+                }
+            }
+        }
+        return varreduras;
+    }
+    
+    @Override
+    boolean ordenaForaDoIndice(Connection conexao, ConsultaCapturada consulta) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + consulta.sql())) {
+            for (Map.Entry<Integer, Object> parametro : consulta.parametros().entrySet()) {
+                explain.setObject(parametro.getKey(), parametro.getValue());
+            }
+            try (ResultSet resultado = explain.executeQuery()) {
+                while (resultado.next()) {
+                    String extra = resultado.getString("Extra");
+                    if (extra != null && extra.contains("Using filesort")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    void atualizarEstatisticas(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ANALYZE TABLE projeto, tarefa");
+    }
+}
@@ -0,0 +1,534 @@
+package com.projeto.management.repository;
+
+import com.projeto.management.dto.request.FiltroProjetoDTO;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.CapturaConsultas.ConsultaCapturada;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Suíte de regressão de planos de execução das consultas dos repositórios
+ *
+ * Cada consulta é executada contra uma base populada, o SQL gerado é capturado e repetido
+ * com EXPLAIN no banco da subclasse. A suíte falha quando uma consulta varre por completo
+ * uma tabela grande sem ter sido marcada como varredura aceita, e sugere um índice
+ * composto começando por {@code ativo} com as colunas filtradas.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PlanoConsultasTestBase.CapturaConfig.class)
+abstract class PlanoConsultasTestBase {
+
+    static final int PROJETOS = 500;
+    static final int TAREFAS_POR_PROJETO = 40;
+    static final Set<String> TABELAS_GRANDES = Set.of("projeto", "tarefa", "tarefa_hierarquia", "tarefa_etiqueta");
+
+    private static final Pattern TABELA_ALIAS = Pattern.compile("(?:from|join)\\s+(\\w+)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private BurndownProjetoRepository burndownRepository;
+
+    @Autowired
+    private HierarquiaTarefaRepository hierarquiaRepository;
+
+    @Autowired
+    private EtiquetaTarefaRepository etiquetaRepository;
+
+    @Autowired
+    private CapturaConsultas captura;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Varredura completa encontrada no plano de uma consulta
+     */
+    record Varredura(String tabela, String detalhe) {
+    }
+
+    /**
+     * Executa EXPLAIN da consulta capturada e devolve as varreduras completas do plano
+     */
+    abstract List<Varredura> varredurasCompletas(Connection conexao, ConsultaCapturada consulta) throws SQLException;
+
+    /**
+     * Indica se o plano da consulta capturada ordena as linhas à parte (filesort) em vez de
+     * percorrer um índice na ordem do ORDER BY
+     */
+    abstract boolean ordenaForaDoIndice(Connection conexao, ConsultaCapturada consulta) throws SQLException;
+
+    /**
+     * Atualiza as estatísticas do otimizador após a carga
+     */
+    abstract void atualizarEstatisticas(JdbcTemplate jdbcTemplate);
+
+    @BeforeAll
+    void popularBase() {
+        popular(jdbcTemplate);
+        atualizarEstatisticas(jdbcTemplate);
+    }
+
+    /**
+     * Carrega {@value #PROJETOS} projetos com {@value #TAREFAS_POR_PROJETO} tarefas cada, com
+     * status, prioridades, prazos e responsáveis distribuídos e alguns registros inativos
+     */
+    static void popular(JdbcTemplate jdbcTemplate) {
+        LocalDate hoje = LocalDate.now();
+
+        List<Object[]> projetos = new ArrayList<>();
+        for (int i = 1; i <= PROJETOS; i++) {
+            LocalDate inicio = hoje.minusDays(i % 700);
+            projetos.add(new Object[]{
+                "Projeto " + i,
+                StatusProjeto.values()[i % StatusProjeto.values().length].name(),
+                Prioridade.values()[i % Prioridade.values().length].name(),
+                Date.valueOf(inicio),
+                Date.valueOf(inicio.plusDays(120)),
+                "Responsável " + (i % 50),
+                i % 20 != 0
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projeto (nome, status, prioridade, data_inicio, data_fim_prevista, " +
+            "responsavel, ativo) VALUES (?, ?, ?, ?, ?, ?, ?)", projetos);
+
+        List<Long> idsProjetos = jdbcTemplate.queryForList("SELECT id FROM projeto ORDER BY id", Long.class);
+        List<Object[]> tarefas = new ArrayList<>();
+        int j = 0;
+        for (Long idProjeto : idsProjetos) {
+            for (int k = 0; k < TAREFAS_POR_PROJETO; k++, j++) {
+                Prioridade prioridade = Prioridade.values()[(j * 7) % Prioridade.values().length];
+                tarefas.add(new Object[]{
+                    "Tarefa " + j,
+                    StatusTarefa.values()[j % StatusTarefa.values().length].name(),
+                    prioridade.name(),
+                    prioridade.getNivel(),
+                    Date.valueOf(hoje.minusDays(365).plusDays((j * 37L) % 730)),
+                    8 + j % 40,
+                    "Pessoa " + (j % 200),
+                    j % 25 != 0,
+                    idProjeto
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tarefa (titulo, status, prioridade, peso_prioridade, data_fim_prevista, " +
+            "estimativa_horas, responsavel, ativo, id_projeto) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", tarefas);
+
+        // Árvore de subtarefas: em cada projeto a primeira tarefa é pai das 9 seguintes
+        List<Long> idsTarefas = jdbcTemplate.queryForList("SELECT id FROM tarefa ORDER BY id", Long.class);
+        List<Object[]> caminhos = new ArrayList<>();
+        List<Object[]> pais = new ArrayList<>();
+        for (int i = 0; i < idsTarefas.size(); i++) {
+            Long id = idsTarefas.get(i);
+            caminhos.add(new Object[]{id, id, 0});
+            int posicao = i % TAREFAS_POR_PROJETO;
+            if (posicao >= 1 && posicao <= 9) {
+                Long idPai = idsTarefas.get(i - posicao);
+                caminhos.add(new Object[]{idPai, id, 1});
+                pais.add(new Object[]{idPai, id});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tarefa_hierarquia (id_ancestral, id_descendente, profundidade) VALUES (?, ?, ?)", caminhos);
+        jdbcTemplate.batchUpdate("UPDATE tarefa SET id_tarefa_pai = ? WHERE id = ?", pais);
+
+        // Etiquetas: um componente (20 valores) e uma sprint (10 valores) por tarefa
+        List<Object[]> etiquetas = new ArrayList<>();
+        for (int i = 0; i < idsTarefas.size(); i++) {
+            etiquetas.add(new Object[]{idsTarefas.get(i), "componente-" + (i % 20)});
+            etiquetas.add(new Object[]{idsTarefas.get(i), "sprint-" + (i % 10)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tarefa_etiqueta (id_tarefa, etiqueta) VALUES (?, ?)", etiquetas);
+    }
+
+    /**
+     * Consultas dos repositórios com parâmetros representativos
+     *
+     * Varreduras aceitas precisam de justificativa: consultas que por definição leem a
+     * maior parte da tabela ou usam LIKE com curinga inicial.
+     */
+    List<CasoConsulta> casos() {
+        LocalDate hoje = LocalDate.now();
+        LocalDateTime agora = LocalDateTime.now();
+        Pageable primeiros = PageRequest.of(0, 5);
+        Pageable ordenados = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "dataFimPrevista"));
+        Pageable urgentes = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("pesoPrioridade"), Sort.Order.asc("dataFimPrevista")));
+        String todosAtivos = "retorna todos os registros ativos";
+        String likeCuringa = "LIKE com curinga inicial não usa índice B-tree";
+
+        return List.of(
+            CasoConsulta.aceito(ProjetoRepository.class, "findByAtivoTrue", todosAtivos,
+                () -> projetoRepository.findByAtivoTrue()),
+            CasoConsulta.de(ProjetoRepository.class, "findByStatusAndAtivoTrue",
+                () -> projetoRepository.findByStatusAndAtivoTrue(StatusProjeto.PAUSADO)),
+            CasoConsulta.de(ProjetoRepository.class, "findByPrioridadeAndAtivoTrue",
+                () -> projetoRepository.findByPrioridadeAndAtivoTrue(Prioridade.CRITICA)),
+            CasoConsulta.aceito(ProjetoRepository.class, "findByResponsavelContainingIgnoreCaseAndAtivoTrue", likeCuringa,
+                () -> projetoRepository.findByResponsavelContainingIgnoreCaseAndAtivoTrue("vel 7")),
+            CasoConsulta.aceito(ProjetoRepository.class, "findByNomeContainingIgnoreCaseAndAtivoTrue", likeCuringa,
+                () -> projetoRepository.findByNomeContainingIgnoreCaseAndAtivoTrue("eto 42")),
+            CasoConsulta.de(ProjetoRepository.class, "findByIdAndAtivoTrue",
+                () -> projetoRepository.findByIdAndAtivoTrue(42L)),
+            CasoConsulta.de(ProjetoRepository.class, "existsByIdAndAtivoTrue",
+                () -> projetoRepository.existsByIdAndAtivoTrue(42L)),
+            CasoConsulta.de(ProjetoRepository.class, "findProjetosAtrasados", 1,
+                () -> projetoRepository.findProjetosAtrasados(hoje.minusDays(400))),
+            CasoConsulta.de(ProjetoRepository.class, "findProjetosAtrasados", 2,
+                () -> projetoRepository.findProjetosAtrasados(hoje.minusDays(400), ordenados)),
+            CasoConsulta.aceito(ProjetoRepositoryCustom.class, "buscarComFiltros", todosAtivos,
+                () -> projetoRepository.buscarComFiltros(new FiltroProjetoDTO(), primeiros)),
+            CasoConsulta.de(ProjetoRepositoryCustom.class, "buscarComFiltros", "status",
+                () -> projetoRepository.buscarComFiltros(FiltroProjetoDTO.builder()
+                    .status(Set.of(StatusProjeto.PAUSADO, StatusProjeto.CANCELADO)).build(), primeiros)),
+            CasoConsulta.de(ProjetoRepositoryCustom.class, "buscarComFiltros", "prioridade",
+                () -> projetoRepository.buscarComFiltros(FiltroProjetoDTO.builder()
+                    .prioridade(Set.of(Prioridade.CRITICA)).build(), primeiros)),
+            CasoConsulta.de(ProjetoRepositoryCustom.class, "buscarComFiltros", "prazo",
+                () -> projetoRepository.buscarComFiltros(FiltroProjetoDTO.builder()
+                    .dataFimPrevistaDe(hoje).dataFimPrevistaAte(hoje.plusDays(30)).build(), ordenados)),
+            CasoConsulta.aceito(ProjetoRepositoryCustom.class, "buscarComFiltros", "nome", likeCuringa,
+                () -> projetoRepository.buscarComFiltros(FiltroProjetoDTO.builder().nome("eto 42").build(), primeiros)),
+            CasoConsulta.aceito(ProjetoRepository.class, "findProjetosComResumoTarefas", "agrega todos os projetos ativos",
+                () -> projetoRepository.findProjetosComResumoTarefas()),
+            CasoConsulta.aceito(ProjetoRepository.class, "streamSnapshotsAtivos", todosAtivos,
+                () -> consumir(projetoRepository.streamSnapshotsAtivos())),
+            CasoConsulta.aceito(ProjetoRepository.class, "findProgressoProjetosAtivos", "agrega todos os projetos ativos",
+                () -> projetoRepository.findProgressoProjetosAtivos()),
+            CasoConsulta.de(ProjetoRepository.class, "findIdsParaArquivar",
+                () -> projetoRepository.findIdsParaArquivar(200L, agora.minusDays(30), agora.minusDays(365), PageRequest.of(0, 50))),
+            CasoConsulta.de(ProjetoRepository.class, "findSnapshotsPorIds",
+                () -> projetoRepository.findSnapshotsPorIds(List.of(42L, 43L, 44L))),
+            CasoConsulta.de(ProjetoRepository.class, "findAtivosComTarefasPorIds",
+                () -> projetoRepository.findAtivosComTarefasPorIds(List.of(42L, 43L, 44L))),
+            CasoConsulta.de(ProjetoRepository.class, "findComTarefasPorId",
+                () -> projetoRepository.findComTarefasPorId(42L)),
+
+            CasoConsulta.aceito(TarefaRepository.class, "findByAtivoTrue", todosAtivos,
+                () -> tarefaRepository.findByAtivoTrue()),
+            CasoConsulta.ordenado(TarefaRepository.class, "findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc", 1,
+                () -> tarefaRepository.findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc(42L)),
+            CasoConsulta.de(TarefaRepository.class, "findByStatusAndAtivoTrue",
+                () -> tarefaRepository.findByStatusAndAtivoTrue(StatusTarefa.EM_REVISAO)),
+            CasoConsulta.aceito(TarefaRepository.class, "findByResponsavelContainingIgnoreCaseAndAtivoTrue", likeCuringa,
+                () -> tarefaRepository.findByResponsavelContainingIgnoreCaseAndAtivoTrue("oa 17")),
+            CasoConsulta.de(TarefaRepository.class, "findByIdAndAtivoTrue",
+                () -> tarefaRepository.findByIdAndAtivoTrue(4242L)),
+            CasoConsulta.de(TarefaRepository.class, "findTarefasAtrasadas", 1,
+                () -> tarefaRepository.findTarefasAtrasadas(hoje.minusDays(300))),
+            CasoConsulta.de(TarefaRepository.class, "findTarefasAtrasadas", 2,
+                () -> tarefaRepository.findTarefasAtrasadas(hoje.minusDays(300), ordenados)),
+            CasoConsulta.ordenado(TarefaRepository.class, "findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc", 2,
+                () -> tarefaRepository.findByProjetoIdAndAtivoTrueOrderByPesoPrioridadeDescDataFimPrevistaAsc(42L, primeiros)),
+            CasoConsulta.aceito(TarefaRepositoryCustom.class, "buscarComFiltros", todosAtivos,
+                () -> tarefaRepository.buscarComFiltros(new FiltroTarefaDTO(), null, primeiros)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "projeto",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder().projetoId(42L).build(), null, primeiros)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "projeto e status",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder().projetoId(42L)
+                    .status(Set.of(StatusTarefa.ABERTA, StatusTarefa.EM_ANDAMENTO)).build(), null, primeiros)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "status",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder()
+                    .status(Set.of(StatusTarefa.EM_REVISAO)).build(), null, primeiros)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "prazo",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder()
+                    .dataFimPrevistaDe(hoje).dataFimPrevistaAte(hoje.plusDays(7)).build(), null, ordenados)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "prazo e prioridade",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder()
+                    .prioridade(Set.of(Prioridade.ALTA, Prioridade.CRITICA))
+                    .dataFimPrevistaDe(hoje).dataFimPrevistaAte(hoje.plusDays(7)).build(), null, primeiros)),
+            CasoConsulta.aceito(TarefaRepositoryCustom.class, "buscarComFiltros", "responsável", likeCuringa,
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder().responsavel("oa 17").build(), null, primeiros)),
+            CasoConsulta.de(TarefaRepositoryCustom.class, "buscarComFiltros", "etiquetas com candidatos do índice",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder()
+                    .etiquetas(Set.of("componente-2", "sprint-2")).etiquetasExceto(Set.of("sprint-7")).build(),
+                    List.of(4242L, 4262L, 4282L), primeiros)),
+            CasoConsulta.aceito(TarefaRepositoryCustom.class, "buscarComFiltros", "etiquetas sem candidatos",
+                "filtro amplo demais para a lista de candidatos: a subconsulta confere cada tarefa ativa",
+                () -> tarefaRepository.buscarComFiltros(FiltroTarefaDTO.builder()
+                    .etiquetasAlguma(Set.of("componente-2", "componente-3")).build(), null, primeiros)),
+            CasoConsulta.de(TarefaRepository.class, "findTarefasVencendoEm", 2,
+                () -> tarefaRepository.findTarefasVencendoEm(hoje, hoje.plusDays(7))),
+            CasoConsulta.de(TarefaRepository.class, "findTarefasVencendoEm", 3,
+                () -> tarefaRepository.findTarefasVencendoEm(hoje, hoje.plusDays(7), ordenados)),
+            CasoConsulta.aceito(TarefaRepository.class, "findTarefasAltaPrioridadeEmAberto", 0,
+                "metade das tarefas tem prioridade alta ou crítica",
+                () -> tarefaRepository.findTarefasAltaPrioridadeEmAberto()),
+            CasoConsulta.aceito(TarefaRepository.class, "findTarefasAltaPrioridadeEmAberto", 1,
+                "metade das tarefas tem prioridade alta ou crítica (contagem da página)",
+                () -> tarefaRepository.findTarefasAltaPrioridadeEmAberto(urgentes)).comOrdenacaoPeloIndice(),
+            CasoConsulta.aceito(TarefaRepository.class, "streamSnapshotsAtivos", todosAtivos,
+                () -> consumir(tarefaRepository.streamSnapshotsAtivos())),
+            CasoConsulta.de(TarefaRepository.class, "findByProjetoIdOrderByIdAsc",
+                () -> tarefaRepository.findByProjetoIdOrderByIdAsc(42L)),
+            CasoConsulta.de(TarefaRepository.class, "findIdsParaArquivar",
+                () -> tarefaRepository.findIdsParaArquivar(8000L, agora.minusDays(30), PageRequest.of(0, 500))),
+            CasoConsulta.de(TarefaRepository.class, "findIdsPorProjetos",
+                () -> tarefaRepository.findIdsPorProjetos(List.of(42L, 43L), PageRequest.of(0, 500))),
+            CasoConsulta.de(TarefaRepository.class, "findSnapshotsPorIds",
+                () -> tarefaRepository.findSnapshotsPorIds(List.of(4242L, 4243L, 4244L))),
+            CasoConsulta.de(TarefaRepository.class, "findAtivasComProjetoPorIds",
+                () -> tarefaRepository.findAtivasComProjetoPorIds(List.of(4242L, 4243L, 4244L))),
+            CasoConsulta.de(TarefaRepository.class, "findSubarvore",
+                () -> tarefaRepository.findSubarvore(4241L, Integer.MAX_VALUE)),
+            CasoConsulta.de(TarefaRepository.class, "findCaminhoAteRaiz",
+                () -> tarefaRepository.findCaminhoAteRaiz(4245L)),
+            CasoConsulta.de(TarefaRepository.class, "findConsolidadoPorId",
+                () -> tarefaRepository.findConsolidadoPorId(4241L)),
+
+            CasoConsulta.de(HierarquiaTarefaRepository.class, "findIdsSubarvore",
+                () -> hierarquiaRepository.findIdsSubarvore(4241L)),
+            CasoConsulta.de(HierarquiaTarefaRepository.class, "findIdsAncestrais",
+                () -> hierarquiaRepository.findIdsAncestrais(4245L)),
+            CasoConsulta.de(HierarquiaTarefaRepository.class, "findByIdAncestralInAndProfundidade",
+                () -> hierarquiaRepository.findByIdAncestralInAndProfundidade(List.of(4241L, 4281L), 1)),
+            CasoConsulta.de(HierarquiaTarefaRepository.class, "existsByIdAncestralAndProfundidade",
+                () -> hierarquiaRepository.existsByIdAncestralAndProfundidade(4241L, 1)),
+            CasoConsulta.de(HierarquiaTarefaRepository.class, "existsSubtarefaAtiva",
+                () -> hierarquiaRepository.existsSubtarefaAtiva(4241L)),
+
+            CasoConsulta.de(EtiquetaTarefaRepository.class, "findEtiquetasPorTarefa",
+                () -> etiquetaRepository.findEtiquetasPorTarefa(4242L)),
+            CasoConsulta.aceito(EtiquetaTarefaRepository.class, "streamDeTarefasAtivas", todosAtivos,
+                () -> consumir(etiquetaRepository.streamDeTarefasAtivas())),
+
+            CasoConsulta.de(BurndownProjetoRepository.class, "findByIdProjetoAndAno",
+                () -> burndownRepository.findByIdProjetoAndAno(42L, hoje.getYear())),
+            CasoConsulta.de(BurndownProjetoRepository.class, "findByIdProjetoAndAnoBetweenOrderByAnoAsc",
+                () -> burndownRepository.findByIdProjetoAndAnoBetweenOrderByAnoAsc(42L, hoje.getYear() - 2, hoje.getYear())),
+            CasoConsulta.de(BurndownProjetoRepository.class, "findByAno",
+                () -> burndownRepository.findByAno(hoje.getYear()))
+        );
+    }
+
+    @TestFactory
+    Stream<DynamicTest> consultasNaoDevemVarrerTabelasGrandes() {
+        return casos().stream().map(caso -> DynamicTest.dynamicTest(caso.nome(), () -> verificarPlano(caso)));
+    }
+
+    @Test
+    void todasAsConsultasDosRepositoriosDevemTerCaso() {
+        Set<String> cobertos = casos().stream().map(CasoConsulta::metodo).collect(Collectors.toSet());
+
+        Set<String> declarados = new TreeSet<>();
+        for (Class<?> repositorio : List.of(ProjetoRepository.class, ProjetoRepositoryCustom.class,
+                TarefaRepository.class, TarefaRepositoryCustom.class, BurndownProjetoRepository.class,
+                HierarquiaTarefaRepository.class, EtiquetaTarefaRepository.class)) {
+            for (Method metodo : repositorio.getDeclaredMethods()) {
+                if (metodo.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                declarados.add(CasoConsulta.nome(repositorio, metodo.getName(), metodo.getParameterCount()));
+            }
+        }
+        declarados.removeAll(cobertos);
+
+        assertEquals(Set.of(), declarados, "Consultas sem caso na suíte de planos de execução");
+    }
+
+    private void verificarPlano(CasoConsulta caso) throws SQLException {
+        captura.limpar();
+        transactionTemplate.executeWithoutResult(status -> caso.execucao().run());
+        List<ConsultaCapturada> consultas = captura.consultas().stream().filter(ConsultaCapturada::isSelect).toList();
+        assertFalse(consultas.isEmpty(), "Nenhum SELECT capturado para " + caso.nome());
+
+        List<String> problemas = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection()) {
+            for (ConsultaCapturada consulta : consultas) {
+                for (Varredura varredura : varredurasCompletas(conexao, consulta)) {
+                    if (TABELAS_GRANDES.contains(varredura.tabela())) {
+                        problemas.add(String.format("varredura completa de %s (%s)%n  SQL: %s%n  sugestão: %s",
+                            varredura.tabela(), varredura.detalhe(), consulta.sql(),
+                            recomendarIndice(consulta.sql(), varredura.tabela())));
+                    }
+                }
+                if (caso.ordenadaPeloIndice() && consulta.sql().toLowerCase(Locale.ROOT).contains(" order by ")
+                        && ordenaForaDoIndice(conexao, consulta)) {
+                    fail(caso.nome() + ": ORDER BY ordenado à parte, fora da ordem de um índice\n  SQL: " + consulta.sql());
+                }
+            }
+        }
+
+        if (caso.varreduraAceita() == null && !problemas.isEmpty()) {
+            fail(caso.nome() + ":\n" + String.join("\n", problemas));
+        }
+    }
+
+    /**
+     * Sugere um índice composto iniciado por ativo com as colunas comparadas por igualdade
+     * (ou IN) e, por último, a primeira coluna comparada por intervalo
+     */
+    static String recomendarIndice(String sql, String tabela) {
+        Matcher alias = TABELA_ALIAS.matcher(sql);
+        String aliasTabela = null;
+        while (alias.find()) {
+            if (alias.group(1).equalsIgnoreCase(tabela)) {
+                aliasTabela = alias.group(2);
+                break;
+            }
+        }
+        if (aliasTabela == null) {
+            return "nenhuma (tabela não encontrada no SQL)";
+        }
+
+        int inicioWhere = sql.toLowerCase(Locale.ROOT).indexOf(" where ");
+        String where = inicioWhere >= 0 ? sql.substring(inicioWhere) : "";
+        Matcher predicado = Pattern.compile(Pattern.quote(aliasTabela) + "\\.(\\w+)\\s*(=|<>|!=|<=|>=|<|>|between|not in|in)",
+            Pattern.CASE_INSENSITIVE).matcher(where);
+
+        Set<String> igualdade = new LinkedHashSet<>(List.of("ativo"));
+        String intervalo = null;
+        while (predicado.find()) {
+            String coluna = predicado.group(1).toLowerCase(Locale.ROOT);
+            String operador = predicado.group(2).toLowerCase(Locale.ROOT);
+            if (operador.equals("=") || operador.equals("in")) {
+                igualdade.add(coluna);
+            } else if (intervalo == null && !Arrays.asList("<>", "!=", "not in").contains(operador)) {
+                intervalo = coluna;
+            }
+        }
+        List<String> colunas = new ArrayList<>(igualdade);
+        if (intervalo != null && !colunas.contains(intervalo)) {
+            colunas.add(intervalo);
+        }
+        return String.format("CREATE INDEX idx_%s_%s ON %s (%s)",
+            tabela, String.join("_", colunas), tabela, String.join(", ", colunas));
+    }
+
+    private static void consumir(Stream<?> stream) {
+        try (stream) {
+            stream.forEach(item -> { });
+        }
+    }
+
+    /**
+     * Consulta de repositório a verificar, identificada por interface, método e aridade;
+     * a variante distingue combinações de filtros do mesmo método
+     */
+    record CasoConsulta(String metodo, String variante, Runnable execucao, String varreduraAceita,
+                        boolean ordenadaPeloIndice) {
+
+        static CasoConsulta de(Class<?> repositorio, String metodo, Runnable execucao) {
+            return de(repositorio, metodo, aridade(repositorio, metodo), execucao);
+        }
+
+        static CasoConsulta de(Class<?> repositorio, String metodo, int parametros, Runnable execucao) {
+            return new CasoConsulta(nome(repositorio, metodo, parametros), null, execucao, null, false);
+        }
+
+        static CasoConsulta de(Class<?> repositorio, String metodo, String variante, Runnable execucao) {
+            return new CasoConsulta(nome(repositorio, metodo, aridade(repositorio, metodo)), variante, execucao, null, false);
+        }
+
+        static CasoConsulta aceito(Class<?> repositorio, String metodo, String motivo, Runnable execucao) {
+            return aceito(repositorio, metodo, aridade(repositorio, metodo), motivo, execucao);
+        }
+
+        static CasoConsulta aceito(Class<?> repositorio, String metodo, int parametros, String motivo, Runnable execucao) {
+            return new CasoConsulta(nome(repositorio, metodo, parametros), null, execucao, motivo, false);
+        }
+
+        static CasoConsulta aceito(Class<?> repositorio, String metodo, String variante, String motivo, Runnable execucao) {
+            return new CasoConsulta(nome(repositorio, metodo, aridade(repositorio, metodo)), variante, execucao, motivo, false);
+        }
+
+        /**
+         * Consulta cujo ORDER BY deve ser atendido pela ordem de um índice, sem ordenação à parte
+         */
+        static CasoConsulta ordenado(Class<?> repositorio, String metodo, int parametros, Runnable execucao) {
+            return de(repositorio, metodo, parametros, execucao).comOrdenacaoPeloIndice();
+        }
+
+        CasoConsulta comOrdenacaoPeloIndice() {
+            return new CasoConsulta(metodo, variante, execucao, varreduraAceita, true);
+        }
+
+        static String nome(Class<?> repositorio, String metodo, int parametros) {
+            return repositorio.getSimpleName() + "." + metodo + "/" + parametros;
+        }
+
+        String nome() {
+            return variante == null ? metodo : metodo + " [" + variante + "]";
+        }
+
+        private static int aridade(Class<?> repositorio, String metodo) {
+            return Arrays.stream(repositorio.getDeclaredMethods())
+                .filter(m -> m.getName().equals(metodo))
+                .mapToInt(Method::getParameterCount)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Método inexistente: " + metodo));
+        }
+    }
+
+    @TestConfiguration
+    static class CapturaConfig {
+
+        private static final CapturaConsultas CAPTURA = new CapturaConsultas();
+
+        @Bean
+        CapturaConsultas capturaConsultas() {
+            return CAPTURA;
+        }
+
+        @Bean
+        static BeanPostProcessor capturaDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nome) {
+                    return bean instanceof DataSource ds ? CAPTURA.envolver(ds) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ArquivamentoConfig;
+import com.projeto.management.config.ArquivamentoProperties;
+import com.projeto.management.config.ModelMapperConfig;
+import com.projeto.management.dto.response.ResultadoArquivamentoDTO;
+import com.projeto.management.dto.response.TarefaHistoricoDTO;
+import com.projeto.management.estatisticas.ProgressoProjeto;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TextoProjeto;
+import com.projeto.management.model.entity.TextoTarefa;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoArquivoRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaArquivoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TextoProjetoRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do arquivamento e da leitura de histórico
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({ArquivamentoService.class, HierarquiaTarefaService.class, HistoricoService.class, VersaoDados.class,
+    ArquivamentoConfig.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArquivamentoServiceTest {
+    
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 6, 1, 3, 0);
+    
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+    
+    @Autowired
+    private HistoricoService historicoService;
+    
+    @Autowired
+    private ArquivamentoProperties properties;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private TarefaArquivoRepository tarefaArquivoRepository;
+    
+    @Autowired
+    private ProjetoArquivoRepository projetoArquivoRepository;
+    
+    @Autowired
+    private TextoTarefaRepository textoTarefaRepository;
+    
+    @Autowired
+    private TextoProjetoRepository textoProjetoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projetoAtivo;
+    
+    @BeforeEach
+    void setUp() {
+        properties.setPausaEntreLotes(Duration.ZERO);
+        projetoAtivo = criarProjeto(StatusProjeto.EM_ANDAMENTO, true, AGORA.minusDays(1));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        properties.setTamanhoLote(500);
+        properties.setMaximoLotes(200);
+        jdbcTemplate.update("DELETE FROM tarefa_texto");
+        jdbcTemplate.update("DELETE FROM projeto_texto");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM projeto");
+        jdbcTemplate.update("DELETE FROM tarefa_arquivo");
+        jdbcTemplate.update("DELETE FROM projeto_arquivo");
+    }
+    
+    @Test
+    void arquivar_DeveMoverApenasTarefasInativasAlemDaIdade() {
+        // Given
+        Tarefa inativaAntiga = criarTarefa(projetoAtivo, StatusTarefa.ABERTA, false, AGORA.minusDays(31));
+        Tarefa concluidaAntiga = criarTarefa(projetoAtivo, StatusTarefa.CONCLUIDA, true, AGORA.minusDays(400));
+        Tarefa inativaRecente = criarTarefa(projetoAtivo, StatusTarefa.ABERTA, false, AGORA.minusDays(5));
+        Tarefa abertaAntiga = criarTarefa(projetoAtivo, StatusTarefa.ABERTA, true, AGORA.minusDays(900));
+        
+        // When
+        ResultadoArquivamentoDTO resultado = arquivamentoService.arquivar(AGORA);
+        
+        // Then
+        assertEquals(1, resultado.getTarefasArquivadas());
+        assertEquals(0, resultado.getProjetosArquivados());
+        assertTrue(resultado.isCompleto());
+        assertTrue(tarefaRepository.findById(inativaAntiga.getId()).isEmpty());
+        assertTrue(tarefaRepository.findById(concluidaAntiga.getId()).isPresent());
+        assertTrue(tarefaRepository.findById(inativaRecente.getId()).isPresent());
+        assertTrue(tarefaRepository.findById(abertaAntiga.getId()).isPresent());
+        
+        TarefaHistoricoDTO historico = historicoService.buscarTarefa(inativaAntiga.getId());
+        assertTrue(historico.isArquivada());
+        assertEquals(AGORA, historico.getDataArquivamento());
+        assertEquals(projetoAtivo.getId(), historico.getIdProjeto());
+        assertEquals(StatusTarefa.ABERTA, historico.getStatus());
+    }
+    
+    @Test
+    void arquivar_NaoDeveAlterarOProgressoDoBurndownDeProjetoAtivo() {
+        // Given
+        criarTarefa(projetoAtivo, StatusTarefa.CONCLUIDA, true, AGORA.minusDays(400));
+        criarTarefa(projetoAtivo, StatusTarefa.CANCELADA, true, AGORA.minusDays(400));
+        criarTarefa(projetoAtivo, StatusTarefa.ABERTA, true, AGORA.minusDays(1));
+        criarTarefa(projetoAtivo, StatusTarefa.CONCLUIDA, false, AGORA.minusDays(400));
+        ProgressoProjeto antes = progressoDoProjetoAtivo();
+        
+        // When
+        ResultadoArquivamentoDTO resultado = arquivamentoService.arquivar(AGORA);
+        
+        // Then
+        assertEquals(1, resultado.getTarefasArquivadas());
+        ProgressoProjeto depois = progressoDoProjetoAtivo();
+        assertEquals(1L, depois.tarefasConcluidas());
+        assertEquals(antes.tarefasConcluidas(), depois.tarefasConcluidas());
+        assertEquals(antes.tarefasAbertas(), depois.tarefasAbertas());
+    }
+    
+    @Test
+    void arquivar_DeveArquivarProjetoEncerradoComTodasAsTarefas() {
+        // Given
+        Projeto concluido = criarProjeto(StatusProjeto.CONCLUIDO, true, AGORA.minusDays(500));
+        Tarefa abertaRecente = criarTarefa(concluido, StatusTarefa.ABERTA, true, AGORA.minusDays(1));
+        Tarefa concluidaRecente = criarTarefa(concluido, StatusTarefa.CONCLUIDA, true, AGORA.minusDays(2));
+        
+        // When
+        ResultadoArquivamentoDTO resultado = arquivamentoService.arquivar(AGORA);
+        
+        // Then
+        assertEquals(2, resultado.getTarefasArquivadas());
+        assertEquals(1, resultado.getProjetosArquivados());
+        assertFalse(projetoRepository.existsById(concluido.getId()));
+        assertTrue(projetoRepository.existsById(projetoAtivo.getId()));
+        assertTrue(historicoService.buscarProjeto(concluido.getId()).isArquivado());
+        
+        List<TarefaHistoricoDTO> tarefas = historicoService.listarTarefasDoProjeto(concluido.getId());
+        assertEquals(List.of(abertaRecente.getId(), concluidaRecente.getId()),
+            tarefas.stream().map(TarefaHistoricoDTO::getId).toList());
+        assertTrue(tarefas.stream().allMatch(TarefaHistoricoDTO::isArquivada));
+    }
+    
+    @Test
+    void arquivar_DevePararNoLimiteDeLotesERetomarNaProximaExecucao() {
+        // Given
+        properties.setTamanhoLote(2);
+        properties.setMaximoLotes(1);
+        for (int i = 0; i < 3; i++) {
+            criarTarefa(projetoAtivo, StatusTarefa.CANCELADA, false, AGORA.minusDays(400));
+        }
+        
+        // When
+        ResultadoArquivamentoDTO primeira = arquivamentoService.arquivar(AGORA);
+        ResultadoArquivamentoDTO segunda = arquivamentoService.arquivar(AGORA);
+        
+        // Then
+        assertEquals(2, primeira.getTarefasArquivadas());
+        assertFalse(primeira.isCompleto());
+        assertEquals(1, segunda.getTarefasArquivadas());
+        assertEquals(3, tarefaArquivoRepository.count());
+        assertEquals(0, projetoArquivoRepository.count());
+    }
+    
+    @Test
+    void arquivar_DeveLevarOsTextosLongosParaOArquivo() {
+        // Given
+        String descricao = "Histórico detalhado da entrega, com decisões e pendências. ".repeat(20);
+        Projeto concluido = criarProjeto(StatusProjeto.CONCLUIDO, true, AGORA.minusDays(500));
+        Tarefa tarefa = criarTarefa(concluido, StatusTarefa.CONCLUIDA, true, AGORA.minusDays(500));
+        Tarefa semTexto = criarTarefa(concluido, StatusTarefa.CONCLUIDA, true, AGORA.minusDays(500));
+        textoProjetoRepository.save(TextoProjeto.builder().idProjeto(concluido.getId()).descricao("Projeto encerrado").build());
+        textoTarefaRepository.save(TextoTarefa.builder().idTarefa(tarefa.getId()).descricao(descricao).observacoes("Sem pendências").build());
+        
+        // When
+        arquivamentoService.arquivar(AGORA);
+        
+        // Then
+        assertEquals(0, textoTarefaRepository.count());
+        assertEquals(0, textoProjetoRepository.count());
+        assertEquals("Projeto encerrado", historicoService.buscarProjeto(concluido.getId()).getDescricao());
+        
+        TarefaHistoricoDTO historico = historicoService.buscarTarefa(tarefa.getId());
+        assertTrue(historico.isArquivada());
+        assertEquals(descricao, historico.getDescricao());
+        assertEquals("Sem pendências", historico.getObservacoes());
+        assertNull(historicoService.buscarTarefa(semTexto.getId()).getDescricao());
+    }
+    
+    private ProgressoProjeto progressoDoProjetoAtivo() {
+        return projetoRepository.findProgressoProjetosAtivos().stream()
+            .filter(progresso -> progresso.idProjeto().equals(projetoAtivo.getId()))
+            .findFirst()
+            .orElseThrow();
+    }
+    
+    private Projeto criarProjeto(StatusProjeto status, boolean ativo, LocalDateTime dataAtualizacao) {
+        Projeto projeto = projetoRepository.save(Projeto.builder()
+            .nome("Projeto " + status)
+            .status(status)
+            .ativo(ativo)
+            .build());
+        jdbcTemplate.update("UPDATE projeto SET data_atualizacao = ? WHERE id = ?", dataAtualizacao, projeto.getId());
+        return projeto;
+    }
+    
+    private Tarefa criarTarefa(Projeto projeto, StatusTarefa status, boolean ativo, LocalDateTime dataAtualizacao) {
+        Tarefa tarefa = tarefaRepository.save(Tarefa.builder()
+            .titulo("Tarefa " + status)
+            .status(status)
+            .ativo(ativo)
+            .projeto(projeto)
+            .build());
+        jdbcTemplate.update("UPDATE tarefa SET data_atualizacao = ? WHERE id = ?", dataAtualizacao, tarefa.getId());
+        return tarefa;
+    }
+}
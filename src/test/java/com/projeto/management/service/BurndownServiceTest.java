@@ -0,0 +1,146 @@
+package com.projeto.management.service;
+
+import com.projeto.management.dto.response.VelocidadeResponseDTO;
+import com.projeto.management.dto.response.VelocidadeSemanaDTO;
+import com.projeto.management.estatisticas.PontoProgresso;
+import com.projeto.management.estatisticas.ProgressoProjeto;
+import com.projeto.management.estatisticas.SerieProgresso;
+import com.projeto.management.model.entity.BurndownProjeto;
+import com.projeto.management.repository.BurndownProjetoRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BurndownService
+ */
+@ExtendWith(MockitoExtension.class)
+class BurndownServiceTest {
+    
+    private static final LocalDate DIA = LocalDate.of(2025, 3, 10);
+    private static final LocalDate SEMANA_ATUAL = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    
+    @Mock
+    private BurndownProjetoRepository burndownRepository;
+    
+    @Mock
+    private ProjetoRepository projetoRepository;
+    
+    @InjectMocks
+    private BurndownService burndownService;
+    
+    @Test
+    void capturar_DeveIniciarSerie_QuandoProjetoAindaNaoTemSerieNoAno() {
+        // Given
+        when(burndownRepository.findByAno(2025)).thenReturn(List.of());
+        when(projetoRepository.findProgressoProjetosAtivos()).thenReturn(List.of(
+            new ProgressoProjeto(1L, new BigDecimal("12.505"), 3L, 2L),
+            new ProgressoProjeto(2L, null, null, null)));
+        
+        // When
+        int capturados = burndownService.capturar(DIA);
+        
+        // Then
+        assertEquals(2, capturados);
+        ArgumentCaptor<BurndownProjeto> series = ArgumentCaptor.forClass(BurndownProjeto.class);
+        verify(burndownRepository, times(2)).save(series.capture());
+        assertEquals(List.of(new PontoProgresso(DIA, 1251L, 3, 2)), SerieProgresso.decodificar(series.getAllValues().get(0)));
+        assertEquals(List.of(new PontoProgresso(DIA, 0L, 0, 0)), SerieProgresso.decodificar(series.getAllValues().get(1)));
+    }
+    
+    @Test
+    void capturar_DeveAcrescentarUmPontoPorDia_QuandoSerieJaExiste() {
+        // Given
+        BurndownProjeto serie = SerieProgresso.iniciar(1L, new PontoProgresso(DIA.minusDays(1), 2000L, 4, 1));
+        when(burndownRepository.findByAno(2025)).thenReturn(List.of(serie));
+        when(projetoRepository.findProgressoProjetosAtivos()).thenReturn(List.of(
+            new ProgressoProjeto(1L, new BigDecimal("15.00"), 3L, 2L)));
+        
+        // When: a segunda captura do mesmo dia não altera a série
+        int primeira = burndownService.capturar(DIA);
+        int segunda = burndownService.capturar(DIA);
+        
+        // Then
+        assertEquals(1, primeira);
+        assertEquals(0, segunda);
+        assertEquals(List.of(new PontoProgresso(DIA.minusDays(1), 2000L, 4, 1), new PontoProgresso(DIA, 1500L, 3, 2)),
+            SerieProgresso.decodificar(serie));
+        verify(burndownRepository, never()).save(any());
+    }
+    
+    @Test
+    void obterVelocidade_DeveCompararUltimoPontoDeCadaSemanaComOAnterior() {
+        // Given: base na semana anterior ao período e nenhuma captura na semana do meio
+        when(projetoRepository.existsByIdAndAtivoTrue(1L)).thenReturn(true);
+        series(
+            new PontoProgresso(SEMANA_ATUAL.minusWeeks(3), 12000L, 10, 1),
+            new PontoProgresso(SEMANA_ATUAL.minusWeeks(3).plusDays(4), 10000L, 9, 2),
+            new PontoProgresso(SEMANA_ATUAL.minusWeeks(2).plusDays(1), 9000L, 8, 4),
+            new PontoProgresso(SEMANA_ATUAL.minusWeeks(2).plusDays(3), 8000L, 6, 5),
+            new PontoProgresso(SEMANA_ATUAL, 5000L, 3, 9));
+        
+        // When
+        VelocidadeResponseDTO velocidade = burndownService.obterVelocidade(1L, 3);
+        
+        // Then
+        List<VelocidadeSemanaDTO> semanas = velocidade.getSemanas();
+        assertEquals(List.of(SEMANA_ATUAL.minusWeeks(2), SEMANA_ATUAL.minusWeeks(1), SEMANA_ATUAL),
+            semanas.stream().map(VelocidadeSemanaDTO::getSemana).toList());
+        assertEquals(List.of(3, 0, 4), semanas.stream().map(VelocidadeSemanaDTO::getTarefasConcluidas).toList());
+        assertEquals(List.of(new BigDecimal("20.00"), new BigDecimal("0.00"), new BigDecimal("30.00")),
+            semanas.stream().map(VelocidadeSemanaDTO::getHorasQueimadas).toList());
+        assertEquals(new BigDecimal("2.33"), velocidade.getMediaTarefasPorSemana());
+        assertEquals(new BigDecimal("16.67"), velocidade.getMediaHorasPorSemana());
+    }
+    
+    @Test
+    void obterVelocidade_DeveComecarDoZero_QuandoNaoHaPontoAntesDoPeriodo() {
+        // Given
+        when(projetoRepository.existsByIdAndAtivoTrue(1L)).thenReturn(true);
+        series(
+            new PontoProgresso(SEMANA_ATUAL.minusWeeks(1), 4000L, 4, 0),
+            new PontoProgresso(SEMANA_ATUAL, 1000L, 1, 3));
+        
+        // When
+        VelocidadeResponseDTO velocidade = burndownService.obterVelocidade(1L, 3);
+        
+        // Then: a primeira semana com captura serve de base para a seguinte
+        assertEquals(List.of(0, 0, 3), velocidade.getSemanas().stream().map(VelocidadeSemanaDTO::getTarefasConcluidas).toList());
+        assertEquals(new BigDecimal("30.00"), velocidade.getSemanas().get(2).getHorasQueimadas());
+        assertEquals(new BigDecimal("1.00"), velocidade.getMediaTarefasPorSemana());
+    }
+    
+    /**
+     * Séries anuais com os pontos informados (em ordem), como lidas do repositório
+     */
+    private void series(PontoProgresso... pontos) {
+        Map<Integer, BurndownProjeto> porAno = new TreeMap<>();
+        for (PontoProgresso ponto : pontos) {
+            BurndownProjeto serie = porAno.get(ponto.data().getYear());
+            if (serie == null) {
+                porAno.put(ponto.data().getYear(), SerieProgresso.iniciar(1L, ponto));
+            } else {
+                SerieProgresso.acrescentar(serie, ponto);
+            }
+        }
+        when(burndownRepository.findByIdProjetoAndAnoBetweenOrderByAnoAsc(eq(1L), anyInt(), anyInt()))
+            .thenReturn(new ArrayList<>(porAno.values()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.projeto.management.service;
+
+import com.projeto.management.config.DashboardProperties;
+import com.projeto.management.dto.response.DashboardResponseDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.dto.response.SecaoDashboardDTO.Situacao;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.model.enums.StatusProjeto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DashboardService
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+    
+    @Mock
+    private ProjetoService projetoService;
+    
+    @Mock
+    private TarefaService tarefaService;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private final DashboardProperties properties = new DashboardProperties();
+    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    
+    private DashboardService dashboardService;
+    
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(projetoService, tarefaService, properties, executor, transactionManager);
+        
+        when(projetoService.contarProjetosPorStatus()).thenReturn(Map.of(StatusProjeto.EM_ANDAMENTO, 3L));
+        when(projetoService.resumirProjetosAtrasados(anyInt())).thenReturn(new ResumoListaDTO<>(0, List.of()));
+        when(tarefaService.resumirTarefasAtrasadas(anyInt())).thenReturn(resumo(2));
+        when(tarefaService.resumirTarefasVencendoEm(anyInt(), anyInt())).thenReturn(resumo(1));
+        when(tarefaService.resumirTarefasAltaPrioridade(anyInt())).thenReturn(resumo(4));
+    }
+    
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void obterDashboard_DeveSerCompleto_QuandoTodasAsSecoesRespondem() {
+        // When
+        DashboardResponseDTO dashboard = dashboardService.obterDashboard(null, null);
+        
+        // Then
+        assertTrue(dashboard.getCompleto());
+        assertEquals(Situacao.OK, dashboard.getProjetosPorStatus().getSituacao());
+        assertEquals(3L, dashboard.getProjetosPorStatus().getDados().get(StatusProjeto.EM_ANDAMENTO));
+        assertEquals(2, dashboard.getTarefasAtrasadas().getDados().getTotal());
+        assertEquals(4, dashboard.getTarefasAltaPrioridade().getDados().getTotal());
+        verify(tarefaService).resumirTarefasVencendoEm(7, 5);
+        verify(projetoService).resumirProjetosAtrasados(5);
+    }
+    
+    @Test
+    void obterDashboard_DeveMarcarTempoEsgotado_QuandoSecaoEstouraOrcamento() {
+        // Given
+        properties.setOrcamentos(Map.of(DashboardService.TAREFAS_ATRASADAS, Duration.ofMillis(50)));
+        when(tarefaService.resumirTarefasAtrasadas(anyInt())).thenAnswer(invocacao -> {
+            Thread.sleep(1000);
+            return resumo(2);
+        });
+        
+        // When
+        long inicio = System.nanoTime();
+        DashboardResponseDTO dashboard = dashboardService.obterDashboard(3, 10);
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+        
+        // Then
+        assertFalse(dashboard.getCompleto());
+        assertEquals(Situacao.TEMPO_ESGOTADO, dashboard.getTarefasAtrasadas().getSituacao());
+        assertNull(dashboard.getTarefasAtrasadas().getDados());
+        assertEquals(50L, dashboard.getTarefasAtrasadas().getTempoMs());
+        assertEquals(Situacao.OK, dashboard.getTarefasVencendo().getSituacao());
+        assertTrue(decorridoMs < 800, "dashboard aguardou a seção lenta: " + decorridoMs + "ms");
+        verify(tarefaService).resumirTarefasVencendoEm(3, 10);
+    }
+    
+    @Test
+    void obterDashboard_DeveMarcarErro_QuandoSecaoFalha() {
+        // Given
+        when(tarefaService.resumirTarefasVencendoEm(anyInt(), anyInt())).thenThrow(new IllegalStateException("falha"));
+        
+        // When
+        DashboardResponseDTO dashboard = dashboardService.obterDashboard(null, null);
+        
+        // Then
+        assertFalse(dashboard.getCompleto());
+        assertEquals(Situacao.ERRO, dashboard.getTarefasVencendo().getSituacao());
+        assertNull(dashboard.getTarefasVencendo().getDados());
+        assertEquals(Situacao.OK, dashboard.getTarefasAtrasadas().getSituacao());
+        verify(transactionManager).rollback(any());
+    }
+    
+    @Test
+    void obterDashboard_DeveAbrirTransacaoComTimeoutDoOrcamento() {
+        // Given
+        properties.setOrcamentos(Map.of(DashboardService.TAREFAS_ALTA_PRIORIDADE, Duration.ofMillis(2500)));
+        
+        // When
+        dashboardService.obterDashboard(null, null);
+        
+        // Then: 800ms (padrão) arredonda para 1s e 2500ms para 3s
+        verify(transactionManager, times(4)).getTransaction(argThat(definicao ->
+            definicao.isReadOnly() && definicao.getTimeout() == 1));
+        verify(transactionManager).getTransaction(argThat(definicao ->
+            definicao.isReadOnly() && definicao.getTimeout() == 3));
+    }
+    
+    private static ResumoListaDTO<TarefaResponseDTO> resumo(long total) {
+        return new ResumoListaDTO<>(total, List.of());
+    }
+}
@@ -0,0 +1,150 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.SincronizacaoInvalidacao;
+import com.projeto.management.dto.response.EstatisticasTarefasDTO;
+import com.projeto.management.event.ProjetoAlteradoEvent;
+import com.projeto.management.event.ProjetoSnapshot;
+import com.projeto.management.event.TarefaAlteradaEvent;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusProjeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.sharding.ExecutorShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EstatisticasService
+ */
+@ExtendWith(MockitoExtension.class)
+class EstatisticasServiceTest {
+    
+    private static final LocalDate HOJE = LocalDate.now();
+    
+    @Mock
+    private TarefaRepository tarefaRepository;
+    
+    @Mock
+    private ProjetoRepository projetoRepository;
+    
+    @Mock
+    private ExecutorShards executorShards;
+    
+    @Mock
+    private ObjectProvider<SincronizacaoInvalidacao> sincronizacaoInvalidacao;
+    
+    @InjectMocks
+    private EstatisticasService estatisticasService;
+    
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocacao -> {
+            invocacao.<IntConsumer>getArgument(0).accept(0);
+            return null;
+        }).when(executorShards).emCadaSomenteLeitura(any());
+    }
+    
+    @Test
+    void aoAlterarTarefa_DeveMoverContagens_QuandoStatusResponsavelOuAtivoMudam() {
+        // Given
+        TarefaSnapshot aberta = tarefa(1L, 10L, "Ana", StatusTarefa.ABERTA, null, true);
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(null, aberta));
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(null, tarefa(2L, 10L, "Ana", StatusTarefa.ABERTA, null, true)));
+        
+        // When: conclusão, troca de responsável e desativação
+        TarefaSnapshot concluida = tarefa(1L, 10L, "Ana", StatusTarefa.CONCLUIDA, HOJE, true);
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(aberta, concluida));
+        TarefaSnapshot doBruno = tarefa(1L, 10L, "Bruno", StatusTarefa.CONCLUIDA, HOJE, true);
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(concluida, doBruno));
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(
+            tarefa(2L, 10L, "Ana", StatusTarefa.ABERTA, null, true), tarefa(2L, 10L, "Ana", StatusTarefa.ABERTA, null, false)));
+        
+        // Then
+        EstatisticasTarefasDTO geral = estatisticasService.estatisticasTarefas(null);
+        assertEquals(1L, geral.getTotalTarefas());
+        assertEquals(0L, geral.getPorStatus().get(StatusTarefa.ABERTA));
+        assertEquals(1L, geral.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(1L, geral.getConclusoesPorDia().get(HOJE));
+        assertEquals(new BigDecimal("8"), geral.getTotalHorasEstimadas());
+        
+        assertEquals(0L, estatisticasService.estatisticasTarefasPorResponsavel("ana", null).getTotalTarefas());
+        assertEquals(1L, estatisticasService.estatisticasTarefasPorResponsavel(" BRUNO ", null).getTotalTarefas());
+        
+        when(projetoRepository.existsByIdAndAtivoTrue(10L)).thenReturn(true);
+        assertEquals(1L, estatisticasService.estatisticasTarefasPorProjeto(10L, null).getTotalTarefas());
+    }
+    
+    @Test
+    void recarregar_DeveManterEscritasConfirmadasDuranteALeitura() {
+        // Given: a tarefa 1 é lida antes da conclusão; a 2, depois da própria conclusão
+        TarefaSnapshot abertaLida = tarefa(1L, 10L, "Ana", StatusTarefa.ABERTA, null, true);
+        TarefaSnapshot concluida1 = tarefa(1L, 10L, "Ana", StatusTarefa.CONCLUIDA, HOJE, true);
+        TarefaSnapshot aberta2 = tarefa(2L, 10L, "Ana", StatusTarefa.ABERTA, null, true);
+        TarefaSnapshot concluida2 = tarefa(2L, 10L, "Ana", StatusTarefa.CONCLUIDA, HOJE, true);
+        TarefaSnapshot nova = tarefa(3L, 10L, "Ana", StatusTarefa.ABERTA, null, true);
+        
+        when(tarefaRepository.streamSnapshotsAtivos()).thenAnswer(invocacao -> Stream.of(abertaLida, concluida2)
+            .peek(lida -> {
+                if (lida == abertaLida) {
+                    estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(abertaLida, concluida1));
+                    estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(aberta2, concluida2));
+                    estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(null, nova));
+                }
+            }));
+        ProjetoSnapshot projeto = new ProjetoSnapshot(10L, StatusProjeto.PLANEJAMENTO, true);
+        when(projetoRepository.streamSnapshotsAtivos()).thenAnswer(invocacao -> Stream.of(projeto).peek(lido ->
+            estatisticasService.aoAlterarProjeto(new ProjetoAlteradoEvent(projeto,
+                new ProjetoSnapshot(10L, StatusProjeto.EM_ANDAMENTO, true)))));
+        
+        // When
+        estatisticasService.recarregar();
+        
+        // Then
+        EstatisticasTarefasDTO geral = estatisticasService.estatisticasTarefas(null);
+        assertEquals(3L, geral.getTotalTarefas());
+        assertEquals(2L, geral.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(1L, geral.getPorStatus().get(StatusTarefa.ABERTA));
+        assertEquals(2L, geral.getConclusoesPorDia().get(HOJE));
+        assertEquals(1L, estatisticasService.estatisticasProjetos().getTotalProjetos());
+        assertEquals(1L, estatisticasService.estatisticasProjetos().getPorStatus().get(StatusProjeto.EM_ANDAMENTO));
+        assertEquals(0L, estatisticasService.estatisticasProjetos().getPorStatus().get(StatusProjeto.PLANEJAMENTO));
+    }
+    
+    @Test
+    void recarregar_DeveAplicarArquivamentoConfirmadoDuranteALeitura() {
+        // Given
+        TarefaSnapshot lida = tarefa(1L, 10L, "Ana", StatusTarefa.CONCLUIDA, HOJE, true);
+        when(tarefaRepository.streamSnapshotsAtivos()).thenAnswer(invocacao -> Stream.of(lida)
+            .peek(t -> estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(lida, null))));
+        when(projetoRepository.streamSnapshotsAtivos()).thenReturn(Stream.empty());
+        
+        // When
+        estatisticasService.recarregar();
+        
+        // Then
+        assertEquals(0L, estatisticasService.estatisticasTarefas(null).getTotalTarefas());
+        assertTrue(estatisticasService.estatisticasTarefas(null).getConclusoesPorDia().isEmpty());
+    }
+    
+    private static TarefaSnapshot tarefa(Long id, Long projetoId, String responsavel, StatusTarefa status,
+                                         LocalDate dataFimReal, boolean ativo) {
+        return new TarefaSnapshot(id, projetoId, status, Prioridade.MEDIA, responsavel, new BigDecimal("8"),
+            BigDecimal.ZERO, 0, HOJE.plusDays(5), dataFimReal, ativo);
+    }
+}
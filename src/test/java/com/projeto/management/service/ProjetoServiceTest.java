@@ -1,13 +1,22 @@
 package com.projeto.management.service;
 
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.dto.request.BuscaPorIdsDTO;
+import com.projeto.management.dto.request.FiltroProjetoDTO;
 import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.response.ItemBuscaPorIdDTO;
 import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.ResultadoBuscaPorIdsDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.ProjetoAlteradoEvent;
 import com.projeto.management.exception.EntityNotFoundException;
 import com.projeto.management.exception.BusinessException;
 import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
 import com.projeto.management.model.enums.StatusProjeto;
 import com.projeto.management.model.enums.Prioridade;
 import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TextoProjetoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,15 +24,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,9 +51,21 @@ class ProjetoServiceTest {
     @Mock
     private ProjetoRepository projetoRepository;
     
+    @Mock
+    private TextoProjetoRepository textoProjetoRepository;
+    
     @Mock
     private ModelMapper modelMapper;
     
+    @Mock
+    private VersaoDados versaoDados;
+    
+    @Mock
+    private EstatisticasService estatisticasService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private ProjetoService projetoService;
     
@@ -63,7 +88,6 @@ class ProjetoServiceTest {
         projeto = Projeto.builder()
             .id(1L)
             .nome("Projeto Teste")
-            .descricao("Descrição do projeto teste")
             .dataInicio(LocalDate.now())
             .dataFimPrevista(LocalDate.now().plusDays(30))
             .status(StatusProjeto.PLANEJAMENTO)
@@ -102,6 +126,7 @@ class ProjetoServiceTest {
         verify(projetoRepository).save(any(Projeto.class));
         verify(modelMapper).map(projetoRequestDTO, Projeto.class);
         verify(modelMapper).map(projeto, ProjetoResponseDTO.class);
+        verify(eventPublisher).publishEvent(any(ProjetoAlteradoEvent.class));
     }
     
     @Test
@@ -155,14 +180,17 @@ class ProjetoServiceTest {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
         Page<Projeto> projetos = new PageImpl<>(List.of(projeto));
+        FiltroProjetoDTO filtro = FiltroProjetoDTO.builder()
+            .nome("Teste")
+            .status(Set.of(StatusProjeto.PLANEJAMENTO))
+            .responsavel("Responsável")
+            .build();
         
-        when(projetoRepository.findProjetosComFiltros(any(), any(), any(), eq(pageable)))
-            .thenReturn(projetos);
+        when(projetoRepository.buscarComFiltros(filtro, pageable)).thenReturn(projetos);
         when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
         
         // When
-        Page<ProjetoResponseDTO> resultado = projetoService.listarProjetos(
-            "Teste", StatusProjeto.PLANEJAMENTO, "Responsável", pageable);
+        Page<ProjetoResponseDTO> resultado = projetoService.listarProjetos(filtro, pageable);
         
         // Then
         assertNotNull(resultado);
@@ -171,6 +199,19 @@ class ProjetoServiceTest {
         assertEquals("Projeto Teste", resultado.getContent().get(0).getNome());
     }
     
+    @Test
+    void listarProjetos_DeveLancarBusinessException_QuandoIntervaloDeDatasInvertido() {
+        // Given
+        FiltroProjetoDTO filtro = FiltroProjetoDTO.builder()
+            .dataFimPrevistaDe(LocalDate.now())
+            .dataFimPrevistaAte(LocalDate.now().minusDays(1))
+            .build();
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> projetoService.listarProjetos(filtro, PageRequest.of(0, 10)));
+        verify(projetoRepository, never()).buscarComFiltros(any(), any());
+    }
+    
     @Test
     void alterarStatus_DeveAlterarStatusComSucesso_QuandoTransicaoValida() {
         // Given
@@ -232,4 +273,70 @@ class ProjetoServiceTest {
         
         assertEquals("Não é possível excluir um projeto em andamento", exception.getMessage());
     }
+    
+    @Test
+    void buscarPorIds_DeveManterOrdemEMarcarAusentes_QuandoAlgunsIdsNaoExistem() {
+        // Given
+        Projeto outro = Projeto.builder().id(2L).nome("Outro").ativo(true).build();
+        ProjetoResponseDTO outroDTO = ProjetoResponseDTO.builder().id(2L).nome("Outro").build();
+        when(projetoRepository.findAtivosComTarefasPorIds(Set.of(2L, 9L, 1L))).thenReturn(List.of(projeto, outro));
+        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
+        when(modelMapper.map(outro, ProjetoResponseDTO.class)).thenReturn(outroDTO);
+        
+        // When
+        ResultadoBuscaPorIdsDTO<ProjetoResponseDTO> resultado = projetoService.buscarPorIds(List.of(2L, 9L, 1L, 2L));
+        
+        // Then
+        assertEquals(List.of(2L, 9L, 1L, 2L), resultado.getItens().stream().map(ItemBuscaPorIdDTO::getId).toList());
+        assertEquals(List.of(true, false, true, true),
+            resultado.getItens().stream().map(ItemBuscaPorIdDTO::isEncontrado).toList());
+        assertEquals("Outro", resultado.getItens().get(0).getDados().getNome());
+        assertNull(resultado.getItens().get(1).getDados());
+        assertEquals(3, resultado.getEncontrados());
+        assertEquals(List.of(9L), resultado.getNaoEncontrados());
+        verify(projetoRepository, times(1)).findAtivosComTarefasPorIds(any());
+    }
+    
+    @Test
+    void buscarPorIds_DeveLancarExcecao_QuandoIdsExcedemMaximo() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, BuscaPorIdsDTO.MAXIMO_IDS + 1).boxed().toList();
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> projetoService.buscarPorIds(ids));
+        verifyNoInteractions(projetoRepository);
+    }
+    
+    @Test
+    void buscarPorIdComTarefas_DevePaginarTarefasAtivasEReusarColecaoNosTotais() {
+        // Given
+        projeto.adicionarTarefa(Tarefa.builder().id(10L).titulo("Baixa").prioridade(Prioridade.BAIXA).build());
+        projeto.adicionarTarefa(Tarefa.builder().id(11L).titulo("Alta").prioridade(Prioridade.ALTA).build());
+        projeto.adicionarTarefa(Tarefa.builder().id(12L).titulo("Critica").prioridade(Prioridade.CRITICA).build());
+        projeto.adicionarTarefa(Tarefa.builder().id(13L).titulo("Excluída").prioridade(Prioridade.CRITICA).ativo(false).build());
+        when(projetoRepository.findComTarefasPorId(1L)).thenReturn(Optional.of(projeto));
+        when(modelMapper.map(projeto, ProjetoResponseDTO.class)).thenReturn(projetoResponseDTO);
+        when(modelMapper.map(any(Tarefa.class), eq(TarefaResponseDTO.class))).thenAnswer(invocacao ->
+            TarefaResponseDTO.builder().id(invocacao.<Tarefa>getArgument(0).getId()).build());
+        
+        // When
+        ProjetoResponseDTO resultado = projetoService.buscarPorIdComTarefas(1L,
+            PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "prioridade")));
+        
+        // Then
+        assertEquals(List.of(12L, 11L), resultado.getTarefas().stream().map(TarefaResponseDTO::getId).toList());
+        assertEquals(1L, resultado.getTarefas().get(0).getIdProjeto());
+        assertEquals(3, resultado.getPaginacaoTarefas().getTotalElementos());
+        assertEquals(2, resultado.getPaginacaoTarefas().getTotalPaginas());
+        assertEquals(4, resultado.getTotalTarefas());
+        verify(projetoRepository, never()).findByIdAndAtivoTrue(any());
+    }
+    
+    @Test
+    void buscarPorIdComTarefas_DeveLancarExcecao_QuandoOrdenacaoNaoSuportada() {
+        // When & Then
+        assertThrows(BusinessException.class, () -> projetoService.buscarPorIdComTarefas(1L,
+            PageRequest.of(0, 20, Sort.by("descricao"))));
+        verifyNoInteractions(projetoRepository);
+    }
 }
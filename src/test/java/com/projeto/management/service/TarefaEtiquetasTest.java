@@ -0,0 +1,175 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ArquivamentoConfig;
+import com.projeto.management.config.ArquivamentoProperties;
+import com.projeto.management.config.ModelMapperConfig;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.indice.IndiceTarefas;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.EtiquetaTarefaRepository;
+import com.projeto.management.repository.ProjetoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração das etiquetas: gravação por diferença, filtros da listagem pelos
+ * candidatos do índice e pela subconsulta quando o índice devolve candidatos demais
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "app.etiquetas.maximo-candidatos=2"
+})
+@Import({TarefaService.class, HierarquiaTarefaService.class, ArquivamentoService.class, IndiceTarefas.class,
+    FilaResponsaveis.class, VersaoDados.class, ArquivamentoConfig.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TarefaEtiquetasTest {
+    
+    private static final String USUARIO = "teste";
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+    
+    @Autowired
+    private ArquivamentoProperties arquivamentoProperties;
+    
+    @Autowired
+    private IndiceTarefas indiceTarefas;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private EtiquetaTarefaRepository etiquetaTarefaRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        arquivamentoProperties.setPausaEntreLotes(Duration.ZERO);
+        projeto = projetoRepository.save(Projeto.builder().nome("Projeto com etiquetas").build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tarefa_etiqueta");
+        jdbcTemplate.update("DELETE FROM tarefa_hierarquia");
+        jdbcTemplate.update("DELETE FROM tarefa_texto");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM tarefa_arquivo");
+        jdbcTemplate.update("DELETE FROM projeto");
+        indiceTarefas.recarga().concluir();
+    }
+    
+    @Test
+    void criarEAtualizar_DevemGravarEtiquetasNormalizadas() {
+        // Given
+        TarefaResponseDTO criada = tarefaService.criarTarefa(requisicao("Tarefa", " Backend ", "API", "api"), USUARIO);
+        
+        // When
+        TarefaResponseDTO atualizada = tarefaService.atualizarTarefa(criada.getId(), requisicao("Tarefa", "api", "urgente"), USUARIO);
+        TarefaResponseDTO semEtiquetasInformadas = tarefaService.alterarStatus(criada.getId(), StatusTarefa.EM_ANDAMENTO, USUARIO);
+        
+        // Then
+        assertEquals(Set.of("api", "backend"), criada.getEtiquetas());
+        assertEquals(Set.of("api", "urgente"), atualizada.getEtiquetas());
+        assertEquals(Set.of("api", "urgente"), semEtiquetasInformadas.getEtiquetas());
+        assertEquals(List.of("api", "urgente"), etiquetaTarefaRepository.findEtiquetasPorTarefa(criada.getId()));
+        assertEquals(Set.of("api", "urgente"), tarefaService.buscarPorId(criada.getId()).getEtiquetas());
+    }
+    
+    @Test
+    void listarTarefas_DeveFiltrarPelosCandidatosDoIndice() {
+        // Given
+        Long primeira = criar("Primeira", "backend", "api");
+        criar("Segunda", "backend");
+        Long terceira = criar("Terceira", "frontend", "api");
+        
+        // When / Then
+        assertEquals(List.of(primeira), listar(FiltroTarefaDTO.builder().etiquetas(Set.of("BACKEND", "api")).build()));
+        assertEquals(List.of(terceira), listar(FiltroTarefaDTO.builder()
+            .etiquetasAlguma(Set.of("api")).etiquetasExceto(Set.of("backend")).build()));
+        assertEquals(List.of(), listar(FiltroTarefaDTO.builder().etiquetas(Set.of("inexistente")).build()));
+    }
+    
+    @Test
+    void listarTarefas_AcimaDoLimiteDeCandidatos_DeveFiltrarNaConsulta() {
+        // Given
+        Long primeira = criar("Primeira", "backend", "api");
+        Long segunda = criar("Segunda", "backend");
+        Long terceira = criar("Terceira", "backend", "legado");
+        criar("Quarta", "frontend");
+        
+        // When
+        FiltroTarefaDTO filtro = FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("backend")).etiquetasExceto(Set.of("legado")).build();
+        FiltroTarefaDTO amplo = FiltroTarefaDTO.builder().etiquetasAlguma(Set.of("backend")).build();
+        
+        // Then
+        assertNull(indiceTarefas.filtrar(amplo).ids());
+        assertEquals(List.of(primeira, segunda, terceira), listar(amplo));
+        assertEquals(List.of(primeira, segunda), listar(filtro));
+    }
+    
+    @Test
+    void arquivar_DeveRemoverEtiquetasDaTabelaEDoIndice() {
+        // Given
+        Long excluida = criar("Excluída", "backend");
+        Long aberta = criar("Aberta", "backend");
+        tarefaService.excluirTarefa(excluida, USUARIO);
+        jdbcTemplate.update("UPDATE tarefa SET data_atualizacao = ? WHERE id = ?",
+            LocalDateTime.now().minusYears(2), excluida);
+        
+        // When
+        arquivamentoService.arquivar(LocalDateTime.now());
+        
+        // Then
+        assertEquals(List.of(), etiquetaTarefaRepository.findEtiquetasPorTarefa(excluida));
+        assertEquals(List.of(aberta), indiceTarefas.filtrar(FiltroTarefaDTO.builder().etiquetas(Set.of("backend")).build()).ids());
+    }
+    
+    private List<Long> listar(FiltroTarefaDTO filtro) {
+        return tarefaService.listarTarefas(filtro, PageRequest.of(0, 20, Sort.by("id"))).getContent().stream()
+            .map(TarefaResponseDTO::getId)
+            .toList();
+    }
+    
+    private Long criar(String titulo, String... etiquetas) {
+        return tarefaService.criarTarefa(requisicao(titulo, etiquetas), USUARIO).getId();
+    }
+    
+    private TarefaRequestDTO requisicao(String titulo, String... etiquetas) {
+        return TarefaRequestDTO.builder()
+            .titulo(titulo)
+            .status(StatusTarefa.ABERTA)
+            .idProjeto(projeto.getId())
+            .etiquetas(Set.of(etiquetas))
+            .build();
+    }
+}
@@ -0,0 +1,256 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ArquivamentoConfig;
+import com.projeto.management.config.ArquivamentoProperties;
+import com.projeto.management.config.ModelMapperConfig;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ConsolidadoSubarvoreDTO;
+import com.projeto.management.dto.response.NoTarefaDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.indice.IndiceTarefas;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração das subtarefas: tabela de fechamento, leituras da árvore e
+ * totais consolidados mantidos incrementalmente pelas escritas
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TarefaService.class, HierarquiaTarefaService.class, ArquivamentoService.class, IndiceTarefas.class,
+    FilaResponsaveis.class, VersaoDados.class, ArquivamentoConfig.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TarefaHierarquiaTest {
+    
+    private static final String USUARIO = "teste";
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ArquivamentoService arquivamentoService;
+    
+    @Autowired
+    private ArquivamentoProperties arquivamentoProperties;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        arquivamentoProperties.setPausaEntreLotes(Duration.ZERO);
+        projeto = projetoRepository.save(Projeto.builder().nome("Projeto com subtarefas").build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tarefa_hierarquia");
+        jdbcTemplate.update("DELETE FROM tarefa_texto");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM tarefa_arquivo");
+        jdbcTemplate.update("DELETE FROM projeto");
+    }
+    
+    @Test
+    void criarTarefa_DeveConsolidarASubarvoreNosAncestrais() {
+        // Given
+        Long raiz = criar("Raiz", null, "10");
+        Long filha = criar("Filha", raiz, "6");
+        criar("Neta", filha, "4");
+        criar("Outra filha", raiz, "2");
+        
+        // When
+        List<NoTarefaDTO> subarvore = tarefaService.listarSubarvore(raiz, null);
+        
+        // Then
+        assertEquals(List.of(0, 1, 1, 2), subarvore.stream().map(NoTarefaDTO::getProfundidade).toList());
+        assertEquals(raiz, subarvore.get(0).getId());
+        
+        ConsolidadoSubarvoreDTO consolidado = subarvore.get(0).getConsolidado();
+        assertEquals(4, consolidado.getQuantidadeTarefas());
+        assertEquals(4, consolidado.getAbertas());
+        assertEquals(StatusTarefa.ABERTA, consolidado.getStatus());
+        assertEquals(0, new BigDecimal("22").compareTo(consolidado.getEstimativaHoras()));
+        
+        NoTarefaDTO noFilha = subarvore.stream().filter(no -> no.getId().equals(filha)).findFirst().orElseThrow();
+        assertEquals(raiz, noFilha.getIdTarefaPai());
+        assertEquals(2, noFilha.getConsolidado().getQuantidadeTarefas());
+        assertEquals(0, new BigDecimal("10").compareTo(noFilha.getConsolidado().getEstimativaHoras()));
+    }
+    
+    @Test
+    void alterarStatus_DevePropagarStatusEPercentualAteARaiz() {
+        // Given
+        Long raiz = criar("Raiz", null, "8");
+        Long filha = criar("Filha", raiz, "8");
+        Long neta = criar("Neta", filha, "8");
+        
+        // When
+        tarefaService.alterarStatus(neta, StatusTarefa.CONCLUIDA, USUARIO);
+        tarefaService.atualizarPercentual(filha, 50, USUARIO);
+        
+        // Then
+        ConsolidadoSubarvoreDTO consolidado = tarefaService.listarSubarvore(raiz, 0).get(0).getConsolidado();
+        assertEquals(StatusTarefa.EM_ANDAMENTO, consolidado.getStatus());
+        assertEquals(1, consolidado.getAbertas());
+        assertEquals(1, consolidado.getEmAndamento());
+        assertEquals(1, consolidado.getConcluidas());
+        assertEquals(50, consolidado.getPercentualConclusao());
+        
+        // When: tudo encerrado
+        tarefaService.alterarStatus(filha, StatusTarefa.CONCLUIDA, USUARIO);
+        tarefaService.alterarStatus(raiz, StatusTarefa.CANCELADA, USUARIO);
+        
+        // Then: a cancelada não entra na média
+        consolidado = tarefaService.listarSubarvore(raiz, 0).get(0).getConsolidado();
+        assertEquals(StatusTarefa.CONCLUIDA, consolidado.getStatus());
+        assertEquals(100, consolidado.getPercentualConclusao());
+    }
+    
+    @Test
+    void atualizarTarefa_DeveMoverASubarvoreEntreOsPais() {
+        // Given
+        Long origem = criar("Origem", null, "1");
+        Long destino = criar("Destino", null, "1");
+        Long movida = criar("Movida", origem, "5");
+        Long filhaDaMovida = criar("Filha da movida", movida, "3");
+        
+        // When
+        tarefaService.atualizarTarefa(movida, requisicao("Movida", destino, "5"), USUARIO);
+        
+        // Then
+        assertEquals(1, tarefaService.listarSubarvore(origem, null).size());
+        assertEquals(0, new BigDecimal("1").compareTo(consolidado(origem).getEstimativaHoras()));
+        assertEquals(0, new BigDecimal("9").compareTo(consolidado(destino).getEstimativaHoras()));
+        assertEquals(List.of(destino, movida, filhaDaMovida),
+            tarefaService.listarAncestrais(filhaDaMovida).stream().map(NoTarefaDTO::getId).toList());
+        assertEquals(List.of(2, 1, 0),
+            tarefaService.listarAncestrais(filhaDaMovida).stream().map(NoTarefaDTO::getProfundidade).toList());
+    }
+    
+    @Test
+    void atualizarTarefa_DeveRecusarCicloEPaiDeOutroProjeto() {
+        // Given
+        Long raiz = criar("Raiz", null, "1");
+        Long filha = criar("Filha", raiz, "1");
+        Projeto outroProjeto = projetoRepository.save(Projeto.builder().nome("Outro projeto").build());
+        TarefaRequestDTO deOutroProjeto = requisicao("Outra", raiz, "1");
+        deOutroProjeto.setIdProjeto(outroProjeto.getId());
+        
+        // When & Then
+        assertThrows(BusinessException.class,
+            () -> tarefaService.atualizarTarefa(raiz, requisicao("Raiz", filha, "1"), USUARIO));
+        assertThrows(BusinessException.class,
+            () -> tarefaService.atualizarTarefa(raiz, requisicao("Raiz", raiz, "1"), USUARIO));
+        assertThrows(BusinessException.class, () -> tarefaService.criarTarefa(deOutroProjeto, USUARIO));
+        assertEquals(2, consolidado(raiz).getQuantidadeTarefas());
+    }
+    
+    @Test
+    void excluirTarefa_DeveExigirSubtarefasInativasERetirarATarefaDosTotais() {
+        // Given
+        Long raiz = criar("Raiz", null, "1");
+        Long filha = criar("Filha", raiz, "4");
+        
+        // When & Then
+        assertThrows(BusinessException.class, () -> tarefaService.excluirTarefa(raiz, USUARIO));
+        
+        tarefaService.excluirTarefa(filha, USUARIO);
+        assertEquals(1, consolidado(raiz).getQuantidadeTarefas());
+        assertEquals(0, new BigDecimal("1").compareTo(consolidado(raiz).getEstimativaHoras()));
+        assertEquals(1, tarefaService.listarSubarvore(raiz, null).size());
+    }
+    
+    @Test
+    void listarSubarvore_DeveExecutarUmaConsulta() {
+        // Given
+        Long raiz = criar("Raiz", null, "1");
+        for (int i = 0; i < 5; i++) {
+            Long filha = criar("Filha " + i, raiz, "1");
+            criar("Neta " + i, filha, "1");
+        }
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        
+        // When
+        List<NoTarefaDTO> subarvore = tarefaService.listarSubarvore(raiz, 1);
+        
+        // Then
+        assertEquals(6, subarvore.size());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+    
+    @Test
+    void arquivar_DeveTransformarSubtarefasRestantesEmRaizes() {
+        // Given
+        Long raiz = criar("Raiz", null, "1");
+        Long excluida = criar("Excluída", raiz, "2");
+        Long recente = criar("Recente", excluida, "4");
+        tarefaService.excluirTarefa(recente, USUARIO);
+        tarefaService.excluirTarefa(excluida, USUARIO);
+        jdbcTemplate.update("UPDATE tarefa SET data_atualizacao = ? WHERE id = ?",
+            LocalDateTime.now().minusYears(2), excluida);
+        
+        // When
+        arquivamentoService.arquivar(LocalDateTime.now());
+        
+        // Then
+        assertEquals(1, consolidado(raiz).getQuantidadeTarefas());
+        assertEquals(0, new BigDecimal("1").compareTo(consolidado(raiz).getEstimativaHoras()));
+        assertNull(jdbcTemplate.queryForObject("SELECT id_tarefa_pai FROM tarefa WHERE id = ?", Long.class, recente));
+        assertEquals(List.of(recente), jdbcTemplate.queryForList(
+            "SELECT id_ancestral FROM tarefa_hierarquia WHERE id_descendente = ?", Long.class, recente));
+    }
+    
+    private ConsolidadoSubarvoreDTO consolidado(Long id) {
+        return tarefaService.listarSubarvore(id, 0).get(0).getConsolidado();
+    }
+    
+    private Long criar(String titulo, Long idPai, String estimativa) {
+        return tarefaService.criarTarefa(requisicao(titulo, idPai, estimativa), USUARIO).getId();
+    }
+    
+    private TarefaRequestDTO requisicao(String titulo, Long idPai, String estimativa) {
+        return TarefaRequestDTO.builder()
+            .titulo(titulo)
+            .status(StatusTarefa.ABERTA)
+            .idProjeto(projeto.getId())
+            .idTarefaPai(idPai)
+            .estimativaHoras(new BigDecimal(estimativa))
+            .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ModelMapperConfig;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.indice.IndiceTarefas;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.model.enums.StatusTarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do peso da prioridade: gravado junto com a prioridade e usado na
+ * ordem das tarefas do projeto (por urgência, não pelo nome da prioridade)
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({TarefaService.class, HierarquiaTarefaService.class, IndiceTarefas.class, FilaResponsaveis.class,
+    VersaoDados.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TarefaPrioridadeTest {
+    
+    private static final String USUARIO = "teste";
+    private static final LocalDate HOJE = LocalDate.now();
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Projeto projeto;
+    
+    @BeforeEach
+    void setUp() {
+        projeto = projetoRepository.save(Projeto.builder().nome("Projeto com prioridades").build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tarefa_hierarquia");
+        jdbcTemplate.update("DELETE FROM tarefa_texto");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM projeto");
+    }
+    
+    @Test
+    void criar_DeveGravarPesoDaPrioridade() {
+        // Given / When
+        TarefaResponseDTO critica = criar("Crítica", Prioridade.CRITICA, HOJE);
+        TarefaResponseDTO semPrioridade = criar("Sem prioridade", null, HOJE);
+        
+        // Then
+        assertEquals(4, peso(critica.getId()));
+        assertEquals(Prioridade.MEDIA, semPrioridade.getPrioridade());
+        assertEquals(2, peso(semPrioridade.getId()));
+    }
+    
+    @Test
+    void atualizar_DeveAcompanharMudancaDePrioridade() {
+        // Given
+        TarefaResponseDTO tarefa = criar("Rebaixada", Prioridade.ALTA, HOJE);
+        assertEquals(3, peso(tarefa.getId()));
+        
+        // When
+        tarefaService.atualizarTarefa(tarefa.getId(), TarefaRequestDTO.builder()
+            .titulo(tarefa.getTitulo())
+            .idProjeto(projeto.getId())
+            .status(StatusTarefa.ABERTA)
+            .prioridade(Prioridade.BAIXA)
+            .percentualConclusao(0)
+            .dataFimPrevista(tarefa.getDataFimPrevista())
+            .build(), USUARIO);
+        
+        // Then
+        assertEquals(1, peso(tarefa.getId()));
+    }
+    
+    @Test
+    void listarTarefasPorProjeto_DeveOrdenarPorUrgencia() {
+        // Given: em ordem alfabética seria ALTA, BAIXA, CRITICA, MEDIA
+        criar("Baixa", Prioridade.BAIXA, HOJE.minusDays(5));
+        criar("Alta", Prioridade.ALTA, HOJE.plusDays(5));
+        criar("Média", Prioridade.MEDIA, HOJE.minusDays(5));
+        criar("Crítica", Prioridade.CRITICA, HOJE.plusDays(5));
+        criar("Alta antes", Prioridade.ALTA, HOJE);
+        
+        // When
+        List<TarefaResponseDTO> tarefas = tarefaService.listarTarefasPorProjeto(projeto.getId());
+        
+        // Then: empate na prioridade desfeito pelo vencimento
+        assertEquals(List.of("Crítica", "Alta antes", "Alta", "Média", "Baixa"),
+            tarefas.stream().map(TarefaResponseDTO::getTitulo).toList());
+    }
+    
+    private TarefaResponseDTO criar(String titulo, Prioridade prioridade, LocalDate dataFimPrevista) {
+        return tarefaService.criarTarefa(TarefaRequestDTO.builder()
+            .titulo(titulo)
+            .idProjeto(projeto.getId())
+            .prioridade(prioridade)
+            .dataFimPrevista(dataFimPrevista)
+            .build(), USUARIO);
+    }
+    
+    private int peso(Long idTarefa) {
+        return jdbcTemplate.queryForObject("SELECT peso_prioridade FROM tarefa WHERE id = ?", Integer.class, idTarefa);
+    }
+}
@@ -0,0 +1,225 @@
+package com.projeto.management.service;
+
+import com.projeto.management.cache.VersaoDados;
+import com.projeto.management.config.ModelMapperConfig;
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.dto.response.FilaTrabalhoDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.event.TarefaSnapshot;
+import com.projeto.management.indice.FilaResponsaveis;
+import com.projeto.management.indice.IndiceTarefas;
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TextoTarefa;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração que fixam o número de comandos SQL por leitura de tarefas:
+ * o projeto de cada linha deve vir na própria consulta, sem um SELECT extra por projeto,
+ * e os textos longos (tarefa_texto) só são lidos nas visões de detalhe
+ */
+@DataJpaTest(showSql = false, properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TarefaService.class, HierarquiaTarefaService.class, IndiceTarefas.class, FilaResponsaveis.class, VersaoDados.class, ModelMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TarefaServiceConsultasTest {
+    
+    private static final int PROJETOS = 100;
+    private static final int TAREFAS = 1000;
+    private static final String DESCRICAO = "Critério de aceite: validar os campos obrigatórios do formulário. ".repeat(30);
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private ProjetoRepository projetoRepository;
+    
+    @Autowired
+    private TarefaRepository tarefaRepository;
+    
+    @Autowired
+    private FilaResponsaveis filaResponsaveis;
+    
+    @Autowired
+    private TextoTarefaRepository textoTarefaRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private Statistics estatisticas;
+    private List<Projeto> projetos;
+    
+    @BeforeAll
+    void popular() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        LocalDate hoje = LocalDate.now();
+        projetos = projetoRepository.saveAll(IntStream.range(0, PROJETOS)
+            .mapToObj(i -> Projeto.builder().nome("Projeto " + i).build())
+            .toList());
+        
+        // Tarefas vizinhas caem em projetos diferentes, então cada consulta alcança os 100 projetos
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < TAREFAS; i++) {
+            tarefas.add(Tarefa.builder()
+                .titulo("Tarefa " + i)
+                .responsavel("Pessoa " + (i % 10))
+                .prioridade(i % 3 == 0 ? Prioridade.ALTA : Prioridade.MEDIA)
+                .dataFimPrevista(i % 2 == 0 ? hoje.minusDays(1 + i % 20) : hoje.plusDays(i % 7))
+                .projeto(projetos.get(i % PROJETOS))
+                .build());
+        }
+        tarefaRepository.saveAll(tarefas);
+        textoTarefaRepository.saveAll(tarefas.stream()
+            .map(tarefa -> TextoTarefa.builder().idTarefa(tarefa.getId()).descricao(DESCRICAO).observacoes("Obs " + tarefa.getId()).build())
+            .toList());
+    }
+    
+    @AfterAll
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM tarefa_texto");
+        jdbcTemplate.update("DELETE FROM tarefa");
+        jdbcTemplate.update("DELETE FROM projeto");
+    }
+    
+    @Test
+    void listarTarefas_DeveExecutarConsultaEContagem() {
+        List<TarefaResponseDTO> tarefas = contarComandos(2,
+            () -> tarefaService.listarTarefas(new FiltroTarefaDTO(), PageRequest.of(0, 200)).getContent());
+        
+        assertNomesDeProjeto(tarefas, 200);
+    }
+    
+    @Test
+    void buscarTarefasAtrasadas_DeveExecutarUmaConsulta() {
+        assertNomesDeProjeto(contarComandos(1, () -> tarefaService.buscarTarefasAtrasadas()), TAREFAS / 2);
+    }
+    
+    @Test
+    void buscarTarefasVencendoEm_DeveExecutarUmaConsulta() {
+        assertNomesDeProjeto(contarComandos(1, () -> tarefaService.buscarTarefasVencendoEm(7)), TAREFAS / 2);
+    }
+    
+    @Test
+    void buscarTarefasAltaPrioridade_DeveExecutarUmaConsulta() {
+        assertNomesDeProjeto(contarComandos(1, () -> tarefaService.buscarTarefasAltaPrioridade()), 334);
+    }
+    
+    @Test
+    void buscarPorResponsavel_DeveExecutarUmaConsulta() {
+        assertNomesDeProjeto(contarComandos(1, () -> tarefaService.buscarPorResponsavel("pessoa")), TAREFAS);
+    }
+    
+    @Test
+    void listarFila_DeveExecutarUmaConsultaPelosIdsDaFila() {
+        FilaResponsaveis.Recarga recarga = filaResponsaveis.recarga();
+        tarefaRepository.findAll().forEach(tarefa -> recarga.adicionar(TarefaSnapshot.de(tarefa)));
+        recarga.concluir();
+        
+        FilaTrabalhoDTO fila = contarComandos(1, () -> tarefaService.listarFila("PESSOA 3", 20));
+        
+        // Pessoa 3 tem 34 tarefas de prioridade alta: as 20 primeiras, do vencimento mais antigo
+        assertEquals(TAREFAS / 10, fila.getTotal());
+        assertNomesDeProjeto(fila.getTarefas(), 20);
+        assertTrue(fila.getTarefas().stream().allMatch(t -> t.getResponsavel().equals("Pessoa 3") && t.getPrioridade() == Prioridade.ALTA));
+        for (int i = 1; i < fila.getTarefas().size(); i++) {
+            assertFalse(fila.getTarefas().get(i).getDataFimPrevista().isBefore(fila.getTarefas().get(i - 1).getDataFimPrevista()));
+        }
+    }
+    
+    @Test
+    void resumirTarefasAtrasadas_DeveExecutarConsultaEContagem() {
+        ResumoListaDTO<TarefaResponseDTO> resumo = contarComandos(2, () -> tarefaService.resumirTarefasAtrasadas(150));
+        
+        assertEquals(TAREFAS / 2, resumo.getTotal());
+        assertNomesDeProjeto(resumo.getItens(), 150);
+    }
+    
+    @Test
+    void listarTarefasPorProjeto_DeveExecutarUmaConsulta() {
+        Long projetoId = projetos.get(42).getId();
+        
+        assertNomesDeProjeto(contarComandos(1, () -> tarefaService.listarTarefasPorProjeto(projetoId)), TAREFAS / PROJETOS);
+    }
+    
+    @Test
+    void listarTarefas_NaoDeveLerTextosLongos() {
+        List<TarefaResponseDTO> tarefas = tarefaService.listarTarefas(new FiltroTarefaDTO(), PageRequest.of(0, 50)).getContent();
+        
+        assertEquals(50, tarefas.size());
+        assertTrue(tarefas.stream().allMatch(t -> t.getDescricao() == null && t.getObservacoes() == null));
+    }
+    
+    @Test
+    void buscarPorId_DeveLerTextosNaVisaoDeDetalhe() {
+        Long id = tarefaRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        
+        TarefaResponseDTO tarefa = contarComandos(2, () -> tarefaService.buscarPorId(id));
+        
+        assertEquals(DESCRICAO, tarefa.getDescricao());
+        assertEquals("Obs " + id, tarefa.getObservacoes());
+    }
+    
+    @Test
+    void textos_DevemSerGravadosCompactadosAcimaDoLimite() {
+        Long id = tarefaRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        
+        byte[] descricao = jdbcTemplate.queryForObject("SELECT descricao FROM tarefa_texto WHERE id_tarefa = ?", byte[].class, id);
+        byte[] observacoes = jdbcTemplate.queryForObject("SELECT observacoes FROM tarefa_texto WHERE id_tarefa = ?", byte[].class, id);
+        
+        assertEquals(0x1f, descricao[0] & 0xff);
+        assertEquals(0x8b, descricao[1] & 0xff);
+        assertTrue(descricao.length < DESCRICAO.length() / 4);
+        assertEquals("Obs " + id, new String(observacoes, StandardCharsets.UTF_8));
+    }
+    
+    private <T> T contarComandos(long esperados, Supplier<T> chamada) {
+        estatisticas.clear();
+        T resultado = chamada.get();
+        
+        assertEquals(esperados, estatisticas.getPrepareStatementCount(),
+            "Comandos SQL executados (um SELECT extra por projeto indica carga preguiçosa na conversão)");
+        return resultado;
+    }
+    
+    private static void assertNomesDeProjeto(Collection<TarefaResponseDTO> tarefas, int quantidade) {
+        assertEquals(quantidade, tarefas.size());
+        assertTrue(tarefas.stream().allMatch(t -> t.getIdProjeto() != null && t.getNomeProjeto().startsWith("Projeto ")));
+    }
+}
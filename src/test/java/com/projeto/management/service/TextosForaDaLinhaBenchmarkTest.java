@@ -0,0 +1,178 @@
+package com.projeto.management.service;
+
+import com.projeto.management.model.entity.Projeto;
+import com.projeto.management.model.entity.Tarefa;
+import com.projeto.management.model.entity.TextoTarefa;
+import com.projeto.management.repository.ProjetoRepository;
+import com.projeto.management.repository.TarefaRepository;
+import com.projeto.management.repository.TextoTarefaRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comparação de I/O e memória das listagens de tarefas com os textos longos na própria linha
+ * (layout antigo, reproduzido na tabela tarefa_antiga) e em tarefa_texto (layout atual)
+ *
+ * Executar com: mvn test -Dtest=TextosForaDaLinhaBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(showSql = false, properties = {
+    "spring.datasource.url=jdbc:h2:file:./target/benchmark-textos",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TextosForaDaLinhaBenchmarkTest {
+
+    private static final int PROJETOS = 100;
+    private static final int TAREFAS = 5_000;
+    private static final int TAMANHO_PAGINA = 200;
+    private static final int ITERACOES_AQUECIMENTO = 200;
+    private static final int ITERACOES_MEDICAO = 500;
+
+    // Mesmo caminho nas duas tabelas (chave primária), para que só o layout da linha varie
+    private static final String LISTAGEM = "SELECT * FROM %s ORDER BY id LIMIT " + TAMANHO_PAGINA;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private TextoTarefaRepository textoTarefaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void popular() {
+        List<Projeto> projetos = projetoRepository.saveAll(IntStream.range(0, PROJETOS)
+            .mapToObj(i -> Projeto.builder().nome("Projeto " + i).build())
+            .toList());
+
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < TAREFAS; i++) {
+            tarefas.add(Tarefa.builder()
+                .titulo("Tarefa " + i)
+                .responsavel("Pessoa " + (i % 10))
+                .projeto(projetos.get(i % PROJETOS))
+                .build());
+        }
+        tarefaRepository.saveAll(tarefas);
+
+        List<TextoTarefa> textos = tarefas.stream()
+            .map(tarefa -> TextoTarefa.builder()
+                .idTarefa(tarefa.getId())
+                .descricao(descricao(tarefa.getId()))
+                .observacoes("Observações da tarefa " + tarefa.getId() + ": alinhar com o responsável. ".repeat(6))
+                .build())
+            .toList();
+        textoTarefaRepository.saveAll(textos);
+
+        // Layout antigo: as mesmas linhas com os dois textos na própria tarefa. VARCHAR em vez de
+        // CLOB porque o H2 guarda CLOBs fora da linha; o InnoDB (ROW_FORMAT=DYNAMIC) mantém na
+        // página os TEXT que cabem nela, que é o caso destes textos
+        jdbcTemplate.execute("DROP TABLE IF EXISTS tarefa_antiga");
+        jdbcTemplate.execute("CREATE TABLE tarefa_antiga AS SELECT * FROM tarefa");
+        jdbcTemplate.execute("ALTER TABLE tarefa_antiga ADD COLUMN descricao VARCHAR(65535)");
+        jdbcTemplate.execute("ALTER TABLE tarefa_antiga ADD COLUMN observacoes VARCHAR(65535)");
+        jdbcTemplate.execute("ALTER TABLE tarefa_antiga ALTER COLUMN id SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE tarefa_antiga ADD PRIMARY KEY (id)");
+        jdbcTemplate.batchUpdate("UPDATE tarefa_antiga SET descricao = ?, observacoes = ? WHERE id = ?",
+            textos.stream().map(texto -> new Object[] {texto.getDescricao(), texto.getObservacoes(), texto.getIdTarefa()}).toList());
+    }
+
+    @Test
+    void compararIoEMemoriaDaListagem() {
+        Medicao antiga = medir("tarefa_antiga");
+        Medicao atual = medir("tarefa");
+
+        System.out.printf("%n%-28s %16s %16s%n", "Listagem (" + TAMANHO_PAGINA + " tarefas)", "texto na linha", "tarefa_texto");
+        System.out.printf("%-28s %16d %16d%n", "espaço da tabela (KB)", espaco("TAREFA_ANTIGA") / 1024, espaco("TAREFA") / 1024);
+        System.out.printf("%-28s %16d %16d%n", "bytes lidos por página", antiga.bytesLidos, atual.bytesLidos);
+        System.out.printf("%-28s %16d %16d%n", "bytes alocados por página", antiga.bytesAlocados, atual.bytesAlocados);
+        System.out.printf("%-28s %16.1f %16.1f%n", "us por página", antiga.micros, atual.micros);
+        System.out.printf("%-28s %16s %16d%n", "espaço de tarefa_texto (KB)", "-", espaco("TAREFA_TEXTO") / 1024);
+
+        assertTrue(atual.bytesLidos < antiga.bytesLidos);
+    }
+
+    private Medicao medir(String tabela) {
+        String sql = String.format(LISTAGEM, tabela);
+        for (int i = 0; i < ITERACOES_AQUECIMENTO; i++) {
+            ler(sql);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesLidos = 0;
+        long alocadosAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACOES_MEDICAO; i++) {
+            bytesLidos = ler(sql);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long alocados = threads.getCurrentThreadAllocatedBytes() - alocadosAntes;
+
+        return new Medicao(bytesLidos, alocados / ITERACOES_MEDICAO, nanos / 1_000.0 / ITERACOES_MEDICAO);
+    }
+
+    /**
+     * Lê a página como o Hibernate faria (cada coluna materializada) e devolve o volume lido
+     */
+    private long ler(String sql) {
+        Long total = jdbcTemplate.query(sql, (ResultSet rs) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            long bytes = 0;
+            while (rs.next()) {
+                for (int coluna = 1; coluna <= meta.getColumnCount(); coluna++) {
+                    String valor = rs.getString(coluna);
+                    bytes += valor == null ? 0 : valor.getBytes(StandardCharsets.UTF_8).length;
+                }
+            }
+            return bytes;
+        });
+        return total != null ? total : 0;
+    }
+
+    private long espaco(String tabela) {
+        Long bytes = jdbcTemplate.queryForObject("CALL DISK_SPACE_USED(?)", Long.class, tabela);
+        return bytes != null ? bytes : 0;
+    }
+
+    private static String descricao(long id) {
+        StringBuilder texto = new StringBuilder("Tarefa ").append(id).append(". ");
+        for (int i = 0; i < 6 + id % 10; i++) {
+            texto.append("Critério de aceite ").append(i + 1)
+                .append(": o formulário valida os campos obrigatórios e exibe a mensagem de erro ao lado do campo. ")
+                .append("Cenário de teste documentado no plano da sprint. ");
+        }
+        return texto.toString();
+    }
+
+    private record Medicao(long bytesLidos, long bytesAlocados, double micros) {
+    }
+}
@@ -0,0 +1,340 @@
+package com.projeto.management.sharding;
+
+import com.projeto.management.dto.request.FiltroTarefaDTO;
+import com.projeto.management.dto.request.ProjetoRequestDTO;
+import com.projeto.management.dto.request.TarefaRequestDTO;
+import com.projeto.management.dto.response.ProjetoResponseDTO;
+import com.projeto.management.dto.response.ResultadoRebalanceamentoDTO;
+import com.projeto.management.dto.response.ResumoListaDTO;
+import com.projeto.management.dto.response.TarefaResponseDTO;
+import com.projeto.management.exception.BusinessException;
+import com.projeto.management.model.enums.Prioridade;
+import com.projeto.management.service.EstatisticasService;
+import com.projeto.management.service.HistoricoService;
+import com.projeto.management.service.ProjetoService;
+import com.projeto.management.service.TarefaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do particionamento por projeto em três bancos H2 em memória
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "app.sharding.habilitado=true",
+    "app.sharding.replicar-esquema=true",
+    "app.sharding.incremento-ids=8",
+    "app.sharding.shards[0].url=jdbc:h2:mem:shard-teste-0;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[0].username=sa",
+    "app.sharding.shards[1].url=jdbc:h2:mem:shard-teste-1;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[1].username=sa",
+    "app.sharding.shards[2].url=jdbc:h2:mem:shard-teste-2;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[2].username=sa",
+    "app.burndown.captura.habilitada=false",
+    "app.arquivamento.habilitado=false",
+    "app.aquecimento.habilitado=false",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ShardingTest {
+    
+    private static final LocalDate HOJE = LocalDate.now();
+    
+    @Autowired
+    private ProjetoService projetoService;
+    
+    @Autowired
+    private TarefaService tarefaService;
+    
+    @Autowired
+    private HistoricoService historicoService;
+    
+    @Autowired
+    private EstatisticasService estatisticasService;
+    
+    @Autowired
+    private RebalanceamentoShards rebalanceamentoShards;
+    
+    @Autowired
+    private DiretorioShards diretorio;
+    
+    private final List<ProjetoResponseDTO> projetos = new ArrayList<>();
+    private final List<TarefaResponseDTO> tarefas = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        for (int s = 0; s < diretorio.quantidade(); s++) {
+            JdbcTemplate jdbc = diretorio.jdbc(s);
+            jdbc.update("DELETE FROM tarefa");
+            jdbc.update("DELETE FROM projeto");
+        }
+        
+        for (int i = 0; i < 6; i++) {
+            ProjetoResponseDTO projeto = projetoService.criarProjeto(ProjetoRequestDTO.builder()
+                .nome("Projeto " + i)
+                .dataInicio(HOJE.minusDays(30))
+                .dataFimPrevista(HOJE.plusDays(30))
+                .responsavel("Ana")
+                .build(), "teste");
+            projetos.add(projeto);
+            
+            for (int j = 0; j < 3; j++) {
+                tarefas.add(tarefaService.criarTarefa(TarefaRequestDTO.builder()
+                    .titulo("Tarefa " + i + "." + j)
+                    .idProjeto(projeto.getId())
+                    .prioridade(j == 0 ? Prioridade.CRITICA : Prioridade.BAIXA)
+                    .dataInicio(HOJE.minusDays(20))
+                    .dataFimPrevista(HOJE.minusDays(1 + i * 3 + j))
+                    .responsavel("Bruno")
+                    .build(), "teste"));
+            }
+        }
+    }
+    
+    @Test
+    void distribuiProjetosComIdsUnicosEntreShards() {
+        Set<Long> ids = new HashSet<>();
+        for (ProjetoResponseDTO projeto : projetos) {
+            int shard = diretorio.shardDoProjeto(projeto.getId());
+            
+            assertTrue(ids.add(projeto.getId()));
+            assertEquals(shard + 1, projeto.getId() % 8, "ID gerado fora do intervalo do shard");
+            assertEquals(1, contar(shard, "projeto", "id", projeto.getId()));
+            assertEquals(3, contar(shard, "tarefa", "id_projeto", projeto.getId()));
+        }
+        for (int s = 0; s < diretorio.quantidade(); s++) {
+            assertEquals(2, diretorio.jdbc(s).queryForObject("SELECT COUNT(*) FROM projeto", Integer.class));
+        }
+        assertEquals(18, tarefas.stream().map(TarefaResponseDTO::getId).distinct().count());
+    }
+    
+    @Test
+    void roteiaOperacoesPorProjetoEPorTarefa() {
+        TarefaResponseDTO tarefa = tarefas.get(10);
+        
+        assertEquals(tarefa.getTitulo(), tarefaService.buscarPorId(tarefa.getId()).getTitulo());
+        assertEquals(3, tarefaService.listarTarefasPorProjeto(tarefa.getIdProjeto()).size());
+        assertEquals(100, tarefaService.atualizarPercentual(tarefa.getId(), 100, "teste").getPercentualConclusao());
+        assertEquals(tarefa.getIdProjeto(), historicoService.buscarTarefa(tarefa.getId()).getIdProjeto());
+    }
+    
+    @Test
+    void mesclaConsultasDeTodosOsShards() {
+        assertEquals(18, tarefaService.buscarTarefasAtrasadas().size());
+        assertEquals(6, tarefaService.buscarTarefasAltaPrioridade().size());
+        assertEquals(18, tarefaService.buscarPorResponsavel("bruno").size());
+        assertEquals(6, projetoService.buscarPorResponsavel("ana").size());
+        
+        // Os dois vencimentos mais antigos ficam em projetos de shards diferentes
+        ResumoListaDTO<TarefaResponseDTO> resumo = tarefaService.resumirTarefasAtrasadas(2);
+        assertEquals(18, resumo.getTotal());
+        assertEquals(List.of(HOJE.minusDays(18), HOJE.minusDays(17)),
+            resumo.getItens().stream().map(TarefaResponseDTO::getDataFimPrevista).toList());
+        
+        Page<TarefaResponseDTO> pagina = tarefaService.listarTarefas(new FiltroTarefaDTO(),
+            PageRequest.of(1, 4, Sort.by("dataFimPrevista")));
+        assertEquals(18, pagina.getTotalElements());
+        assertEquals(List.of(HOJE.minusDays(14), HOJE.minusDays(13), HOJE.minusDays(12), HOJE.minusDays(11)),
+            pagina.getContent().stream().map(TarefaResponseDTO::getDataFimPrevista).toList());
+        
+        // Uma tarefa ALTA com o vencimento mais antigo fica atrás de todas as CRITICA
+        tarefaService.criarTarefa(TarefaRequestDTO.builder()
+            .titulo("Alta mais antiga")
+            .idProjeto(projetos.get(1).getId())
+            .prioridade(Prioridade.ALTA)
+            .dataFimPrevista(HOJE.minusDays(40))
+            .build(), "teste");
+        ResumoListaDTO<TarefaResponseDTO> urgentes = tarefaService.resumirTarefasAltaPrioridade(7);
+        assertEquals(7, urgentes.getTotal());
+        assertEquals(List.of(Prioridade.CRITICA, Prioridade.CRITICA, Prioridade.CRITICA, Prioridade.CRITICA,
+                Prioridade.CRITICA, Prioridade.CRITICA, Prioridade.ALTA),
+            urgentes.getItens().stream().map(TarefaResponseDTO::getPrioridade).toList());
+        
+        estatisticasService.recarregar();
+        assertEquals(19L, estatisticasService.estatisticasTarefas(null).getTotalTarefas());
+    }
+    
+    @Test
+    void recusaMudarTarefaParaProjetoDeOutroShard() {
+        TarefaResponseDTO tarefa = tarefas.get(1);
+        ProjetoResponseDTO outroShard = projetos.get(1);
+        ProjetoResponseDTO mesmoShard = projetos.get(3);
+        assertNotEquals(diretorio.shardDoProjeto(tarefa.getIdProjeto()), diretorio.shardDoProjeto(outroShard.getId()));
+        assertEquals(diretorio.shardDoProjeto(tarefa.getIdProjeto()), diretorio.shardDoProjeto(mesmoShard.getId()));
+        
+        BusinessException erro = assertThrows(BusinessException.class, () ->
+            tarefaService.atualizarTarefa(tarefa.getId(), mudancaDeProjeto(tarefa, outroShard), "teste"));
+        assertEquals("Tarefa não pode mudar para um projeto de outro shard", erro.getMessage());
+        assertEquals(tarefa.getIdProjeto(), tarefaService.buscarPorId(tarefa.getId()).getIdProjeto());
+        
+        // No mesmo shard a mudança segue normalmente
+        TarefaResponseDTO movida = tarefaService.atualizarTarefa(tarefa.getId(), mudancaDeProjeto(tarefa, mesmoShard), "teste");
+        assertEquals(mesmoShard.getId(), movida.getIdProjeto());
+    }
+    
+    @Test
+    void mesclaPaginasPorPropriedadesDaEntidade() {
+        Page<TarefaResponseDTO> porPeso = tarefaService.listarTarefas(new FiltroTarefaDTO(),
+            PageRequest.of(0, 3, Sort.by(Sort.Order.desc("pesoPrioridade"), Sort.Order.asc("dataFimPrevista"))));
+        assertEquals(List.of(HOJE.minusDays(16), HOJE.minusDays(13), HOJE.minusDays(10)),
+            porPeso.getContent().stream().map(TarefaResponseDTO::getDataFimPrevista).toList());
+        assertTrue(porPeso.getContent().stream().allMatch(tarefa -> tarefa.getPrioridade() == Prioridade.CRITICA));
+        
+        Page<TarefaResponseDTO> porProjeto = tarefaService.listarTarefas(new FiltroTarefaDTO(),
+            PageRequest.of(0, 4, Sort.by(Sort.Order.desc("projeto.nome"))));
+        assertEquals(List.of("Projeto 5", "Projeto 5", "Projeto 5", "Projeto 4"),
+            porProjeto.getContent().stream().map(TarefaResponseDTO::getNomeProjeto).toList());
+        
+        // Propriedade da entidade que não chega ao DTO: recusada em vez de mesclada sem ordem
+        PageRequest porUsuario = PageRequest.of(0, 4, Sort.by("usuarioCriacao"));
+        assertThrows(BusinessException.class, () -> tarefaService.listarTarefas(new FiltroTarefaDTO(), porUsuario));
+    }
+    
+    @Test
+    void moveProjetoEntreShards() {
+        ProjetoResponseDTO projeto = projetos.get(0);
+        int origem = diretorio.shardDoProjeto(projeto.getId());
+        int destino = (origem + 1) % diretorio.quantidade();
+        
+        ResultadoRebalanceamentoDTO resultado = rebalanceamentoShards.moverProjeto(projeto.getId(), destino);
+        
+        // O projeto, as 3 tarefas e a linha de cada uma em tarefa_hierarquia
+        assertEquals(7, resultado.getLinhasCopiadas());
+        assertEquals(destino, diretorio.shardDoProjeto(projeto.getId()));
+        assertEquals(0, contar(origem, "tarefa", "id_projeto", projeto.getId()));
+        assertEquals(3, contar(destino, "tarefa", "id_projeto", projeto.getId()));
+        assertEquals(projeto.getNome(), projetoService.buscarPorId(projeto.getId()).getNome());
+        assertEquals(3, tarefaService.listarTarefasPorProjeto(projeto.getId()).size());
+        assertEquals(18, tarefaService.buscarTarefasAtrasadas().size());
+        
+        // Novas tarefas do projeto movido nascem no destino, com IDs do destino
+        TarefaResponseDTO nova = tarefaService.criarTarefa(TarefaRequestDTO.builder()
+            .titulo("Depois da mudança")
+            .idProjeto(projeto.getId())
+            .build(), "teste");
+        assertEquals(destino + 1, nova.getId() % 8);
+        
+        assertThrows(BusinessException.class, () -> rebalanceamentoShards.moverProjeto(projeto.getId(), destino));
+    }
+    
+    @Test
+    void mudancaEsperaEscritaEmAndamentoNaOrigem() throws Exception {
+        ProjetoResponseDTO projeto = projetos.get(1);
+        TarefaResponseDTO tarefa = tarefas.get(3);
+        int origem = diretorio.shardDoProjeto(projeto.getId());
+        int destino = (origem + 1) % diretorio.quantidade();
+        JdbcTemplate jdbcOrigem = diretorio.jdbc(origem);
+        TransactionTemplate transacaoOrigem = new TransactionTemplate(
+            new DataSourceTransactionManager(jdbcOrigem.getDataSource()));
+        CountDownLatch travado = new CountDownLatch(1);
+        
+        // Given: uma escrita de outra instância com a linha do projeto travada na origem
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> escrita = executor.submit(() -> transacaoOrigem.executeWithoutResult(status -> {
+                jdbcOrigem.queryForList("SELECT id FROM projeto WHERE id = ? FOR UPDATE", Long.class, projeto.getId());
+                travado.countDown();
+                jdbcOrigem.update("UPDATE tarefa SET titulo = ? WHERE id = ?", "Durante a mudança", tarefa.getId());
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(travado.await(5, TimeUnit.SECONDS));
+            
+            // When
+            rebalanceamentoShards.moverProjeto(projeto.getId(), destino);
+            escrita.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // Then: a mudança esperou a escrita e a levou para o destino
+        assertEquals("Durante a mudança", diretorio.jdbc(destino).queryForObject(
+            "SELECT titulo FROM tarefa WHERE id = ?", String.class, tarefa.getId()));
+        assertEquals(0, contar(origem, "tarefa", "id_projeto", projeto.getId()));
+    }
+    
+    @Test
+    void escritaComShardDesatualizadoSegueParaOShardAtual() {
+        ProjetoResponseDTO projeto = projetos.get(2);
+        int origem = diretorio.shardDoProjeto(projeto.getId());
+        int destino = (origem + 1) % diretorio.quantidade();
+        rebalanceamentoShards.moverProjeto(projeto.getId(), destino);
+        
+        // Given: esta instância ainda guarda a origem (movido por outra instância)
+        JdbcTemplate jdbcDiretorio = diretorio.jdbc(0);
+        jdbcDiretorio.update("UPDATE projeto_shard SET shard = ? WHERE id_projeto = ?", origem, projeto.getId());
+        diretorio.esquecer(projeto.getId());
+        assertEquals(origem, diretorio.shardDoProjeto(projeto.getId()));
+        jdbcDiretorio.update("UPDATE projeto_shard SET shard = ? WHERE id_projeto = ?", destino, projeto.getId());
+        
+        // When
+        TarefaResponseDTO nova = tarefaService.criarTarefa(TarefaRequestDTO.builder()
+            .titulo("Com o diretório desatualizado")
+            .idProjeto(projeto.getId())
+            .build(), "teste");
+        
+        // Then
+        assertEquals(destino + 1, nova.getId() % 8);
+        assertEquals(4, contar(destino, "tarefa", "id_projeto", projeto.getId()));
+        assertEquals(0, contar(origem, "tarefa", "id_projeto", projeto.getId()));
+        assertEquals(destino, diretorio.shardDoProjeto(projeto.getId()));
+    }
+    
+    @Test
+    void projetoInexistenteNaoFicaGuardadoNoDiretorio() {
+        Long id = 999_999L;
+        assertNull(diretorio.shardRegistrado(id));
+        
+        // Outra instância cria e registra o projeto num shard que não é o primeiro
+        diretorio.jdbc(0).update("INSERT INTO projeto_shard (id_projeto, shard) VALUES (?, ?)", id, 2);
+        try {
+            assertEquals(2, diretorio.shardDoProjeto(id));
+        } finally {
+            diretorio.jdbc(0).update("DELETE FROM projeto_shard WHERE id_projeto = ?", id);
+            diretorio.esquecer(id);
+        }
+    }
+    
+    private static TarefaRequestDTO mudancaDeProjeto(TarefaResponseDTO tarefa, ProjetoResponseDTO projeto) {
+        return TarefaRequestDTO.builder()
+            .titulo(tarefa.getTitulo())
+            .idProjeto(projeto.getId())
+            .status(tarefa.getStatus())
+            .prioridade(tarefa.getPrioridade())
+            .percentualConclusao(tarefa.getPercentualConclusao())
+            .dataInicio(tarefa.getDataInicio())
+            .dataFimPrevista(tarefa.getDataFimPrevista())
+            .responsavel(tarefa.getResponsavel())
+            .build();
+    }
+    
+    private long contar(int shard, String tabela, String coluna, Long id) {
+        return diretorio.jdbc(shard).queryForObject(
+            "SELECT COUNT(*) FROM " + tabela + " WHERE " + coluna + " = ?", Long.class, id);
+    }
+}